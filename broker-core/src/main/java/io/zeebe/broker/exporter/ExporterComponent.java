@@ -19,10 +19,12 @@ package io.zeebe.broker.exporter;
 
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.LEADER_PARTITION_GROUP_NAME;
 import static io.zeebe.broker.exporter.ExporterServiceNames.EXPORTER_MANAGER;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.LOG_RETENTION_SERVICE_NAME;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.STREAM_PROCESSOR_SERVICE_FACTORY;
 
 import io.zeebe.broker.system.Component;
 import io.zeebe.broker.system.SystemContext;
+import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.broker.system.configuration.ExporterCfg;
 import io.zeebe.servicecontainer.ServiceContainer;
 import java.util.List;
@@ -33,16 +35,20 @@ public class ExporterComponent implements Component {
   public void init(SystemContext context) {
     final ServiceContainer serviceContainer = context.getServiceContainer();
 
-    final List<ExporterCfg> exporters = context.getBrokerConfiguration().getExporters();
+    final BrokerCfg brokerCfg = context.getBrokerConfiguration();
+    final List<ExporterCfg> exporters = brokerCfg.getExporters();
 
     if (!exporters.isEmpty()) {
-      final ExporterManagerService exporterManagerService = new ExporterManagerService(exporters);
+      final ExporterManagerService exporterManagerService =
+          new ExporterManagerService(exporters, brokerCfg.getData().getRocksdb());
 
       serviceContainer
           .createService(EXPORTER_MANAGER, exporterManagerService)
           .dependency(
               STREAM_PROCESSOR_SERVICE_FACTORY,
               exporterManagerService.getStreamProcessorServiceFactoryInjector())
+          .dependency(
+              LOG_RETENTION_SERVICE_NAME, exporterManagerService.getLogRetentionServiceInjector())
           .groupReference(
               LEADER_PARTITION_GROUP_NAME, exporterManagerService.getPartitionsGroupReference())
           .install();
@@ -23,9 +23,11 @@ import io.zeebe.broker.exporter.repo.ExporterLoadException;
 import io.zeebe.broker.exporter.repo.ExporterRepository;
 import io.zeebe.broker.exporter.stream.ExporterColumnFamilies;
 import io.zeebe.broker.exporter.stream.ExporterStreamProcessor;
+import io.zeebe.broker.logstreams.LogRetentionService;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory;
 import io.zeebe.broker.logstreams.state.DefaultZeebeDbFactory;
 import io.zeebe.broker.system.configuration.ExporterCfg;
+import io.zeebe.broker.system.configuration.RocksDbCfg;
 import io.zeebe.logstreams.spi.SnapshotController;
 import io.zeebe.logstreams.state.StateSnapshotController;
 import io.zeebe.logstreams.state.StateStorage;
@@ -42,17 +44,21 @@ public class ExporterManagerService implements Service<ExporterManagerService> {
 
   private final Injector<StreamProcessorServiceFactory> streamProcessorServiceFactoryInjector =
       new Injector<>();
+  private final Injector<LogRetentionService> logRetentionServiceInjector = new Injector<>();
 
   private final ServiceGroupReference<Partition> partitionsGroupReference =
       ServiceGroupReference.<Partition>create().onAdd(this::startExporter).build();
 
   private final List<ExporterCfg> exporterCfgs;
+  private final RocksDbCfg rocksDbCfg;
   private final ExporterRepository exporterRepository;
 
   private StreamProcessorServiceFactory streamProcessorServiceFactory;
+  private LogRetentionService logRetentionService;
 
-  public ExporterManagerService(List<ExporterCfg> exporterCfgs) {
+  public ExporterManagerService(List<ExporterCfg> exporterCfgs, RocksDbCfg rocksDbCfg) {
     this.exporterCfgs = exporterCfgs;
+    this.rocksDbCfg = rocksDbCfg;
     this.exporterRepository = new ExporterRepository();
   }
 
@@ -64,6 +70,7 @@ public class ExporterManagerService implements Service<ExporterManagerService> {
   @Override
   public void start(ServiceStartContext startContext) {
     this.streamProcessorServiceFactory = streamProcessorServiceFactoryInjector.getValue();
+    this.logRetentionService = logRetentionServiceInjector.getValue();
     // load and validate exporters
     for (ExporterCfg exporterCfg : exporterCfgs) {
       try {
@@ -75,12 +82,14 @@ public class ExporterManagerService implements Service<ExporterManagerService> {
   }
 
   private void startExporter(ServiceName<Partition> partitionName, Partition partition) {
+    final int partitionId = partition.getInfo().getPartitionId();
     final StateStorage stateStorage =
         partition.getStateStorageFactory().create(EXPORTER_PROCESSOR_ID, PROCESSOR_NAME);
 
     final SnapshotController snapshotController =
         new StateSnapshotController(
-            DefaultZeebeDbFactory.defaultFactory(ExporterColumnFamilies.class), stateStorage);
+            DefaultZeebeDbFactory.defaultFactory(ExporterColumnFamilies.class, rocksDbCfg),
+            stateStorage);
 
     streamProcessorServiceFactory
         .createService(partition, partitionName)
@@ -91,8 +100,9 @@ public class ExporterManagerService implements Service<ExporterManagerService> {
             (zeebeDb) ->
                 new ExporterStreamProcessor(
                     zeebeDb,
-                    partition.getInfo().getPartitionId(),
-                    exporterRepository.getExporters().values()))
+                    partitionId,
+                    exporterRepository.getExporters().values(),
+                    position -> logRetentionService.setExporterPosition(partitionId, position)))
         .build();
   }
 
@@ -100,6 +110,10 @@ public class ExporterManagerService implements Service<ExporterManagerService> {
     return streamProcessorServiceFactoryInjector;
   }
 
+  public Injector<LogRetentionService> getLogRetentionServiceInjector() {
+    return logRetentionServiceInjector;
+  }
+
   public ServiceGroupReference<Partition> getPartitionsGroupReference() {
     return partitionsGroupReference;
   }
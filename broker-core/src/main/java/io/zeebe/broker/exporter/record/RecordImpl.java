@@ -24,6 +24,7 @@ import io.zeebe.exporter.record.RecordMetadata;
 import io.zeebe.exporter.record.RecordValue;
 import io.zeebe.logstreams.log.LoggedEvent;
 import java.time.Instant;
+import java.util.function.Supplier;
 
 public class RecordImpl<T extends RecordValue> implements Record<T> {
   private final long key;
@@ -34,7 +35,9 @@ public class RecordImpl<T extends RecordValue> implements Record<T> {
   private final long sourceRecordPosition;
 
   private final RecordMetadata metadata;
-  private final T value;
+  private final Supplier<T> valueSupplier;
+  // created on the first access; the record may be shared by exporters on different actors
+  private volatile T value;
 
   @JsonIgnore private final ExporterObjectMapper objectMapper;
 
@@ -48,6 +51,29 @@ public class RecordImpl<T extends RecordValue> implements Record<T> {
       long sourceRecordPosition,
       RecordMetadata metadata,
       T value) {
+    this(
+        objectMapper,
+        key,
+        position,
+        timestamp,
+        raftTerm,
+        producerId,
+        sourceRecordPosition,
+        metadata,
+        () -> value);
+  }
+
+  /** The value is only created by the supplier if it is accessed. */
+  public RecordImpl(
+      ExporterObjectMapper objectMapper,
+      long key,
+      long position,
+      Instant timestamp,
+      int raftTerm,
+      int producerId,
+      long sourceRecordPosition,
+      RecordMetadata metadata,
+      Supplier<T> valueSupplier) {
     this.objectMapper = objectMapper;
     this.key = key;
     this.position = position;
@@ -56,7 +82,7 @@ public class RecordImpl<T extends RecordValue> implements Record<T> {
     this.producerId = producerId;
     this.sourceRecordPosition = sourceRecordPosition;
     this.metadata = metadata;
-    this.value = value;
+    this.valueSupplier = valueSupplier;
   }
 
   public static <U extends RecordValue> RecordImpl<U> ofLoggedEvent(
@@ -113,6 +139,11 @@ public class RecordImpl<T extends RecordValue> implements Record<T> {
 
   @Override
   public T getValue() {
+    T value = this.value;
+    if (value == null) {
+      value = valueSupplier.get();
+      this.value = value;
+    }
     return value;
   }
 
@@ -143,7 +174,7 @@ public class RecordImpl<T extends RecordValue> implements Record<T> {
         + ", metadata="
         + metadata
         + ", value="
-        + value
+        + getValue()
         + '}';
   }
 }
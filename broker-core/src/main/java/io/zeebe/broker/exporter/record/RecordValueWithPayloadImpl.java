@@ -20,27 +20,42 @@ package io.zeebe.broker.exporter.record;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.zeebe.broker.exporter.ExporterObjectMapper;
 import io.zeebe.exporter.record.RecordValueWithPayload;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Objects;
 
 public abstract class RecordValueWithPayloadImpl extends RecordValueImpl
     implements RecordValueWithPayload {
-  protected final String payload;
+  private final byte[] payloadMsgPack;
+  // converted on the first access
+  private volatile String payload;
 
-  public RecordValueWithPayloadImpl(final ExporterObjectMapper objectMapper, final String payload) {
+  public RecordValueWithPayloadImpl(
+      final ExporterObjectMapper objectMapper, final byte[] payloadMsgPack) {
     super(objectMapper);
-    this.payload = payload;
+    this.payloadMsgPack = payloadMsgPack;
   }
 
   @Override
   public String getPayload() {
+    String payload = this.payload;
+    if (payload == null) {
+      payload = objectMapper.getMsgPackConverter().convertToJson(payloadMsgPack);
+      this.payload = payload;
+    }
     return payload;
   }
 
+  /** @return the MessagePack encoded payload, without converting it to JSON */
+  @JsonIgnore
+  public byte[] getPayloadMsgPack() {
+    return payloadMsgPack;
+  }
+
   @Override
   @JsonIgnore
   public Map<String, Object> getPayloadAsMap() {
-    return objectMapper.fromJsonAsMap(payload);
+    return objectMapper.fromMsgpackAsMap(new ByteArrayInputStream(payloadMsgPack));
   }
 
   @Override
@@ -52,11 +67,11 @@ public abstract class RecordValueWithPayloadImpl extends RecordValueImpl
       return false;
     }
     final RecordValueWithPayloadImpl that = (RecordValueWithPayloadImpl) o;
-    return Objects.equals(payload, that.payload);
+    return Arrays.equals(payloadMsgPack, that.payloadMsgPack);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(payload);
+    return Arrays.hashCode(payloadMsgPack);
   }
 }
@@ -37,7 +37,7 @@ public class JobRecordValueImpl extends RecordValueWithPayloadImpl implements Jo
 
   public JobRecordValueImpl(
       final ExporterObjectMapper objectMapper,
-      final String payload,
+      final byte[] payloadMsgPack,
       final String type,
       final String worker,
       final Instant deadline,
@@ -45,7 +45,7 @@ public class JobRecordValueImpl extends RecordValueWithPayloadImpl implements Jo
       final Map<String, Object> customHeaders,
       final int retries,
       final String errorMessage) {
-    super(objectMapper, payload);
+    super(objectMapper, payloadMsgPack);
     this.type = type;
     this.worker = worker;
     this.deadline = deadline;
@@ -138,7 +138,7 @@ public class JobRecordValueImpl extends RecordValueWithPayloadImpl implements Jo
         + errorMessage
         + '\''
         + ", payload='"
-        + payload
+        + getPayload()
         + '\''
         + '}';
   }
@@ -31,12 +31,12 @@ public class MessageRecordValueImpl extends RecordValueWithPayloadImpl
 
   public MessageRecordValueImpl(
       final ExporterObjectMapper objectMapper,
-      final String payload,
+      final byte[] payloadMsgPack,
       final String name,
       final String messageId,
       final String correlationKey,
       final long timeToLive) {
-    super(objectMapper, payload);
+    super(objectMapper, payloadMsgPack);
     this.name = name;
     this.messageId = messageId;
     this.correlationKey = correlationKey;
@@ -101,7 +101,7 @@ public class MessageRecordValueImpl extends RecordValueWithPayloadImpl
         + ", timeToLive="
         + timeToLive
         + ", payload='"
-        + payload
+        + getPayload()
         + '\''
         + '}';
   }
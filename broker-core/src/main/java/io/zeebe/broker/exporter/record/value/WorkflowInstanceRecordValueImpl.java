@@ -33,14 +33,14 @@ public class WorkflowInstanceRecordValueImpl extends RecordValueWithPayloadImpl
 
   public WorkflowInstanceRecordValueImpl(
       final ExporterObjectMapper objectMapper,
-      final String payload,
+      final byte[] payloadMsgPack,
       final String bpmnProcessId,
       final String elementId,
       final int version,
       final long workflowKey,
       final long workflowInstanceKey,
       final long scopeInstanceKey) {
-    super(objectMapper, payload);
+    super(objectMapper, payloadMsgPack);
     this.bpmnProcessId = bpmnProcessId;
     this.elementId = elementId;
     this.version = version;
@@ -129,7 +129,7 @@ public class WorkflowInstanceRecordValueImpl extends RecordValueWithPayloadImpl
         + ", scopeInstanceKey="
         + scopeInstanceKey
         + ", payload='"
-        + payload
+        + getPayload()
         + '\''
         + '}';
   }
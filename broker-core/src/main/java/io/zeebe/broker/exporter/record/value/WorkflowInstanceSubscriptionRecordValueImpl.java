@@ -30,11 +30,11 @@ public class WorkflowInstanceSubscriptionRecordValueImpl extends RecordValueWith
 
   public WorkflowInstanceSubscriptionRecordValueImpl(
       final ExporterObjectMapper objectMapper,
-      final String payload,
+      final byte[] payloadMsgPack,
       final String messageName,
       final long workflowInstanceKey,
       final long elementInstanceKey) {
-    super(objectMapper, payload);
+    super(objectMapper, payloadMsgPack);
     this.messageName = messageName;
     this.workflowInstanceKey = workflowInstanceKey;
     this.elementInstanceKey = elementInstanceKey;
@@ -89,7 +89,7 @@ public class WorkflowInstanceSubscriptionRecordValueImpl extends RecordValueWith
         + ", elementInstanceKey="
         + elementInstanceKey
         + ", payload='"
-        + payload
+        + getPayload()
         + '\''
         + '}';
   }
@@ -24,13 +24,23 @@ import java.util.Map;
 public class ExporterDescriptor {
   private final ExporterConfiguration configuration;
   private final Class<? extends Exporter> exporterClass;
+  private final int pipelineBufferSize;
 
   public ExporterDescriptor(
       final String id,
       final Class<? extends Exporter> exporterClass,
       final Map<String, Object> args) {
+    this(id, exporterClass, args, 0);
+  }
+
+  public ExporterDescriptor(
+      final String id,
+      final Class<? extends Exporter> exporterClass,
+      final Map<String, Object> args,
+      final int pipelineBufferSize) {
     this.exporterClass = exporterClass;
     this.configuration = new ExporterConfiguration(id, args);
+    this.pipelineBufferSize = pipelineBufferSize;
   }
 
   public Exporter newInstance() throws ExporterInstantiationException {
@@ -48,4 +58,12 @@ public class ExporterDescriptor {
   public String getId() {
     return configuration.getId();
   }
+
+  public boolean isPipelined() {
+    return pipelineBufferSize > 0;
+  }
+
+  public int getPipelineBufferSize() {
+    return pipelineBufferSize;
+  }
 }
@@ -0,0 +1,157 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.exporter.stream;
+
+import io.zeebe.exporter.context.Controller;
+import io.zeebe.exporter.record.Record;
+import io.zeebe.exporter.spi.Exporter;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorCondition;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.slf4j.Logger;
+
+/**
+ * Runs an exporter on its own actor. The exporter stream processor offers the records to a bounded
+ * buffer and is only blocked when the buffer is full, so a slow exporter does not block the other
+ * exporters of the partition.
+ *
+ * <p>The exporter is opened, called and closed on this actor. Tasks which are scheduled by the
+ * exporter run on this actor as well.
+ */
+class ExporterPipeline extends Actor {
+  private static final Duration EXPORT_RETRY_DELAY = Duration.ofSeconds(1);
+  private static final int MAX_RECORDS_PER_JOB = 64;
+
+  private final String name;
+  private final Exporter exporter;
+  private final Controller controller;
+  private final Logger logger;
+  private final OneToOneConcurrentArrayQueue<Record> buffer;
+
+  private volatile ActorCondition onRecordsAvailable;
+  // the record which is exported next, it is kept until the export succeeds
+  private Record currentRecord;
+  private boolean isRetryScheduled;
+
+  ExporterPipeline(
+      final String name,
+      final Exporter exporter,
+      final Controller controller,
+      final Logger logger,
+      final int bufferSize) {
+    this.name = name;
+    this.exporter = exporter;
+    this.controller = controller;
+    this.logger = logger;
+    this.buffer = new OneToOneConcurrentArrayQueue<>(bufferSize);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    onRecordsAvailable = actor.onCondition(getName() + "-records-available", this::exportRecords);
+
+    exporter.open(controller);
+  }
+
+  @Override
+  protected void onActorStarted() {
+    // export the records which were offered before the actor was started
+    exportRecords();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    try {
+      exporter.close();
+    } catch (final Exception e) {
+      logger.error("Error on close", e);
+    }
+  }
+
+  /**
+   * Must only be called by the exporter stream processor.
+   *
+   * @return {@code false} if the buffer is full
+   */
+  boolean offer(final Record record) {
+    if (buffer.offer(record)) {
+      final ActorCondition condition = onRecordsAvailable;
+      if (condition != null) {
+        condition.signal();
+      }
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  void scheduleTask(final Duration delay, final Runnable task) {
+    actor.runDelayed(delay, task);
+  }
+
+  ActorFuture<Void> close() {
+    return actor.close();
+  }
+
+  private void exportRecords() {
+    if (isRetryScheduled) {
+      return;
+    }
+
+    int exportedRecords = 0;
+    while (exportedRecords < MAX_RECORDS_PER_JOB && hasNextRecord()) {
+      try {
+        exporter.export(currentRecord);
+
+        currentRecord = null;
+        exportedRecords += 1;
+      } catch (final Exception e) {
+        // same strategy as on the stream processor: repeat until the record is exported
+        logger.error("Error exporting record {}", currentRecord, e);
+
+        isRetryScheduled = true;
+        actor.runDelayed(EXPORT_RETRY_DELAY, this::retryExport);
+        return;
+      }
+    }
+
+    if (exportedRecords == MAX_RECORDS_PER_JOB) {
+      // continue in a new job to give scheduled tasks of the exporter a chance to run
+      actor.submit(this::exportRecords);
+    }
+  }
+
+  private boolean hasNextRecord() {
+    if (currentRecord == null) {
+      currentRecord = buffer.poll();
+    }
+    return currentRecord != null;
+  }
+
+  private void retryExport() {
+    isRetryScheduled = false;
+    exportRecords();
+  }
+}
@@ -71,13 +71,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
 public class ExporterRecordMapper {
-  private final DirectBufferInputStream serderInputStream = new DirectBufferInputStream();
   private final ExporterObjectMapper objectMapper;
 
   public ExporterRecordMapper(final ExporterObjectMapper objectMapper) {
@@ -85,7 +86,7 @@ public class ExporterRecordMapper {
   }
 
   public Record map(final LoggedEvent event, final RecordMetadata metadata) {
-    final Function<LoggedEvent, ? extends RecordValue> valueSupplier;
+    final Function<DirectBuffer, ? extends RecordValue> valueSupplier;
 
     switch (metadata.getValueType()) {
       case DEPLOYMENT:
@@ -131,7 +132,14 @@ public class ExporterRecordMapper {
   private <T extends RecordValue> RecordImpl<T> newRecord(
       final LoggedEvent event,
       final RecordMetadata metadata,
-      final Function<LoggedEvent, T> valueSupplier) {
+      final Function<DirectBuffer, T> valueSupplier) {
+    // the value is only decoded if an exporter accesses it, possibly on the actor of a pipelined
+    // exporter - so it is copied instead of referring to the buffer of the log stream reader
+    final byte[] valueBytes = new byte[event.getValueLength()];
+    event.getValueBuffer().getBytes(event.getValueOffset(), valueBytes);
+    final DirectBuffer value = new UnsafeBuffer(valueBytes);
+    final Supplier<T> lazyValue = () -> valueSupplier.apply(value);
+
     return new RecordImpl<>(
         objectMapper,
         event.getKey(),
@@ -141,13 +149,13 @@ public class ExporterRecordMapper {
         event.getProducerId(),
         event.getSourceEventPosition(),
         metadata,
-        valueSupplier.apply(event));
+        lazyValue);
   }
 
   // VALUE SUPPLIERS
-  private RaftRecordValue ofRaftRecord(final LoggedEvent event) {
+  private RaftRecordValue ofRaftRecord(final DirectBuffer value) {
     final RaftConfigurationEvent record = new RaftConfigurationEvent();
-    event.readValue(record);
+    record.wrap(value);
 
     final List<RaftMember> members = new ArrayList<>();
     for (final RaftConfigurationEventMember member : record.members()) {
@@ -157,9 +165,9 @@ public class ExporterRecordMapper {
     return new RaftRecordValueImpl(objectMapper, members);
   }
 
-  private JobRecordValue ofJobRecord(final LoggedEvent event) {
+  private JobRecordValue ofJobRecord(final DirectBuffer value) {
     final JobRecord record = new JobRecord();
-    event.readValue(record);
+    record.wrap(value);
 
     return ofJobRecord(record);
   }
@@ -184,7 +192,7 @@ public class ExporterRecordMapper {
 
     return new JobRecordValueImpl(
         objectMapper,
-        asJson(record.getPayload()),
+        asByteArray(record.getPayload()),
         asString(record.getType()),
         asString(record.getWorker()),
         deadline,
@@ -194,12 +202,12 @@ public class ExporterRecordMapper {
         asString(record.getErrorMessage()));
   }
 
-  private DeploymentRecordValue ofDeploymentRecord(final LoggedEvent event) {
+  private DeploymentRecordValue ofDeploymentRecord(final DirectBuffer value) {
     final List<DeployedWorkflow> deployedWorkflows = new ArrayList<>();
     final List<DeploymentResource> resources = new ArrayList<>();
     final DeploymentRecord record = new DeploymentRecord();
 
-    event.readValue(record);
+    record.wrap(value);
 
     for (final Workflow workflow : record.workflows()) {
       deployedWorkflows.add(
@@ -223,9 +231,9 @@ public class ExporterRecordMapper {
         objectMapper, deployedWorkflows, resources);
   }
 
-  private IncidentRecordValue ofIncidentRecord(final LoggedEvent event) {
+  private IncidentRecordValue ofIncidentRecord(final DirectBuffer value) {
     final IncidentRecord record = new IncidentRecord();
-    event.readValue(record);
+    record.wrap(value);
 
     return new IncidentRecordValueImpl(
         objectMapper,
@@ -238,22 +246,22 @@ public class ExporterRecordMapper {
         record.getJobKey());
   }
 
-  private MessageRecordValue ofMessageRecord(final LoggedEvent event) {
+  private MessageRecordValue ofMessageRecord(final DirectBuffer value) {
     final MessageRecord record = new MessageRecord();
-    event.readValue(record);
+    record.wrap(value);
 
     return new io.zeebe.broker.exporter.record.value.MessageRecordValueImpl(
         objectMapper,
-        asJson(record.getPayload()),
+        asByteArray(record.getPayload()),
         asString(record.getName()),
         asString(record.getMessageId()),
         asString(record.getCorrelationKey()),
         record.getTimeToLive());
   }
 
-  private MessageSubscriptionRecordValue ofMessageSubscriptionRecord(final LoggedEvent event) {
+  private MessageSubscriptionRecordValue ofMessageSubscriptionRecord(final DirectBuffer value) {
     final MessageSubscriptionRecord record = new MessageSubscriptionRecord();
-    event.readValue(record);
+    record.wrap(value);
 
     return new MessageSubscriptionRecordValueImpl(
         objectMapper,
@@ -264,9 +272,9 @@ public class ExporterRecordMapper {
   }
 
   private MessageStartEventSubscriptionRecordValueImpl ofMessageStartEventSubscriptionRecord(
-      final LoggedEvent event) {
+      final DirectBuffer value) {
     final MessageStartEventSubscriptionRecord record = new MessageStartEventSubscriptionRecord();
-    event.readValue(record);
+    record.wrap(value);
 
     return new MessageStartEventSubscriptionRecordValueImpl(
         objectMapper,
@@ -275,13 +283,13 @@ public class ExporterRecordMapper {
         asString(record.getMessageName()));
   }
 
-  private WorkflowInstanceRecordValue ofWorkflowInstanceRecord(final LoggedEvent event) {
+  private WorkflowInstanceRecordValue ofWorkflowInstanceRecord(final DirectBuffer value) {
     final WorkflowInstanceRecord record = new WorkflowInstanceRecord();
-    event.readValue(record);
+    record.wrap(value);
 
     return new WorkflowInstanceRecordValueImpl(
         objectMapper,
-        asJson(record.getPayload()),
+        asByteArray(record.getPayload()),
         asString(record.getBpmnProcessId()),
         asString(record.getElementId()),
         record.getVersion(),
@@ -291,21 +299,21 @@ public class ExporterRecordMapper {
   }
 
   private WorkflowInstanceSubscriptionRecordValue ofWorkflowInstanceSubscriptionRecord(
-      final LoggedEvent event) {
+      final DirectBuffer value) {
     final WorkflowInstanceSubscriptionRecord record = new WorkflowInstanceSubscriptionRecord();
-    event.readValue(record);
+    record.wrap(value);
 
     return new WorkflowInstanceSubscriptionRecordValueImpl(
         objectMapper,
-        asJson(record.getPayload()),
+        asByteArray(record.getPayload()),
         asString(record.getMessageName()),
         record.getWorkflowInstanceKey(),
         record.getElementInstanceKey());
   }
 
-  private RecordValue ofJobBatchRecord(LoggedEvent event) {
+  private RecordValue ofJobBatchRecord(final DirectBuffer value) {
     final JobBatchRecord record = new JobBatchRecord();
-    event.readValue(record);
+    record.wrap(value);
 
     final List<Long> jobKeys =
         StreamSupport.stream(record.jobKeys().spliterator(), false)
@@ -327,9 +335,9 @@ public class ExporterRecordMapper {
         jobs);
   }
 
-  private RecordValue ofTimerRecord(LoggedEvent event) {
+  private RecordValue ofTimerRecord(final DirectBuffer value) {
     final TimerRecord record = new TimerRecord();
-    event.readValue(record);
+    record.wrap(value);
 
     return new TimerRecordValueImpl(
         objectMapper,
@@ -349,13 +357,8 @@ public class ExporterRecordMapper {
   }
 
   private Map<String, Object> asMsgPackMap(final DirectBuffer msgPackEncoded) {
-    serderInputStream.wrap(msgPackEncoded);
-    return objectMapper.fromMsgpackAsMap(serderInputStream);
-  }
-
-  private String asJson(final DirectBuffer msgPackEncoded) {
-    serderInputStream.wrap(msgPackEncoded);
-    return objectMapper.getMsgPackConverter().convertToJson(serderInputStream);
+    // not shared, the values may be decoded concurrently by pipelined exporters
+    return objectMapper.fromMsgpackAsMap(new DirectBufferInputStream(msgPackEncoded));
   }
 
   private ResourceType asResourceType(
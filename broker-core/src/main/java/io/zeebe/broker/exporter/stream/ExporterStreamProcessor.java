@@ -23,6 +23,7 @@ import io.zeebe.broker.exporter.record.RecordMetadataImpl;
 import io.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.zeebe.broker.exporter.stream.ExporterRecord.ExporterPosition;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.exporter.context.Context.RecordFilter;
 import io.zeebe.exporter.context.Controller;
 import io.zeebe.exporter.record.Record;
 import io.zeebe.exporter.spi.Exporter;
@@ -38,10 +39,14 @@ import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.intent.ExporterIntent;
 import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.LongConsumer;
 import org.slf4j.LoggerFactory;
 
 public class ExporterStreamProcessor implements StreamProcessor {
@@ -51,24 +56,43 @@ public class ExporterStreamProcessor implements StreamProcessor {
   private final int partitionId;
 
   private final ExporterStreamProcessorState state;
-  private final RecordExporter recordExporter = new RecordExporter();
+  private final RecordExporter recordExporter;
   private final ExporterRecordProcessor exporterRecordProcessor = new ExporterRecordProcessor();
+  private final LongConsumer lowestPositionListener;
 
+  private StreamProcessorContext context;
   private ActorControl actorControl;
+  private ActorScheduler actorScheduler;
   private LogStreamReader logStreamReader;
+  private long lowestPosition = ExporterRecord.POSITION_UNKNOWN;
 
   public ExporterStreamProcessor(
       ZeebeDb<ExporterColumnFamilies> zeebeDb,
       final int partitionId,
       final Collection<ExporterDescriptor> descriptors) {
+    this(zeebeDb, partitionId, descriptors, position -> {});
+  }
+
+  /**
+   * @param lowestPositionListener is invoked with the lowest position which is exported by all
+   *     exporters whenever it changes
+   */
+  public ExporterStreamProcessor(
+      ZeebeDb<ExporterColumnFamilies> zeebeDb,
+      final int partitionId,
+      final Collection<ExporterDescriptor> descriptors,
+      final LongConsumer lowestPositionListener) {
     state = new ExporterStreamProcessorState(zeebeDb);
 
     this.partitionId = partitionId;
+    this.lowestPositionListener = lowestPositionListener;
 
     this.containers = new ArrayList<>(descriptors.size());
     for (final ExporterDescriptor descriptor : descriptors) {
       this.containers.add(new ExporterContainer(descriptor));
     }
+
+    this.recordExporter = new RecordExporter();
   }
 
   public ExporterStreamProcessorState getState() {
@@ -93,8 +117,10 @@ public class ExporterStreamProcessor implements StreamProcessor {
 
   @Override
   public void onOpen(StreamProcessorContext context) {
+    this.context = context;
     logStreamReader = context.getLogStreamReader();
     actorControl = context.getActorControl();
+    actorScheduler = context.getActorScheduler();
 
     for (final ExporterContainer container : containers) {
       container.exporter.configure(container.context);
@@ -106,7 +132,19 @@ public class ExporterStreamProcessor implements StreamProcessor {
     long lowestPosition = -1;
 
     for (final ExporterContainer container : containers) {
-      container.exporter.open(container);
+      if (container.isPipelined()) {
+        // the exporter is opened on its own actor
+        final ActorFuture<Void> openFuture = actorScheduler.submitActor(container.pipeline);
+        actorControl.runOnCompletion(
+            openFuture,
+            (v, error) -> {
+              if (error != null) {
+                onPipelineOpenFailed(container, error);
+              }
+            });
+      } else {
+        container.exporter.open(container);
+      }
       container.position = state.getPosition(container.getId());
 
       if (lowestPosition == -1 || lowestPosition > container.position) {
@@ -114,6 +152,9 @@ public class ExporterStreamProcessor implements StreamProcessor {
       }
     }
 
+    this.lowestPosition = lowestPosition;
+    lowestPositionListener.accept(lowestPosition);
+
     // in case the lowest known position is not found, start from the
     // beginning again
     if (lowestPosition <= 0 || !logStreamReader.seek(lowestPosition)) {
@@ -128,6 +169,12 @@ public class ExporterStreamProcessor implements StreamProcessor {
   @Override
   public void onClose() {
     for (final ExporterContainer container : containers) {
+      if (container.isPipelined()) {
+        // the exporter is closed on its own actor
+        container.pipeline.close();
+        continue;
+      }
+
       try {
         container.exporter.close();
       } catch (final Exception e) {
@@ -136,16 +183,46 @@ public class ExporterStreamProcessor implements StreamProcessor {
     }
   }
 
+  private void onPipelineOpenFailed(final ExporterContainer container, final Throwable error) {
+    container.context.getLogger().error("Error on open", error);
+
+    // fail like a synchronous exporter which can't be opened - the controller doesn't close the
+    // stream processor on failure, so the other pipelines are closed here
+    for (final ExporterContainer other : containers) {
+      if (other.isPipelined() && other != container) {
+        other.pipeline.close();
+      }
+    }
+
+    context.failController();
+  }
+
+  private void updateLowestPosition() {
+    long lowestPosition = Long.MAX_VALUE;
+    for (final ExporterContainer container : containers) {
+      lowestPosition = Math.min(lowestPosition, container.position);
+    }
+
+    if (lowestPosition != this.lowestPosition) {
+      this.lowestPosition = lowestPosition;
+      lowestPositionListener.accept(lowestPosition);
+    }
+  }
+
   private boolean shouldCommitPositions() {
     return false;
   }
 
   private class ExporterContainer implements Controller {
     private static final String LOGGER_NAME_FORMAT = "io.zeebe.broker.exporter.%s";
+    private static final String PIPELINE_NAME_FORMAT = "exporter-%s-%d";
 
     private final ExporterContext context;
     private final Exporter exporter;
+    private final ExporterPipeline pipeline;
     private long position;
+    // the position of the last record which was passed to the exporter
+    private long lastPassedPosition = ExporterRecord.POSITION_UNKNOWN;
 
     ExporterContainer(ExporterDescriptor descriptor) {
       context =
@@ -153,20 +230,64 @@ public class ExporterStreamProcessor implements StreamProcessor {
               LoggerFactory.getLogger(String.format(LOGGER_NAME_FORMAT, descriptor.getId())),
               descriptor.getConfiguration());
       exporter = descriptor.newInstance();
+
+      if (descriptor.isPipelined()) {
+        pipeline =
+            new ExporterPipeline(
+                String.format(PIPELINE_NAME_FORMAT, descriptor.getId(), partitionId),
+                exporter,
+                this,
+                context.getLogger(),
+                descriptor.getPipelineBufferSize());
+      } else {
+        pipeline = null;
+      }
+    }
+
+    boolean isPipelined() {
+      return pipeline != null;
+    }
+
+    boolean acceptRecord(final RecordMetadata metadata) {
+      final RecordFilter filter = context.getFilter();
+      return filter.acceptType(metadata.getRecordType())
+          && filter.acceptValue(metadata.getValueType())
+          && filter.acceptIntent(metadata.getIntent());
     }
 
     @Override
     public void updateLastExportedRecordPosition(final long position) {
-      actorControl.run(
-          () -> {
-            state.setPosition(getId(), position);
-            this.position = position;
-          });
+      // may be called from the actor of a pipelined exporter
+      actorControl.run(() -> updatePosition(position));
+    }
+
+    /**
+     * Advances the position over a record which the exporter didn't receive, so that an exporter
+     * which filters most records doesn't hold back the deletion of the log. The position is only
+     * advanced if the exporter has acknowledged all records which it received, otherwise these
+     * records would be skipped on restart. Hence, the records before the first record which the
+     * exporter receives are passed right away.
+     */
+    void skipRecord(final long recordPosition) {
+      if (position >= lastPassedPosition && position < recordPosition) {
+        updatePosition(recordPosition);
+      }
+    }
+
+    private void updatePosition(final long position) {
+      state.setPosition(getId(), position);
+      this.position = position;
+
+      updateLowestPosition();
     }
 
     @Override
     public void scheduleTask(final Duration delay, final Runnable task) {
-      actorControl.runDelayed(delay, task);
+      if (isPipelined()) {
+        pipeline.scheduleTask(delay, task);
+      } else {
+        actorControl.runDelayed(delay, task);
+      }
     }
 
     private String getId() {
@@ -192,11 +313,30 @@ public class ExporterStreamProcessor implements StreamProcessor {
   private class RecordExporter implements EventProcessor {
     private final ExporterObjectMapper objectMapper = new ExporterObjectMapper();
     private final ExporterRecordMapper recordMapper = new ExporterRecordMapper(objectMapper);
+    private final boolean[] acceptedByExporter = new boolean[containers.size()];
     private Record record;
+    private long position;
     private boolean shouldExecuteSideEffects;
     private int exporterIndex;
 
     void wrap(LoggedEvent rawEvent) {
+      exporterIndex = 0;
+      record = null;
+      position = rawEvent.getPosition();
+      shouldExecuteSideEffects = false;
+
+      // apply the filters on the raw metadata, so that records which no exporter is interested in
+      // are never mapped
+      boolean isAccepted = false;
+      for (int i = 0; i < acceptedByExporter.length; i++) {
+        acceptedByExporter[i] = containers.get(i).acceptRecord(rawMetadata);
+        isAccepted |= acceptedByExporter[i];
+      }
+
+      if (!isAccepted) {
+        return;
+      }
+
       final RecordMetadataImpl metadata =
           new RecordMetadataImpl(
               objectMapper,
@@ -208,8 +348,11 @@ public class ExporterStreamProcessor implements StreamProcessor {
               rawMetadata.getValueType());
 
       record = recordMapper.map(rawEvent, metadata);
-      exporterIndex = 0;
       shouldExecuteSideEffects = record != null;
+
+      if (!shouldExecuteSideEffects) {
+        Arrays.fill(acceptedByExporter, false);
+      }
     }
 
     @Override
@@ -226,8 +369,17 @@ public class ExporterStreamProcessor implements StreamProcessor {
         final ExporterContainer container = containers.get(exporterIndex);
 
         try {
-          if (container.position < record.getPosition()) {
-            container.exporter.export(record);
+          if (acceptedByExporter[exporterIndex] && container.position < record.getPosition()) {
+            if (container.isPipelined()) {
+              if (!container.pipeline.offer(record)) {
+                // backpressure - the buffer of the exporter is full
+                return false;
+              }
+            } else {
+              container.exporter.export(record);
+            }
+
+            container.lastPassedPosition = position;
           }
 
           exporterIndex++;
@@ -240,6 +392,15 @@ public class ExporterStreamProcessor implements StreamProcessor {
       return true;
     }
 
+    @Override
+    public void updateState() {
+      for (int i = 0; i < acceptedByExporter.length; i++) {
+        if (!acceptedByExporter[i]) {
+          containers.get(i).skipRecord(position);
+        }
+      }
+    }
+
     @Override
     public long writeEvent(LogStreamRecordWriter writer) {
       if (shouldCommitPositions()) {
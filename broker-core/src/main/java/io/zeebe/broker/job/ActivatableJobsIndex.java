@@ -0,0 +1,174 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.job;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * In-memory index of the activatable jobs per job type, in the order in which they became
+ * activatable. It mirrors the {@code JOB_ACTIVATABLE} column family, so jobs can be activated
+ * without scanning it.
+ *
+ * <p>Removing a job only drops its key from the lookup map; the entry stays in the queue of its
+ * type and is skipped (and eventually discarded) while iterating. A job which becomes activatable
+ * again gets a new sequence number, so an older entry of the same job is recognized as stale.
+ */
+class ActivatableJobsIndex {
+
+  private static final long MISSING = -1L;
+  private static final int INITIAL_QUEUE_CAPACITY = 64;
+
+  private final Map<DirectBuffer, JobQueue> queuesByType = new HashMap<>();
+  private final Long2LongHashMap sequenceByJobKey = new Long2LongHashMap(MISSING);
+  private final UnsafeBuffer typeView = new UnsafeBuffer(0, 0);
+
+  private long nextSequence;
+
+  void add(DirectBuffer type, long jobKey) {
+    final long sequence = nextSequence++;
+    final long previousSequence = sequenceByJobKey.put(jobKey, sequence);
+
+    final JobQueue queue = getOrCreateQueue(type);
+    queue.offer(jobKey, sequence);
+    if (previousSequence == MISSING) {
+      queue.activatableJobs += 1;
+    }
+  }
+
+  void remove(DirectBuffer type, long jobKey) {
+    if (sequenceByJobKey.remove(jobKey) != MISSING) {
+      final JobQueue queue = getQueue(type);
+      if (queue != null) {
+        queue.activatableJobs -= 1;
+        if (queue.activatableJobs == 0) {
+          queue.clear();
+        }
+      }
+    }
+  }
+
+  /**
+   * Visits the activatable jobs of the given type in FIFO order until the visitor returns false.
+   * The index must not be modified while iterating.
+   */
+  void forEach(DirectBuffer type, JobKeyVisitor visitor) {
+    final JobQueue queue = getQueue(type);
+    if (queue != null) {
+      queue.forEach(visitor);
+    }
+  }
+
+  void clear() {
+    queuesByType.clear();
+    sequenceByJobKey.clear();
+  }
+
+  private JobQueue getQueue(DirectBuffer type) {
+    typeView.wrap(type);
+    return queuesByType.get(typeView);
+  }
+
+  private JobQueue getOrCreateQueue(DirectBuffer type) {
+    JobQueue queue = getQueue(type);
+    if (queue == null) {
+      final UnsafeBuffer typeCopy = new UnsafeBuffer(new byte[type.capacity()]);
+      typeCopy.putBytes(0, type, 0, type.capacity());
+
+      queue = new JobQueue();
+      queuesByType.put(typeCopy, queue);
+    }
+    return queue;
+  }
+
+  @FunctionalInterface
+  interface JobKeyVisitor {
+    boolean visit(long jobKey);
+  }
+
+  /** Ring buffer of (job key, sequence) pairs. */
+  private final class JobQueue {
+    private long[] jobKeys = new long[INITIAL_QUEUE_CAPACITY];
+    private long[] sequences = new long[INITIAL_QUEUE_CAPACITY];
+    private int head;
+    private int size;
+
+    private int activatableJobs;
+
+    void offer(long jobKey, long sequence) {
+      if (size == jobKeys.length) {
+        compactOrGrow();
+      }
+
+      final int index = (head + size) % jobKeys.length;
+      jobKeys[index] = jobKey;
+      sequences[index] = sequence;
+      size += 1;
+    }
+
+    void forEach(JobKeyVisitor visitor) {
+      // discard stale entries at the head first, they are the common case after an activation
+      while (size > 0 && !isActivatable(head)) {
+        head = (head + 1) % jobKeys.length;
+        size -= 1;
+      }
+
+      for (int i = 0; i < size; i++) {
+        final int index = (head + i) % jobKeys.length;
+        if (isActivatable(index) && !visitor.visit(jobKeys[index])) {
+          return;
+        }
+      }
+    }
+
+    void clear() {
+      head = 0;
+      size = 0;
+    }
+
+    private boolean isActivatable(int index) {
+      return sequenceByJobKey.get(jobKeys[index]) == sequences[index];
+    }
+
+    private void compactOrGrow() {
+      // keep only the activatable entries; grow if the queue is still more than half full
+      final int capacity =
+          activatableJobs > jobKeys.length / 2 ? jobKeys.length * 2 : jobKeys.length;
+      final long[] newJobKeys = new long[capacity];
+      final long[] newSequences = new long[capacity];
+
+      int newSize = 0;
+      for (int i = 0; i < size; i++) {
+        final int index = (head + i) % jobKeys.length;
+        if (isActivatable(index)) {
+          newJobKeys[newSize] = jobKeys[index];
+          newSequences[newSize] = sequences[index];
+          newSize += 1;
+        }
+      }
+
+      jobKeys = newJobKeys;
+      sequences = newSequences;
+      head = 0;
+      size = newSize;
+    }
+  }
+}
@@ -46,11 +46,24 @@ public class JobBatchActivateProcessor implements TypedRecordProcessor<JobBatchR
 
   private final JobState state;
   private final WorkflowState workflowState;
+  private final JobsAvailableNotifier jobsAvailableNotifier;
+  private final JobTimeoutTrigger timeoutTrigger;
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
 
-  public JobBatchActivateProcessor(JobState state, WorkflowState workflowState) {
+  // reused for every job, the values are copied when they are added to the batch or written
+  private final ExpandableArrayBuffer jobBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer activatedJobBuffer = new ExpandableArrayBuffer();
+  private final JobRecord activatedJob = new JobRecord();
+
+  public JobBatchActivateProcessor(
+      JobState state,
+      WorkflowState workflowState,
+      JobsAvailableNotifier jobsAvailableNotifier,
+      JobTimeoutTrigger timeoutTrigger) {
     this.state = state;
     this.workflowState = workflowState;
+    this.jobsAvailableNotifier = jobsAvailableNotifier;
+    this.timeoutTrigger = timeoutTrigger;
   }
 
   @Override
@@ -84,6 +97,14 @@ public class JobBatchActivateProcessor implements TypedRecordProcessor<JobBatchR
     final AtomicInteger amount = new AtomicInteger(value.getAmount());
     collectJobsToActivate(value, amount);
 
+    if (amount.get() == value.getAmount()) {
+      // no job found, notify the requester once jobs of this type can be activated
+      jobsAvailableNotifier.onJobsNotFound(
+          value.getType(), record.getMetadata().getRequestStreamId());
+    } else {
+      timeoutTrigger.scheduleTimeOut(currentTimeMillis() + value.getTimeout());
+    }
+
     // Collecting of jobs and update state and write ACTIVATED job events should be separate,
     // since otherwise this will cause some problems (weird behavior) with the reusing of objects
     //
@@ -113,18 +134,19 @@ public class JobBatchActivateProcessor implements TypedRecordProcessor<JobBatchR
 
     state.forEachActivatableJobs(
         value.getType(),
-        (key, jobRecord) -> {
+        (key, serializedJob) -> {
           final int remainingAmount = amount.decrementAndGet();
           if (remainingAmount >= 0) {
             final long deadline = currentTimeMillis() + value.getTimeout();
             jobKeyIterator.add().setValue(key);
+            // adding flushes the previous job into the array, so the buffer can be reused
             final JobRecord arrayValueJob = jobIterator.add();
 
-            // clone job record to modify and add it
-            final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer(jobRecord.getLength());
-            jobRecord.write(buffer, 0);
+            // copy the stored job, since the view is only valid until the next read of the state
+            final int length = serializedJob.capacity();
+            jobBuffer.putBytes(0, serializedJob, 0, length);
 
-            arrayValueJob.wrap(buffer);
+            arrayValueJob.wrap(jobBuffer, 0, length);
             arrayValueJob.setDeadline(deadline).setWorker(value.getWorker());
           }
 
@@ -150,14 +172,14 @@ public class JobBatchActivateProcessor implements TypedRecordProcessor<JobBatchR
         jobRecord.setPayload(WorkflowInstanceRecord.EMPTY_PAYLOAD);
       }
 
-      // we have to copy the job record because #write will reset the iterator state
-      final ExpandableArrayBuffer copy = new ExpandableArrayBuffer();
-      jobRecord.write(copy, 0);
-      final JobRecord copiedJob = new JobRecord();
-      copiedJob.wrap(copy, 0, jobRecord.getLength());
+      // we have to copy the job record because #write will reset the iterator state; both the state
+      // and the stream writer serialize it right away, so the copy can be reused for the next job
+      final int length = jobRecord.getLength();
+      jobRecord.write(activatedJobBuffer, 0);
+      activatedJob.wrap(activatedJobBuffer, 0, length);
 
-      state.activate(key, copiedJob);
-      streamWriter.appendFollowUpEvent(key, JobIntent.ACTIVATED, copiedJob);
+      state.activate(key, activatedJob);
+      streamWriter.appendFollowUpEvent(key, JobIntent.ACTIVATED, activatedJob);
     }
   }
 
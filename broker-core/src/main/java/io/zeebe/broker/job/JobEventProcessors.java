@@ -17,6 +17,7 @@
  */
 package io.zeebe.broker.job;
 
+import io.zeebe.broker.logstreams.processor.CommandProcessorImpl;
 import io.zeebe.broker.logstreams.processor.TypedEventStreamProcessorBuilder;
 import io.zeebe.broker.logstreams.state.ZeebeState;
 import io.zeebe.broker.workflow.processor.job.JobCompletedEventProcessor;
@@ -28,24 +29,41 @@ import io.zeebe.protocol.intent.JobIntent;
 
 public class JobEventProcessors {
   public static void addJobProcessors(
-      TypedEventStreamProcessorBuilder typedEventStreamProcessorBuilder, ZeebeState zeebeState) {
+      TypedEventStreamProcessorBuilder typedEventStreamProcessorBuilder,
+      ZeebeState zeebeState,
+      JobsAvailableNotifier jobsAvailableNotifier) {
     final WorkflowState workflowState = zeebeState.getWorkflowState();
     final JobState jobState = zeebeState.getJobState();
+    final JobTimeoutTrigger timeoutTrigger = new JobTimeoutTrigger(jobState);
 
     typedEventStreamProcessorBuilder
         .onEvent(ValueType.JOB, JobIntent.CREATED, new JobCreatedProcessor(workflowState))
         .onEvent(ValueType.JOB, JobIntent.COMPLETED, new JobCompletedEventProcessor(workflowState))
-        .onCommand(ValueType.JOB, JobIntent.CREATE, new CreateProcessor(jobState))
+        .onCommand(
+            ValueType.JOB,
+            JobIntent.CREATE,
+            jobsAvailableNotifier.notifyOnJobsAvailable(
+                new CommandProcessorImpl<>(new CreateProcessor(jobState))))
         .onCommand(ValueType.JOB, JobIntent.COMPLETE, new CompleteProcessor(jobState))
-        .onCommand(ValueType.JOB, JobIntent.FAIL, new FailProcessor(jobState))
+        .onCommand(
+            ValueType.JOB,
+            JobIntent.FAIL,
+            jobsAvailableNotifier.notifyOnJobsAvailable(
+                new CommandProcessorImpl<>(new FailProcessor(jobState))))
         .onEvent(ValueType.JOB, JobIntent.FAILED, new JobFailedProcessor())
-        .onCommand(ValueType.JOB, JobIntent.TIME_OUT, new TimeOutProcessor(jobState))
+        .onCommand(
+            ValueType.JOB,
+            JobIntent.TIME_OUT,
+            jobsAvailableNotifier.notifyOnJobsAvailable(
+                new CommandProcessorImpl<>(new TimeOutProcessor(jobState))))
         .onCommand(ValueType.JOB, JobIntent.UPDATE_RETRIES, new UpdateRetriesProcessor(jobState))
         .onCommand(ValueType.JOB, JobIntent.CANCEL, new CancelProcessor(jobState))
         .onCommand(
             ValueType.JOB_BATCH,
             JobBatchIntent.ACTIVATE,
-            new JobBatchActivateProcessor(jobState, workflowState))
-        .withListener(new JobTimeoutTrigger(jobState));
+            new JobBatchActivateProcessor(
+                jobState, workflowState, jobsAvailableNotifier, timeoutTrigger))
+        .withListener(timeoutTrigger)
+        .withListener(jobsAvailableNotifier);
   }
 }
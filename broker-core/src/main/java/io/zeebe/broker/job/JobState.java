@@ -21,6 +21,7 @@ import io.zeebe.broker.logstreams.state.UnpackedObjectValue;
 import io.zeebe.broker.logstreams.state.ZbColumnFamilies;
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.DbBufferView;
 import io.zeebe.db.impl.DbByte;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
@@ -28,8 +29,8 @@ import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DbString;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.util.EnsureUtil;
-import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 
 public class JobState {
@@ -38,6 +39,9 @@ public class JobState {
   private final UnpackedObjectValue jobRecord;
   private final DbLong jobKey;
   private final ColumnFamily<DbLong, UnpackedObjectValue> jobsColumnFamily;
+  // same column family, but gives access to the serialized job
+  private final DbBufferView serializedJob;
+  private final ColumnFamily<DbLong, DbBufferView> serializedJobsColumnFamily;
 
   // key => job state
   private final DbByte jobState;
@@ -47,6 +51,10 @@ public class JobState {
   private final DbString jobTypeKey;
   private final DbCompositeKey<DbString, DbLong> typeJobKey;
   private final ColumnFamily<DbCompositeKey<DbString, DbLong>, DbNil> activatableColumnFamily;
+  // mirrors the activatable column family, loaded on first use and discarded on rollback
+  private final ActivatableJobsIndex activatableJobsIndex = new ActivatableJobsIndex();
+  private final Runnable unloadActivatableJobsIndex = this::unloadActivatableJobsIndex;
+  private boolean isActivatableJobsIndexLoaded;
 
   // timeout => key
   private final DbLong deadlineKey;
@@ -54,11 +62,16 @@ public class JobState {
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> deadlinesColumnFamily;
   private final ZeebeDb<ZbColumnFamilies> zeebeDb;
 
+  private Consumer<DirectBuffer> onJobsAvailableCallback = type -> {};
+
   public JobState(ZeebeDb<ZbColumnFamilies> zeebeDb) {
     jobRecord = new UnpackedObjectValue();
     jobRecord.wrapObject(new JobRecord());
     jobKey = new DbLong();
     jobsColumnFamily = zeebeDb.createColumnFamily(ZbColumnFamilies.JOBS, jobKey, jobRecord);
+    serializedJob = new DbBufferView();
+    serializedJobsColumnFamily =
+        zeebeDb.createColumnFamily(ZbColumnFamilies.JOBS, jobKey, serializedJob);
 
     jobState = new DbByte();
     statesJobColumnFamily =
@@ -174,25 +187,61 @@ public class JobState {
         });
   }
 
-  public void forEachTimedOutEntry(
-      final long upperBound, final BiConsumer<Long, JobRecord> callback) {
+  /**
+   * Visits the jobs whose deadline is before the given upper bound, ordered by deadline, until the
+   * visitor returns false.
+   *
+   * @return the deadline of the first job which was not visited or not accepted by the visitor, or
+   *     -1 if there is none
+   */
+  public long forEachTimedOutEntry(
+      final long upperBound, final BiFunction<Long, JobRecord, Boolean> callback) {
+    return forEachTimedOutEntry(upperBound, -1L, -1L, callback);
+  }
+
+  /**
+   * Visits the jobs whose deadline is before the given upper bound, ordered by deadline and key,
+   * until the visitor returns false. The entries up to the given deadline and key (inclusive) are
+   * skipped without reading their jobs.
+   *
+   * @return the deadline of the first job which was not visited or not accepted by the visitor, or
+   *     -1 if there is none
+   */
+  public long forEachTimedOutEntry(
+      final long upperBound,
+      final long skipUntilDeadline,
+      final long skipUntilKey,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    final long[] nextDeadline = {-1L};
 
     deadlinesColumnFamily.whileTrue(
         (compositeKey, zbNil) -> {
           final long deadline = compositeKey.getFirst().getValue();
-          final boolean isDue = deadline < upperBound;
-          if (isDue) {
-            final Long jobKey = compositeKey.getSecond().getValue();
-            final JobRecord job = getJob(jobKey);
+          final long key = compositeKey.getSecond().getValue();
+
+          if (deadline < skipUntilDeadline
+              || (deadline == skipUntilDeadline && key <= skipUntilKey)) {
+            return true;
+          }
+
+          boolean consumed = false;
+          if (deadline < upperBound) {
+            final JobRecord job = getJob(key);
 
             if (job == null) {
               throw new IllegalStateException(
-                  String.format("Expected to find job with key %d, but no job found", jobKey));
+                  String.format("Expected to find job with key %d, but no job found", key));
             }
-            callback.accept(jobKey, job);
+            consumed = callback.apply(key, job);
+          }
+
+          if (!consumed) {
+            nextDeadline[0] = deadline;
           }
-          return isDue;
+          return consumed;
         });
+
+    return nextDeadline[0];
   }
 
   public boolean exists(long jobKey) {
@@ -210,22 +259,25 @@ public class JobState {
     return false;
   }
 
-  public void forEachActivatableJobs(
-      final DirectBuffer type, final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
-
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((compositeKey, zbNil) -> {
-          final long jobKey = compositeKey.getSecond().getValue();
-
-          final JobRecord job = getJob(jobKey);
+  /**
+   * Visits the activatable jobs of the given type, in the order in which they became activatable,
+   * until the visitor returns false. The visitor gets the serialized job, which is only valid until
+   * the state is read again.
+   */
+  public void forEachActivatableJobs(final DirectBuffer type, final ActivatableJobVisitor visitor) {
+    ensureActivatableJobsIndexLoaded();
+
+    activatableJobsIndex.forEach(
+        type,
+        key -> {
+          jobKey.wrapLong(key);
+          final DbBufferView job = serializedJobsColumnFamily.get(jobKey);
           if (job == null) {
             throw new IllegalStateException(
-                String.format("Expected to find job with key %d, but no job found", jobKey));
+                String.format("Expected to find job with key %d, but no job found", key));
           }
-          return callback.apply(jobKey, job);
-        }));
+          return visitor.visit(key, job.getValue());
+        });
   }
 
   public JobRecord updateJobRetries(final long jobKey, final int retries) {
@@ -243,6 +295,14 @@ public class JobState {
     return unpackedObjectValue == null ? null : (JobRecord) unpackedObjectValue.getObject();
   }
 
+  /**
+   * Registers a callback which is invoked with the job type whenever a job of that type becomes
+   * activatable, i.e. on create, time out, fail with retries left and resolve.
+   */
+  public void setJobsAvailableCallback(Consumer<DirectBuffer> callback) {
+    this.onJobsAvailableCallback = callback != null ? callback : type -> {};
+  }
+
   public enum State {
     ACTIVATABLE((byte) 0),
     ACTIVATED((byte) 1),
@@ -271,6 +331,12 @@ public class JobState {
 
     jobTypeKey.wrapBuffer(type);
     activatableColumnFamily.put(typeJobKey, DbNil.INSTANCE);
+    if (isActivatableJobsIndexLoaded) {
+      activatableJobsIndex.add(type, jobKey.getValue());
+      zeebeDb.runAfterRollback(unloadActivatableJobsIndex);
+    }
+
+    onJobsAvailableCallback.accept(type);
   }
 
   private void makeJobNotActivatable(DirectBuffer type) {
@@ -278,10 +344,37 @@ public class JobState {
 
     jobTypeKey.wrapBuffer(type);
     activatableColumnFamily.delete(typeJobKey);
+    if (isActivatableJobsIndexLoaded) {
+      activatableJobsIndex.remove(type, jobKey.getValue());
+      zeebeDb.runAfterRollback(unloadActivatableJobsIndex);
+    }
+  }
+
+  private void ensureActivatableJobsIndexLoaded() {
+    if (!isActivatableJobsIndexLoaded) {
+      activatableColumnFamily.forEach(
+          (compositeKey, nil) ->
+              activatableJobsIndex.add(
+                  compositeKey.getFirst().getBuffer(), compositeKey.getSecond().getValue()));
+      isActivatableJobsIndexLoaded = true;
+
+      // the index may contain the pending writes of the transaction
+      zeebeDb.runAfterRollback(unloadActivatableJobsIndex);
+    }
+  }
+
+  private void unloadActivatableJobsIndex() {
+    activatableJobsIndex.clear();
+    isActivatableJobsIndexLoaded = false;
   }
 
   private void removeJobDeadline(long deadline) {
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.delete(deadlineJobKey);
   }
+
+  @FunctionalInterface
+  public interface ActivatableJobVisitor {
+    boolean visit(long key, DirectBuffer serializedJob);
+  }
 }
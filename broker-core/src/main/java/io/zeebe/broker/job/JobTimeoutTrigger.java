@@ -23,48 +23,156 @@ import io.zeebe.broker.logstreams.processor.StreamProcessorLifecycleAware;
 import io.zeebe.broker.logstreams.processor.TypedCommandWriter;
 import io.zeebe.broker.logstreams.processor.TypedStreamProcessor;
 import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.intent.JobIntent;
+import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.ScheduledTimer;
 import java.time.Duration;
 
+/**
+ * Writes TIME_OUT commands for activated jobs whose deadline is over.
+ *
+ * <p>Like the {@code DueDateTimerChecker}, it schedules one check for the next deadline. Timed out
+ * jobs are written in batches with a single flush, and the actor yields between the batches so the
+ * stream processing is not blocked by many jobs timing out at once. In addition, the deadlines are
+ * checked periodically, which retries TIME_OUT commands that could not be written.
+ */
 public class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
   public static final Duration TIME_OUT_POLLING_INTERVAL = Duration.ofSeconds(30);
+
+  /** Deadlines which are closer to the scheduled check than this are handled by it. */
+  private static final long TIME_OUT_RESOLUTION = Duration.ofMillis(100).toMillis();
+
+  private static final int MAX_BATCH_SIZE = 64;
+  private static final int MAX_BATCH_LENGTH = 64 * 1024;
+
   private final JobState state;
 
-  private ScheduledTimer timer;
+  private ActorControl actor;
   private TypedCommandWriter writer;
 
+  private ScheduledTimer pollingTimer;
+  private ScheduledTimer timer;
+  private long nextDeadline = -1L;
+  private boolean isCheckSubmitted;
+
+  // TIME_OUT commands were written for all due jobs up to this deadline and key
+  private long lastTimedOutDeadline = -1L;
+  private long lastTimedOutKey = -1L;
+
+  private long batchStartDeadline;
+  private long batchStartKey;
+  private int batchSize;
+  private int batchLength;
+
   public JobTimeoutTrigger(final JobState state) {
     this.state = state;
   }
 
   @Override
   public void onRecovered(final TypedStreamProcessor streamProcessor) {
-    timer =
-        streamProcessor
-            .getActor()
-            .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
+    actor = streamProcessor.getActor();
     writer = streamProcessor.getEnvironment().buildCommandWriter();
+
+    pollingTimer = actor.runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::pollTimedOutJobs);
+    checkTimedOutJobs();
   }
 
   @Override
   public void onClose() {
+    if (pollingTimer != null) {
+      pollingTimer.cancel();
+      pollingTimer = null;
+    }
+
+    cancelTimer();
+    actor = null;
+  }
+
+  /**
+   * Makes sure that the deadlines are checked at the given time. Called while processing, when jobs
+   * are activated with the given deadline.
+   */
+  public void scheduleTimeOut(final long deadline) {
+    if (actor == null || isCheckSubmitted) {
+      // not recovered yet, or a check is pending anyway
+      return;
+    }
+
+    if (timer == null || nextDeadline - deadline > TIME_OUT_RESOLUTION) {
+      scheduleCheck(deadline);
+    }
+  }
+
+  private void pollTimedOutJobs() {
+    if (!isCheckSubmitted) {
+      checkTimedOutJobs();
+    }
+  }
+
+  private void checkTimedOutJobs() {
+    isCheckSubmitted = false;
+    cancelTimer();
+
+    batchStartDeadline = lastTimedOutDeadline;
+    batchStartKey = lastTimedOutKey;
+    batchSize = 0;
+    batchLength = 0;
+
+    // skip the jobs whose TIME_OUT command is written but not processed yet
+    final long nextDeadline =
+        state.forEachTimedOutEntry(
+            currentTimeMillis(), lastTimedOutDeadline, lastTimedOutKey, this::timeOutJob);
+
+    if (batchSize > 0 && writer.flush() < 0) {
+      // the jobs are picked up again on the next check
+      lastTimedOutDeadline = batchStartDeadline;
+      lastTimedOutKey = batchStartKey;
+    }
+
+    if (nextDeadline < 0) {
+      return;
+    }
+
+    if (nextDeadline < currentTimeMillis()) {
+      // the batch is full, yield to the stream processing before writing the next one
+      isCheckSubmitted = true;
+      actor.submit(this::checkTimedOutJobs);
+    } else {
+      scheduleCheck(nextDeadline);
+    }
+  }
+
+  private boolean timeOutJob(final long key, final JobRecord record) {
+    final int length = record.getLength();
+    if (batchSize >= MAX_BATCH_SIZE || (batchSize > 0 && batchLength + length > MAX_BATCH_LENGTH)) {
+      return false;
+    }
+
+    writer.appendFollowUpCommand(
+        key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
+    batchSize += 1;
+    batchLength += length;
+
+    lastTimedOutDeadline = record.getDeadline();
+    lastTimedOutKey = key;
+    return true;
+  }
+
+  private void scheduleCheck(final long deadline) {
+    cancelTimer();
+
+    // a job is timed out when its deadline is before the current time
+    final long delay = Math.max(1, deadline + 1 - currentTimeMillis());
+    timer = actor.runDelayed(Duration.ofMillis(delay), this::checkTimedOutJobs);
+    nextDeadline = deadline;
+  }
+
+  private void cancelTimer() {
     if (timer != null) {
       timer.cancel();
       timer = null;
     }
-  }
-
-  private void deactivateTimedOutJobs() {
-    final long now = currentTimeMillis();
-    state.forEachTimedOutEntry(
-        now,
-        (key, record) -> {
-          writer.appendFollowUpCommand(
-              key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
-          writer.flush();
-          // we don't have to check for write errors as the job will then be picked up again
-          // on the next iteration of this timer
-        });
+    nextDeadline = -1L;
   }
 }
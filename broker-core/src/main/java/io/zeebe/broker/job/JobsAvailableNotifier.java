@@ -0,0 +1,177 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.job;
+
+import io.zeebe.broker.logstreams.processor.SideEffectProducer;
+import io.zeebe.broker.logstreams.processor.StreamProcessorLifecycleAware;
+import io.zeebe.broker.logstreams.processor.TypedRecord;
+import io.zeebe.broker.logstreams.processor.TypedRecordProcessor;
+import io.zeebe.broker.logstreams.processor.TypedResponseWriter;
+import io.zeebe.broker.logstreams.processor.TypedStreamEnvironment;
+import io.zeebe.broker.logstreams.processor.TypedStreamProcessor;
+import io.zeebe.broker.logstreams.processor.TypedStreamWriter;
+import io.zeebe.broker.transport.clientapi.JobsAvailableNotificationWriter;
+import io.zeebe.broker.workflow.processor.SideEffectQueue;
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.IntHashSet;
+
+/**
+ * Remembers the clients which tried to activate jobs of a type while none were available, and
+ * pushes a notification to them as soon as jobs of this type become activatable again. The
+ * notification contains the number of these jobs, so the gateway only resumes as many of its
+ * waiting activate requests as can get a job. This allows the gateway to hold activate requests
+ * open instead of polling the partition.
+ *
+ * <p>The notification is a side effect of the processors which are wrapped by {@link
+ * #notifyOnJobsAvailable(TypedRecordProcessor)}, so it is only sent after the records of the
+ * processed command are written and never for a command whose processing is rolled back.
+ */
+public class JobsAvailableNotifier implements StreamProcessorLifecycleAware {
+
+  private final JobState state;
+  private final Map<String, IntHashSet> waitingStreamsByType = new HashMap<>();
+
+  /** the number of jobs per type which became activatable while processing the current record */
+  private final Map<String, Integer> availableJobsByType = new HashMap<>();
+
+  private JobsAvailableNotificationWriter notificationWriter;
+
+  public JobsAvailableNotifier(final JobState state) {
+    this.state = state;
+  }
+
+  @Override
+  public void onRecovered(final TypedStreamProcessor streamProcessor) {
+    final TypedStreamEnvironment environment = streamProcessor.getEnvironment();
+
+    notificationWriter =
+        new JobsAvailableNotificationWriter(environment.getOutput())
+            .partitionId(environment.getStream().getPartitionId());
+
+    state.setJobsAvailableCallback(this::onJobsAvailable);
+  }
+
+  @Override
+  public void onClose() {
+    state.setJobsAvailableCallback(null);
+    waitingStreamsByType.clear();
+    availableJobsByType.clear();
+    notificationWriter = null;
+  }
+
+  /**
+   * Registers the given client stream to be notified once jobs of the given type are available.
+   * Commands which are reprocessed during recovery have no client waiting, so they are ignored.
+   */
+  public void onJobsNotFound(final DirectBuffer type, final int requestStreamId) {
+    if (notificationWriter == null || requestStreamId < 0) {
+      return;
+    }
+
+    waitingStreamsByType
+        .computeIfAbsent(BufferUtil.bufferAsString(type), t -> new IntHashSet())
+        .add(requestStreamId);
+  }
+
+  /**
+   * @return a processor which delegates to the given one and notifies the waiting clients as side
+   *     effect if the processing made jobs activatable
+   */
+  public <T extends UnpackedObject> TypedRecordProcessor<T> notifyOnJobsAvailable(
+      final TypedRecordProcessor<T> processor) {
+    return new NotifyingProcessor<>(processor);
+  }
+
+  private void onJobsAvailable(final DirectBuffer type) {
+    final String jobType = BufferUtil.bufferAsString(type);
+    if (waitingStreamsByType.containsKey(jobType)) {
+      availableJobsByType.merge(jobType, 1, Integer::sum);
+    }
+  }
+
+  private boolean notifyWaitingStreams() {
+    for (final Map.Entry<String, Integer> availableJobs : availableJobsByType.entrySet()) {
+      final IntHashSet waitingStreams = waitingStreamsByType.remove(availableJobs.getKey());
+      if (waitingStreams != null) {
+        notificationWriter
+            .jobType(BufferUtil.wrapString(availableJobs.getKey()))
+            .jobsCount(availableJobs.getValue());
+
+        // if a notification can't be sent, the gateway falls back to its request timeout
+        waitingStreams.forEach(notificationWriter::tryWriteMessage);
+      }
+    }
+
+    availableJobsByType.clear();
+    return true;
+  }
+
+  private class NotifyingProcessor<T extends UnpackedObject> implements TypedRecordProcessor<T> {
+    private final TypedRecordProcessor<T> processor;
+    private final SideEffectQueue sideEffects = new SideEffectQueue();
+
+    private SideEffectProducer processorSideEffect;
+
+    NotifyingProcessor(final TypedRecordProcessor<T> processor) {
+      this.processor = processor;
+    }
+
+    @Override
+    public void onOpen(final TypedStreamProcessor streamProcessor) {
+      processor.onOpen(streamProcessor);
+    }
+
+    @Override
+    public void onRecovered(final TypedStreamProcessor streamProcessor) {
+      processor.onRecovered(streamProcessor);
+    }
+
+    @Override
+    public void onClose() {
+      processor.onClose();
+    }
+
+    @Override
+    public void processRecord(
+        final long position,
+        final TypedRecord<T> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter,
+        final Consumer<SideEffectProducer> sideEffect) {
+      availableJobsByType.clear();
+      processorSideEffect = null;
+
+      processor.processRecord(
+          position, record, responseWriter, streamWriter, p -> processorSideEffect = p);
+
+      if (!availableJobsByType.isEmpty()) {
+        sideEffects.clear();
+        sideEffects.add(processorSideEffect != null ? processorSideEffect : responseWriter::flush);
+        sideEffects.add(JobsAvailableNotifier.this::notifyWaitingStreams);
+        sideEffect.accept(sideEffects);
+      } else if (processorSideEffect != null) {
+        sideEffect.accept(processorSideEffect);
+      }
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import io.zeebe.util.metrics.Metric;
+import io.zeebe.util.metrics.MetricsManager;
+
+public class LogRetentionMetrics implements AutoCloseable {
+  private final Metric deletedBytesMetric;
+  private final Metric snapshotPositionMetric;
+  private final Metric exporterPositionMetric;
+  private final Metric replicationPositionMetric;
+
+  public LogRetentionMetrics(final MetricsManager metricsManager, final int partitionId) {
+    final String partitionIdString = Integer.toString(partitionId);
+
+    deletedBytesMetric =
+        metricsManager
+            .newMetric("logstream_retention_deleted_bytes")
+            .type("counter")
+            .label("partition", partitionIdString)
+            .create();
+
+    snapshotPositionMetric =
+        metricsManager
+            .newMetric("logstream_retention_position")
+            .type("gauge")
+            .label("partition", partitionIdString)
+            .label("holder", "snapshot")
+            .create();
+
+    exporterPositionMetric =
+        metricsManager
+            .newMetric("logstream_retention_position")
+            .type("gauge")
+            .label("partition", partitionIdString)
+            .label("holder", "exporter")
+            .create();
+
+    replicationPositionMetric =
+        metricsManager
+            .newMetric("logstream_retention_position")
+            .type("gauge")
+            .label("partition", partitionIdString)
+            .label("holder", "replication")
+            .create();
+  }
+
+  public void countDeletedBytes(final long deletedBytes) {
+    deletedBytesMetric.getAndAddOrdered(deletedBytes);
+  }
+
+  public void recordSnapshotPosition(final long position) {
+    snapshotPositionMetric.setOrdered(position);
+  }
+
+  public void recordExporterPosition(final long position) {
+    exporterPositionMetric.setOrdered(position);
+  }
+
+  public void recordReplicationPosition(final long position) {
+    replicationPositionMetric.setOrdered(position);
+  }
+
+  @Override
+  public void close() {
+    deletedBytesMetric.close();
+    snapshotPositionMetric.close();
+    exporterPositionMetric.close();
+    replicationPositionMetric.close();
+  }
+}
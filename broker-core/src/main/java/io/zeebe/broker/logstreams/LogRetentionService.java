@@ -0,0 +1,285 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import io.zeebe.broker.Loggers;
+import io.zeebe.broker.clustering.base.partitions.Partition;
+import io.zeebe.broker.exporter.ExporterManagerService;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.state.StateSnapshotMetadata;
+import io.zeebe.logstreams.state.StateStorage;
+import io.zeebe.raft.Raft;
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceGroupReference;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import io.zeebe.servicecontainer.ServiceStopContext;
+import io.zeebe.util.metrics.MetricsManager;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.SchedulingHints;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.slf4j.Logger;
+
+/**
+ * Deletes the log segments of the partitions which are not needed anymore. An event is needed as
+ * long as a stream processor can recover from a kept snapshot before it, an exporter has not
+ * exported it yet, or a follower has not acknowledged it yet. Each period, the log of a partition
+ * is deleted up to the lowest of these positions.
+ *
+ * <p>Only the leader of a partition knows the positions which are acknowledged by the followers, so
+ * the log is not deleted on the followers. A follower may become leader and has to send the events
+ * to the other followers then.
+ */
+public class LogRetentionService extends Actor implements Service<LogRetentionService> {
+  private static final Logger LOG = Loggers.SERVICES_LOGGER;
+
+  private final ServiceGroupReference<Partition> partitionsGroupReference =
+      ServiceGroupReference.<Partition>create()
+          .onAdd((name, partition) -> addPartition(partition))
+          .onRemove((name, partition) -> removePartition(partition))
+          .build();
+
+  private final ServiceGroupReference<Raft> raftsGroupReference =
+      ServiceGroupReference.<Raft>create()
+          .onAdd((name, raft) -> addRaft(raft))
+          .onRemove((name, raft) -> removeRaft(raft))
+          .build();
+
+  private final Int2ObjectHashMap<PartitionRetention> partitions = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<Raft> rafts = new Int2ObjectHashMap<>();
+
+  /** the positions are updated by the exporter stream processors of the partitions */
+  private final ConcurrentHashMap<Integer, AtomicLong> exporterPositions =
+      new ConcurrentHashMap<>();
+
+  private final Duration retentionPeriod;
+  private final boolean exportersEnabled;
+
+  private MetricsManager metricsManager;
+
+  public LogRetentionService(final Duration retentionPeriod, final boolean exportersEnabled) {
+    this.retentionPeriod = retentionPeriod;
+    this.exportersEnabled = exportersEnabled;
+  }
+
+  @Override
+  public void start(final ServiceStartContext startContext) {
+    metricsManager = startContext.getScheduler().getMetricsManager();
+
+    startContext.async(
+        startContext.getScheduler().submitActor(this, true, SchedulingHints.ioBound()));
+  }
+
+  @Override
+  public void stop(final ServiceStopContext stopContext) {
+    stopContext.async(actor.close());
+  }
+
+  @Override
+  public String getName() {
+    return "log-retention";
+  }
+
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(retentionPeriod, this::deleteLogs);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    partitions.values().forEach(PartitionRetention::close);
+    partitions.clear();
+  }
+
+  @Override
+  public LogRetentionService get() {
+    return this;
+  }
+
+  /**
+   * Invoked by the exporter stream processor of the given partition if the lowest position which is
+   * exported by all exporters changes.
+   */
+  public void setExporterPosition(final int partitionId, final long position) {
+    exporterPositions.computeIfAbsent(partitionId, id -> new AtomicLong()).set(position);
+  }
+
+  private void deleteLogs() {
+    for (final PartitionRetention partition : partitions.values()) {
+      final Raft raft = rafts.get(partition.getPartitionId());
+
+      if (raft != null) {
+        final ActorFuture<Long> replicationPositionFuture = raft.getLowestMatchPosition();
+        actor.runOnCompletion(
+            replicationPositionFuture,
+            (replicationPosition, error) -> {
+              if (error == null) {
+                partition.deleteLog(replicationPosition);
+              } else {
+                LOG.warn(
+                    "Failed to get the replication position of partition {}",
+                    partition.getPartitionId(),
+                    error);
+              }
+            });
+      }
+    }
+  }
+
+  private void addPartition(final Partition partition) {
+    actor.call(
+        () -> {
+          final int partitionId = partition.getInfo().getPartitionId();
+          partitions.put(partitionId, new PartitionRetention(partition));
+        });
+  }
+
+  private void removePartition(final Partition partition) {
+    actor.call(
+        () -> {
+          final int partitionId = partition.getInfo().getPartitionId();
+          final PartitionRetention retention = partitions.get(partitionId);
+
+          // the exporters are closed with the partition, so their position is outdated if the
+          // broker becomes leader again
+          exporterPositions.remove(partitionId);
+
+          // on a re-election, the new partition may be added before the old one is removed
+          if (retention != null && retention.getPartition() == partition) {
+            partitions.remove(partitionId);
+            retention.close();
+          }
+        });
+  }
+
+  private void addRaft(final Raft raft) {
+    actor.call(() -> rafts.put(raft.getPartitionId(), raft));
+  }
+
+  private void removeRaft(final Raft raft) {
+    actor.call(() -> rafts.remove(raft.getPartitionId()));
+  }
+
+  public ServiceGroupReference<Partition> getPartitionsGroupReference() {
+    return partitionsGroupReference;
+  }
+
+  public ServiceGroupReference<Raft> getRaftsGroupReference() {
+    return raftsGroupReference;
+  }
+
+  private class PartitionRetention {
+    private final Partition partition;
+    private final int partitionId;
+    private final LogStream logStream;
+    private final StateStorage processorStateStorage;
+    private final StateStorage exporterStateStorage;
+    private final LogRetentionMetrics metrics;
+
+    PartitionRetention(final Partition partition) {
+      this.partition = partition;
+      partitionId = partition.getInfo().getPartitionId();
+      logStream = partition.getLogStream();
+      processorStateStorage =
+          partition
+              .getStateStorageFactory()
+              .create(partitionId, ZbStreamProcessorService.PROCESSOR_NAME);
+      exporterStateStorage =
+          exportersEnabled
+              ? partition
+                  .getStateStorageFactory()
+                  .create(
+                      ExporterManagerService.EXPORTER_PROCESSOR_ID,
+                      ExporterManagerService.PROCESSOR_NAME)
+              : null;
+      metrics = new LogRetentionMetrics(metricsManager, partitionId);
+    }
+
+    Partition getPartition() {
+      return partition;
+    }
+
+    int getPartitionId() {
+      return partitionId;
+    }
+
+    /** @param replicationPosition the lowest position which is acknowledged by the followers */
+    void deleteLog(final long replicationPosition) {
+      if (partitions.get(partitionId) != this) {
+        // the partition was removed in the meantime
+        return;
+      }
+
+      final long commitPosition = logStream.getCommitPosition();
+
+      long snapshotPosition = getSnapshotPosition(processorStateStorage, commitPosition);
+      long exporterPosition = Long.MAX_VALUE;
+      if (exportersEnabled) {
+        snapshotPosition =
+            Math.min(snapshotPosition, getSnapshotPosition(exporterStateStorage, commitPosition));
+
+        // the exporters may not have reported a position yet
+        final AtomicLong reportedPosition = exporterPositions.get(partitionId);
+        exporterPosition = reportedPosition != null ? reportedPosition.get() : -1L;
+        metrics.recordExporterPosition(exporterPosition);
+      }
+
+      metrics.recordSnapshotPosition(snapshotPosition);
+      metrics.recordReplicationPosition(replicationPosition);
+
+      final long retentionPosition =
+          Math.min(snapshotPosition, Math.min(exporterPosition, replicationPosition));
+
+      if (retentionPosition > 0) {
+        final long deletedBytes = logStream.delete(retentionPosition);
+        if (deletedBytes > 0) {
+          LOG.debug(
+              "Deleted {} bytes of the log of partition {} before position {}",
+              deletedBytes,
+              partitionId,
+              retentionPosition);
+
+          metrics.countDeletedBytes(deletedBytes);
+        }
+      }
+    }
+
+    /**
+     * The stream processor falls back to an older snapshot if the latest one can't be recovered, so
+     * the log is kept for the oldest snapshot.
+     *
+     * @return the position of the oldest snapshot which only refers to committed events, or -1 if
+     *     no such snapshot exists
+     */
+    private long getSnapshotPosition(final StateStorage storage, final long commitPosition) {
+      return storage
+          .listRecoverable(commitPosition)
+          .stream()
+          .mapToLong(StateSnapshotMetadata::getLastSuccessfulProcessedEventPosition)
+          .min()
+          .orElse(-1L);
+    }
+
+    void close() {
+      metrics.close();
+    }
+  }
+}
@@ -34,4 +34,11 @@ public class LogStreamServiceNames {
 
   public static final ServiceName<ZbStreamProcessorService> ZB_STREAM_PROCESSOR_SERVICE_NAME =
       ServiceName.newServiceName("logstreams.processor", ZbStreamProcessorService.class);
+
+  public static final ServiceName<LogRetentionService> LOG_RETENTION_SERVICE_NAME =
+      ServiceName.newServiceName("logstreams.retention", LogRetentionService.class);
+
+  public static final ServiceName<SnapshotReplicationService> SNAPSHOT_REPLICATION_SERVICE_NAME =
+      ServiceName.newServiceName(
+          "logstreams.snapshot-replication", SnapshotReplicationService.class);
 }
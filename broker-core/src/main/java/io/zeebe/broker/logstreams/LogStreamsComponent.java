@@ -18,7 +18,10 @@
 package io.zeebe.broker.logstreams;
 
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.LEADER_PARTITION_GROUP_NAME;
+import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.RAFT_SERVICE_GROUP;
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.TOPOLOGY_MANAGER_SERVICE;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.LOG_RETENTION_SERVICE_NAME;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_REPLICATION_SERVICE_NAME;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.STREAM_PROCESSOR_SERVICE_FACTORY;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.ZB_STREAM_PROCESSOR_SERVICE_NAME;
 import static io.zeebe.broker.transport.TransportServiceNames.CLIENT_API_SERVER_NAME;
@@ -45,14 +48,19 @@ public class LogStreamsComponent implements Component {
 
     final Duration snapshotPeriod =
         DurationUtil.parse(brokerConfiguration.getData().getSnapshotPeriod());
+    final int maxProcessingBatchSize = brokerConfiguration.getData().getMaxProcessingBatchSize();
+    final int maxReprocessingBatchSize =
+        brokerConfiguration.getData().getMaxReprocessingBatchSize();
     final StreamProcessorServiceFactory streamProcessorFactory =
-        new StreamProcessorServiceFactory(serviceContainer, snapshotPeriod);
+        new StreamProcessorServiceFactory(
+            serviceContainer, snapshotPeriod, maxProcessingBatchSize, maxReprocessingBatchSize);
     serviceContainer
         .createService(STREAM_PROCESSOR_SERVICE_FACTORY, streamProcessorFactory)
         .install();
 
     final ZbStreamProcessorService streamProcessorService =
-        new ZbStreamProcessorService(brokerConfiguration.getCluster());
+        new ZbStreamProcessorService(
+            brokerConfiguration.getCluster(), brokerConfiguration.getData().getRocksdb());
     serviceContainer
         .createService(ZB_STREAM_PROCESSOR_SERVICE_NAME, streamProcessorService)
         .dependency(
@@ -74,5 +82,28 @@ public class LogStreamsComponent implements Component {
         .groupReference(
             LEADER_PARTITION_GROUP_NAME, streamProcessorService.getPartitionsGroupReference())
         .install();
+
+    // the log can only be deleted after a new snapshot is taken
+    final LogRetentionService logRetentionService =
+        new LogRetentionService(snapshotPeriod, !brokerConfiguration.getExporters().isEmpty());
+    serviceContainer
+        .createService(LOG_RETENTION_SERVICE_NAME, logRetentionService)
+        .groupReference(
+            LEADER_PARTITION_GROUP_NAME, logRetentionService.getPartitionsGroupReference())
+        .groupReference(RAFT_SERVICE_GROUP, logRetentionService.getRaftsGroupReference())
+        .install();
+
+    // the followers only need the snapshot which is taken in each period
+    final SnapshotReplicationService snapshotReplicationService =
+        new SnapshotReplicationService(snapshotPeriod);
+    serviceContainer
+        .createService(SNAPSHOT_REPLICATION_SERVICE_NAME, snapshotReplicationService)
+        .dependency(
+            clientTransport(MANAGEMENT_API_CLIENT_NAME),
+            snapshotReplicationService.getManagementApiClientInjector())
+        .groupReference(
+            LEADER_PARTITION_GROUP_NAME, snapshotReplicationService.getPartitionsGroupReference())
+        .groupReference(RAFT_SERVICE_GROUP, snapshotReplicationService.getRaftsGroupReference())
+        .install();
   }
 }
@@ -0,0 +1,322 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import io.zeebe.broker.Loggers;
+import io.zeebe.broker.clustering.base.partitions.Partition;
+import io.zeebe.broker.system.management.snapshot.ReplicateSnapshotChunkRequest;
+import io.zeebe.broker.system.management.snapshot.ReplicateSnapshotChunkResponse;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.state.SnapshotChunk;
+import io.zeebe.logstreams.state.SnapshotChunkReader;
+import io.zeebe.logstreams.state.StateSnapshotMetadata;
+import io.zeebe.logstreams.state.StateStorage;
+import io.zeebe.raft.Raft;
+import io.zeebe.servicecontainer.Injector;
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceGroupReference;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import io.zeebe.servicecontainer.ServiceStopContext;
+import io.zeebe.transport.ClientResponse;
+import io.zeebe.transport.ClientTransport;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.SchedulingHints;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntHashSet;
+import org.slf4j.Logger;
+
+/**
+ * Replicates the latest snapshot of the stream processor of each leader partition to the followers
+ * of the partition, so that a follower which becomes leader only has to reprocess the events after
+ * the snapshot. Each period, a follower which does not have the latest snapshot yet receives it
+ * chunk by chunk over the management API. The follower answers each chunk with the index of the
+ * next chunk it expects, so an interrupted transfer is resumed where it stopped.
+ */
+public class SnapshotReplicationService extends Actor
+    implements Service<SnapshotReplicationService> {
+  private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
+
+  private final ServiceGroupReference<Partition> partitionsGroupReference =
+      ServiceGroupReference.<Partition>create()
+          .onAdd((name, partition) -> addPartition(partition))
+          .onRemove((name, partition) -> removePartition(partition))
+          .build();
+
+  private final ServiceGroupReference<Raft> raftsGroupReference =
+      ServiceGroupReference.<Raft>create()
+          .onAdd((name, raft) -> addRaft(raft))
+          .onRemove((name, raft) -> removeRaft(raft))
+          .build();
+
+  private final Injector<ClientTransport> managementApiClientInjector = new Injector<>();
+
+  private final Int2ObjectHashMap<PartitionReplication> partitions = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<Raft> rafts = new Int2ObjectHashMap<>();
+
+  private final Duration replicationPeriod;
+
+  private ClientTransport managementApi;
+
+  public SnapshotReplicationService(final Duration replicationPeriod) {
+    this.replicationPeriod = replicationPeriod;
+  }
+
+  @Override
+  public void start(final ServiceStartContext startContext) {
+    managementApi = managementApiClientInjector.getValue();
+
+    startContext.async(
+        startContext.getScheduler().submitActor(this, true, SchedulingHints.ioBound()));
+  }
+
+  @Override
+  public void stop(final ServiceStopContext stopContext) {
+    stopContext.async(actor.close());
+  }
+
+  @Override
+  public String getName() {
+    return "snapshot-replication";
+  }
+
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(replicationPeriod, this::replicateSnapshots);
+  }
+
+  @Override
+  public SnapshotReplicationService get() {
+    return this;
+  }
+
+  private void replicateSnapshots() {
+    for (final PartitionReplication partition : partitions.values()) {
+      final Raft raft = rafts.get(partition.getPartitionId());
+
+      if (raft != null) {
+        final ActorFuture<List<Integer>> memberIdsFuture = raft.getMemberIds();
+        actor.runOnCompletion(
+            memberIdsFuture,
+            (memberIds, error) -> {
+              if (error == null) {
+                partition.replicateLatestSnapshot(memberIds);
+              } else {
+                LOG.warn(
+                    "Failed to get the members of partition {}", partition.getPartitionId(), error);
+              }
+            });
+      }
+    }
+  }
+
+  private void addPartition(final Partition partition) {
+    actor.call(
+        () -> {
+          final int partitionId = partition.getInfo().getPartitionId();
+          partitions.put(partitionId, new PartitionReplication(partition));
+        });
+  }
+
+  private void removePartition(final Partition partition) {
+    actor.call(() -> partitions.remove(partition.getInfo().getPartitionId()));
+  }
+
+  private void addRaft(final Raft raft) {
+    actor.call(() -> rafts.put(raft.getPartitionId(), raft));
+  }
+
+  private void removeRaft(final Raft raft) {
+    actor.call(() -> rafts.remove(raft.getPartitionId()));
+  }
+
+  public ServiceGroupReference<Partition> getPartitionsGroupReference() {
+    return partitionsGroupReference;
+  }
+
+  public ServiceGroupReference<Raft> getRaftsGroupReference() {
+    return raftsGroupReference;
+  }
+
+  public Injector<ClientTransport> getManagementApiClientInjector() {
+    return managementApiClientInjector;
+  }
+
+  private class PartitionReplication {
+    private final int partitionId;
+    private final LogStream logStream;
+    private final StateStorage processorStateStorage;
+
+    /** the latest snapshot which is replicated to a node, by node id */
+    private final Int2ObjectHashMap<StateSnapshotMetadata> replicatedSnapshots =
+        new Int2ObjectHashMap<>();
+
+    private final IntHashSet pendingTransfers = new IntHashSet();
+
+    PartitionReplication(final Partition partition) {
+      partitionId = partition.getInfo().getPartitionId();
+      logStream = partition.getLogStream();
+      processorStateStorage =
+          partition
+              .getStateStorageFactory()
+              .create(partitionId, ZbStreamProcessorService.PROCESSOR_NAME);
+    }
+
+    int getPartitionId() {
+      return partitionId;
+    }
+
+    void replicateLatestSnapshot(final List<Integer> memberIds) {
+      if (partitions.get(partitionId) != this) {
+        // the partition was removed in the meantime
+        return;
+      }
+
+      // only snapshots of committed events can be recovered
+      final StateSnapshotMetadata latestSnapshot =
+          processorStateStorage
+              .listRecoverable(logStream.getCommitPosition())
+              .stream()
+              .max(Comparator.naturalOrder())
+              .orElse(null);
+
+      if (latestSnapshot == null) {
+        return;
+      }
+
+      for (final int nodeId : memberIds) {
+        if (!latestSnapshot.equals(replicatedSnapshots.get(nodeId))
+            && !pendingTransfers.contains(nodeId)) {
+          startTransfer(nodeId, latestSnapshot);
+        }
+      }
+    }
+
+    private void startTransfer(final int nodeId, final StateSnapshotMetadata snapshot) {
+      final SnapshotChunkReader chunkReader;
+      try {
+        chunkReader = new SnapshotChunkReader(processorStateStorage, snapshot);
+      } catch (final IOException e) {
+        LOG.warn("Failed to read snapshot {} of partition {}", snapshot, partitionId, e);
+        return;
+      }
+
+      LOG.debug(
+          "Replicate snapshot {} of partition {} to node {} in {} chunks",
+          snapshot,
+          partitionId,
+          nodeId,
+          chunkReader.getChunkCount());
+
+      pendingTransfers.add(nodeId);
+      new SnapshotTransfer(this, nodeId, chunkReader).sendChunk(0);
+    }
+
+    void onTransferCompleted(final int nodeId, final StateSnapshotMetadata snapshot) {
+      pendingTransfers.remove(nodeId);
+      replicatedSnapshots.put(nodeId, snapshot);
+    }
+
+    void onTransferFailed(final int nodeId) {
+      // retried with the next replication
+      pendingTransfers.remove(nodeId);
+    }
+  }
+
+  private class SnapshotTransfer {
+    private final ReplicateSnapshotChunkRequest request = new ReplicateSnapshotChunkRequest();
+    private final ReplicateSnapshotChunkResponse response = new ReplicateSnapshotChunkResponse();
+
+    private final PartitionReplication partition;
+    private final int nodeId;
+    private final SnapshotChunkReader chunkReader;
+
+    SnapshotTransfer(
+        final PartitionReplication partition,
+        final int nodeId,
+        final SnapshotChunkReader chunkReader) {
+      this.partition = partition;
+      this.nodeId = nodeId;
+      this.chunkReader = chunkReader;
+    }
+
+    void sendChunk(final int chunkIndex) {
+      if (partitions.get(partition.getPartitionId()) != partition) {
+        // not leader anymore
+        return;
+      }
+
+      final SnapshotChunk chunk;
+      try {
+        chunk = chunkReader.readChunk(chunkIndex);
+      } catch (final IOException e) {
+        // e.g. the snapshot was deleted in the meantime
+        LOG.debug("Failed to read snapshot chunk {}, abort transfer", chunkIndex, e);
+        partition.onTransferFailed(nodeId);
+        return;
+      }
+
+      request.reset();
+      request.partitionId(partition.getPartitionId()).chunk(chunk);
+
+      final ActorFuture<ClientResponse> responseFuture =
+          managementApi.getOutput().sendRequest(nodeId, request, REQUEST_TIMEOUT);
+
+      if (responseFuture == null) {
+        // no capacity to send the request at the moment
+        partition.onTransferFailed(nodeId);
+        return;
+      }
+
+      actor.runOnCompletion(
+          responseFuture,
+          (clientResponse, error) -> {
+            if (error == null && response.tryWrap(clientResponse.getResponseBuffer())) {
+              response.wrap(clientResponse.getResponseBuffer());
+              onChunkAcknowledged(response.nextChunkIndex());
+            } else {
+              LOG.debug(
+                  "Failed to replicate snapshot chunk {} of partition {} to node {}",
+                  chunkIndex,
+                  partition.getPartitionId(),
+                  nodeId,
+                  error);
+              partition.onTransferFailed(nodeId);
+            }
+          });
+    }
+
+    private void onChunkAcknowledged(final int nextChunkIndex) {
+      if (nextChunkIndex >= chunkReader.getChunkCount()) {
+        LOG.debug(
+            "Replicated snapshot {} of partition {} to node {}",
+            chunkReader.getSnapshot(),
+            partition.getPartitionId(),
+            nodeId);
+        partition.onTransferCompleted(nodeId, chunkReader.getSnapshot());
+      } else {
+        sendChunk(nextChunkIndex);
+      }
+    }
+  }
+}
@@ -21,16 +21,19 @@ import io.zeebe.broker.clustering.base.partitions.Partition;
 import io.zeebe.broker.clustering.base.topology.TopologyManager;
 import io.zeebe.broker.incident.processor.IncidentEventProcessors;
 import io.zeebe.broker.job.JobEventProcessors;
+import io.zeebe.broker.job.JobsAvailableNotifier;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory.Builder;
 import io.zeebe.broker.logstreams.processor.TypedEventStreamProcessorBuilder;
 import io.zeebe.broker.logstreams.processor.TypedStreamEnvironment;
 import io.zeebe.broker.logstreams.processor.TypedStreamProcessor;
 import io.zeebe.broker.logstreams.state.DefaultZeebeDbFactory;
+import io.zeebe.broker.logstreams.state.ZbColumnFamilies;
 import io.zeebe.broker.logstreams.state.ZeebeState;
 import io.zeebe.broker.subscription.command.SubscriptionCommandSender;
 import io.zeebe.broker.subscription.message.processor.MessageEventProcessors;
 import io.zeebe.broker.system.configuration.ClusterCfg;
+import io.zeebe.broker.system.configuration.RocksDbCfg;
 import io.zeebe.broker.transport.controlmessage.ControlMessageHandlerManager;
 import io.zeebe.broker.workflow.deployment.distribute.processor.DeploymentDistributeProcessor;
 import io.zeebe.broker.workflow.processor.BpmnStepProcessor;
@@ -41,6 +44,7 @@ import io.zeebe.broker.workflow.processor.deployment.DeploymentEventProcessors;
 import io.zeebe.broker.workflow.processor.timer.DueDateTimerChecker;
 import io.zeebe.broker.workflow.repository.WorkflowRepository;
 import io.zeebe.broker.workflow.state.WorkflowState;
+import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamWriterImpl;
 import io.zeebe.logstreams.state.StateSnapshotController;
@@ -75,10 +79,12 @@ public class ZbStreamProcessorService implements Service<ZbStreamProcessorServic
           .build();
 
   private final ClusterCfg clusterCfg;
+  private final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory;
   private ControlMessageHandlerManager controlMessageHandlerManager;
 
-  public ZbStreamProcessorService(final ClusterCfg clusterCfg) {
+  public ZbStreamProcessorService(final ClusterCfg clusterCfg, final RocksDbCfg rocksDbCfg) {
     this.clusterCfg = clusterCfg;
+    this.zeebeDbFactory = DefaultZeebeDbFactory.defaultFactory(ZbColumnFamilies.class, rocksDbCfg);
   }
 
   private StreamProcessorServiceFactory streamProcessorServiceFactory;
@@ -110,7 +116,7 @@ public class ZbStreamProcessorService implements Service<ZbStreamProcessorServic
     final StateStorage stateStorage =
         partition.getStateStorageFactory().create(partitionId, PROCESSOR_NAME);
     final StateSnapshotController stateSnapshotController =
-        new StateSnapshotController(DefaultZeebeDbFactory.DEFAULT_DB_FACTORY, stateStorage);
+        new StateSnapshotController(zeebeDbFactory, stateStorage);
 
     streamProcessorServiceBuilder
         .snapshotController(stateSnapshotController)
@@ -140,8 +146,10 @@ public class ZbStreamProcessorService implements Service<ZbStreamProcessorServic
         addWorkflowProcessors(zeebeState, typedProcessorBuilder);
     addDeploymentRelatedProcessorAndServices(
         partitionServiceName, partitionId, zeebeState, typedProcessorBuilder);
-    addIncidentProcessors(zeebeState, stepProcessor, typedProcessorBuilder);
-    addJobProcessors(zeebeState, typedProcessorBuilder);
+    final JobsAvailableNotifier jobsAvailableNotifier =
+        new JobsAvailableNotifier(zeebeState.getJobState());
+    addIncidentProcessors(zeebeState, stepProcessor, jobsAvailableNotifier, typedProcessorBuilder);
+    addJobProcessors(zeebeState, jobsAvailableNotifier, typedProcessorBuilder);
     addMessageProcessors(zeebeState, typedProcessorBuilder);
 
     return typedProcessorBuilder.build();
@@ -211,13 +219,17 @@ public class ZbStreamProcessorService implements Service<ZbStreamProcessorServic
   private void addIncidentProcessors(
       ZeebeState zeebeState,
       BpmnStepProcessor stepProcessor,
+      JobsAvailableNotifier jobsAvailableNotifier,
       TypedEventStreamProcessorBuilder typedProcessorBuilder) {
-    IncidentEventProcessors.addProcessors(typedProcessorBuilder, zeebeState, stepProcessor);
+    IncidentEventProcessors.addProcessors(
+        typedProcessorBuilder, zeebeState, stepProcessor, jobsAvailableNotifier);
   }
 
   private void addJobProcessors(
-      ZeebeState zeebeState, TypedEventStreamProcessorBuilder typedProcessorBuilder) {
-    JobEventProcessors.addJobProcessors(typedProcessorBuilder, zeebeState);
+      ZeebeState zeebeState,
+      JobsAvailableNotifier jobsAvailableNotifier,
+      TypedEventStreamProcessorBuilder typedProcessorBuilder) {
+    JobEventProcessors.addJobProcessors(typedProcessorBuilder, zeebeState, jobsAvailableNotifier);
   }
 
   private void addMessageProcessors(
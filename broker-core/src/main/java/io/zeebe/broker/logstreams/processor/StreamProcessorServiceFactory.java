@@ -42,11 +42,19 @@ import java.util.List;
 public class StreamProcessorServiceFactory implements Service<StreamProcessorServiceFactory> {
   private final ServiceContainer serviceContainer;
   private final Duration snapshotPeriod;
+  private final int maxBatchSize;
+  private final int maxReprocessingBatchSize;
   private ActorScheduler actorScheduler;
 
-  public StreamProcessorServiceFactory(ServiceContainer serviceContainer, Duration snapshotPeriod) {
+  public StreamProcessorServiceFactory(
+      ServiceContainer serviceContainer,
+      Duration snapshotPeriod,
+      int maxBatchSize,
+      int maxReprocessingBatchSize) {
     this.serviceContainer = serviceContainer;
     this.snapshotPeriod = snapshotPeriod;
+    this.maxBatchSize = maxBatchSize;
+    this.maxReprocessingBatchSize = maxReprocessingBatchSize;
   }
 
   @Override
@@ -122,6 +130,8 @@ public class StreamProcessorServiceFactory implements Service<StreamProcessorSer
           .serviceContainer(serviceContainer)
           .snapshotController(snapshotController)
           .snapshotPeriod(snapshotPeriod)
+          .maxBatchSize(maxBatchSize)
+          .maxReprocessingBatchSize(maxReprocessingBatchSize)
           .logStream(logStream)
           .eventFilter(eventFilter)
           .readOnly(readOnly)
@@ -46,9 +46,16 @@ public class TypedCommandWriterImpl implements TypedCommandWriter {
 
   public TypedCommandWriterImpl(
       final LogStream stream, final Map<ValueType, Class<? extends UnpackedObject>> eventRegistry) {
+    this(stream, new LogStreamBatchWriterImpl(stream), eventRegistry);
+  }
+
+  public TypedCommandWriterImpl(
+      final LogStream stream,
+      final LogStreamBatchWriter batchWriter,
+      final Map<ValueType, Class<? extends UnpackedObject>> eventRegistry) {
     this.stream = stream;
     metadata.protocolVersion(Protocol.PROTOCOL_VERSION);
-    this.batchWriter = new LogStreamBatchWriterImpl(stream);
+    this.batchWriter = batchWriter;
     this.typeRegistry = new HashMap<>();
     eventRegistry.forEach((e, c) -> typeRegistry.put(c, e));
   }
@@ -93,7 +100,8 @@ public class TypedCommandWriterImpl implements TypedCommandWriter {
     batchWriter.producerId(producerId);
 
     if (sourceRecordPosition >= 0) {
-      batchWriter.sourceRecordPosition(sourceRecordPosition);
+      // the batch may contain the records of multiple source records
+      event.entrySourceRecordPosition(sourceRecordPosition);
     }
 
     initMetadata(type, intent, value);
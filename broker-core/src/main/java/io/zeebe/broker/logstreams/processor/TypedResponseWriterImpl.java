@@ -144,6 +144,10 @@ public class TypedResponseWriterImpl implements TypedResponseWriter, SideEffectP
     isResponseStaged = false;
   }
 
+  public boolean isResponseStaged() {
+    return isResponseStaged;
+  }
+
   public boolean flush() {
     if (isResponseStaged) {
       return writer.tryWriteResponse(requestStreamId, requestId);
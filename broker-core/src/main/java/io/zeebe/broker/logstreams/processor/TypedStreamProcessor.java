@@ -18,7 +18,7 @@
 package io.zeebe.broker.logstreams.processor;
 
 import io.zeebe.logstreams.log.LogStream;
-import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.logstreams.processor.EventProcessor;
 import io.zeebe.logstreams.processor.StreamProcessor;
@@ -28,6 +28,8 @@ import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.transport.ServerOutput;
 import io.zeebe.util.ReflectUtil;
+import io.zeebe.util.metrics.Histogram;
+import io.zeebe.util.metrics.MetricsManager;
 import io.zeebe.util.sched.ActorControl;
 import java.util.ArrayList;
 import java.util.EnumMap;
@@ -46,6 +48,7 @@ public class TypedStreamProcessor implements StreamProcessor {
   protected final EnumMap<ValueType, UnpackedObject> eventCache;
 
   protected final TypedEventImpl typedEvent = new TypedEventImpl();
+  private final EnumMap<ValueType, Histogram> processingTimes = new EnumMap<>(ValueType.class);
   private final TypedStreamEnvironment environment;
 
   protected DelegatingEventProcessor eventProcessorWrapper;
@@ -75,9 +78,30 @@ public class TypedStreamProcessor implements StreamProcessor {
 
   @Override
   public void onOpen(final StreamProcessorContext context) {
+    final MetricsManager metricsManager = context.getActorScheduler().getMetricsManager();
+    final String partitionId = Integer.toString(context.getLogStream().getPartitionId());
+    eventRegistry
+        .keySet()
+        .forEach(
+            valueType ->
+                processingTimes.put(
+                    valueType,
+                    metricsManager
+                        .newHistogram("streamprocessor_processing_time_micros")
+                        .label("processor", context.getName())
+                        .label("partition", partitionId)
+                        .label("valueType", valueType.name())
+                        .create()));
+
     this.eventProcessorWrapper =
         new DelegatingEventProcessor(
-            context.getId(), output, context.getLogStream(), eventRegistry, keyGenerator);
+            context.getId(),
+            output,
+            context.getLogStream(),
+            context.getLogStreamBatchWriter(),
+            eventRegistry,
+            keyGenerator,
+            processingTimes);
 
     this.actor = context.getActorControl();
     this.streamProcessorContext = context;
@@ -92,6 +116,9 @@ public class TypedStreamProcessor implements StreamProcessor {
   @Override
   public void onClose() {
     lifecycleListeners.forEach(e -> e.onClose());
+
+    processingTimes.values().forEach(Histogram::close);
+    processingTimes.clear();
   }
 
   @Override
@@ -128,6 +155,7 @@ public class TypedStreamProcessor implements StreamProcessor {
     protected final LogStream logStream;
     protected final TypedStreamWriterImpl writer;
     protected final TypedResponseWriterImpl responseWriter;
+    private final EnumMap<ValueType, Histogram> processingTimes;
 
     protected TypedRecordProcessor<?> eventProcessor;
     protected TypedEventImpl event;
@@ -138,11 +166,15 @@ public class TypedStreamProcessor implements StreamProcessor {
         final int streamProcessorId,
         final ServerOutput output,
         final LogStream logStream,
+        final LogStreamBatchWriter batchWriter,
         final EnumMap<ValueType, Class<? extends UnpackedObject>> eventRegistry,
-        final KeyGenerator keyGenerator) {
+        final KeyGenerator keyGenerator,
+        final EnumMap<ValueType, Histogram> processingTimes) {
       this.streamProcessorId = streamProcessorId;
+      this.processingTimes = processingTimes;
       this.logStream = logStream;
-      this.writer = new TypedStreamWriterImpl(logStream, eventRegistry, keyGenerator);
+      // the records of all processed events of a batch are written together by the controller
+      this.writer = new TypedStreamWriterImpl(logStream, batchWriter, eventRegistry, keyGenerator);
       this.responseWriter = new TypedResponseWriterImpl(output, logStream.getPartitionId());
     }
 
@@ -157,7 +189,6 @@ public class TypedStreamProcessor implements StreamProcessor {
 
     @Override
     public void processEvent() {
-      writer.reset();
       responseWriter.reset();
 
       this.writer.configureSourceContext(streamProcessorId, position);
@@ -165,8 +196,15 @@ public class TypedStreamProcessor implements StreamProcessor {
       // default side effect is responses; can be changed by processor
       sideEffectProducer = responseWriter;
 
+      final long startTime = System.nanoTime();
+
       eventProcessor.processRecord(
           position, event, responseWriter, writer, this::setSideEffectProducer);
+
+      final Histogram processingTime = processingTimes.get(event.getMetadata().getValueType());
+      if (processingTime != null) {
+        processingTime.record((System.nanoTime() - startTime) / 1_000);
+      }
     }
 
     public void setSideEffectProducer(final SideEffectProducer sideEffectProducer) {
@@ -179,8 +217,13 @@ public class TypedStreamProcessor implements StreamProcessor {
     }
 
     @Override
-    public long writeEvent(final LogStreamRecordWriter writer) {
-      return this.writer.flush();
+    public boolean addsEventsToBatch() {
+      return true;
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+      return sideEffectProducer != responseWriter || responseWriter.isResponseStaged();
     }
   }
 
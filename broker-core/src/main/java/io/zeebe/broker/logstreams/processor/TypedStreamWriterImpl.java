@@ -18,6 +18,7 @@
 package io.zeebe.broker.logstreams.processor;
 
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.RejectionType;
@@ -39,6 +40,15 @@ public class TypedStreamWriterImpl extends TypedCommandWriterImpl implements Typ
     this.keyGenerator = keyGenerator;
   }
 
+  public TypedStreamWriterImpl(
+      final LogStream stream,
+      final LogStreamBatchWriter batchWriter,
+      final Map<ValueType, Class<? extends UnpackedObject>> eventRegistry,
+      final KeyGenerator keyGenerator) {
+    super(stream, batchWriter, eventRegistry);
+    this.keyGenerator = keyGenerator;
+  }
+
   @Override
   public long appendNewEvent(final Intent intent, final UnpackedObject value) {
     final long key = keyGenerator.nextKey();
@@ -17,8 +17,12 @@
  */
 package io.zeebe.broker.logstreams.state;
 
+import io.zeebe.broker.system.configuration.RocksDbCfg;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.zeebe.util.ByteValue;
 
 public final class DefaultZeebeDbFactory {
 
@@ -39,7 +43,99 @@ public final class DefaultZeebeDbFactory {
   public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
       ZeebeDbFactory<ColumnFamilyNames> defaultFactory(
           Class<ColumnFamilyNames> columnFamilyNamesClass) {
+    return defaultFactory(columnFamilyNamesClass, new RocksDbCfg());
+  }
+
+  /**
+   * Returns the zeebe database factory which is used in the broker, configured by the given
+   * configuration.
+   *
+   * @param columnFamilyNamesClass the enum class, which contains the column family names
+   * @param rocksDbCfg the configuration of the database
+   * @param <ColumnFamilyNames> the type of the enum
+   * @return the created zeebe database factory
+   */
+  public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
+      ZeebeDbFactory<ColumnFamilyNames> defaultFactory(
+          Class<ColumnFamilyNames> columnFamilyNamesClass, RocksDbCfg rocksDbCfg) {
     // one place to replace the zeebe database implementation
-    return ZeebeRocksDbFactory.newFactory(columnFamilyNamesClass);
+    return ZeebeRocksDbFactory.newFactory(columnFamilyNamesClass, createConfiguration(rocksDbCfg));
+  }
+
+  private static RocksDbConfiguration createConfiguration(RocksDbCfg rocksDbCfg) {
+    final RocksDbConfiguration configuration =
+        new RocksDbConfiguration()
+            .blockCacheSize(new ByteValue(rocksDbCfg.getBlockCacheSize()).toBytes())
+            .memtableBudget(new ByteValue(rocksDbCfg.getMemtableBudget()).toBytes())
+            .maxTotalWalSize(new ByteValue(rocksDbCfg.getMaxTotalWalSize()).toBytes())
+            .maxBackgroundJobs(rocksDbCfg.getMaxBackgroundJobs())
+            .maxOpenFiles(rocksDbCfg.getMaxOpenFiles());
+
+    applyDefaultProfiles(configuration);
+
+    rocksDbCfg
+        .getColumnFamilyProfiles()
+        .forEach(
+            (columnFamily, profile) ->
+                configuration.profile(
+                    columnFamily, ColumnFamilyProfile.valueOf(profile.toUpperCase())));
+
+    return configuration;
+  }
+
+  private static void applyDefaultProfiles(RocksDbConfiguration configuration) {
+    // iterated by a long key, e.g. the scope or parent key
+    prefixScan(configuration, ZbColumnFamilies.VARIABLES, Long.BYTES);
+    prefixScan(configuration, ZbColumnFamilies.TIMERS, Long.BYTES);
+    prefixScan(configuration, ZbColumnFamilies.ELEMENT_INSTANCE_PARENT_CHILD, Long.BYTES);
+    prefixScan(configuration, ZbColumnFamilies.STORED_INSTANCE_EVENTS_PARENT_CHILD, Long.BYTES);
+    prefixScan(configuration, ZbColumnFamilies.MESSAGE_CORRELATED, Long.BYTES);
+    prefixScan(configuration, ZbColumnFamilies.WORKFLOW_SUBSCRIPTION_BY_KEY, Long.BYTES);
+    prefixScan(
+        configuration,
+        ZbColumnFamilies.MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME,
+        Long.BYTES);
+
+    // iterated by a string key, which has no fixed length
+    prefixScan(configuration, ZbColumnFamilies.JOB_ACTIVATABLE, 0);
+    prefixScan(configuration, ZbColumnFamilies.MESSAGES, 0);
+    prefixScan(configuration, ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY, 0);
+    prefixScan(configuration, ZbColumnFamilies.MESSAGE_START_EVENT_SUBSCRIPTION_BY_NAME_AND_KEY, 0);
+
+    // ordered by time
+    profile(configuration, ZbColumnFamilies.JOB_DEADLINES, ColumnFamilyProfile.QUEUE);
+    profile(configuration, ZbColumnFamilies.TIMER_DUE_DATES, ColumnFamilyProfile.QUEUE);
+    profile(configuration, ZbColumnFamilies.MESSAGE_DEADLINES, ColumnFamilyProfile.QUEUE);
+    profile(
+        configuration,
+        ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_SENT_TIME,
+        ColumnFamilyProfile.QUEUE);
+    profile(
+        configuration,
+        ZbColumnFamilies.WORKFLOW_SUBSCRIPTION_BY_SENT_TIME,
+        ColumnFamilyProfile.QUEUE);
+
+    // written on deployment only
+    profile(configuration, ZbColumnFamilies.WORKFLOW_VERSION, ColumnFamilyProfile.READ_MOSTLY);
+    profile(configuration, ZbColumnFamilies.WORKFLOW_CACHE, ColumnFamilyProfile.READ_MOSTLY);
+    profile(
+        configuration,
+        ZbColumnFamilies.WORKFLOW_CACHE_BY_ID_AND_VERSION,
+        ColumnFamilyProfile.READ_MOSTLY);
+    profile(
+        configuration, ZbColumnFamilies.WORKFLOW_CACHE_LATEST_KEY, ColumnFamilyProfile.READ_MOSTLY);
+  }
+
+  private static void prefixScan(
+      RocksDbConfiguration configuration, ZbColumnFamilies columnFamily, int prefixLength) {
+    profile(configuration, columnFamily, ColumnFamilyProfile.PREFIX_SCAN);
+    configuration.prefixLength(columnFamily.name(), prefixLength);
+  }
+
+  private static void profile(
+      RocksDbConfiguration configuration,
+      ZbColumnFamilies columnFamily,
+      ColumnFamilyProfile profile) {
+    configuration.profile(columnFamily.name(), profile);
   }
 }
@@ -25,8 +25,11 @@ import io.zeebe.broker.subscription.CorrelateWorkflowInstanceSubscriptionDecoder
 import io.zeebe.broker.subscription.MessageHeaderDecoder;
 import io.zeebe.broker.subscription.OpenMessageSubscriptionDecoder;
 import io.zeebe.broker.subscription.OpenWorkflowInstanceSubscriptionDecoder;
+import io.zeebe.broker.subscription.SubscriptionCommandBatchDecoder;
 import io.zeebe.broker.subscription.message.data.MessageSubscriptionRecord;
 import io.zeebe.broker.subscription.message.data.WorkflowInstanceSubscriptionRecord;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriterImpl;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LogStreamWriterImpl;
 import io.zeebe.msgpack.UnpackedObject;
@@ -66,7 +69,10 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
   private final CloseWorkflowInstanceSubscriptionCommand closeWorkflowInstanceSubscriptionCommand =
       new CloseWorkflowInstanceSubscriptionCommand();
 
+  private final SubscriptionCommandBatch commandBatch = new SubscriptionCommandBatch();
+
   private final LogStreamRecordWriter logStreamWriter = new LogStreamWriterImpl();
+  private final LogStreamBatchWriter logStreamBatchWriter = new LogStreamBatchWriterImpl();
   private final RecordMetadata recordMetadata = new RecordMetadata();
 
   private final MessageSubscriptionRecord messageSubscriptionRecord =
@@ -77,6 +83,11 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
 
   private final Int2ObjectHashMap<Partition> leaderPartitions;
 
+  private int commandPartitionId;
+  private ValueType commandValueType;
+  private Intent commandIntent;
+  private UnpackedObject commandRecord;
+
   public SubscriptionApiCommandMessageHandler(Int2ObjectHashMap<Partition> leaderPartitions) {
     this.leaderPartitions = leaderPartitions;
   }
@@ -92,35 +103,51 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
     messageHeaderDecoder.wrap(buffer, offset);
 
     if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
+      final int templateId = messageHeaderDecoder.templateId();
 
-      switch (messageHeaderDecoder.templateId()) {
-        case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
-          return onOpenMessageSubscription(buffer, offset, length);
+      if (templateId == SubscriptionCommandBatchDecoder.TEMPLATE_ID) {
+        return onCommandBatch(buffer, offset, length);
 
-        case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-          return onOpenWorkflowInstanceSubscription(buffer, offset, length);
+      } else if (readCommand(templateId, buffer, offset, length)) {
+        return writeCommand();
+      }
+    }
 
-        case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-          return onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
+    return true;
+  }
 
-        case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-          return onCorrelateMessageSubscription(buffer, offset, length);
+  private boolean readCommand(int templateId, DirectBuffer buffer, int offset, int length) {
+    switch (templateId) {
+      case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
+        onOpenMessageSubscription(buffer, offset, length);
+        return true;
 
-        case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
-          return onCloseMessageSubscription(buffer, offset, length);
+      case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+        onOpenWorkflowInstanceSubscription(buffer, offset, length);
+        return true;
 
-        case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-          return onCloseWorkflowInstanceSubscription(buffer, offset, length);
+      case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+        onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
+        return true;
 
-        default:
-          break;
-      }
-    }
+      case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+        onCorrelateMessageSubscription(buffer, offset, length);
+        return true;
 
-    return true;
+      case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
+        onCloseMessageSubscription(buffer, offset, length);
+        return true;
+
+      case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+        onCloseWorkflowInstanceSubscription(buffer, offset, length);
+        return true;
+
+      default:
+        return false;
+    }
   }
 
-  private boolean onOpenMessageSubscription(DirectBuffer buffer, int offset, int length) {
+  private void onOpenMessageSubscription(DirectBuffer buffer, int offset, int length) {
     openMessageSubscriptionCommand.wrap(buffer, offset, length);
 
     messageSubscriptionRecord
@@ -130,14 +157,14 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
         .setCorrelationKey(openMessageSubscriptionCommand.getCorrelationKey())
         .setCloseOnCorrelate(openMessageSubscriptionCommand.shouldCloseOnCorrelate());
 
-    return writeCommand(
+    setCommand(
         openMessageSubscriptionCommand.getSubscriptionPartitionId(),
         ValueType.MESSAGE_SUBSCRIPTION,
         MessageSubscriptionIntent.OPEN,
         messageSubscriptionRecord);
   }
 
-  private boolean onOpenWorkflowInstanceSubscription(DirectBuffer buffer, int offset, int length) {
+  private void onOpenWorkflowInstanceSubscription(DirectBuffer buffer, int offset, int length) {
     openWorkflowInstanceSubscriptionCommand.wrap(buffer, offset, length);
 
     final long workflowInstanceKey =
@@ -153,14 +180,14 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
         .setMessageName(openWorkflowInstanceSubscriptionCommand.getMessageName())
         .setCloseOnCorrelate(openWorkflowInstanceSubscriptionCommand.shouldCloseOnCorrelate());
 
-    return writeCommand(
+    setCommand(
         workflowInstancePartitionId,
         ValueType.WORKFLOW_INSTANCE_SUBSCRIPTION,
         WorkflowInstanceSubscriptionIntent.OPEN,
         workflowInstanceSubscriptionRecord);
   }
 
-  private boolean onCorrelateWorkflowInstanceSubscription(
+  private void onCorrelateWorkflowInstanceSubscription(
       DirectBuffer buffer, int offset, int length) {
     correlateWorkflowInstanceSubscriptionCommand.wrap(buffer, offset, length);
 
@@ -176,14 +203,14 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
         .setMessageName(correlateWorkflowInstanceSubscriptionCommand.getMessageName())
         .setPayload(correlateWorkflowInstanceSubscriptionCommand.getPayload());
 
-    return writeCommand(
+    setCommand(
         workflowInstancePartitionId,
         ValueType.WORKFLOW_INSTANCE_SUBSCRIPTION,
         WorkflowInstanceSubscriptionIntent.CORRELATE,
         workflowInstanceSubscriptionRecord);
   }
 
-  private boolean onCorrelateMessageSubscription(DirectBuffer buffer, int offset, int length) {
+  private void onCorrelateMessageSubscription(DirectBuffer buffer, int offset, int length) {
     correlateMessageSubscriptionCommand.wrap(buffer, offset, length);
 
     messageSubscriptionRecord.reset();
@@ -192,14 +219,14 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
         .setElementInstanceKey(correlateMessageSubscriptionCommand.getElementInstanceKey())
         .setMessageName(correlateMessageSubscriptionCommand.getMessageName());
 
-    return writeCommand(
+    setCommand(
         correlateMessageSubscriptionCommand.getSubscriptionPartitionId(),
         ValueType.MESSAGE_SUBSCRIPTION,
         MessageSubscriptionIntent.CORRELATE,
         messageSubscriptionRecord);
   }
 
-  private boolean onCloseMessageSubscription(DirectBuffer buffer, int offset, int length) {
+  private void onCloseMessageSubscription(DirectBuffer buffer, int offset, int length) {
     closeMessageSubscriptionCommand.wrap(buffer, offset, length);
 
     messageSubscriptionRecord.reset();
@@ -208,14 +235,14 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
         .setElementInstanceKey(closeMessageSubscriptionCommand.getElementInstanceKey())
         .setMessageName(closeMessageSubscriptionCommand.getMessageName());
 
-    return writeCommand(
+    setCommand(
         closeMessageSubscriptionCommand.getSubscriptionPartitionId(),
         ValueType.MESSAGE_SUBSCRIPTION,
         MessageSubscriptionIntent.CLOSE,
         messageSubscriptionRecord);
   }
 
-  private boolean onCloseWorkflowInstanceSubscription(DirectBuffer buffer, int offset, int length) {
+  private void onCloseWorkflowInstanceSubscription(DirectBuffer buffer, int offset, int length) {
     closeWorkflowInstanceSubscriptionCommand.wrap(buffer, offset, length);
 
     final long workflowInstanceKey =
@@ -230,17 +257,23 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
         .setElementInstanceKey(closeWorkflowInstanceSubscriptionCommand.getElementInstanceKey())
         .setMessageName(closeWorkflowInstanceSubscriptionCommand.getMessageName());
 
-    return writeCommand(
+    setCommand(
         workflowInstancePartitionId,
         ValueType.WORKFLOW_INSTANCE_SUBSCRIPTION,
         WorkflowInstanceSubscriptionIntent.CLOSE,
         workflowInstanceSubscriptionRecord);
   }
 
-  private boolean writeCommand(
-      int partitionId, ValueType valueType, Intent intent, UnpackedObject command) {
+  private void setCommand(
+      int partitionId, ValueType valueType, Intent intent, UnpackedObject record) {
+    commandPartitionId = partitionId;
+    commandValueType = valueType;
+    commandIntent = intent;
+    commandRecord = record;
+  }
 
-    final Partition partition = leaderPartitions.get(partitionId);
+  private boolean writeCommand() {
+    final Partition partition = leaderPartitions.get(commandPartitionId);
     if (partition == null) {
       // ignore message if you are not the leader of the partition
       return true;
@@ -248,15 +281,63 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
 
     logStreamWriter.wrap(partition.getLogStream());
 
-    recordMetadata.reset().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+    recordMetadata
+        .reset()
+        .recordType(RecordType.COMMAND)
+        .valueType(commandValueType)
+        .intent(commandIntent);
 
     final long position =
         logStreamWriter
             .positionAsKey()
             .metadataWriter(recordMetadata)
-            .valueWriter(command)
+            .valueWriter(commandRecord)
             .tryWrite();
 
     return position > 0;
   }
+
+  private boolean onCommandBatch(DirectBuffer buffer, int offset, int length) {
+    commandBatch.wrap(buffer, offset, length);
+
+    final Partition partition = leaderPartitions.get(commandBatch.getReceiverPartitionId());
+    if (partition == null) {
+      // ignore message if you are not the leader of the partition
+      return true;
+    }
+
+    logStreamBatchWriter.wrap(partition.getLogStream());
+
+    final DirectBuffer commands = commandBatch.getCommands();
+    int commandOffset = 0;
+
+    while (commandOffset < commands.capacity()) {
+      final int commandLength = commands.getInt(commandOffset, Protocol.ENDIANNESS);
+      commandOffset += SubscriptionCommandBatch.COMMAND_HEADER_LENGTH;
+
+      messageHeaderDecoder.wrap(commands, commandOffset);
+      final int templateId = messageHeaderDecoder.templateId();
+
+      if (readCommand(templateId, commands, commandOffset, commandLength)) {
+        recordMetadata
+            .reset()
+            .recordType(RecordType.COMMAND)
+            .valueType(commandValueType)
+            .intent(commandIntent);
+
+        // the batch writer copies the command, so the record can be reused for the next one
+        logStreamBatchWriter
+            .event()
+            .positionAsKey()
+            .metadataWriter(recordMetadata)
+            .valueWriter(commandRecord)
+            .done();
+      }
+
+      commandOffset += commandLength;
+    }
+
+    final long position = logStreamBatchWriter.tryWrite();
+    return position >= 0;
+  }
 }
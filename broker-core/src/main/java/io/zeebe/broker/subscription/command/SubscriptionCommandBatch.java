@@ -0,0 +1,136 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.subscription.command;
+
+import static io.zeebe.broker.subscription.SubscriptionCommandBatchDecoder.commandsHeaderLength;
+import static io.zeebe.broker.subscription.SubscriptionCommandBatchDecoder.receiverPartitionIdNullValue;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+
+import io.zeebe.broker.subscription.SubscriptionCommandBatchDecoder;
+import io.zeebe.broker.subscription.SubscriptionCommandBatchEncoder;
+import io.zeebe.broker.util.SbeBufferWriterReader;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A batch of subscription commands which are sent to the same partition. Each command is written as
+ * a complete SBE message, prefixed with its length.
+ */
+public class SubscriptionCommandBatch
+    extends SbeBufferWriterReader<
+        SubscriptionCommandBatchEncoder, SubscriptionCommandBatchDecoder> {
+
+  public static final int COMMAND_HEADER_LENGTH = SIZE_OF_INT;
+
+  private final SubscriptionCommandBatchEncoder encoder = new SubscriptionCommandBatchEncoder();
+  private final SubscriptionCommandBatchDecoder decoder = new SubscriptionCommandBatchDecoder();
+
+  private final ExpandableArrayBuffer commandsBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer commands = new UnsafeBuffer(0, 0);
+
+  private int receiverPartitionId;
+  private int commandCount;
+  private int commandsLength;
+
+  @Override
+  protected SubscriptionCommandBatchEncoder getBodyEncoder() {
+    return encoder;
+  }
+
+  @Override
+  protected SubscriptionCommandBatchDecoder getBodyDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public void write(MutableDirectBuffer buffer, int offset) {
+    super.write(buffer, offset);
+
+    encoder
+        .receiverPartitionId(receiverPartitionId)
+        .commandCount(commandCount)
+        .putCommands(commands, 0, commands.capacity());
+  }
+
+  @Override
+  public void wrap(DirectBuffer buffer, int offset, int length) {
+    super.wrap(buffer, offset, length);
+
+    receiverPartitionId = decoder.receiverPartitionId();
+    commandCount = (int) decoder.commandCount();
+    decoder.wrapCommands(commands);
+  }
+
+  @Override
+  public void reset() {
+    receiverPartitionId = receiverPartitionIdNullValue();
+    commandCount = 0;
+    commandsLength = 0;
+    commands.wrap(0, 0);
+  }
+
+  @Override
+  public int getLength() {
+    return super.getLength() + commandsHeaderLength() + commands.capacity();
+  }
+
+  /** @return the length of the batch after the given command is added */
+  public int getLengthWith(BufferWriter command) {
+    return getLength() + COMMAND_HEADER_LENGTH + command.getLength();
+  }
+
+  public void addCommand(BufferWriter command) {
+    final int commandLength = command.getLength();
+
+    commandsBuffer.putInt(commandsLength, commandLength, Protocol.ENDIANNESS);
+    command.write(commandsBuffer, commandsLength + COMMAND_HEADER_LENGTH);
+
+    commandsLength += COMMAND_HEADER_LENGTH + commandLength;
+    commandCount += 1;
+
+    commands.wrap(commandsBuffer, 0, commandsLength);
+  }
+
+  public boolean isEmpty() {
+    return commandCount == 0;
+  }
+
+  public int getReceiverPartitionId() {
+    return receiverPartitionId;
+  }
+
+  public void setReceiverPartitionId(int receiverPartitionId) {
+    this.receiverPartitionId = receiverPartitionId;
+  }
+
+  public int getCommandCount() {
+    return commandCount;
+  }
+
+  /**
+   * @return the commands of the batch, each prefixed with its length (see {@link
+   *     #COMMAND_HEADER_LENGTH})
+   */
+  public DirectBuffer getCommands() {
+    return commands;
+  }
+}
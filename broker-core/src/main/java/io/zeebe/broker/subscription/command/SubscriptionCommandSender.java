@@ -27,6 +27,7 @@ import io.zeebe.protocol.impl.SubscriptionUtil;
 import io.zeebe.transport.ClientTransport;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntArrayList;
@@ -51,9 +52,16 @@ import org.agrona.collections.IntArrayList;
  * |                                                   Workflow Instance Partition                                                        |
  * +--------------------------------------------------------------------------------------------------------------------------------------+
  * <pre>
+ *
+ * <p>The commands are not sent immediately but collected per receiver partition. Once the current
+ * actor job is done (e.g. a batch of records is processed), the collected commands of a partition
+ * are sent as one message and written to the receiver's log as one batch.
  */
 public class SubscriptionCommandSender {
 
+  private static final int MAX_BATCH_LENGTH = 64 * 1024;
+  private static final Duration FLUSH_RETRY_DELAY = Duration.ofMillis(10);
+
   private final OpenMessageSubscriptionCommand openMessageSubscriptionCommand =
       new OpenMessageSubscriptionCommand();
 
@@ -73,11 +81,16 @@ public class SubscriptionCommandSender {
   private final CloseWorkflowInstanceSubscriptionCommand closeWorkflowInstanceSubscriptionCommand =
       new CloseWorkflowInstanceSubscriptionCommand();
 
+  private final Int2ObjectHashMap<SubscriptionCommandBatch> batches = new Int2ObjectHashMap<>();
+  private final Runnable flushAction = this::flush;
+
   private final ClientTransport subscriptionClient;
   private final IntArrayList partitionIds = new IntArrayList();
 
   private int partitionId;
   private TopologyPartitionListenerImpl partitionListener;
+  private ActorControl actor;
+  private boolean isFlushScheduled;
 
   public SubscriptionCommandSender(
       final ClusterCfg clusterCfg, final ClientTransport subscriptionClient) {
@@ -88,6 +101,7 @@ public class SubscriptionCommandSender {
   public void init(
       final TopologyManager topologyManager, final ActorControl actor, final LogStream logStream) {
     this.partitionId = logStream.getPartitionId();
+    this.actor = actor;
 
     this.partitionListener = new TopologyPartitionListenerImpl(actor);
     topologyManager.addTopologyPartitionListener(partitionListener);
@@ -196,14 +210,57 @@ public class SubscriptionCommandSender {
   private boolean sendSubscriptionCommand(
       final int receiverPartitionId, final BufferWriter command) {
 
+    SubscriptionCommandBatch batch = batches.get(receiverPartitionId);
+    if (batch == null) {
+      batch = new SubscriptionCommandBatch();
+      batches.put(receiverPartitionId, batch);
+    }
+
+    if (!batch.isEmpty() && batch.getLengthWith(command) > MAX_BATCH_LENGTH) {
+      if (!sendBatch(batch)) {
+        // the batch is full and can't be sent yet
+        return false;
+      }
+    }
+
+    batch.setReceiverPartitionId(receiverPartitionId);
+    batch.addCommand(command);
+
+    if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      actor.submit(flushAction);
+    }
+
+    return true;
+  }
+
+  private void flush() {
+    isFlushScheduled = false;
+
+    for (final SubscriptionCommandBatch batch : batches.values()) {
+      if (!batch.isEmpty() && !sendBatch(batch) && !isFlushScheduled) {
+        isFlushScheduled = true;
+        actor.runDelayed(FLUSH_RETRY_DELAY, flushAction);
+      }
+    }
+  }
+
+  private boolean sendBatch(final SubscriptionCommandBatch batch) {
     final Int2ObjectHashMap<NodeInfo> partitionLeaders = partitionListener.getPartitionLeaders();
-    final NodeInfo partitionLeader = partitionLeaders.get(receiverPartitionId);
+    final NodeInfo partitionLeader = partitionLeaders.get(batch.getReceiverPartitionId());
     if (partitionLeader == null) {
-      // retry when no leader is known
+      // retry when no leader is known - the commands are sent again if they are not acknowledged
+      batch.reset();
       return true;
     }
 
-    return subscriptionClient.getOutput().sendMessage(partitionLeader.getNodeId(), command);
+    final boolean isSent =
+        subscriptionClient.getOutput().sendMessage(partitionLeader.getNodeId(), batch);
+    if (isSent) {
+      batch.reset();
+    }
+
+    return isSent;
   }
 
   public boolean hasPartitionIds() {
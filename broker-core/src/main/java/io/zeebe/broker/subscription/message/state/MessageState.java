@@ -24,10 +24,13 @@ import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.util.collection.CountingBloomFilter;
 import org.agrona.DirectBuffer;
 
 public class MessageState {
 
+  private static final int MESSAGE_ID_FILTER_CAPACITY = 1 << 20;
+
   /**
    * <pre>message key -> message
    */
@@ -70,6 +73,13 @@ public class MessageState {
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbString, DbString>, DbString>, DbNil>
       messageIdColumnFamily;
 
+  /**
+   * contains the entries of the message id column family - most published messages have no
+   * duplicate id, so the filter avoids to look them up
+   */
+  private final CountingBloomFilter messageIdFilter =
+      new CountingBloomFilter(MESSAGE_ID_FILTER_CAPACITY);
+
   /**
    * <pre>key | workflow instance key -> []
    *
@@ -114,6 +124,15 @@ public class MessageState {
             ZbColumnFamilies.MESSAGE_CORRELATED, messageWorkflowKey, DbNil.INSTANCE);
 
     this.zeebeDb = zeebeDb;
+
+    // the filter is not part of the state and is rebuilt on recovery
+    messageIdColumnFamily.forEach(
+        (key, nil) ->
+            messageIdFilter.add(
+                messageIdHash(
+                    key.getFirst().getFirst().getBuffer(),
+                    key.getFirst().getSecond().getBuffer(),
+                    key.getSecond().getBuffer())));
   }
 
   public void put(final Message message) {
@@ -135,6 +154,12 @@ public class MessageState {
             messageIdColumnFamily.put(nameCorrelationMessageIdKey, DbNil.INSTANCE);
           }
         });
+
+    final DirectBuffer messageId = message.getId();
+    if (messageId.capacity() > 0) {
+      // added right away - if the transaction is rolled back, the filter only has a false positive
+      messageIdFilter.add(messageIdHash(message.getName(), message.getCorrelationKey(), messageId));
+    }
   }
 
   public void putMessageCorrelation(long messageKey, long workflowInstanceKey) {
@@ -185,6 +210,10 @@ public class MessageState {
 
   public boolean exist(
       final DirectBuffer name, final DirectBuffer correlationKey, final DirectBuffer messageId) {
+    if (!messageIdFilter.mightContain(messageIdHash(name, correlationKey, messageId))) {
+      return false;
+    }
+
     messageName.wrapBuffer(name);
     this.correlationKey.wrapBuffer(correlationKey);
     this.messageId.wrapBuffer(messageId);
@@ -223,6 +252,20 @@ public class MessageState {
                 correlatedMessageColumnFamily.delete(compositeKey);
               }));
         });
+
+    final DirectBuffer messageId = message.getId();
+    if (messageId.capacity() > 0) {
+      // removed on commit - if the transaction is rolled back, the entry must stay in the filter
+      final long hash = messageIdHash(message.getName(), message.getCorrelationKey(), messageId);
+      zeebeDb.runAfterCommit(() -> messageIdFilter.remove(hash));
+    }
+  }
+
+  private static long messageIdHash(
+      final DirectBuffer name, final DirectBuffer correlationKey, final DirectBuffer messageId) {
+    long hash = CountingBloomFilter.hash(name, CountingBloomFilter.DEFAULT_SEED);
+    hash = CountingBloomFilter.hash(correlationKey, hash);
+    return CountingBloomFilter.hash(messageId, hash);
   }
 
   @FunctionalInterface
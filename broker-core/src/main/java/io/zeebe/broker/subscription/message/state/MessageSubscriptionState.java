@@ -24,10 +24,13 @@ import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.util.collection.CountingBloomFilter;
 import org.agrona.DirectBuffer;
 
 public class MessageSubscriptionState {
 
+  private static final int SUBSCRIPTION_FILTER_CAPACITY = 1 << 20;
+
   private final ZeebeDb<ZbColumnFamilies> zeebeDb;
 
   // (elementInstanceKey, messageName) => MessageSubscription
@@ -52,6 +55,11 @@ public class MessageSubscriptionState {
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbString, DbString>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  // contains the (messageName, correlationKey) pairs of the subscriptions - most published
+  // messages have no subscription, so the filter avoids to look them up
+  private final CountingBloomFilter subscriptionFilter =
+      new CountingBloomFilter(SUBSCRIPTION_FILTER_CAPACITY);
+
   public MessageSubscriptionState(ZeebeDb<ZbColumnFamilies> zeebeDb) {
     this.zeebeDb = zeebeDb;
 
@@ -82,6 +90,14 @@ public class MessageSubscriptionState {
             ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
             nameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
+
+    // the filter is not part of the state and is rebuilt on recovery
+    messageNameAndCorrelationKeyColumnFamily.forEach(
+        (key, nil) ->
+            subscriptionFilter.add(
+                subscriptionHash(
+                    key.getFirst().getFirst().getBuffer(),
+                    key.getFirst().getSecond().getBuffer())));
   }
 
   public MessageSubscription get(long elementInstanceKey, DirectBuffer messageName) {
@@ -101,6 +117,10 @@ public class MessageSubscriptionState {
           messageNameAndCorrelationKeyColumnFamily.put(
               nameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
         });
+
+    // added right away - if the transaction is rolled back, the filter only has a false positive
+    subscriptionFilter.add(
+        subscriptionHash(subscription.getMessageName(), subscription.getCorrelationKey()));
   }
 
   public void visitSubscriptions(
@@ -108,6 +128,10 @@ public class MessageSubscriptionState {
       final DirectBuffer correlationKey,
       MessageSubscriptionVisitor visitor) {
 
+    if (!subscriptionFilter.mightContain(subscriptionHash(messageName, correlationKey))) {
+      return;
+    }
+
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
@@ -206,6 +230,11 @@ public class MessageSubscriptionState {
 
           removeSubscriptionFromSentTimeColumnFamily(subscription);
         });
+
+    // removed on commit - if the transaction is rolled back, the entry must stay in the filter
+    final long hash =
+        subscriptionHash(subscription.getMessageName(), subscription.getCorrelationKey());
+    zeebeDb.runAfterCommit(() -> subscriptionFilter.remove(hash));
   }
 
   private void removeSubscriptionFromSentTimeColumnFamily(MessageSubscription subscription) {
@@ -215,6 +244,12 @@ public class MessageSubscriptionState {
     }
   }
 
+  private static long subscriptionHash(
+      final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    final long hash = CountingBloomFilter.hash(messageName, CountingBloomFilter.DEFAULT_SEED);
+    return CountingBloomFilter.hash(correlationKey, hash);
+  }
+
   @FunctionalInterface
   public interface MessageSubscriptionVisitor {
     boolean visit(MessageSubscription subscription);
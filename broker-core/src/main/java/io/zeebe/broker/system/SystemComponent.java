@@ -17,6 +17,7 @@
  */
 package io.zeebe.broker.system;
 
+import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.FOLLOWER_PARTITION_GROUP_NAME;
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.LEADER_PARTITION_GROUP_NAME;
 import static io.zeebe.broker.system.SystemServiceNames.LEADER_MANAGEMENT_REQUEST_HANDLER;
 import static io.zeebe.broker.system.SystemServiceNames.METRICS_FILE_WRITER;
@@ -46,6 +47,9 @@ public class SystemComponent implements Component {
             requestHandlerService.getManagementApiServerTransportInjector())
         .groupReference(
             LEADER_PARTITION_GROUP_NAME, requestHandlerService.getLeaderPartitionsGroupReference())
+        .groupReference(
+            FOLLOWER_PARTITION_GROUP_NAME,
+            requestHandlerService.getFollowerPartitionsGroupReference())
         .install();
   }
 }
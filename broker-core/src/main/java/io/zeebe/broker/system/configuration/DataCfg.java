@@ -33,6 +33,12 @@ public class DataCfg implements ConfigurationEntry {
 
   private String snapshotReplicationPeriod = "5m";
 
+  private int maxProcessingBatchSize = 100;
+
+  private int maxReprocessingBatchSize = 100;
+
+  private RocksDbCfg rocksdb = new RocksDbCfg();
+
   @Override
   public void init(BrokerCfg globalConfig, String brokerBase, Environment environment) {
     applyEnvironment(environment);
@@ -75,6 +81,30 @@ public class DataCfg implements ConfigurationEntry {
     this.snapshotReplicationPeriod = snapshotReplicationPeriod;
   }
 
+  public int getMaxProcessingBatchSize() {
+    return maxProcessingBatchSize;
+  }
+
+  public void setMaxProcessingBatchSize(int maxProcessingBatchSize) {
+    this.maxProcessingBatchSize = maxProcessingBatchSize;
+  }
+
+  public int getMaxReprocessingBatchSize() {
+    return maxReprocessingBatchSize;
+  }
+
+  public void setMaxReprocessingBatchSize(int maxReprocessingBatchSize) {
+    this.maxReprocessingBatchSize = maxReprocessingBatchSize;
+  }
+
+  public RocksDbCfg getRocksdb() {
+    return rocksdb;
+  }
+
+  public void setRocksdb(RocksDbCfg rocksdb) {
+    this.rocksdb = rocksdb;
+  }
+
   @Override
   public String toString() {
     return "DataCfg{"
@@ -89,6 +119,12 @@ public class DataCfg implements ConfigurationEntry {
         + ", snapshotReplicationPeriod='"
         + snapshotReplicationPeriod
         + '\''
+        + ", maxProcessingBatchSize="
+        + maxProcessingBatchSize
+        + ", maxReprocessingBatchSize="
+        + maxReprocessingBatchSize
+        + ", rocksdb="
+        + rocksdb
         + '}';
   }
 }
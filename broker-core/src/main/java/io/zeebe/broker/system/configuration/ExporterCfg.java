@@ -41,6 +41,15 @@ public class ExporterCfg implements ConfigurationEntry {
   /** map of arguments to use when instantiating the exporter */
   private Map<String, Object> args;
 
+  /**
+   * number of records which are buffered for the exporter if it runs in pipelined mode
+   *
+   * <p>optional field: if greater than zero, the exporter runs on its own actor and the records are
+   * handed over through a bounded buffer of this size; otherwise, the records are exported on the
+   * exporter stream processor
+   */
+  private int pipelineBufferSize;
+
   @Override
   public void init(BrokerCfg globalConfig, String brokerBase, Environment environment) {
     if (isExternal()) {
@@ -84,6 +93,14 @@ public class ExporterCfg implements ConfigurationEntry {
     this.args = args;
   }
 
+  public int getPipelineBufferSize() {
+    return pipelineBufferSize;
+  }
+
+  public void setPipelineBufferSize(int pipelineBufferSize) {
+    this.pipelineBufferSize = pipelineBufferSize;
+  }
+
   private boolean isEmpty(final String value) {
     return value == null || value.isEmpty();
   }
@@ -102,6 +119,8 @@ public class ExporterCfg implements ConfigurationEntry {
         + '\''
         + ", args="
         + args
+        + ", pipelineBufferSize="
+        + pipelineBufferSize
         + '}';
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** The RocksDB settings of the state of a partition. The memory limits apply to each partition. */
+public class RocksDbCfg implements ConfigurationEntry {
+
+  private String blockCacheSize = "32M";
+
+  private String memtableBudget = "64M";
+
+  private String maxTotalWalSize = "128M";
+
+  private int maxBackgroundJobs = 2;
+
+  private int maxOpenFiles = -1;
+
+  /**
+   * Overrides the profile of column families, e.g. <code>{ jobs = "point_lookup" }</code>. The
+   * possible profiles are point_lookup, prefix_scan, queue and read_mostly.
+   */
+  private Map<String, String> columnFamilyProfiles = new HashMap<>();
+
+  public String getBlockCacheSize() {
+    return blockCacheSize;
+  }
+
+  public void setBlockCacheSize(String blockCacheSize) {
+    this.blockCacheSize = blockCacheSize;
+  }
+
+  public String getMemtableBudget() {
+    return memtableBudget;
+  }
+
+  public void setMemtableBudget(String memtableBudget) {
+    this.memtableBudget = memtableBudget;
+  }
+
+  public String getMaxTotalWalSize() {
+    return maxTotalWalSize;
+  }
+
+  public void setMaxTotalWalSize(String maxTotalWalSize) {
+    this.maxTotalWalSize = maxTotalWalSize;
+  }
+
+  public int getMaxBackgroundJobs() {
+    return maxBackgroundJobs;
+  }
+
+  public void setMaxBackgroundJobs(int maxBackgroundJobs) {
+    this.maxBackgroundJobs = maxBackgroundJobs;
+  }
+
+  public int getMaxOpenFiles() {
+    return maxOpenFiles;
+  }
+
+  public void setMaxOpenFiles(int maxOpenFiles) {
+    this.maxOpenFiles = maxOpenFiles;
+  }
+
+  public Map<String, String> getColumnFamilyProfiles() {
+    return columnFamilyProfiles;
+  }
+
+  public void setColumnFamilyProfiles(Map<String, String> columnFamilyProfiles) {
+    this.columnFamilyProfiles = columnFamilyProfiles;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksDbCfg{"
+        + "blockCacheSize='"
+        + blockCacheSize
+        + '\''
+        + ", memtableBudget='"
+        + memtableBudget
+        + '\''
+        + ", maxTotalWalSize='"
+        + maxTotalWalSize
+        + '\''
+        + ", maxBackgroundJobs="
+        + maxBackgroundJobs
+        + ", maxOpenFiles="
+        + maxOpenFiles
+        + ", columnFamilyProfiles="
+        + columnFamilyProfiles
+        + '}';
+  }
+}
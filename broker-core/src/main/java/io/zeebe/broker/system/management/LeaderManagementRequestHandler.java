@@ -20,8 +20,10 @@ package io.zeebe.broker.system.management;
 import io.zeebe.broker.clustering.base.partitions.Partition;
 import io.zeebe.broker.system.management.deployment.NotLeaderResponse;
 import io.zeebe.broker.system.management.deployment.PushDeploymentRequestHandler;
+import io.zeebe.broker.system.management.snapshot.ReplicateSnapshotChunkRequestHandler;
 import io.zeebe.clustering.management.MessageHeaderDecoder;
 import io.zeebe.clustering.management.PushDeploymentRequestDecoder;
+import io.zeebe.clustering.management.ReplicateSnapshotChunkRequestDecoder;
 import io.zeebe.servicecontainer.Injector;
 import io.zeebe.servicecontainer.Service;
 import io.zeebe.servicecontainer.ServiceGroupReference;
@@ -35,6 +37,8 @@ import io.zeebe.transport.ServerOutput;
 import io.zeebe.transport.ServerRequestHandler;
 import io.zeebe.transport.ServerResponse;
 import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.future.ActorFuture;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -46,6 +50,8 @@ public class LeaderManagementRequestHandler extends Actor
   private final Injector<BufferingServerTransport> managementApiServerTransportInjector =
       new Injector<>();
   private PushDeploymentRequestHandler pushDeploymentRequestHandler;
+  private final ReplicateSnapshotChunkRequestHandler replicateSnapshotChunkRequestHandler =
+      new ReplicateSnapshotChunkRequestHandler();
 
   private final ServiceGroupReference<Partition> leaderPartitionsGroupReference =
       ServiceGroupReference.<Partition>create()
@@ -53,17 +59,25 @@ public class LeaderManagementRequestHandler extends Actor
           .onRemove((s, p) -> removePartition(p))
           .build();
 
+  private final ServiceGroupReference<Partition> followerPartitionsGroupReference =
+      ServiceGroupReference.<Partition>create()
+          .onAdd((s, p) -> addFollowerPartition(p))
+          .onRemove((s, p) -> removeFollowerPartition(p))
+          .build();
+
   private final Int2ObjectHashMap<Partition> leaderForPartitions = new Int2ObjectHashMap<>();
 
   private final ServerResponse response = new ServerResponse();
   private final NotLeaderResponse notLeaderResponse = new NotLeaderResponse();
 
   private BufferingServerTransport serverTransport;
+  private ActorScheduler scheduler;
 
   @Override
   public void start(final ServiceStartContext startContext) {
     serverTransport = managementApiServerTransportInjector.getValue();
-    startContext.async(startContext.getScheduler().submitActor(this));
+    scheduler = startContext.getScheduler();
+    startContext.async(scheduler.submitActor(this));
   }
 
   @Override
@@ -75,6 +89,18 @@ public class LeaderManagementRequestHandler extends Actor
   protected void onActorStarting() {
     pushDeploymentRequestHandler = new PushDeploymentRequestHandler(leaderForPartitions, actor);
 
+    // the snapshot chunks are written to disk on their own actor
+    final ActorFuture<Void> startFuture =
+        scheduler.submitActor(
+            replicateSnapshotChunkRequestHandler, true, SchedulingHints.ioBound());
+    actor.runOnCompletionBlockingCurrentPhase(
+        startFuture,
+        (v, err) -> {
+          if (err != null) {
+            throw new RuntimeException(err);
+          }
+        });
+
     final ActorFuture<ServerInputSubscription> subscriptionFuture =
         serverTransport.openSubscription("leader-management-request-handler", this, this);
 
@@ -95,6 +121,12 @@ public class LeaderManagementRequestHandler extends Actor
         });
   }
 
+  @Override
+  protected void onActorClosing() {
+    actor.runOnCompletionBlockingCurrentPhase(
+        replicateSnapshotChunkRequestHandler.close(), (v, err) -> {});
+  }
+
   @Override
   public String getName() {
     return "management-request-handler";
@@ -131,6 +163,12 @@ public class LeaderManagementRequestHandler extends Actor
           {
             return onPushDeployment(buffer, offset, length, output, remoteAddress, requestId);
           }
+        case ReplicateSnapshotChunkRequestDecoder.TEMPLATE_ID:
+          {
+            replicateSnapshotChunkRequestHandler.onReplicateSnapshotChunkRequest(
+                output, remoteAddress, buffer, offset, length, requestId);
+            return true;
+          }
         default:
           {
             // ignore
@@ -189,7 +227,19 @@ public class LeaderManagementRequestHandler extends Actor
     actor.submit(() -> leaderForPartitions.remove(partition.getInfo().getPartitionId()));
   }
 
+  private void addFollowerPartition(final Partition partition) {
+    actor.submit(() -> replicateSnapshotChunkRequestHandler.addPartition(partition));
+  }
+
+  private void removeFollowerPartition(final Partition partition) {
+    actor.submit(() -> replicateSnapshotChunkRequestHandler.removePartition(partition));
+  }
+
   public ServiceGroupReference<Partition> getLeaderPartitionsGroupReference() {
     return leaderPartitionsGroupReference;
   }
+
+  public ServiceGroupReference<Partition> getFollowerPartitionsGroupReference() {
+    return followerPartitionsGroupReference;
+  }
 }
@@ -0,0 +1,171 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.management.snapshot;
+
+import static io.zeebe.clustering.management.ReplicateSnapshotChunkRequestEncoder.contentHeaderLength;
+import static io.zeebe.clustering.management.ReplicateSnapshotChunkRequestEncoder.fileNameHeaderLength;
+
+import io.zeebe.broker.util.SbeBufferWriterReader;
+import io.zeebe.clustering.management.ReplicateSnapshotChunkRequestDecoder;
+import io.zeebe.clustering.management.ReplicateSnapshotChunkRequestEncoder;
+import io.zeebe.logstreams.state.SnapshotChunk;
+import io.zeebe.logstreams.state.StateSnapshotMetadata;
+import io.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public class ReplicateSnapshotChunkRequest
+    extends SbeBufferWriterReader<
+        ReplicateSnapshotChunkRequestEncoder, ReplicateSnapshotChunkRequestDecoder> {
+
+  private final ReplicateSnapshotChunkRequestEncoder bodyEncoder =
+      new ReplicateSnapshotChunkRequestEncoder();
+  private final ReplicateSnapshotChunkRequestDecoder bodyDecoder =
+      new ReplicateSnapshotChunkRequestDecoder();
+
+  private int partitionId = ReplicateSnapshotChunkRequestEncoder.partitionIdNullValue();
+  private long lastProcessedEventPosition;
+  private long lastWrittenEventPosition;
+  private int lastWrittenEventTerm;
+  private int chunkIndex;
+  private int totalCount;
+  private long fileOffset;
+  private long checksum;
+  private final UnsafeBuffer fileName = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer content = new UnsafeBuffer(0, 0);
+
+  public ReplicateSnapshotChunkRequest partitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public int partitionId() {
+    return partitionId;
+  }
+
+  public ReplicateSnapshotChunkRequest chunk(final SnapshotChunk chunk) {
+    final StateSnapshotMetadata snapshot = chunk.getSnapshot();
+    lastProcessedEventPosition = snapshot.getLastSuccessfulProcessedEventPosition();
+    lastWrittenEventPosition = snapshot.getLastWrittenEventPosition();
+    lastWrittenEventTerm = snapshot.getLastWrittenEventTerm();
+    chunkIndex = chunk.getChunkIndex();
+    totalCount = chunk.getTotalCount();
+    fileOffset = chunk.getFileOffset();
+    checksum = chunk.getChecksum();
+    fileName.wrap(BufferUtil.wrapString(chunk.getFileName()));
+    content.wrap(chunk.getContent());
+    return this;
+  }
+
+  /** @return a copy of the chunk, which does not refer to the request buffer */
+  public SnapshotChunk chunk() {
+    final StateSnapshotMetadata snapshot =
+        new StateSnapshotMetadata(
+            lastProcessedEventPosition, lastWrittenEventPosition, lastWrittenEventTerm, false);
+
+    return new SnapshotChunk(
+        snapshot,
+        chunkIndex,
+        totalCount,
+        BufferUtil.bufferAsString(fileName),
+        fileOffset,
+        checksum,
+        BufferUtil.bufferAsArray(content));
+  }
+
+  @Override
+  protected ReplicateSnapshotChunkRequestEncoder getBodyEncoder() {
+    return bodyEncoder;
+  }
+
+  @Override
+  protected ReplicateSnapshotChunkRequestDecoder getBodyDecoder() {
+    return bodyDecoder;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, int offset, final int length) {
+    super.wrap(buffer, offset, length);
+
+    partitionId = bodyDecoder.partitionId();
+    lastProcessedEventPosition = bodyDecoder.lastProcessedEventPosition();
+    lastWrittenEventPosition = bodyDecoder.lastWrittenEventPosition();
+    lastWrittenEventTerm = bodyDecoder.lastWrittenEventTerm();
+    chunkIndex = bodyDecoder.chunkIndex();
+    totalCount = bodyDecoder.totalCount();
+    fileOffset = bodyDecoder.fileOffset();
+    checksum = bodyDecoder.checksum();
+
+    offset = bodyDecoder.limit();
+
+    offset += fileNameHeaderLength();
+    final int fileNameLength = bodyDecoder.fileNameLength();
+    fileName.wrap(buffer, offset, fileNameLength);
+    offset += fileNameLength;
+    bodyDecoder.limit(offset);
+
+    offset += contentHeaderLength();
+    final int contentLength = (int) bodyDecoder.contentLength();
+    content.wrap(buffer, offset, contentLength);
+    offset += contentLength;
+    bodyDecoder.limit(offset);
+  }
+
+  @Override
+  public int getLength() {
+    return super.getLength()
+        + fileNameHeaderLength()
+        + fileName.capacity()
+        + contentHeaderLength()
+        + content.capacity();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    super.write(buffer, offset);
+
+    bodyEncoder
+        .partitionId(partitionId)
+        .lastProcessedEventPosition(lastProcessedEventPosition)
+        .lastWrittenEventPosition(lastWrittenEventPosition)
+        .lastWrittenEventTerm(lastWrittenEventTerm)
+        .chunkIndex(chunkIndex)
+        .totalCount(totalCount)
+        .fileOffset(fileOffset)
+        .checksum(checksum)
+        .putFileName(fileName, 0, fileName.capacity())
+        .putContent(content, 0, content.capacity());
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+
+    partitionId = ReplicateSnapshotChunkRequestEncoder.partitionIdNullValue();
+    lastProcessedEventPosition = StateSnapshotMetadata.INITIAL_LAST_PROCESSED_EVENT_POSITION;
+    lastWrittenEventPosition = StateSnapshotMetadata.INITIAL_LAST_WRITTEN_EVENT_POSITION;
+    lastWrittenEventTerm = 0;
+    chunkIndex = 0;
+    totalCount = 0;
+    fileOffset = 0;
+    checksum = 0;
+    fileName.wrap(0, 0);
+    content.wrap(0, 0);
+  }
+}
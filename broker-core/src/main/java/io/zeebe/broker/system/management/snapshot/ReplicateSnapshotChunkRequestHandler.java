@@ -0,0 +1,160 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.management.snapshot;
+
+import io.zeebe.broker.Loggers;
+import io.zeebe.broker.clustering.base.partitions.Partition;
+import io.zeebe.broker.logstreams.ZbStreamProcessorService;
+import io.zeebe.logstreams.state.SnapshotChunk;
+import io.zeebe.logstreams.state.SnapshotChunkWriter;
+import io.zeebe.logstreams.state.StateStorage;
+import io.zeebe.transport.RemoteAddress;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.io.IOException;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.slf4j.Logger;
+
+/**
+ * Stores the chunks of the stream processor snapshots which are replicated by the leaders of the
+ * follower partitions, so that the stream processor only has to reprocess the events after the
+ * snapshot if this node becomes leader.
+ *
+ * <p>The chunks are written on this actor, which should be scheduled as IO-bound, so that writing
+ * and flushing the files doesn't block the handling of the other management requests.
+ */
+public class ReplicateSnapshotChunkRequestHandler extends Actor {
+  private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
+
+  private final ReplicateSnapshotChunkRequest request = new ReplicateSnapshotChunkRequest();
+  private final ReplicateSnapshotChunkResponse response = new ReplicateSnapshotChunkResponse();
+  private final ServerResponse serverResponse = new ServerResponse();
+
+  private final Int2ObjectHashMap<SnapshotChunkWriter> chunkWriters = new Int2ObjectHashMap<>();
+
+  @Override
+  public String getName() {
+    return "replicate-snapshot-chunk-request-handler";
+  }
+
+  public ActorFuture<Void> close() {
+    return actor.close();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    chunkWriters.forEach(this::abort);
+    chunkWriters.clear();
+  }
+
+  public void addPartition(final Partition partition) {
+    actor.run(
+        () -> {
+          final int partitionId = partition.getInfo().getPartitionId();
+          final StateStorage storage =
+              partition
+                  .getStateStorageFactory()
+                  .create(partitionId, ZbStreamProcessorService.PROCESSOR_NAME);
+
+          chunkWriters.put(partitionId, new SnapshotChunkWriter(storage));
+        });
+  }
+
+  public void removePartition(final Partition partition) {
+    actor.run(
+        () -> {
+          final int partitionId = partition.getInfo().getPartitionId();
+          final SnapshotChunkWriter chunkWriter = chunkWriters.remove(partitionId);
+
+          if (chunkWriter != null) {
+            abort(partitionId, chunkWriter);
+          }
+        });
+  }
+
+  /**
+   * Decodes the request on the calling thread and writes the chunk on this actor. The response is
+   * sent once the chunk is written.
+   */
+  public void onReplicateSnapshotChunkRequest(
+      final ServerOutput output,
+      final RemoteAddress remoteAddress,
+      final DirectBuffer buffer,
+      final int offset,
+      final int length,
+      final long requestId) {
+    request.wrap(buffer, offset, length);
+
+    final int partitionId = request.partitionId();
+    final SnapshotChunk chunk = request.chunk();
+
+    actor.run(() -> writeChunk(output, remoteAddress, requestId, partitionId, chunk));
+  }
+
+  private void writeChunk(
+      final ServerOutput output,
+      final RemoteAddress remoteAddress,
+      final long requestId,
+      final int partitionId,
+      final SnapshotChunk chunk) {
+    final SnapshotChunkWriter chunkWriter = chunkWriters.get(partitionId);
+    if (chunkWriter == null) {
+      LOG.debug("Ignore snapshot chunk, not follower of partition {}", partitionId);
+      return;
+    }
+
+    final int nextChunkIndex;
+    try {
+      nextChunkIndex = chunkWriter.write(chunk);
+    } catch (final IOException e) {
+      // the leader retries with the next replication
+      LOG.error("Failed to write snapshot chunk {} of partition {}", chunk, partitionId, e);
+      abort(partitionId, chunkWriter);
+      return;
+    }
+
+    response.reset();
+    response.partitionId(partitionId).nextChunkIndex(nextChunkIndex);
+
+    serverResponse
+        .reset()
+        .requestId(requestId)
+        .remoteStreamId(remoteAddress.getStreamId())
+        .writer(response);
+
+    actor.runUntilDone(
+        () -> {
+          if (output.sendResponse(serverResponse)) {
+            actor.done();
+          } else {
+            actor.yield();
+          }
+        });
+  }
+
+  private void abort(final int partitionId, final SnapshotChunkWriter chunkWriter) {
+    try {
+      chunkWriter.abort();
+    } catch (final IOException e) {
+      LOG.warn("Failed to discard pending snapshot of partition {}", partitionId, e);
+    }
+  }
+}
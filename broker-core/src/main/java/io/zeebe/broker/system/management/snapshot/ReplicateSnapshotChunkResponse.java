@@ -0,0 +1,88 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.management.snapshot;
+
+import io.zeebe.broker.util.SbeBufferWriterReader;
+import io.zeebe.clustering.management.ReplicateSnapshotChunkResponseDecoder;
+import io.zeebe.clustering.management.ReplicateSnapshotChunkResponseEncoder;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public class ReplicateSnapshotChunkResponse
+    extends SbeBufferWriterReader<
+        ReplicateSnapshotChunkResponseEncoder, ReplicateSnapshotChunkResponseDecoder> {
+
+  private final ReplicateSnapshotChunkResponseEncoder bodyEncoder =
+      new ReplicateSnapshotChunkResponseEncoder();
+  private final ReplicateSnapshotChunkResponseDecoder bodyDecoder =
+      new ReplicateSnapshotChunkResponseDecoder();
+
+  private int partitionId = ReplicateSnapshotChunkResponseEncoder.partitionIdNullValue();
+  private int nextChunkIndex = ReplicateSnapshotChunkResponseEncoder.nextChunkIndexNullValue();
+
+  public ReplicateSnapshotChunkResponse partitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public int partitionId() {
+    return partitionId;
+  }
+
+  public ReplicateSnapshotChunkResponse nextChunkIndex(final int nextChunkIndex) {
+    this.nextChunkIndex = nextChunkIndex;
+    return this;
+  }
+
+  public int nextChunkIndex() {
+    return nextChunkIndex;
+  }
+
+  @Override
+  protected ReplicateSnapshotChunkResponseEncoder getBodyEncoder() {
+    return bodyEncoder;
+  }
+
+  @Override
+  protected ReplicateSnapshotChunkResponseDecoder getBodyDecoder() {
+    return bodyDecoder;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    super.wrap(buffer, offset, length);
+
+    partitionId = bodyDecoder.partitionId();
+    nextChunkIndex = bodyDecoder.nextChunkIndex();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    super.write(buffer, offset);
+
+    bodyEncoder.partitionId(partitionId).nextChunkIndex(nextChunkIndex);
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+
+    partitionId = ReplicateSnapshotChunkResponseEncoder.partitionIdNullValue();
+    nextChunkIndex = ReplicateSnapshotChunkResponseEncoder.nextChunkIndexNullValue();
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.transport.clientapi;
+
+import io.zeebe.protocol.clientapi.JobsAvailableNotificationEncoder;
+import io.zeebe.protocol.clientapi.MessageHeaderEncoder;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/** Pushes a notification to a client that jobs of a type are available for activation. */
+public class JobsAvailableNotificationWriter implements BufferWriter {
+  protected final MessageHeaderEncoder messageHeaderEncoder = new MessageHeaderEncoder();
+  protected final JobsAvailableNotificationEncoder notificationEncoder =
+      new JobsAvailableNotificationEncoder();
+
+  protected final ServerOutput output;
+
+  private int partitionId;
+  private int jobsCount;
+  private final UnsafeBuffer jobType = new UnsafeBuffer(0, 0);
+
+  public JobsAvailableNotificationWriter(final ServerOutput output) {
+    this.output = output;
+  }
+
+  public JobsAvailableNotificationWriter partitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public JobsAvailableNotificationWriter jobsCount(final int jobsCount) {
+    this.jobsCount = jobsCount;
+    return this;
+  }
+
+  public JobsAvailableNotificationWriter jobType(final DirectBuffer jobType) {
+    this.jobType.wrap(jobType);
+    return this;
+  }
+
+  public boolean tryWriteMessage(final int remoteStreamId) {
+    return output.sendMessage(remoteStreamId, this);
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, int offset) {
+    messageHeaderEncoder
+        .wrap(buffer, offset)
+        .blockLength(notificationEncoder.sbeBlockLength())
+        .templateId(notificationEncoder.sbeTemplateId())
+        .schemaId(notificationEncoder.sbeSchemaId())
+        .version(notificationEncoder.sbeSchemaVersion());
+
+    offset += messageHeaderEncoder.encodedLength();
+
+    notificationEncoder
+        .wrap(buffer, offset)
+        .partitionId(partitionId)
+        .jobsCount(jobsCount)
+        .putJobType(jobType, 0, jobType.capacity());
+  }
+
+  @Override
+  public int getLength() {
+    return MessageHeaderEncoder.ENCODED_LENGTH
+        + JobsAvailableNotificationEncoder.BLOCK_LENGTH
+        + JobsAvailableNotificationEncoder.jobTypeHeaderLength()
+        + jobType.capacity();
+  }
+}
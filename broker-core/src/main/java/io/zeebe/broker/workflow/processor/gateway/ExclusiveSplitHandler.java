@@ -56,12 +56,15 @@ public class ExclusiveSplitHandler implements BpmnStepHandler<ExecutableExclusiv
   private ExecutableSequenceFlow getSequenceFlowWithFulfilledCondition(
       ExecutableExclusiveGateway exclusiveGateway, DirectBuffer payload) {
     final List<ExecutableSequenceFlow> sequenceFlows = exclusiveGateway.getOutgoingWithCondition();
+
+    // the conditions share the results of their JSON path queries on the payload
+    conditionInterpreter.wrap(payload);
+
     for (int s = 0; s < sequenceFlows.size(); s++) {
       final ExecutableSequenceFlow sequenceFlow = sequenceFlows.get(s);
 
       final CompiledJsonCondition compiledCondition = sequenceFlow.getCondition();
-      final boolean isFulFilled =
-          conditionInterpreter.eval(compiledCondition.getCondition(), payload);
+      final boolean isFulFilled = conditionInterpreter.eval(compiledCondition);
 
       if (isFulFilled) {
         return sequenceFlow;
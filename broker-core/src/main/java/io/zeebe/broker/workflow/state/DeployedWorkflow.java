@@ -18,15 +18,26 @@
 package io.zeebe.broker.workflow.state;
 
 import io.zeebe.broker.workflow.model.element.ExecutableWorkflow;
+import java.util.function.Function;
 import org.agrona.DirectBuffer;
 
 public class DeployedWorkflow {
-  private final ExecutableWorkflow workflow;
   private final PersistedWorkflow persistedWorkflow;
+  private final Function<PersistedWorkflow, ExecutableWorkflow> workflowTransformer;
+  private ExecutableWorkflow workflow;
 
   public DeployedWorkflow(final ExecutableWorkflow workflow, PersistedWorkflow persistedWorkflow) {
     this.workflow = workflow;
     this.persistedWorkflow = persistedWorkflow;
+    this.workflowTransformer = null;
+  }
+
+  /** The executable workflow is only transformed when it is requested the first time. */
+  public DeployedWorkflow(
+      PersistedWorkflow persistedWorkflow,
+      Function<PersistedWorkflow, ExecutableWorkflow> workflowTransformer) {
+    this.persistedWorkflow = persistedWorkflow;
+    this.workflowTransformer = workflowTransformer;
   }
 
   public DirectBuffer getResourceName() {
@@ -34,6 +45,9 @@ public class DeployedWorkflow {
   }
 
   public ExecutableWorkflow getWorkflow() {
+    if (workflow == null) {
+      workflow = workflowTransformer.apply(persistedWorkflow);
+    }
     return workflow;
   }
 
@@ -0,0 +1,86 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.workflow.state;
+
+import io.zeebe.util.metrics.Metric;
+import io.zeebe.util.metrics.MetricsManager;
+
+public class WorkflowCacheMetrics implements AutoCloseable {
+  private final Metric cacheHits;
+  private final Metric cacheMisses;
+  private final Metric cacheSize;
+  private final Metric transformationTime;
+
+  public WorkflowCacheMetrics(final MetricsManager metricsManager, final int partitionId) {
+    final String partitionIdString = Integer.toString(partitionId);
+
+    cacheHits =
+        metricsManager
+            .newMetric("workflow_cache_requests_count")
+            .type("counter")
+            .label("partition", partitionIdString)
+            .label("type", "hit")
+            .create();
+
+    cacheMisses =
+        metricsManager
+            .newMetric("workflow_cache_requests_count")
+            .type("counter")
+            .label("partition", partitionIdString)
+            .label("type", "miss")
+            .create();
+
+    cacheSize =
+        metricsManager
+            .newMetric("workflow_cache_size")
+            .type("gauge")
+            .label("partition", partitionIdString)
+            .create();
+
+    transformationTime =
+        metricsManager
+            .newMetric("workflow_cache_transformation_time_micros")
+            .type("counter")
+            .label("partition", partitionIdString)
+            .create();
+  }
+
+  public void countHit() {
+    cacheHits.incrementOrdered();
+  }
+
+  public void countMiss() {
+    cacheMisses.incrementOrdered();
+  }
+
+  public void recordSize(final int size) {
+    cacheSize.setOrdered(size);
+  }
+
+  public void recordTransformationTime(final long nanos) {
+    transformationTime.getAndAddOrdered(nanos / 1_000);
+  }
+
+  @Override
+  public void close() {
+    cacheHits.close();
+    cacheMisses.close();
+    cacheSize.close();
+    transformationTime.close();
+  }
+}
@@ -72,6 +72,7 @@ public class WorkflowEngineState implements StreamProcessorLifecycleAware {
   private final WorkflowState workflowState;
   private ElementInstanceState elementInstanceState;
   private WorkflowInstanceMetrics metrics;
+  private WorkflowCacheMetrics cacheMetrics;
 
   public WorkflowEngineState(WorkflowState workflowState) {
     this.workflowState = workflowState;
@@ -86,12 +87,17 @@ public class WorkflowEngineState implements StreamProcessorLifecycleAware {
     final LogStream logStream = streamProcessorContext.getLogStream();
 
     this.metrics = new WorkflowInstanceMetrics(metricsManager, logStream.getPartitionId());
+    this.cacheMetrics = new WorkflowCacheMetrics(metricsManager, logStream.getPartitionId());
+    workflowState.setCacheMetrics(cacheMetrics);
     this.elementInstanceState = workflowState.getElementInstanceState();
   }
 
   @Override
   public void onClose() {
     metrics.close();
+
+    workflowState.setCacheMetrics(null);
+    cacheMetrics.close();
   }
 
   public void onEventProduced(
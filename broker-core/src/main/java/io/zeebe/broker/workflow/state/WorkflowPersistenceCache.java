@@ -31,9 +31,10 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.impl.record.value.deployment.Workflow;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.agrona.DirectBuffer;
@@ -42,13 +43,24 @@ import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongHashSet;
 import org.agrona.io.DirectBufferInputStream;
 
+/**
+ * Keeps the transformed workflows in a bounded in-memory cache. If the cache is full, the least
+ * recently used workflow is evicted and transformed again from the persisted resource on the next
+ * access.
+ */
 public class WorkflowPersistenceCache {
+  public static final int DEFAULT_CACHE_CAPACITY = 1_000;
+
   private final BpmnTransformer transformer = new BpmnTransformer();
 
+  private final int cacheCapacity;
   private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
       workflowsByProcessIdAndVersion = new HashMap<>();
   private final LongHashSet deployments;
-  private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
+  // access ordered - iterates from the least to the most recently used workflow
+  private final LinkedHashMap<Long, DeployedWorkflow> workflowsByKey;
+
+  private WorkflowCacheMetrics metrics;
 
   // workflow
   private final ColumnFamily<DbLong, PersistedWorkflow> workflowColumnFamily;
@@ -63,6 +75,10 @@ public class WorkflowPersistenceCache {
   private final DbLong workflowVersion;
 
   public WorkflowPersistenceCache(ZeebeDb<ZbColumnFamilies> zeebeDb) {
+    this(zeebeDb, DEFAULT_CACHE_CAPACITY);
+  }
+
+  public WorkflowPersistenceCache(ZeebeDb<ZbColumnFamilies> zeebeDb, int cacheCapacity) {
     workflowKey = new DbLong();
     persistedWorkflow = new PersistedWorkflow();
     workflowColumnFamily =
@@ -80,7 +96,23 @@ public class WorkflowPersistenceCache {
             ZbColumnFamilies.WORKFLOW_CACHE_LATEST_KEY, workflowId, workflowVersion);
 
     deployments = new LongHashSet();
-    workflowsByKey = new Long2ObjectHashMap<>();
+
+    this.cacheCapacity = cacheCapacity;
+    workflowsByKey =
+        new LinkedHashMap<Long, DeployedWorkflow>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Long, DeployedWorkflow> eldest) {
+            if (size() > WorkflowPersistenceCache.this.cacheCapacity) {
+              removeFromVersionIndex(eldest.getValue());
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  public void setMetrics(final WorkflowCacheMetrics metrics) {
+    this.metrics = metrics;
   }
 
   protected boolean putDeployment(
@@ -116,16 +148,20 @@ public class WorkflowPersistenceCache {
   }
 
   private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
-  // is called on getters, if workflow is not in memory
-  private DeployedWorkflow updateInMemoryState(PersistedWorkflow persistedWorkflow) {
 
+  private PersistedWorkflow copyWorkflow(final PersistedWorkflow persistedWorkflow) {
     // we have to copy to store this in cache
     persistedWorkflow.write(buffer, 0);
     final PersistedWorkflow copiedWorkflow = new PersistedWorkflow();
     copiedWorkflow.wrap(buffer, 0, persistedWorkflow.getLength());
+    return copiedWorkflow;
+  }
+
+  private ExecutableWorkflow transformWorkflow(final PersistedWorkflow persistedWorkflow) {
+    final long startTime = System.nanoTime();
 
     final BpmnModelInstance modelInstance =
-        Bpmn.readModelFromStream(new DirectBufferInputStream(copiedWorkflow.getResource()));
+        Bpmn.readModelFromStream(new DirectBufferInputStream(persistedWorkflow.getResource()));
     final List<ExecutableWorkflow> definitions = transformer.transformDefinitions(modelInstance);
 
     final ExecutableWorkflow executableWorkflow =
@@ -135,8 +171,22 @@ public class WorkflowPersistenceCache {
             .findFirst()
             .get();
 
+    if (metrics != null) {
+      metrics.recordTransformationTime(System.nanoTime() - startTime);
+    }
+
+    return executableWorkflow;
+  }
+
+  // is called on getters, if workflow is not in memory
+  private DeployedWorkflow updateInMemoryState(PersistedWorkflow persistedWorkflow) {
+    if (metrics != null) {
+      metrics.countMiss();
+    }
+
+    final PersistedWorkflow copiedWorkflow = copyWorkflow(persistedWorkflow);
     final DeployedWorkflow deployedWorkflow =
-        new DeployedWorkflow(executableWorkflow, copiedWorkflow);
+        new DeployedWorkflow(transformWorkflow(copiedWorkflow), copiedWorkflow);
 
     addWorkflowToInMemoryState(deployedWorkflow);
 
@@ -145,7 +195,6 @@ public class WorkflowPersistenceCache {
 
   private void addWorkflowToInMemoryState(final DeployedWorkflow deployedWorkflow) {
     final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
-    workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
 
     Long2ObjectHashMap<DeployedWorkflow> versionMap =
         workflowsByProcessIdAndVersion.get(bpmnProcessId);
@@ -157,57 +206,80 @@ public class WorkflowPersistenceCache {
 
     final int version = deployedWorkflow.getVersion();
     versionMap.put(version, deployedWorkflow);
+
+    // may evict the least recently used workflow, so the version index has to be updated before
+    workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
+
+    if (metrics != null) {
+      metrics.recordSize(workflowsByKey.size());
+    }
   }
 
-  public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
+  private void removeFromVersionIndex(final DeployedWorkflow deployedWorkflow) {
+    final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
     final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
+        workflowsByProcessIdAndVersion.get(bpmnProcessId);
 
-    workflowId.wrapBuffer(processId);
-    final DbLong latestVersion = latestWorkflowColumnFamily.get(workflowId);
+    if (versionMap != null) {
+      versionMap.remove(deployedWorkflow.getVersion());
 
-    DeployedWorkflow deployedWorkflow;
-    if (versionMap == null) {
-      deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedWorkflow = versionMap.get(latestVersion.getValue());
-      if (deployedWorkflow == null) {
-        deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
+      if (versionMap.isEmpty()) {
+        workflowsByProcessIdAndVersion.remove(bpmnProcessId);
+      }
+    }
+  }
+
+  private DeployedWorkflow getCachedWorkflow(final DirectBuffer processId, final long version) {
+    final DeployedWorkflow deployedWorkflow = peekCachedWorkflow(processId, version);
+
+    if (deployedWorkflow != null) {
+      // marks the workflow as recently used
+      workflowsByKey.get(deployedWorkflow.getKey());
+
+      if (metrics != null) {
+        metrics.countHit();
       }
     }
     return deployedWorkflow;
   }
 
-  private DeployedWorkflow lookupWorkflowByIdAndPersistedVersion(DbLong version) {
-    final long latestVersion = version != null ? version.getValue() : -1;
-    workflowVersion.wrapLong(latestVersion);
+  private DeployedWorkflow peekCachedWorkflow(final DirectBuffer processId, final long version) {
+    final Long2ObjectHashMap<DeployedWorkflow> versionMap =
+        workflowsByProcessIdAndVersion.get(processId);
 
-    final PersistedWorkflow persistedWorkflow =
-        workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
+    return versionMap != null ? versionMap.get(version) : null;
+  }
 
-    if (persistedWorkflow != null) {
-      final DeployedWorkflow deployedWorkflow = updateInMemoryState(persistedWorkflow);
+  public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
+    workflowId.wrapBuffer(processId);
+    final DbLong latestVersion = latestWorkflowColumnFamily.get(workflowId);
+
+    if (latestVersion == null) {
+      return null;
+    }
+
+    final DeployedWorkflow deployedWorkflow =
+        getCachedWorkflow(processId, latestVersion.getValue());
+
+    if (deployedWorkflow != null) {
       return deployedWorkflow;
+    } else {
+      return lookupPersistenceState(processId, latestVersion.getValue());
     }
-    return null;
   }
 
   public DeployedWorkflow getWorkflowByProcessIdAndVersion(
       final DirectBuffer processId, final int version) {
-    final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
+    final DeployedWorkflow deployedWorkflow = getCachedWorkflow(processId, version);
 
-    if (versionMap != null) {
-      final DeployedWorkflow deployedWorkflow = versionMap.get(version);
-      return deployedWorkflow != null
-          ? deployedWorkflow
-          : lookupPersistenceState(processId, version);
+    if (deployedWorkflow != null) {
+      return deployedWorkflow;
     } else {
       return lookupPersistenceState(processId, version);
     }
   }
 
-  private DeployedWorkflow lookupPersistenceState(DirectBuffer processId, int version) {
+  private DeployedWorkflow lookupPersistenceState(DirectBuffer processId, long version) {
     workflowId.wrapBuffer(processId);
     workflowVersion.wrapLong(version);
 
@@ -215,14 +287,7 @@ public class WorkflowPersistenceCache {
         workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final Long2ObjectHashMap<DeployedWorkflow> newVersionMap =
-          workflowsByProcessIdAndVersion.get(processId);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -232,6 +297,9 @@ public class WorkflowPersistenceCache {
     final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
 
     if (deployedWorkflow != null) {
+      if (metrics != null) {
+        metrics.countHit();
+      }
       return deployedWorkflow;
     } else {
       return lookupPersistenceStateForWorkflowByKey(key);
@@ -243,36 +311,45 @@ public class WorkflowPersistenceCache {
 
     final PersistedWorkflow persistedWorkflow = workflowColumnFamily.get(this.workflowKey);
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
-      if (deployedWorkflow != null) {
-        return deployedWorkflow;
-      }
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
+  /**
+   * Returns all deployed workflows. Workflows which are not cached are not added to the cache and
+   * are only transformed if their executable workflow is requested.
+   */
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowColumnFamily.forEach((workflow) -> workflows.add(getCachedOrLazyWorkflow(workflow)));
+    return workflows;
   }
 
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
 
-    final Long2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
+    workflowId.wrapBuffer(bpmnProcessId);
+    workflowByIdAndVersionColumnFamily.whileEqualPrefix(
+        workflowId,
+        (key, workflow) -> {
+          workflows.add(getCachedOrLazyWorkflow(workflow));
+        });
 
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
-    }
-    return Collections.EMPTY_LIST;
+    return workflows;
   }
 
-  private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach((workflow) -> updateInMemoryState(persistedWorkflow));
+  private DeployedWorkflow getCachedOrLazyWorkflow(final PersistedWorkflow persistedWorkflow) {
+    // don't change the order of the cache when listing the workflows
+    final DeployedWorkflow deployedWorkflow =
+        peekCachedWorkflow(persistedWorkflow.getBpmnProcessId(), persistedWorkflow.getVersion());
+
+    if (deployedWorkflow != null) {
+      return deployedWorkflow;
+    } else {
+      return new DeployedWorkflow(copyWorkflow(persistedWorkflow), this::transformWorkflow);
+    }
   }
 }
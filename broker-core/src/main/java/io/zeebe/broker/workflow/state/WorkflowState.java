@@ -66,6 +66,10 @@ public class WorkflowState {
     return workflowPersistenceCache.getWorkflowsByBpmnProcessId(processId);
   }
 
+  public void setCacheMetrics(WorkflowCacheMetrics metrics) {
+    workflowPersistenceCache.setMetrics(metrics);
+  }
+
   public TimerInstanceState getTimerState() {
     return timerInstanceState;
   }
@@ -46,6 +46,7 @@ import io.zeebe.broker.subscription.message.data.WorkflowInstanceSubscriptionRec
 import io.zeebe.broker.util.StreamProcessorControl;
 import io.zeebe.broker.util.StreamProcessorRule;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.exporter.context.Context.RecordFilter;
 import io.zeebe.exporter.record.Record;
 import io.zeebe.exporter.record.RecordValue;
 import io.zeebe.exporter.record.value.DeploymentRecordValue;
@@ -58,6 +59,7 @@ import io.zeebe.exporter.record.value.WorkflowInstanceRecordValue;
 import io.zeebe.exporter.record.value.WorkflowInstanceSubscriptionRecordValue;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.ResourceType;
@@ -91,6 +93,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -104,6 +107,7 @@ public class ExporterStreamProcessorTest {
   private static final ExporterObjectMapper OBJECT_MAPPER = new ExporterObjectMapper();
   private static final Map<String, Object> PAYLOAD = Collections.singletonMap("foo", "bar");
   private static final String PAYLOAD_JSON = OBJECT_MAPPER.toJson(PAYLOAD);
+  private static final byte[] PAYLOAD_MSGPACK_BYTES = OBJECT_MAPPER.toMsgpack(PAYLOAD);
   private static final DirectBuffer PAYLOAD_MSGPACK =
       new UnsafeBuffer(OBJECT_MAPPER.toMsgpack(PAYLOAD));
   private static final Map<String, Object> CUSTOM_HEADERS =
@@ -243,6 +247,33 @@ public class ExporterStreamProcessorTest {
         .isEqualTo(highestPosition);
   }
 
+  @Test
+  public void shouldNotifyLowestExportedPosition() {
+    // given
+    final List<ExporterDescriptor> descriptors = createMockedExporters(2);
+    final AtomicLong reportedPosition = new AtomicLong();
+
+    rule.runStreamProcessor(
+        (db) -> new ExporterStreamProcessor(db, PARTITION_ID, descriptors, reportedPosition::set));
+
+    final long lowestPosition = writeEvent();
+    final long highestPosition = writeEvent();
+    TestUtil.waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+
+    // when
+    exporters.get(0).getController().updateLastExportedRecordPosition(highestPosition);
+    exporters.get(1).getController().updateLastExportedRecordPosition(lowestPosition);
+
+    // then
+    TestUtil.waitUntil(() -> reportedPosition.get() == lowestPosition);
+
+    // when
+    exporters.get(1).getController().updateLastExportedRecordPosition(highestPosition);
+
+    // then
+    TestUtil.waitUntil(() -> reportedPosition.get() == highestPosition);
+  }
+
   @Test
   public void shouldRecoverPositionsFromLogStream() {
     // given
@@ -346,6 +377,90 @@ public class ExporterStreamProcessorTest {
         .isEqualTo(lowestPosition);
   }
 
+  @Test
+  public void shouldNotExportRecordsRejectedByFilter() {
+    // given
+    final List<ExporterDescriptor> descriptors = createMockedExporters(2);
+    exporters
+        .get(0)
+        .onConfigure(
+            context ->
+                context.setFilter(
+                    new RecordFilter() {
+                      @Override
+                      public boolean acceptValue(final ValueType valueType) {
+                        return valueType == ValueType.JOB;
+                      }
+                    }));
+
+    // when
+    final StreamProcessorControl control =
+        rule.initStreamProcessor(
+            (db) -> new ExporterStreamProcessor(db, PARTITION_ID, descriptors));
+    writeEvent();
+    final long jobPosition = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+
+    control.blockAfterEvent(e -> e.getPosition() == jobPosition);
+    control.start();
+    TestUtil.waitUntil(control::isBlocked);
+
+    // then
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting("position")
+        .containsExactly(jobPosition);
+    assertThat(exporters.get(1).getExportedRecords()).hasSize(2);
+  }
+
+  @Test
+  public void shouldUpdatePositionOfRecordsRejectedByFilter() {
+    // given
+    final List<ExporterDescriptor> descriptors = createMockedExporters(1);
+    final AtomicLong reportedPosition = new AtomicLong();
+    exporters
+        .get(0)
+        .onConfigure(
+            context ->
+                context.setFilter(
+                    new RecordFilter() {
+                      @Override
+                      public boolean acceptValue(final ValueType valueType) {
+                        return valueType == ValueType.JOB;
+                      }
+                    }));
+
+    final StreamProcessorControl control =
+        rule.initStreamProcessor(
+            (db) ->
+                new ExporterStreamProcessor(db, PARTITION_ID, descriptors, reportedPosition::set));
+
+    // when
+    final long rejectedPosition = writeEvent();
+    final long jobPosition = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long firstPosition = writeEvent();
+
+    control.blockAfterEvent(e -> e.getPosition() == firstPosition);
+    control.start();
+    TestUtil.waitUntil(control::isBlocked);
+
+    // then - the record before the job record is passed, since the exporter has nothing to
+    // acknowledge yet, but the records after the job record are not passed before it's acknowledged
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting("position")
+        .containsExactly(jobPosition);
+    assertThat(reportedPosition.get()).isEqualTo(rejectedPosition);
+
+    // when
+    exporters.get(0).getController().updateLastExportedRecordPosition(jobPosition);
+    TestUtil.waitUntil(() -> reportedPosition.get() == jobPosition);
+
+    final long secondPosition = writeEvent();
+    control.unblock();
+
+    // then
+    TestUtil.waitUntil(() -> reportedPosition.get() == secondPosition);
+    assertThat(exporters.get(0).getExportedRecords()).hasSize(1);
+  }
+
   @Test
   public void shouldExportDeploymentEvent() {
     // given
@@ -460,7 +575,7 @@ public class ExporterStreamProcessorTest {
     final JobRecordValue recordValue =
         new io.zeebe.broker.exporter.record.value.JobRecordValueImpl(
             OBJECT_MAPPER,
-            PAYLOAD_JSON,
+            PAYLOAD_MSGPACK_BYTES,
             type,
             worker,
             Instant.ofEpochMilli(deadline),
@@ -479,6 +594,28 @@ public class ExporterStreamProcessorTest {
     assertRecordExported(JobIntent.CREATED, record, recordValue);
   }
 
+  @Test
+  public void shouldProvidePayloadAsJsonAndMsgPack() {
+    // given
+    final StreamProcessorControl control =
+        rule.initStreamProcessor((db) -> createStreamProcessor(db, 1));
+    final JobRecord record =
+        new JobRecord().setType(wrapString("type")).setPayload(PAYLOAD_MSGPACK);
+
+    // when
+    final long position = rule.writeEvent(JobIntent.CREATED, record);
+    control.blockAfterEvent(e -> e.getPosition() == position);
+    control.start();
+    TestUtil.waitUntil(control::isBlocked);
+
+    // then
+    final Record<JobRecordValueImpl> exportedRecord = exporters.get(0).getExportedRecords().get(0);
+    final JobRecordValueImpl value = exportedRecord.getValue();
+    assertThat(value.getPayloadMsgPack()).isEqualTo(PAYLOAD_MSGPACK_BYTES);
+    assertThat(value.getPayload()).isEqualTo(PAYLOAD_JSON);
+    assertThat(value.getPayloadAsMap()).isEqualTo(PAYLOAD);
+  }
+
   @Test
   public void shouldExportMessageRecord() {
     // given
@@ -497,7 +634,12 @@ public class ExporterStreamProcessorTest {
 
     final MessageRecordValue recordValue =
         new io.zeebe.broker.exporter.record.value.MessageRecordValueImpl(
-            OBJECT_MAPPER, PAYLOAD_JSON, messageName, messageId, correlationKey, timeToLive);
+            OBJECT_MAPPER,
+            PAYLOAD_MSGPACK_BYTES,
+            messageName,
+            messageId,
+            correlationKey,
+            timeToLive);
 
     // then
     assertRecordExported(MessageIntent.PUBLISHED, record, recordValue);
@@ -565,7 +707,7 @@ public class ExporterStreamProcessorTest {
     final WorkflowInstanceRecordValue recordValue =
         new io.zeebe.broker.exporter.record.value.WorkflowInstanceRecordValueImpl(
             OBJECT_MAPPER,
-            PAYLOAD_JSON,
+            PAYLOAD_MSGPACK_BYTES,
             bpmnProcessId,
             elementId,
             version,
@@ -595,7 +737,11 @@ public class ExporterStreamProcessorTest {
 
     final WorkflowInstanceSubscriptionRecordValue recordValue =
         new WorkflowInstanceSubscriptionRecordValueImpl(
-            OBJECT_MAPPER, PAYLOAD_JSON, messageName, workflowInstanceKey, activityInstanceKey);
+            OBJECT_MAPPER,
+            PAYLOAD_MSGPACK_BYTES,
+            messageName,
+            workflowInstanceKey,
+            activityInstanceKey);
 
     // then
     assertRecordExported(WorkflowInstanceSubscriptionIntent.OPENED, record, recordValue);
@@ -642,7 +788,7 @@ public class ExporterStreamProcessorTest {
     final JobRecordValueImpl jobRecordValue =
         new JobRecordValueImpl(
             OBJECT_MAPPER,
-            PAYLOAD_JSON,
+            PAYLOAD_MSGPACK_BYTES,
             type,
             worker,
             Instant.ofEpochMilli(1000L),
@@ -704,6 +850,86 @@ public class ExporterStreamProcessorTest {
     assertThat(secondRecords.get(0).getPosition()).isEqualTo(secondPosition);
   }
 
+  @Test
+  public void shouldExportRecordsWithPipelinedExporter() {
+    // given
+    final List<ExporterDescriptor> descriptors = createMockedPipelinedExporters(4);
+    final AtomicLong reportedPosition = new AtomicLong();
+
+    rule.runStreamProcessor(
+        (db) -> new ExporterStreamProcessor(db, PARTITION_ID, descriptors, reportedPosition::set));
+
+    // when
+    final long lowestPosition = writeEvent();
+    final long highestPosition = writeEvent();
+    TestUtil.waitUntil(() -> exporters.get(0).getExportedRecords().size() == 2);
+
+    exporters.get(0).getController().updateLastExportedRecordPosition(highestPosition);
+
+    // then
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting("position")
+        .containsExactly(lowestPosition, highestPosition);
+    TestUtil.waitUntil(() -> reportedPosition.get() == highestPosition);
+  }
+
+  @Test
+  public void shouldNotBlockOtherExportersOnFailingPipelinedExporter() {
+    // given
+    final List<ExporterDescriptor> descriptors = createMockedPipelinedExporters(0, 4);
+    rule.runStreamProcessor((db) -> new ExporterStreamProcessor(db, PARTITION_ID, descriptors));
+
+    final AtomicBoolean shouldFail = new AtomicBoolean(true);
+    exporters
+        .get(1)
+        .onExport(
+            e -> {
+              if (shouldFail.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    // when
+    final long lowestPosition = writeEvent();
+    final long highestPosition = writeEvent();
+
+    // then
+    TestUtil.waitUntil(() -> exporters.get(0).getExportedRecords().size() == 2);
+    assertThat(exporters.get(1).getExportedRecords()).isEmpty();
+
+    // when
+    shouldFail.set(false);
+    rule.getClock().addTime(Duration.ofSeconds(2));
+
+    // then
+    TestUtil.waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting("position")
+        .containsExactly(lowestPosition, highestPosition);
+  }
+
+  @Test
+  public void shouldFailIfPipelinedExporterCanNotBeOpened() {
+    // given
+    final List<ExporterDescriptor> descriptors = createMockedPipelinedExporters(4, 4);
+    final AtomicBoolean isClosed = new AtomicBoolean();
+    exporters.get(0).onClose(() -> isClosed.set(true));
+    exporters
+        .get(1)
+        .onOpen(
+            c -> {
+              throw new RuntimeException("Open failed (expected)");
+            });
+
+    // when
+    final StreamProcessorControl control =
+        rule.runStreamProcessor((db) -> new ExporterStreamProcessor(db, PARTITION_ID, descriptors));
+
+    // then
+    TestUtil.waitUntil(control::isFailed);
+    TestUtil.waitUntil(isClosed::get);
+  }
+
   private ExporterStreamProcessor createStreamProcessor(ZeebeDb db, final int count) {
     return new ExporterStreamProcessor(db, PARTITION_ID, createMockedExporters(count));
   }
@@ -716,16 +942,29 @@ public class ExporterStreamProcessorTest {
     return createMockedExporters(arguments.length, arguments);
   }
 
-  @SuppressWarnings("unchecked")
   private List<ExporterDescriptor> createMockedExporters(final int count, final Map[] arguments) {
+    return createMockedExporters(count, arguments, new int[0]);
+  }
+
+  private List<ExporterDescriptor> createMockedPipelinedExporters(
+      final int... pipelineBufferSizes) {
+    return createMockedExporters(pipelineBufferSizes.length, new Map[0], pipelineBufferSizes);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ExporterDescriptor> createMockedExporters(
+      final int count, final Map[] arguments, final int[] pipelineBufferSizes) {
     final List<ExporterDescriptor> descriptors = new ArrayList<>(count);
     exporters = new ArrayList<>(count);
 
     for (int i = 0; i < count; i++) {
       final Map args = arguments.length > 0 ? arguments[i] : null;
+      final int pipelineBufferSize = pipelineBufferSizes.length > 0 ? pipelineBufferSizes[i] : 0;
       final ControlledTestExporter exporter = spy(new ControlledTestExporter());
       final ExporterDescriptor descriptor =
-          spy(new ExporterDescriptor(String.valueOf(i), exporter.getClass(), args));
+          spy(
+              new ExporterDescriptor(
+                  String.valueOf(i), exporter.getClass(), args, pipelineBufferSize));
       doAnswer(c -> exporter).when(descriptor).newInstance();
 
       exporters.add(exporter);
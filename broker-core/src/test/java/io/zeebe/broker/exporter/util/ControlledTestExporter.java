@@ -21,12 +21,13 @@ import io.zeebe.exporter.context.Context;
 import io.zeebe.exporter.context.Controller;
 import io.zeebe.exporter.record.Record;
 import io.zeebe.exporter.spi.Exporter;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 public class ControlledTestExporter implements Exporter {
-  private final List<Record> exportedRecords = new ArrayList<>();
+  // pipelined exporters export on their own actor
+  private final List<Record> exportedRecords = new CopyOnWriteArrayList<>();
 
   private boolean shouldAutoUpdatePosition;
   private Consumer<Context> onConfigure;
@@ -29,6 +29,7 @@ import static org.mockito.Mockito.when;
 import io.zeebe.broker.clustering.base.topology.TopologyManager;
 import io.zeebe.broker.incident.processor.IncidentEventProcessors;
 import io.zeebe.broker.job.JobEventProcessors;
+import io.zeebe.broker.job.JobsAvailableNotifier;
 import io.zeebe.broker.logstreams.processor.TypedRecord;
 import io.zeebe.broker.logstreams.state.ZeebeState;
 import io.zeebe.broker.subscription.command.SubscriptionCommandSender;
@@ -98,9 +99,12 @@ public class IncidentStreamProcessorRule extends ExternalResource {
                   mockTopologyManager,
                   mockTimerEventScheduler);
 
+          final JobsAvailableNotifier jobsAvailableNotifier =
+              new JobsAvailableNotifier(zeebeState.getJobState());
           IncidentEventProcessors.addProcessors(
-              typedEventStreamProcessorBuilder, zeebeState, stepProcessor);
-          JobEventProcessors.addJobProcessors(typedEventStreamProcessorBuilder, zeebeState);
+              typedEventStreamProcessorBuilder, zeebeState, stepProcessor, jobsAvailableNotifier);
+          JobEventProcessors.addJobProcessors(
+              typedEventStreamProcessorBuilder, zeebeState, jobsAvailableNotifier);
 
           return typedEventStreamProcessorBuilder.build();
         });
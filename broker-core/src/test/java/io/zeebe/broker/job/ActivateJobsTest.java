@@ -35,6 +35,8 @@ import io.zeebe.exporter.record.value.job.Headers;
 import io.zeebe.model.bpmn.Bpmn;
 import io.zeebe.model.bpmn.BpmnModelInstance;
 import io.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.zeebe.protocol.clientapi.JobsAvailableNotificationDecoder;
+import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
 import io.zeebe.protocol.clientapi.RejectionType;
 import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.impl.record.value.deployment.ResourceType;
@@ -58,6 +60,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import one.util.streamex.StreamEx;
+import org.agrona.DirectBuffer;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
 import org.junit.Rule;
 import org.junit.Test;
@@ -269,6 +272,40 @@ public class ActivateJobsTest {
     assertThat(jobEvents).isEmpty();
   }
 
+  @Test
+  public void shouldNotifyClientAboutAvailableJobs() {
+    // given
+    activateJobs(3);
+
+    // when
+    createJob(JOB_TYPE);
+
+    // then
+    waitUntil(() -> !apiRule.getReceivedMessages().isEmpty());
+
+    final JobsAvailableNotificationDecoder notification =
+        decodeNotification(apiRule.getReceivedMessages().get(0));
+    assertThat(notification.partitionId()).isEqualTo(apiRule.getDefaultPartitionId());
+    assertThat(notification.jobsCount()).isEqualTo(1);
+    assertThat(notification.jobType()).isEqualTo(JOB_TYPE);
+  }
+
+  @Test
+  public void shouldNotifyClientOnlyOnceAboutAvailableJobs() {
+    // given
+    activateJobs(3);
+    createJob(JOB_TYPE);
+    waitUntil(() -> !apiRule.getReceivedMessages().isEmpty());
+
+    // when
+    createJob(JOB_TYPE);
+    final List<Job> jobs = activateJobs(3);
+
+    // then
+    assertThat(jobs).hasSize(2);
+    assertThat(apiRule.getReceivedMessages()).hasSize(1);
+  }
+
   @Test
   public void shouldCompleteActivatedJobs() {
     // given
@@ -413,6 +450,18 @@ public class ActivateJobsTest {
     assertThat(customHeaders).isEqualTo(jobRecord.getValue().getCustomHeaders());
   }
 
+  private JobsAvailableNotificationDecoder decodeNotification(DirectBuffer message) {
+    final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder().wrap(message, 0);
+    assertThat(headerDecoder.templateId()).isEqualTo(JobsAvailableNotificationDecoder.TEMPLATE_ID);
+
+    return new JobsAvailableNotificationDecoder()
+        .wrap(
+            message,
+            headerDecoder.encodedLength(),
+            headerDecoder.blockLength(),
+            headerDecoder.version());
+  }
+
   private List<Long> createJobs(int amount) {
     return createJobs(JOB_TYPE, amount);
   }
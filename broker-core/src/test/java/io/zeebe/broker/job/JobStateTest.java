@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.zeebe.broker.job.JobState.State;
 import io.zeebe.broker.logstreams.state.ZeebeState;
 import io.zeebe.broker.util.ZeebeStateRule;
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
@@ -234,6 +235,40 @@ public class JobStateTest {
     assertThat(jobKeys).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldSkipTimedOutEntriesUntilDeadlineAndKey() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(1L));
+    createAndActivateJobRecord(2, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(3, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(4, newJobRecord().setDeadline(512L));
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachTimedOutEntry(32768L, 256L, 2L, (k, e) -> jobKeys.add(k));
+
+    // then
+    assertThat(jobKeys).containsExactly(3L, 4L);
+  }
+
+  @Test
+  public void shouldNotListJobsAsActivatableAfterRollback() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1, jobRecord);
+    assertListedAsActivatable(1, jobRecord.getType());
+
+    final ZeebeDbTransaction transaction = stateRule.getDb().beginTransaction();
+    jobState.create(2, jobRecord);
+    jobState.activate(1, jobRecord);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(getActivatableKeys(jobRecord.getType())).containsExactly(1L);
+  }
+
   @Test
   public void shouldDoNothingIfNotTimedOutJobs() {
     // given
@@ -279,6 +314,66 @@ public class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListActivatableJobsInOrderTheyBecameActivatable() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    jobState.create(1, jobRecord);
+    jobState.create(2, jobRecord);
+    jobState.create(3, jobRecord);
+    assertThat(getActivatableKeys(type)).containsExactly(1L, 2L, 3L);
+
+    // when
+    jobState.activate(1, jobRecord);
+    jobState.activate(2, jobRecord);
+    jobState.timeout(1, jobRecord);
+    jobState.create(4, jobRecord);
+
+    // then
+    assertThat(getActivatableKeys(type)).containsExactly(3L, 1L, 4L);
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsIfVisitorReturnsFalse() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1, newJobRecord().setType(type));
+    jobState.create(2, newJobRecord().setType(type));
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        (key, job) -> {
+          jobKeys.add(key);
+          return false;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldProvideSerializedActivatableJob() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    jobState.create(1, jobRecord);
+
+    // when
+    final JobRecord visitedJob = new JobRecord();
+    jobState.forEachActivatableJobs(
+        type,
+        (key, job) -> {
+          visitedJob.wrap(BufferUtil.cloneBuffer(job));
+          return true;
+        });
+
+    // then
+    assertJobRecordIsEqualTo(visitedJob, jobRecord);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
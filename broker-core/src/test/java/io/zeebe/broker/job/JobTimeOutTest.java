@@ -111,6 +111,24 @@ public class JobTimeOutTest {
     assertNoMoreJobsReceived(FAILED);
   }
 
+  @Test
+  public void shouldTimeOutJobCloseToDeadline() {
+    // given
+    final String jobType = "foo";
+    final long jobKey = createJob(jobType);
+    final Duration timeout = Duration.ofSeconds(5);
+
+    apiRule.activateJobs(apiRule.getDefaultPartitionId(), jobType, timeout.toMillis());
+    client.receiveFirstJobEvent(ACTIVATED);
+
+    // when
+    brokerRule.getClock().addTime(timeout.plusMillis(1));
+
+    // then
+    final Record<JobRecordValue> timedOut = client.receiveFirstJobEvent(TIME_OUT);
+    assertThat(timedOut.getKey()).isEqualTo(jobKey);
+  }
+
   @Test
   public void shouldTimeOutJob() {
     // given
@@ -0,0 +1,164 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.subscription.command;
+
+import static io.zeebe.test.util.TestUtil.doRepeatedly;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.broker.clustering.base.partitions.Partition;
+import io.zeebe.broker.subscription.message.data.MessageSubscriptionRecord;
+import io.zeebe.broker.util.Records;
+import io.zeebe.broker.util.TestStreams;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.intent.MessageSubscriptionIntent;
+import io.zeebe.servicecontainer.testing.ServiceContainerRule;
+import io.zeebe.test.util.AutoCloseableRule;
+import io.zeebe.transport.RemoteAddress;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.rules.TemporaryFolder;
+
+public class SubscriptionApiCommandMessageHandlerTest {
+  private static final String STREAM_NAME = "stream";
+  private static final int PARTITION_ID = 1;
+  private static final int OTHER_PARTITION_ID = 2;
+
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+  public AutoCloseableRule closeables = new AutoCloseableRule();
+
+  public ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule();
+  public ServiceContainerRule serviceContainerRule = new ServiceContainerRule(actorSchedulerRule);
+
+  @Rule
+  public RuleChain ruleChain =
+      RuleChain.outerRule(tempFolder)
+          .around(actorSchedulerRule)
+          .around(serviceContainerRule)
+          .around(closeables);
+
+  private final ServerOutput output = mock(ServerOutput.class);
+  private final RemoteAddress remoteAddress = mock(RemoteAddress.class);
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+
+  private TestStreams streams;
+  private SubscriptionApiCommandMessageHandler handler;
+
+  @Before
+  public void setUp() {
+    streams =
+        new TestStreams(
+            tempFolder.getRoot(), closeables, serviceContainerRule.get(), actorSchedulerRule.get());
+    final LogStream logStream = streams.createLogStream(STREAM_NAME, PARTITION_ID);
+
+    final Partition partition = mock(Partition.class);
+    when(partition.getLogStream()).thenReturn(logStream);
+
+    final Int2ObjectHashMap<Partition> leaderPartitions = new Int2ObjectHashMap<>();
+    leaderPartitions.put(PARTITION_ID, partition);
+
+    handler = new SubscriptionApiCommandMessageHandler(leaderPartitions);
+  }
+
+  @Test
+  public void shouldWriteCommandsOfBatch() {
+    // given
+    final int length = writeBatch(PARTITION_ID, 1L, 2L, 3L);
+
+    // when
+    final boolean isHandled = handler.onMessage(output, remoteAddress, buffer, 0, length);
+
+    // then
+    assertThat(isHandled).isTrue();
+
+    final List<MessageSubscriptionRecord> commands = waitForCloseCommands(3);
+    assertThat(commands)
+        .extracting(MessageSubscriptionRecord::getWorkflowInstanceKey)
+        .containsExactly(1L, 2L, 3L);
+    assertThat(streams.events(STREAM_NAME).allMatch(e -> e.getKey() == e.getPosition())).isTrue();
+  }
+
+  @Test
+  public void shouldIgnoreBatchOfOtherPartition() {
+    // given
+    final int otherLength = writeBatch(OTHER_PARTITION_ID, 1L, 2L);
+
+    // when
+    final boolean isHandled = handler.onMessage(output, remoteAddress, buffer, 0, otherLength);
+
+    final int length = writeBatch(PARTITION_ID, 3L);
+    handler.onMessage(output, remoteAddress, buffer, 0, length);
+
+    // then
+    assertThat(isHandled).isTrue();
+
+    final List<MessageSubscriptionRecord> commands = waitForCloseCommands(1);
+    assertThat(commands)
+        .extracting(MessageSubscriptionRecord::getWorkflowInstanceKey)
+        .containsExactly(3L);
+  }
+
+  private int writeBatch(final int receiverPartitionId, final long... workflowInstanceKeys) {
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(receiverPartitionId);
+    command.setElementInstanceKey(4L);
+    command.setMessageName(wrapString("msg"));
+
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.setReceiverPartitionId(receiverPartitionId);
+    for (final long workflowInstanceKey : workflowInstanceKeys) {
+      command.setWorkflowInstanceKey(workflowInstanceKey);
+      batch.addCommand(command);
+    }
+
+    batch.write(buffer, 0);
+    return batch.getLength();
+  }
+
+  private List<MessageSubscriptionRecord> waitForCloseCommands(final int count) {
+    return doRepeatedly(
+            () ->
+                streams
+                    .events(STREAM_NAME)
+                    .filter(
+                        e ->
+                            Records.isCommand(
+                                e, ValueType.MESSAGE_SUBSCRIPTION, MessageSubscriptionIntent.CLOSE))
+                    .map(this::readRecord)
+                    .collect(Collectors.toList()))
+        .until(events -> events.size() >= count);
+  }
+
+  private MessageSubscriptionRecord readRecord(final LoggedEvent event) {
+    final MessageSubscriptionRecord record = new MessageSubscriptionRecord();
+    event.readValue(record);
+    return record;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.subscription.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.protocol.Protocol;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.junit.Test;
+
+public class SubscriptionCommandBatchTest {
+
+  private final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+
+  @Test
+  public void shouldWriteAndReadCommands() {
+    // given
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(2);
+    command.setElementInstanceKey(3L);
+    command.setMessageName(wrapString("msg"));
+
+    batch.setReceiverPartitionId(2);
+    for (int i = 0; i < 3; i++) {
+      command.setWorkflowInstanceKey(i);
+      batch.addCommand(command);
+    }
+
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    batch.write(buffer, 0);
+
+    // when
+    final SubscriptionCommandBatch readBatch = new SubscriptionCommandBatch();
+    readBatch.wrap(buffer, 0, batch.getLength());
+
+    // then
+    assertThat(readBatch.getReceiverPartitionId()).isEqualTo(2);
+    assertThat(readBatch.getCommandCount()).isEqualTo(3);
+
+    final DirectBuffer commands = readBatch.getCommands();
+    final CloseMessageSubscriptionCommand readCommand = new CloseMessageSubscriptionCommand();
+    int offset = 0;
+
+    for (int i = 0; i < 3; i++) {
+      final int length = commands.getInt(offset, Protocol.ENDIANNESS);
+      offset += SubscriptionCommandBatch.COMMAND_HEADER_LENGTH;
+
+      assertThat(readCommand.tryWrap(commands, offset, length)).isTrue();
+      readCommand.wrap(commands, offset, length);
+
+      assertThat(readCommand.getSubscriptionPartitionId()).isEqualTo(2);
+      assertThat(readCommand.getWorkflowInstanceKey()).isEqualTo(i);
+      assertThat(readCommand.getElementInstanceKey()).isEqualTo(3L);
+      assertThat(readCommand.getMessageName()).isEqualTo(wrapString("msg"));
+
+      offset += length;
+    }
+
+    assertThat(offset).isEqualTo(commands.capacity());
+  }
+
+  @Test
+  public void shouldBeEmptyAfterReset() {
+    // given
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setMessageName(wrapString("msg"));
+    batch.addCommand(command);
+
+    // when
+    batch.reset();
+
+    // then
+    assertThat(batch.isEmpty()).isTrue();
+    assertThat(batch.getCommands().capacity()).isEqualTo(0);
+    final int expectedLength =
+        batch.getLength() + SubscriptionCommandBatch.COMMAND_HEADER_LENGTH + command.getLength();
+    assertThat(batch.getLengthWith(command)).isEqualTo(expectedLength);
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.subscription.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.broker.clustering.base.topology.NodeInfo;
+import io.zeebe.broker.clustering.base.topology.PartitionInfo;
+import io.zeebe.broker.clustering.base.topology.TopologyManager;
+import io.zeebe.broker.clustering.base.topology.TopologyPartitionListener;
+import io.zeebe.broker.system.configuration.ClusterCfg;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.transport.ClientOutput;
+import io.zeebe.transport.ClientTransport;
+import io.zeebe.transport.SocketAddress;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.ExpandableArrayBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SubscriptionCommandSenderTest {
+  private static final int PARTITION_ID = 1;
+  private static final int RECEIVER_PARTITION_ID = 2;
+  private static final int OTHER_RECEIVER_PARTITION_ID = 3;
+
+  @Rule public ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  private final List<Integer> receiverNodeIds = new ArrayList<>();
+  private final List<SubscriptionCommandBatch> sentBatches = new ArrayList<>();
+  private final AtomicBoolean canSend = new AtomicBoolean(true);
+  private final SenderActor actor = new SenderActor();
+
+  private SubscriptionCommandSender sender;
+  private TopologyPartitionListener partitionListener;
+
+  @Before
+  public void setUp() {
+    final ClusterCfg clusterCfg = mock(ClusterCfg.class);
+    when(clusterCfg.getPartitionIds()).thenReturn(Arrays.asList(1, 2, 3));
+
+    final ClientOutput output = mock(ClientOutput.class);
+    when(output.sendMessage(anyInt(), any()))
+        .thenAnswer(i -> onSendMessage(i.getArgument(0), i.getArgument(1)));
+    final ClientTransport subscriptionClient = mock(ClientTransport.class);
+    when(subscriptionClient.getOutput()).thenReturn(output);
+
+    final TopologyManager topologyManager = mock(TopologyManager.class);
+    doAnswer(i -> partitionListener = i.getArgument(0))
+        .when(topologyManager)
+        .addTopologyPartitionListener(any());
+
+    final LogStream logStream = mock(LogStream.class);
+    when(logStream.getPartitionId()).thenReturn(PARTITION_ID);
+
+    schedulerRule.submitActor(actor);
+    schedulerRule.workUntilDone();
+
+    sender = new SubscriptionCommandSender(clusterCfg, subscriptionClient);
+    actor.run(
+        () -> {
+          sender.init(topologyManager, actor.getControl(), logStream);
+          partitionListener.onPartitionUpdated(
+              new PartitionInfo(RECEIVER_PARTITION_ID, 1), newLeader(10, RECEIVER_PARTITION_ID));
+          partitionListener.onPartitionUpdated(
+              new PartitionInfo(OTHER_RECEIVER_PARTITION_ID, 1),
+              newLeader(11, OTHER_RECEIVER_PARTITION_ID));
+        });
+  }
+
+  @Test
+  public void shouldSendCommandsOfSamePartitionAsOneBatch() {
+    // when
+    actor.run(
+        () -> {
+          closeMessageSubscription(RECEIVER_PARTITION_ID, 1L);
+          closeMessageSubscription(OTHER_RECEIVER_PARTITION_ID, 2L);
+          closeMessageSubscription(RECEIVER_PARTITION_ID, 3L);
+        });
+
+    // then
+    assertThat(sentBatches).hasSize(2);
+    assertThat(receiverNodeIds).containsExactlyInAnyOrder(10, 11);
+
+    final SubscriptionCommandBatch batch = getSentBatch(RECEIVER_PARTITION_ID);
+    assertThat(batch.getCommandCount()).isEqualTo(2);
+    assertThat(getSentBatch(OTHER_RECEIVER_PARTITION_ID).getCommandCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldSendBatchAfterActorJob() {
+    // given
+    final AtomicInteger sentBatchesWithinJob = new AtomicInteger(-1);
+
+    // when
+    actor.run(
+        () -> {
+          closeMessageSubscription(RECEIVER_PARTITION_ID, 1L);
+          closeMessageSubscription(RECEIVER_PARTITION_ID, 2L);
+
+          sentBatchesWithinJob.set(sentBatches.size());
+        });
+
+    // then
+    assertThat(sentBatchesWithinJob.get()).isEqualTo(0);
+    assertThat(sentBatches).hasSize(1);
+    assertThat(sentBatches.get(0).getCommandCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRetrySendingBatch() {
+    // given
+    canSend.set(false);
+
+    actor.run(() -> closeMessageSubscription(RECEIVER_PARTITION_ID, 1L));
+    assertThat(sentBatches).isEmpty();
+
+    // when
+    canSend.set(true);
+    schedulerRule.waitForTimer(Duration.ofMillis(10));
+
+    // then
+    assertThat(sentBatches).hasSize(1);
+    assertThat(sentBatches.get(0).getCommandCount()).isEqualTo(1);
+  }
+
+  private void closeMessageSubscription(
+      final int subscriptionPartitionId, final long workflowInstanceKey) {
+    final boolean isAdded =
+        sender.closeMessageSubscription(
+            subscriptionPartitionId, workflowInstanceKey, 4L, wrapString("msg"));
+    assertThat(isAdded).isTrue();
+  }
+
+  private boolean onSendMessage(final Integer nodeId, final BufferWriter writer) {
+    if (!canSend.get()) {
+      return false;
+    }
+
+    // copy the batch because it is reset after sending
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    writer.write(buffer, 0);
+
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.wrap(buffer, 0, writer.getLength());
+
+    receiverNodeIds.add(nodeId);
+    sentBatches.add(batch);
+    return true;
+  }
+
+  private SubscriptionCommandBatch getSentBatch(final int receiverPartitionId) {
+    return sentBatches
+        .stream()
+        .filter(b -> b.getReceiverPartitionId() == receiverPartitionId)
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("no batch sent to " + receiverPartitionId));
+  }
+
+  private NodeInfo newLeader(final int nodeId, final int partitionId) {
+    final SocketAddress address = new SocketAddress("localhost", 0);
+    final NodeInfo nodeInfo = new NodeInfo(nodeId, address, address, address, address);
+    nodeInfo.addLeader(new PartitionInfo(partitionId, 1));
+    return nodeInfo;
+  }
+
+  private class SenderActor extends Actor {
+    ActorControl getControl() {
+      return actor;
+    }
+
+    void run(final Runnable runnable) {
+      actor.run(runnable);
+      schedulerRule.workUntilDone();
+    }
+  }
+}
@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.broker.logstreams.state.ZeebeState;
 import io.zeebe.broker.util.ZeebeStateRule;
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.util.ArrayList;
 import java.util.List;
@@ -100,6 +101,54 @@ public class MessageStateTest {
     assertThat(exist).isTrue();
   }
 
+  @Test
+  public void shouldNotExistAfterRemove() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "id");
+    messageState.put(message);
+
+    // when
+    messageState.remove(message.getKey());
+
+    // then
+    final boolean exist =
+        messageState.exist(wrapString("name"), wrapString("correlationKey"), wrapString("id"));
+    assertThat(exist).isFalse();
+  }
+
+  @Test
+  public void shouldExistIfRemoveIsRolledBack() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "id");
+    messageState.put(message);
+
+    final ZeebeDbTransaction transaction = stateRule.getDb().beginTransaction();
+    messageState.remove(message.getKey());
+
+    // when
+    transaction.rollback();
+
+    // then
+    final boolean exist =
+        messageState.exist(wrapString("name"), wrapString("correlationKey"), wrapString("id"));
+    assertThat(exist).isTrue();
+  }
+
+  @Test
+  public void shouldExistAfterRecovery() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "id");
+    messageState.put(message);
+
+    // when
+    final MessageState recoveredState = new MessageState(stateRule.getDb());
+
+    // then
+    final boolean exist =
+        recoveredState.exist(wrapString("name"), wrapString("correlationKey"), wrapString("id"));
+    assertThat(exist).isTrue();
+  }
+
   @Test
   public void shouldVisitMessages() {
     // given
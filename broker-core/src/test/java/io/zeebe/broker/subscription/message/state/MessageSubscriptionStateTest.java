@@ -111,6 +111,24 @@ public class MessageSubscriptionStateTest {
         .isEqualTo(subscription.getCommandSentTime());
   }
 
+  @Test
+  public void shouldVisitSubscriptionAfterRecovery() {
+    // given
+    state.put(subscription("messageName", "correlationKey", 1));
+
+    // when
+    final MessageSubscriptionState recoveredState = new MessageSubscriptionState(stateRule.getDb());
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    recoveredState.visitSubscriptions(
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getElementInstanceKey()));
+
+    assertThat(keys).hasSize(1).contains(1L);
+  }
+
   @Test
   public void shouldVisitSubscriptionsInOrder() {
     // given
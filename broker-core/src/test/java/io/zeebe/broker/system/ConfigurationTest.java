@@ -41,6 +41,7 @@ import io.zeebe.broker.system.configuration.DataCfg;
 import io.zeebe.broker.system.configuration.EmbeddedGatewayCfg;
 import io.zeebe.broker.system.configuration.ExporterCfg;
 import io.zeebe.broker.system.configuration.NetworkCfg;
+import io.zeebe.broker.system.configuration.RocksDbCfg;
 import io.zeebe.broker.system.configuration.SocketBindingClientApiCfg;
 import io.zeebe.broker.system.configuration.SocketBindingManagementCfg;
 import io.zeebe.broker.system.configuration.SocketBindingReplicationCfg;
@@ -338,6 +339,38 @@ public class ConfigurationTest {
     assertThat(cfgCluster.getClusterSize()).isEqualTo(5);
   }
 
+  @Test
+  public void shouldReadDefaultRocksDbConfiguration() {
+    // given
+    final BrokerCfg cfg = readConfig("default");
+    final RocksDbCfg rocksDbCfg = cfg.getData().getRocksdb();
+
+    // when - then
+    assertThat(rocksDbCfg.getBlockCacheSize()).isEqualTo("32M");
+    assertThat(rocksDbCfg.getMemtableBudget()).isEqualTo("64M");
+    assertThat(rocksDbCfg.getMaxTotalWalSize()).isEqualTo("128M");
+    assertThat(rocksDbCfg.getMaxBackgroundJobs()).isEqualTo(2);
+    assertThat(rocksDbCfg.getMaxOpenFiles()).isEqualTo(-1);
+    assertThat(rocksDbCfg.getColumnFamilyProfiles()).isEmpty();
+  }
+
+  @Test
+  public void shouldReadSpecificRocksDbConfiguration() {
+    // given
+    final BrokerCfg cfg = readConfig("rocksdb-cfg");
+    final RocksDbCfg rocksDbCfg = cfg.getData().getRocksdb();
+
+    // when - then
+    assertThat(rocksDbCfg.getBlockCacheSize()).isEqualTo("16M");
+    assertThat(rocksDbCfg.getMemtableBudget()).isEqualTo("32M");
+    assertThat(rocksDbCfg.getMaxTotalWalSize()).isEqualTo("48M");
+    assertThat(rocksDbCfg.getMaxBackgroundJobs()).isEqualTo(4);
+    assertThat(rocksDbCfg.getMaxOpenFiles()).isEqualTo(512);
+    assertThat(rocksDbCfg.getColumnFamilyProfiles())
+        .containsEntry("jobs", "read_mostly")
+        .containsEntry("variables", "point_lookup");
+  }
+
   @Test
   public void shouldCreatePartitionIds() {
     // given
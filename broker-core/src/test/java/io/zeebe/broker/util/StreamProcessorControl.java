@@ -60,6 +60,9 @@ public interface StreamProcessorControl {
    */
   boolean isBlocked();
 
+  /** @return true if the stream processor failed and was closed */
+  boolean isFailed();
+
   void close();
 
   void start();
@@ -268,6 +268,11 @@ public class TestStreams {
       return currentController.isSuspended();
     }
 
+    @Override
+    public boolean isFailed() {
+      return currentController.isFailed();
+    }
+
     @Override
     public void blockAfterEvent(final Predicate<LoggedEvent> test) {
       currentStreamProcessor.blockAfterEvent(test);
@@ -437,6 +442,16 @@ public class TestStreams {
           return actualProcessor != null ? actualProcessor.writeEvent(writer) : 0;
         }
 
+        @Override
+        public boolean addsEventsToBatch() {
+          return actualProcessor != null && actualProcessor.addsEventsToBatch();
+        }
+
+        @Override
+        public boolean hasSideEffects() {
+          return actualProcessor == null || actualProcessor.hasSideEffects();
+        }
+
         @Override
         public void updateState() {
           if (actualProcessor != null) {
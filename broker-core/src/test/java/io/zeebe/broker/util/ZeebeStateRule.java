@@ -61,6 +61,10 @@ public class ZeebeStateRule extends ExternalResource {
     return zeebeState;
   }
 
+  public ZeebeDb<ZbColumnFamilies> getDb() {
+    return db;
+  }
+
   public ZeebeDb<ZbColumnFamilies> createNewDb() {
     try {
       final ZeebeDb<ZbColumnFamilies> db =
@@ -378,6 +378,43 @@ public class WorkflowStateTest {
     assertThat(workflows).extracting(DeployedWorkflow::getKey).containsOnly(2L);
   }
 
+  @Test
+  public void shouldTransformListedWorkflowOnAccess() {
+    // given
+    workflowState.putDeployment(1, creatingDeploymentRecord(zeebeState));
+
+    // when
+    final Collection<DeployedWorkflow> workflows = workflowState.getWorkflows();
+
+    // then
+    final ExecutableWorkflow workflow = workflows.iterator().next().getWorkflow();
+    assertThat(workflow).isNotNull();
+    assertThat(workflow.getElementById(wrapString("test"))).isNotNull();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflow() {
+    // given
+    final WorkflowPersistenceCache cache = new WorkflowPersistenceCache(stateRule.getDb(), 1);
+    cache.putDeployment(1, creatingDeploymentRecord(zeebeState));
+    cache.putDeployment(2, creatingDeploymentRecord(zeebeState, "otherId"));
+
+    final DeployedWorkflow firstWorkflow = cache.getWorkflowByKey(1);
+    assertThat(cache.getWorkflowByKey(1)).isSameAs(firstWorkflow);
+
+    // when
+    final DeployedWorkflow secondWorkflow = cache.getWorkflowByKey(2);
+
+    // then
+    final DeployedWorkflow reloadedWorkflow =
+        cache.getWorkflowByProcessIdAndVersion(wrapString("processId"), 1);
+    assertThat(reloadedWorkflow).isNotSameAs(firstWorkflow);
+    assertThat(reloadedWorkflow.getKey()).isEqualTo(1L);
+    assertThat(reloadedWorkflow.getWorkflow().getElementById(wrapString("test"))).isNotNull();
+
+    assertThat(cache.getWorkflowByKey(2)).isNotSameAs(secondWorkflow);
+  }
+
   public static DeploymentRecord creatingDeploymentRecord(ZeebeState zeebeState) {
     return creatingDeploymentRecord(zeebeState, "processId");
   }
@@ -0,0 +1,49 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.benchmarks.exporter;
+
+import io.zeebe.exporter.record.Record;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ExporterRecordMappingBenchmark {
+
+  /** An exporter which filters on the record metadata and never accesses the value. */
+  @Benchmark
+  @Threads(1)
+  public Record performMappingWithoutValueAccess(final ExporterRecordMappingContext ctx) {
+    return ctx.getRecordMapper().map(ctx.getEvent(), ctx.getMetadata());
+  }
+
+  /** An exporter which decodes the value and its payload, e.g. to index it as JSON. */
+  @Benchmark
+  @Threads(1)
+  public String performMappingWithJsonSerialization(final ExporterRecordMappingContext ctx) {
+    return ctx.getRecordMapper().map(ctx.getEvent(), ctx.getMetadata()).toJson();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.benchmarks.exporter;
+
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.alignedFramedLength;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.framedLength;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
+
+import io.zeebe.broker.exporter.ExporterObjectMapper;
+import io.zeebe.broker.exporter.record.RecordMetadataImpl;
+import io.zeebe.broker.exporter.stream.ExporterRecordMapper;
+import io.zeebe.logstreams.impl.LogEntryDescriptor;
+import io.zeebe.logstreams.impl.LoggedEventImpl;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.clientapi.RecordType;
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.intent.JobIntent;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class ExporterRecordMappingContext {
+
+  private final ExporterObjectMapper objectMapper = new ExporterObjectMapper();
+  private final ExporterRecordMapper recordMapper = new ExporterRecordMapper(objectMapper);
+
+  private final LoggedEventImpl event = new LoggedEventImpl();
+  private final RecordMetadata metadata = new RecordMetadata();
+  private RecordMetadataImpl recordMetadata;
+
+  @Setup
+  public void setUp() {
+    final Map<String, Object> payload = new HashMap<>();
+    payload.put("key1", "aValue");
+    payload.put("key2", "alsoaValue");
+    payload.put("key3", 123);
+    payload.put("key4", true);
+
+    final JobRecord jobRecord =
+        new JobRecord()
+            .setType(BufferUtil.wrapString("someTaskType"))
+            .setWorker(BufferUtil.wrapString("someWorker"))
+            .setDeadline(System.currentTimeMillis())
+            .setRetries(3)
+            .setPayload(new UnsafeBuffer(objectMapper.toMsgpack(payload)));
+    jobRecord.getHeaders().setBpmnProcessId(BufferUtil.wrapString("process"));
+
+    metadata.recordType(RecordType.EVENT).valueType(ValueType.JOB).intent(JobIntent.CREATED);
+
+    final int metadataLength = metadata.getLength();
+    final int messageLength =
+        LogEntryDescriptor.headerLength(metadataLength) + jobRecord.getLength();
+
+    final MutableDirectBuffer buffer =
+        new UnsafeBuffer(new byte[alignedFramedLength(messageLength)]);
+    buffer.putInt(lengthOffset(0), framedLength(messageLength), Protocol.ENDIANNESS);
+
+    final int offset = messageOffset(0);
+    LogEntryDescriptor.setPosition(buffer, offset, 1L);
+    LogEntryDescriptor.setKey(buffer, offset, 2L);
+    LogEntryDescriptor.setTimestamp(buffer, offset, System.currentTimeMillis());
+    LogEntryDescriptor.setMetadataLength(buffer, offset, (short) metadataLength);
+    metadata.write(buffer, LogEntryDescriptor.metadataOffset(offset));
+    jobRecord.write(buffer, LogEntryDescriptor.valueOffset(offset, metadataLength));
+
+    event.wrap(buffer, 0);
+
+    recordMetadata =
+        new RecordMetadataImpl(
+            objectMapper,
+            0,
+            metadata.getIntent(),
+            metadata.getRecordType(),
+            metadata.getRejectionType(),
+            BufferUtil.bufferAsString(metadata.getRejectionReason()),
+            metadata.getValueType());
+  }
+
+  public ExporterRecordMapper getRecordMapper() {
+    return recordMapper;
+  }
+
+  public LoggedEventImpl getEvent() {
+    return event;
+  }
+
+  public RecordMetadataImpl getMetadata() {
+    return recordMetadata;
+  }
+}
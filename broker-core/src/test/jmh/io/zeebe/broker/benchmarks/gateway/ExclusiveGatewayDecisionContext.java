@@ -0,0 +1,111 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.benchmarks.gateway;
+
+import io.zeebe.msgpack.el.CompiledJsonCondition;
+import io.zeebe.msgpack.el.JsonConditionFactory;
+import io.zeebe.msgpack.el.JsonConditionInterpreter;
+import io.zeebe.test.util.MsgPackUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class ExclusiveGatewayDecisionContext {
+
+  private static final int SEQUENCE_FLOWS = 15;
+
+  private final JsonConditionInterpreter interpreter = new JsonConditionInterpreter();
+
+  /*
+   * the conditions of the outgoing sequence flows of a gateway, only the last one is fulfilled
+   */
+  private CompiledJsonCondition[] conditions;
+
+  private DirectBuffer payload;
+
+  @Setup
+  public void setUp() {
+    conditions = new CompiledJsonCondition[SEQUENCE_FLOWS];
+
+    for (int i = 0; i < SEQUENCE_FLOWS - 1; i++) {
+      conditions[i] =
+          JsonConditionFactory.createCondition(
+              String.format(
+                  "$.order.total > %d && $.order.total <= %d && $.customer.tier == 'tier-%d'",
+                  i * 100, (i + 1) * 100, i));
+    }
+    conditions[SEQUENCE_FLOWS - 1] =
+        JsonConditionFactory.createCondition(
+            "$.order.total > 1000 || $.customer.tier == 'gold' && $.order.express == true");
+
+    payload = MsgPackUtil.asMsgPack(createPayload());
+  }
+
+  /** A payload of about 4 KB, similar to an order process */
+  private static Map<String, Object> createPayload() {
+    final Map<String, Object> customer = new HashMap<>();
+    customer.put("id", "customer-4711");
+    customer.put("name", "Jane Doe");
+    customer.put("tier", "gold");
+    customer.put("email", "jane.doe@example.com");
+    customer.put("since", 2012);
+
+    final List<Object> items = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      final Map<String, Object> item = new HashMap<>();
+      item.put("sku", "article-" + i);
+      item.put("description", "an article which is ordered quite often");
+      item.put("quantity", i % 5 + 1);
+      item.put("price", 9.99 + i);
+      items.add(item);
+    }
+
+    final Map<String, Object> order = new HashMap<>();
+    order.put("id", "order-12345");
+    order.put("items", items);
+    order.put("express", true);
+    order.put("currency", "EUR");
+    order.put("total", 875.5);
+
+    final Map<String, Object> payload = new HashMap<>();
+    payload.put("customer", customer);
+    payload.put("order", order);
+    payload.put("shippingAddress", "Zeebe Street 1, 10115 Berlin");
+    payload.put("retries", 3);
+
+    return payload;
+  }
+
+  public JsonConditionInterpreter getInterpreter() {
+    return interpreter;
+  }
+
+  public CompiledJsonCondition[] getConditions() {
+    return conditions;
+  }
+
+  public DirectBuffer getPayload() {
+    return payload;
+  }
+}
@@ -18,6 +18,7 @@
 package io.zeebe.broker.benchmarks.msgpack;
 
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import java.util.concurrent.TimeUnit;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -78,4 +79,26 @@ public class POJOMappingBenchmark {
     jobRecord.wrap(encodedJobEvent, 0, encodedJobEvent.capacity());
     jobRecord.write(writeBuffer, 0);
   }
+
+  @Benchmark
+  @Threads(1)
+  public void performReadingWorkflowInstanceRecord(final POJOMappingContext ctx) {
+    final WorkflowInstanceRecord record = ctx.getWorkflowInstanceRecord();
+    final DirectBuffer encodedEvent = ctx.getEncodedWorkflowInstanceEvent();
+
+    record.reset();
+    record.wrap(encodedEvent, 0, encodedEvent.capacity());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void performMappingCycleWorkflowInstanceRecord(final POJOMappingContext ctx) {
+    final WorkflowInstanceRecord record = ctx.getWorkflowInstanceRecord();
+    final DirectBuffer encodedEvent = ctx.getEncodedWorkflowInstanceEvent();
+    final MutableDirectBuffer writeBuffer = ctx.getWriteBuffer();
+
+    record.reset();
+    record.wrap(encodedEvent, 0, encodedEvent.capacity());
+    record.write(writeBuffer, 0);
+  }
 }
@@ -20,6 +20,7 @@ package io.zeebe.broker.benchmarks.msgpack;
 import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.msgpack.spec.MsgPackWriter;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.util.buffer.BufferUtil;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
@@ -40,6 +41,10 @@ public class POJOMappingContext {
   protected MutableDirectBuffer optimalOrderMsgPack;
   protected DirectBuffer reverseOrderMsgPack;
 
+  protected WorkflowInstanceRecord workflowInstanceRecord = new WorkflowInstanceRecord();
+
+  protected MutableDirectBuffer workflowInstanceMsgPack;
+
   protected MutableDirectBuffer writeBuffer;
 
   @Setup
@@ -79,7 +84,21 @@ public class POJOMappingContext {
 
     this.reverseOrderMsgPack = revertMapProperties(optimalOrderMsgPack);
 
-    this.writeBuffer = new UnsafeBuffer(new byte[optimalOrderMsgPack.capacity()]);
+    workflowInstanceRecord
+        .setBpmnProcessId(BufferUtil.wrapString("someProcess"))
+        .setVersion(1)
+        .setWorkflowKey(1L)
+        .setWorkflowInstanceKey(2L)
+        .setScopeInstanceKey(3L)
+        .setElementId(BufferUtil.wrapString("someElement"))
+        .setPayload(payload);
+
+    workflowInstanceMsgPack = new UnsafeBuffer(new byte[workflowInstanceRecord.getLength()]);
+    workflowInstanceRecord.write(workflowInstanceMsgPack, 0);
+
+    final int writeBufferLength =
+        Math.max(optimalOrderMsgPack.capacity(), workflowInstanceMsgPack.capacity());
+    this.writeBuffer = new UnsafeBuffer(new byte[writeBufferLength]);
   }
 
   protected DirectBuffer write(final Consumer<MsgPackWriter> arg) {
@@ -99,6 +118,10 @@ public class POJOMappingContext {
     return reverseOrderMsgPack;
   }
 
+  public DirectBuffer getEncodedWorkflowInstanceEvent() {
+    return workflowInstanceMsgPack;
+  }
+
   public MutableDirectBuffer getWriteBuffer() {
     return writeBuffer;
   }
@@ -107,6 +130,10 @@ public class POJOMappingContext {
     return jobRecord;
   }
 
+  public WorkflowInstanceRecord getWorkflowInstanceRecord() {
+    return workflowInstanceRecord;
+  }
+
   protected DirectBuffer revertMapProperties(final DirectBuffer msgPack) {
     final MsgPackReader reader = new MsgPackReader();
     reader.wrap(msgPack, 0, msgPack.capacity());
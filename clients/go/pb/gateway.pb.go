@@ -1291,6 +1291,9 @@ type ActivateJobsRequest struct {
 	Timeout              int64    `protobuf:"varint,3,opt,name=timeout,proto3" json:"timeout,omitempty"`
 	Amount               int32    `protobuf:"varint,4,opt,name=amount,proto3" json:"amount,omitempty"`
 	FetchVariable        []string `protobuf:"bytes,5,rep,name=fetchVariable,proto3" json:"fetchVariable,omitempty"`
+	// the time in milliseconds to wait for jobs to become available if none can be activated;
+	// 0 completes the request immediately
+	RequestTimeout       int64    `protobuf:"varint,6,opt,name=requestTimeout,proto3" json:"requestTimeout,omitempty"`
 	XXX_NoUnkeyedLiteral struct{} `json:"-"`
 	XXX_unrecognized     []byte   `json:"-"`
 	XXX_sizecache        int32    `json:"-"`
@@ -1355,6 +1358,13 @@ func (m *ActivateJobsRequest) GetFetchVariable() []string {
 	return nil
 }
 
+func (m *ActivateJobsRequest) GetRequestTimeout() int64 {
+	if m != nil {
+		return m.RequestTimeout
+	}
+	return 0
+}
+
 type JobHeaders struct {
 	WorkflowInstanceKey       int64    `protobuf:"varint,1,opt,name=workflowInstanceKey,proto3" json:"workflowInstanceKey,omitempty"`
 	BpmnProcessId             string   `protobuf:"bytes,2,opt,name=bpmnProcessId,proto3" json:"bpmnProcessId,omitempty"`
@@ -2172,95 +2182,96 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
 func init() { proto.RegisterFile("gateway.proto", fileDescriptor_gateway_6af7beda0809ab1f) }
 
 var fileDescriptor_gateway_6af7beda0809ab1f = []byte{
-	// 1440 bytes of a gzipped FileDescriptorProto
-	0x1f, 0x8b, 0x08, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02, 0xff, 0xb4, 0x58, 0x5f, 0x6f, 0x13, 0x47,
-	0x10, 0xcf, 0xd9, 0x8e, 0x13, 0x0f, 0x21, 0x98, 0x0d, 0x31, 0xc6, 0x85, 0xc8, 0x9c, 0xf8, 0x13,
-	0x2a, 0x64, 0x50, 0x5a, 0x51, 0xa9, 0xe5, 0x01, 0x08, 0x09, 0x24, 0x38, 0xe0, 0x1e, 0x14, 0x4a,
-	0x55, 0xb5, 0xba, 0x3b, 0x4f, 0xc8, 0x25, 0xe7, 0xdb, 0xeb, 0xdd, 0x39, 0x91, 0x91, 0x2a, 0xf5,
-	0xb5, 0xaf, 0x3c, 0xb5, 0xea, 0x63, 0x1f, 0xfb, 0xda, 0x7e, 0x82, 0xf6, 0xdb, 0xf4, 0x4b, 0x54,
-	0xbb, 0xb7, 0x7b, 0xbe, 0xbf, 0xb6, 0x69, 0xd5, 0xb7, 0xdd, 0xb9, 0x99, 0xf9, 0xcd, 0xcc, 0xce,
-	0xce, 0xfe, 0x6c, 0x38, 0xfd, 0x46, 0x0f, 0xf0, 0x44, 0x1f, 0x75, 0x5c, 0x8f, 0x06, 0x94, 0xd4,
-	0xc5, 0xf6, 0x5b, 0xbe, 0x35, 0xa9, 0xad, 0x9e, 0x85, 0x33, 0x2f, 0xa8, 0x4b, 0x6d, 0xfa, 0x66,
-	0xa4, 0xe1, 0x77, 0x43, 0xf4, 0x03, 0xf5, 0x57, 0x05, 0x6a, 0x3d, 0xdd, 0x0b, 0xac, 0xc0, 0xa2,
-	0x0e, 0x69, 0xc3, 0x29, 0x57, 0x6e, 0x76, 0xfa, 0x4d, 0xa5, 0xad, 0xac, 0xcf, 0x6b, 0x71, 0x11,
-	0xd9, 0x84, 0x8a, 0x47, 0x6d, 0x6c, 0x96, 0xdb, 0xca, 0xfa, 0xf2, 0xc6, 0xad, 0x4e, 0x1a, 0xa3,
-	0x13, 0x39, 0x1b, 0xaf, 0x1e, 0x78, 0xf4, 0x08, 0x3d, 0x8d, 0xda, 0xa8, 0x71, 0x63, 0xf5, 0x16,
-	0xac, 0xe4, 0x7c, 0x24, 0x00, 0xd5, 0xee, 0xd6, 0xfd, 0x87, 0x5b, 0x5a, 0x7d, 0x8e, 0x2c, 0xc1,
-	0xe2, 0xf6, 0xb3, 0x6e, 0xf7, 0xd9, 0xab, 0x2d, 0xad, 0xae, 0xa8, 0x3f, 0x2a, 0x00, 0xa1, 0xe2,
-	0x8e, 0xb3, 0x4f, 0x49, 0x03, 0xaa, 0x0e, 0xed, 0x63, 0x14, 0xa1, 0xd8, 0x11, 0x02, 0x95, 0x03,
-	0xea, 0x07, 0xcd, 0x52, 0x5b, 0x59, 0xaf, 0x69, 0x7c, 0xcd, 0x64, 0x2e, 0xf5, 0x02, 0x1e, 0xf0,
-	0xbc, 0xc6, 0xd7, 0xe4, 0x33, 0x80, 0x28, 0x27, 0xbf, 0x59, 0x69, 0x97, 0xd7, 0x4f, 0x6d, 0x7c,
-	0x30, 0x21, 0x15, 0x2d, 0xa6, 0xae, 0xfe, 0xa5, 0x40, 0x7d, 0x5c, 0x45, 0xdf, 0xa5, 0x8e, 0x8f,
-	0xe4, 0x0e, 0x2c, 0x18, 0x3c, 0x3e, 0xbf, 0xa9, 0x70, 0x77, 0x17, 0xb3, 0xee, 0xc6, 0x09, 0x68,
-	0x52, 0x99, 0x15, 0xdc, 0xb4, 0x87, 0x7e, 0x80, 0xde, 0x73, 0xeb, 0x2d, 0xf2, 0xc0, 0xe7, 0xb5,
-	0xb8, 0x88, 0xac, 0xc3, 0x99, 0x31, 0xf8, 0x26, 0x1d, 0x3a, 0x32, 0x95, 0xb4, 0x98, 0xdc, 0x84,
-	0xb3, 0x1e, 0xba, 0xb6, 0x65, 0xea, 0x4c, 0xb8, 0xad, 0x9b, 0x01, 0xf5, 0x9a, 0x15, 0xae, 0x9b,
-	0xfd, 0xa0, 0xfe, 0xa9, 0xc0, 0xea, 0x2b, 0xea, 0x1d, 0xed, 0xdb, 0xf4, 0x44, 0x34, 0xc3, 0x33,
-	0xe3, 0x10, 0x4d, 0x5e, 0x31, 0x47, 0x1f, 0x20, 0xaf, 0x6d, 0x4d, 0xe3, 0x6b, 0xf2, 0x18, 0x2a,
-	0xc1, 0xc8, 0x0d, 0x03, 0x5c, 0xde, 0xf8, 0x38, 0x9b, 0x5c, 0xae, 0xab, 0x8e, 0x86, 0x3e, 0x1d,
-	0x7a, 0x26, 0xbe, 0x18, 0xb9, 0xa8, 0x71, 0x0f, 0x64, 0x0d, 0xa0, 0x8f, 0xfb, 0x96, 0xc3, 0x23,
-	0xe7, 0xa9, 0x2c, 0x69, 0x31, 0x89, 0x7a, 0x13, 0x96, 0xe2, 0x56, 0x64, 0x11, 0x2a, 0xdb, 0x3b,
-	0xdd, 0xad, 0xfa, 0x1c, 0x5b, 0x3d, 0xe8, 0xed, 0x3d, 0xad, 0x2b, 0x6c, 0xf5, 0xfa, 0xfe, 0x5e,
-	0xb7, 0x5e, 0x52, 0xbf, 0x81, 0xd5, 0x87, 0xe8, 0xda, 0x74, 0x94, 0xc2, 0x27, 0x5b, 0x50, 0x3b,
-	0x11, 0x22, 0x79, 0x24, 0xd7, 0x67, 0x8c, 0x5a, 0x1b, 0x5b, 0xaa, 0x3f, 0x29, 0x50, 0x97, 0x4a,
-	0x7b, 0x18, 0xe8, 0x7d, 0x3d, 0xd0, 0xc9, 0x15, 0x38, 0x6d, 0xb8, 0x03, 0xa7, 0xe7, 0x51, 0x13,
-	0x7d, 0x5f, 0x74, 0x61, 0x4d, 0x4b, 0x0a, 0x49, 0x13, 0x16, 0x8e, 0xd1, 0xf3, 0x59, 0x96, 0xe1,
-	0xb1, 0xca, 0x2d, 0x3b, 0x74, 0x89, 0xf0, 0x04, 0x47, 0xbc, 0x06, 0x65, 0x2d, 0x2e, 0x22, 0x2a,
-	0x2c, 0x79, 0xa2, 0x08, 0x4f, 0xd9, 0x51, 0x54, 0x38, 0x40, 0x42, 0xa6, 0xda, 0xd0, 0x48, 0xa7,
-	0x2e, 0x9a, 0xb1, 0x0e, 0xe5, 0x23, 0x1c, 0xf1, 0xa8, 0xca, 0x1a, 0x5b, 0x92, 0x7b, 0xf1, 0x6a,
-	0x94, 0x78, 0x35, 0xd4, 0xe2, 0x6a, 0xc8, 0x44, 0xe3, 0x85, 0xf8, 0x4d, 0x81, 0xd5, 0xde, 0xd0,
-	0xb0, 0x2d, 0xff, 0x60, 0x0f, 0x7d, 0x5f, 0x7f, 0x83, 0xb2, 0xd2, 0x79, 0xed, 0x72, 0x0d, 0x96,
-	0x4d, 0xea, 0x79, 0x68, 0xf3, 0x8e, 0x63, 0x49, 0x86, 0x57, 0x32, 0x25, 0x65, 0xcd, 0x10, 0x58,
-	0x03, 0x7c, 0x41, 0xbb, 0xd6, 0x31, 0x8a, 0x42, 0xc4, 0x24, 0xe4, 0x22, 0xd4, 0x06, 0x21, 0xda,
-	0x4e, 0x5f, 0x14, 0x61, 0x2c, 0x60, 0x15, 0x76, 0xf5, 0x91, 0x4d, 0xf5, 0x7e, 0x73, 0x9e, 0x7f,
-	0x93, 0x5b, 0xb5, 0x09, 0x8d, 0x74, 0xb0, 0x61, 0x6d, 0xd4, 0x27, 0x70, 0xfe, 0x0b, 0xb7, 0xaf,
-	0x07, 0xb8, 0x4b, 0x0d, 0x0d, 0x03, 0xcf, 0x42, 0x5f, 0x26, 0xd2, 0x80, 0xea, 0x21, 0x35, 0x9e,
-	0x44, 0x95, 0x13, 0x3b, 0x06, 0xe3, 0x85, 0x9a, 0xf2, 0x20, 0xc5, 0x56, 0x6d, 0x41, 0x33, 0xeb,
-	0x4c, 0x00, 0xed, 0xc3, 0xf2, 0xb6, 0x6e, 0xd9, 0xfc, 0xcb, 0xbf, 0xf4, 0xcf, 0xda, 0x00, 0x3d,
-	0x8f, 0x7a, 0x22, 0x09, 0x5e, 0xa0, 0x9a, 0x96, 0x90, 0xb1, 0x99, 0x1e, 0xe1, 0x08, 0xe8, 0x6d,
-	0x20, 0x9b, 0x74, 0xe0, 0xda, 0x28, 0x02, 0x9b, 0x0a, 0x2f, 0xab, 0x58, 0x4a, 0x56, 0x71, 0x15,
-	0x56, 0x12, 0x7e, 0x84, 0xfb, 0x5f, 0x14, 0xb8, 0xb4, 0xe9, 0xa1, 0x1e, 0xa0, 0x6c, 0x98, 0x1d,
-	0xc7, 0x0f, 0x74, 0xc7, 0x8c, 0x5a, 0x22, 0xd5, 0xe0, 0x4a, 0xb6, 0xc1, 0x33, 0x57, 0xa8, 0x34,
-	0xe5, 0x0a, 0x95, 0x93, 0x57, 0x28, 0x16, 0x74, 0x25, 0x19, 0xf4, 0xef, 0x0a, 0xac, 0x15, 0x45,
-	0x27, 0xee, 0xc7, 0xff, 0x1f, 0xde, 0x6d, 0x58, 0x39, 0x49, 0xa1, 0x33, 0xa4, 0x79, 0x8e, 0x94,
-	0xf7, 0x49, 0xfd, 0x1c, 0x2e, 0x6d, 0xb2, 0xb5, 0x5d, 0x54, 0xd3, 0x02, 0x97, 0x4a, 0xb1, 0xcb,
-	0x36, 0xac, 0x15, 0xb9, 0x14, 0x27, 0xe9, 0xc2, 0x95, 0xb0, 0x7f, 0xd3, 0x1a, 0xbd, 0xb0, 0x98,
-	0x12, 0xbb, 0x03, 0x04, 0x6d, 0x1c, 0xa0, 0x13, 0x64, 0xa1, 0x73, 0xbe, 0x4c, 0x68, 0xa9, 0xeb,
-	0x70, 0x75, 0x0a, 0xa2, 0x08, 0xed, 0x2e, 0x9c, 0xeb, 0x5a, 0x7e, 0x20, 0xd5, 0xa2, 0x4b, 0x3a,
-	0xd3, 0xec, 0x55, 0x5f, 0xc3, 0x6a, 0xca, 0x5a, 0x1c, 0xfd, 0xbd, 0xec, 0xb3, 0xf0, 0x9e, 0x83,
-	0xf0, 0x18, 0xc8, 0x23, 0x0c, 0xd2, 0xcf, 0xcd, 0xf4, 0x96, 0x2a, 0x7e, 0x0e, 0x32, 0x29, 0x95,
-	0xf3, 0x52, 0xfa, 0x43, 0x81, 0x95, 0x04, 0xf0, 0xcc, 0xcd, 0xfc, 0x1f, 0x91, 0x67, 0x79, 0x8c,
-	0x18, 0x06, 0x33, 0xfa, 0x72, 0x60, 0xcb, 0x51, 0x2c, 0xb6, 0xea, 0xcf, 0x0a, 0xac, 0xdc, 0x37,
-	0x03, 0xeb, 0x38, 0x1c, 0x93, 0x7e, 0xec, 0xd9, 0xe0, 0x8c, 0x42, 0x3c, 0x1b, 0x9c, 0x1b, 0x34,
-	0xa0, 0xca, 0x02, 0x47, 0x4f, 0xb4, 0x8d, 0xd8, 0x31, 0xef, 0xec, 0x51, 0xa0, 0xc3, 0x40, 0xbc,
-	0x11, 0x72, 0xcb, 0x2c, 0xf4, 0x01, 0x27, 0x45, 0x21, 0xd1, 0x11, 0x3b, 0x96, 0xd9, 0x3e, 0x06,
-	0xe6, 0xc1, 0x4b, 0xdd, 0xb3, 0x74, 0xc3, 0xc6, 0xe6, 0x7c, 0xbb, 0xcc, 0x32, 0x4b, 0x08, 0xd5,
-	0x77, 0x25, 0x80, 0x5d, 0x6a, 0x3c, 0x46, 0xbd, 0xcf, 0xc8, 0xd8, 0x7b, 0x5f, 0xb1, 0x19, 0xe7,
-	0xc4, 0x5d, 0xb8, 0x20, 0x8d, 0x1f, 0x46, 0x44, 0xe7, 0x65, 0x62, 0x72, 0x14, 0x2b, 0xa4, 0x0f,
-	0xb8, 0x92, 0x3d, 0xe0, 0x8b, 0x50, 0x93, 0x97, 0x50, 0xbe, 0x84, 0x63, 0x41, 0xc1, 0xe5, 0xad,
-	0x16, 0x5d, 0x5e, 0xf5, 0x87, 0x12, 0x2c, 0xc9, 0x03, 0xeb, 0xef, 0x52, 0x23, 0x87, 0x4e, 0x90,
-	0x18, 0x1b, 0x94, 0x67, 0x77, 0x17, 0xe0, 0x30, 0x2a, 0x25, 0xcf, 0x2a, 0x97, 0x04, 0x8f, 0xcb,
-	0xad, 0xc5, 0xf4, 0x59, 0x21, 0xcd, 0xa1, 0x1f, 0xd0, 0x81, 0x74, 0x10, 0x36, 0x59, 0x52, 0x18,
-	0xeb, 0x8f, 0xf9, 0x74, 0x7f, 0xc8, 0x17, 0xb4, 0x9a, 0x7c, 0x41, 0x5b, 0xb0, 0xd8, 0x47, 0xbd,
-	0x6f, 0x5b, 0x0e, 0x36, 0x17, 0x78, 0x02, 0xd1, 0x3e, 0x3e, 0xa5, 0x16, 0x93, 0x53, 0x6a, 0x17,
-	0xce, 0x25, 0x5b, 0x56, 0xdc, 0xb5, 0x0d, 0xa8, 0x1c, 0x52, 0x43, 0x0e, 0x8e, 0xb5, 0x6c, 0x76,
-	0xf1, 0xba, 0x69, 0x5c, 0x57, 0xfd, 0x14, 0x1a, 0x8c, 0xcf, 0xda, 0xc7, 0xb8, 0xe3, 0x98, 0x56,
-	0x1f, 0x9d, 0x20, 0x36, 0x33, 0x2c, 0x21, 0x8a, 0xdd, 0xdc, 0x98, 0x48, 0xbd, 0x00, 0xe7, 0x33,
-	0xb6, 0x61, 0x28, 0x1b, 0x7f, 0x03, 0x2c, 0x3c, 0x0a, 0xe1, 0xc9, 0x73, 0x58, 0x94, 0x3f, 0x48,
-	0xc8, 0xe5, 0x6c, 0x50, 0xa9, 0x9f, 0x7c, 0x2d, 0x75, 0x92, 0x8a, 0x18, 0xbf, 0x73, 0x04, 0x61,
-	0x39, 0x49, 0x2f, 0x49, 0x0e, 0x7f, 0xce, 0xe5, 0xde, 0xad, 0xf5, 0xe9, 0x8a, 0x71, 0x98, 0x24,
-	0x53, 0xcb, 0x83, 0xc9, 0x25, 0x9e, 0x79, 0x30, 0x05, 0xa4, 0x6f, 0x8e, 0x1c, 0x41, 0x3d, 0xcd,
-	0xd4, 0xc8, 0x8d, 0xac, 0x7d, 0x01, 0x35, 0x6c, 0x7d, 0x38, 0x8b, 0x6a, 0x04, 0xd6, 0x83, 0x05,
-	0x41, 0xc9, 0x48, 0x3b, 0x6b, 0x98, 0x64, 0x85, 0xad, 0xcb, 0x13, 0x34, 0x22, 0x8f, 0x5f, 0xc3,
-	0xa9, 0x18, 0x13, 0x23, 0x57, 0xb2, 0x36, 0x59, 0xc2, 0xd7, 0xba, 0x3a, 0x45, 0x2b, 0xf2, 0xfe,
-	0x3d, 0x34, 0xf2, 0x19, 0x13, 0xc9, 0xf9, 0x7d, 0x3f, 0x91, 0xf9, 0xb5, 0x6e, 0xcf, 0x6e, 0x90,
-	0x80, 0xcf, 0xe5, 0x29, 0xb9, 0xf0, 0x93, 0x48, 0x52, 0x2e, 0xfc, 0x64, 0x0a, 0x34, 0x47, 0xde,
-	0x29, 0x70, 0x69, 0x22, 0x27, 0x21, 0x77, 0x8a, 0x4e, 0x7f, 0x32, 0x6d, 0x6a, 0x7d, 0xf2, 0xde,
-	0x76, 0x51, 0x50, 0xfa, 0x78, 0x06, 0xb3, 0x09, 0x44, 0xae, 0x16, 0xcf, 0x9a, 0xd8, 0xa3, 0xda,
-	0xba, 0x36, 0x4d, 0x4d, 0x02, 0xdc, 0x56, 0x88, 0x01, 0xa7, 0x13, 0x1c, 0x89, 0xe4, 0x18, 0xe7,
-	0x51, 0xb0, 0xd6, 0xf5, 0xa9, 0x7a, 0xf1, 0xbe, 0x8d, 0x71, 0x96, 0xbc, 0xbe, 0xcd, 0x72, 0xa9,
-	0xbc, 0xbe, 0xcd, 0x21, 0x3e, 0xea, 0x1c, 0x39, 0x80, 0x33, 0xa9, 0xf1, 0x48, 0x72, 0x66, 0x42,
-	0xfe, 0xf4, 0x6d, 0xdd, 0x98, 0x41, 0x53, 0x22, 0x3d, 0xb8, 0x0c, 0x17, 0x2c, 0xda, 0x79, 0x8b,
-	0x68, 0x60, 0x27, 0xf1, 0x27, 0x9b, 0x49, 0xed, 0xde, 0xdc, 0x57, 0x25, 0xd7, 0x30, 0xaa, 0x7c,
-	0xff, 0xd1, 0x3f, 0x01, 0x00, 0x00, 0xff, 0xff, 0x6a, 0xfa, 0x8f, 0x7f, 0x85, 0x13, 0x00, 0x00,
+	// 1444 bytes of a gzipped FileDescriptorProto
+	0x1f, 0x8b, 0x08, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02, 0xff, 0xb5, 0x58, 0x5b, 0x6f, 0xdb, 0x36,
+	0x14, 0x8e, 0x6c, 0xe7, 0x76, 0x9a, 0x8b, 0xcb, 0x34, 0xa9, 0xe3, 0x75, 0x45, 0x2a, 0xf4, 0x92,
+	0x0e, 0x85, 0x5b, 0x64, 0x43, 0x07, 0x6c, 0x79, 0x68, 0x9b, 0x4b, 0x9b, 0xc6, 0x69, 0x3d, 0x35,
+	0x6b, 0xd7, 0x61, 0xd8, 0x20, 0xcb, 0x4c, 0xa3, 0x46, 0x36, 0x35, 0x49, 0x49, 0x90, 0x02, 0x03,
+	0xf6, 0xba, 0xd7, 0x3e, 0x0d, 0xd8, 0xe3, 0x1e, 0xf7, 0xba, 0xfd, 0x80, 0x61, 0xfb, 0x37, 0xfb,
+	0x13, 0x23, 0x29, 0x52, 0xa6, 0x24, 0xca, 0x76, 0x3b, 0xec, 0x8d, 0x3c, 0x3a, 0xd7, 0x8f, 0x87,
+	0x87, 0x9f, 0x0d, 0xb3, 0xaf, 0xec, 0x08, 0x9f, 0xda, 0x67, 0x0d, 0x3f, 0x20, 0x11, 0x41, 0x55,
+	0xb1, 0xfd, 0x8e, 0x6f, 0x1d, 0xe2, 0x99, 0xe7, 0x61, 0x7e, 0x9f, 0xf8, 0xc4, 0x23, 0xaf, 0xce,
+	0x2c, 0xfc, 0xfd, 0x31, 0x0e, 0x23, 0xf3, 0x57, 0x03, 0xa6, 0x5b, 0x76, 0x10, 0xb9, 0x91, 0x4b,
+	0x7a, 0x68, 0x05, 0xce, 0xf9, 0x72, 0xb3, 0xd3, 0xa9, 0x19, 0x2b, 0xc6, 0xea, 0xb8, 0xa5, 0x8a,
+	0xd0, 0x06, 0x54, 0x02, 0xe2, 0xe1, 0x5a, 0x99, 0x7e, 0x9a, 0x5b, 0xbb, 0xdd, 0xc8, 0xc6, 0x68,
+	0x24, 0xce, 0xfa, 0xab, 0x07, 0x01, 0x39, 0xc2, 0x81, 0x45, 0xcd, 0x2c, 0x6e, 0x6c, 0xde, 0x86,
+	0x05, 0xcd, 0x47, 0x04, 0x30, 0xd1, 0xdc, 0xba, 0xbf, 0xb9, 0x65, 0x55, 0xc7, 0xd0, 0x0c, 0x4c,
+	0x6d, 0x3f, 0x6d, 0x36, 0x9f, 0xbe, 0xa0, 0x3b, 0xc3, 0xfc, 0xc9, 0x00, 0x88, 0x15, 0x77, 0x7a,
+	0x07, 0x04, 0x2d, 0xc1, 0x44, 0x8f, 0x74, 0x70, 0x92, 0xa1, 0xd8, 0x21, 0x04, 0x95, 0x43, 0x12,
+	0x46, 0xb5, 0x12, 0x95, 0x4e, 0x5b, 0x7c, 0xcd, 0x64, 0x3e, 0x09, 0x22, 0x9e, 0xf0, 0xb8, 0xc5,
+	0xd7, 0xe8, 0x73, 0x80, 0xa4, 0xa6, 0xb0, 0x56, 0x59, 0x29, 0xaf, 0x9e, 0x5b, 0xfb, 0x60, 0x40,
+	0x29, 0x96, 0xa2, 0x6e, 0xfe, 0x6d, 0x40, 0xb5, 0x8f, 0x62, 0xe8, 0x53, 0x19, 0x46, 0x77, 0x61,
+	0xb2, 0xcd, 0xf3, 0x0b, 0x69, 0x4a, 0xcc, 0xdd, 0xa5, 0xbc, 0xbb, 0x7e, 0x01, 0x96, 0x54, 0x66,
+	0x80, 0x3b, 0xde, 0x71, 0x18, 0xe1, 0xe0, 0x99, 0xfb, 0x06, 0xf3, 0xc4, 0x29, 0xe0, 0x8a, 0x08,
+	0xad, 0xc2, 0x7c, 0x3f, 0xf8, 0x06, 0x39, 0xee, 0xc9, 0x52, 0xb2, 0x62, 0x74, 0x0b, 0xce, 0x07,
+	0xd8, 0xf7, 0x5c, 0xc7, 0x66, 0xc2, 0x6d, 0xdb, 0x89, 0x48, 0x40, 0x8b, 0x63, 0xba, 0xf9, 0x0f,
+	0xe6, 0x5f, 0x06, 0x2c, 0xbe, 0x20, 0xc1, 0xd1, 0x81, 0x47, 0x4e, 0x45, 0x33, 0x3c, 0x6d, 0xbf,
+	0xc6, 0x0e, 0x47, 0xac, 0x67, 0x77, 0x31, 0xc7, 0x96, 0xa2, 0xc8, 0xd6, 0xe8, 0x11, 0x54, 0xa2,
+	0x33, 0x3f, 0x4e, 0x70, 0x6e, 0xed, 0x93, 0x7c, 0x71, 0x5a, 0x57, 0x0d, 0x8a, 0x0f, 0x39, 0x0e,
+	0x1c, 0xbc, 0x4f, 0x6d, 0x2d, 0xee, 0x01, 0x5d, 0x06, 0xe8, 0xe0, 0x03, 0xb7, 0xc7, 0x33, 0xe7,
+	0xa5, 0xcc, 0x58, 0x8a, 0xc4, 0xbc, 0x05, 0x33, 0xaa, 0x15, 0x9a, 0x82, 0xca, 0xf6, 0x4e, 0x73,
+	0x8b, 0xb6, 0x04, 0x5d, 0x3d, 0x68, 0xed, 0x3d, 0xa9, 0x1a, 0x6c, 0xf5, 0xf2, 0xfe, 0x5e, 0xb3,
+	0x5a, 0x32, 0xbf, 0x85, 0xc5, 0x4d, 0x5a, 0x1a, 0x39, 0xcb, 0xc4, 0x47, 0x5b, 0x30, 0x7d, 0x2a,
+	0x44, 0xf2, 0x48, 0x6e, 0x8c, 0x98, 0xb5, 0xd5, 0xb7, 0x34, 0x7f, 0xa6, 0x87, 0x2d, 0x95, 0xf6,
+	0x70, 0x64, 0x77, 0xec, 0xc8, 0x46, 0x57, 0x61, 0xb6, 0xed, 0x77, 0x7b, 0xad, 0x80, 0x38, 0x38,
+	0x0c, 0x45, 0x17, 0x4e, 0x5b, 0x69, 0x21, 0xaa, 0xc1, 0xe4, 0x09, 0x3d, 0x62, 0x56, 0x65, 0x7c,
+	0xac, 0x72, 0xcb, 0x0e, 0x5d, 0x46, 0xd8, 0xc5, 0x67, 0x1c, 0x83, 0xb2, 0xa5, 0x8a, 0x90, 0x09,
+	0x33, 0x81, 0x00, 0xe1, 0x09, 0x3b, 0x8a, 0x0a, 0x0f, 0x90, 0x92, 0x99, 0x1e, 0x2c, 0x65, 0x4b,
+	0x17, 0xcd, 0x58, 0x85, 0xf2, 0x11, 0xf5, 0x6b, 0x70, 0xbf, 0x6c, 0x89, 0xee, 0xa9, 0x68, 0x94,
+	0x38, 0x1a, 0x66, 0x31, 0x1a, 0xb2, 0x50, 0x15, 0x88, 0xdf, 0x68, 0xbb, 0xb4, 0x8e, 0xdb, 0x9e,
+	0x1b, 0x1e, 0xee, 0xd1, 0xfa, 0xec, 0x57, 0x58, 0x22, 0xad, 0x6b, 0x97, 0xeb, 0x30, 0xe7, 0x90,
+	0x20, 0xc0, 0x1e, 0xef, 0x38, 0x56, 0x64, 0x7c, 0x25, 0x33, 0x52, 0xd6, 0x0c, 0x91, 0xdb, 0xc5,
+	0xfb, 0xa4, 0xe9, 0x9e, 0x60, 0x01, 0x84, 0x22, 0x41, 0x97, 0x60, 0xba, 0x1b, 0x47, 0xa3, 0x28,
+	0xc7, 0x20, 0xf4, 0x05, 0x0c, 0x61, 0xdf, 0x3e, 0xf3, 0x88, 0xdd, 0xa9, 0x8d, 0xf3, 0x6f, 0x72,
+	0x6b, 0xd6, 0x60, 0x29, 0x9b, 0x6c, 0x8c, 0x8d, 0xb9, 0x0b, 0x17, 0xbf, 0xf4, 0x69, 0x71, 0xf8,
+	0x31, 0x69, 0x5b, 0x38, 0x0a, 0x5c, 0x1c, 0xca, 0x42, 0xe8, 0x54, 0x79, 0x4d, 0xda, 0xbb, 0x09,
+	0x72, 0x62, 0xc7, 0xc2, 0x04, 0xb1, 0xa6, 0x3c, 0x48, 0xb1, 0x35, 0xeb, 0x50, 0xcb, 0x3b, 0x13,
+	0x81, 0x0e, 0x60, 0x6e, 0xdb, 0x76, 0x3d, 0xfe, 0xe5, 0x3d, 0xfd, 0xb3, 0x36, 0xc0, 0x41, 0x40,
+	0x02, 0x51, 0x04, 0x07, 0x88, 0xb6, 0x81, 0x2a, 0x63, 0x33, 0x3d, 0x89, 0x23, 0x42, 0x6f, 0x03,
+	0xda, 0x20, 0x5d, 0xdf, 0xc3, 0x22, 0xb1, 0xa1, 0xe1, 0x25, 0x8a, 0xa5, 0x34, 0x8a, 0x8b, 0xb0,
+	0x90, 0xf2, 0x23, 0xdc, 0xff, 0x62, 0xc0, 0x87, 0x1b, 0x01, 0xa6, 0x65, 0xcb, 0x86, 0xd9, 0xe9,
+	0x85, 0x91, 0xdd, 0x73, 0x92, 0x96, 0xc8, 0x34, 0xb8, 0x91, 0x6f, 0xf0, 0xdc, 0x15, 0x2a, 0x0d,
+	0xb9, 0x42, 0xe5, 0xf4, 0x15, 0x52, 0x92, 0xae, 0xa4, 0x93, 0xfe, 0xdd, 0x80, 0xcb, 0x45, 0xd9,
+	0x89, 0xfb, 0xf1, 0xff, 0xa7, 0x77, 0x07, 0x16, 0x4e, 0x33, 0xd1, 0x59, 0xa4, 0x71, 0x1e, 0x49,
+	0xf7, 0xc9, 0xfc, 0x82, 0x62, 0xca, 0xd6, 0x5e, 0x11, 0xa6, 0x05, 0x2e, 0x8d, 0x62, 0x97, 0x2b,
+	0x14, 0x88, 0x02, 0x97, 0xe2, 0x24, 0x7d, 0xb8, 0x1a, 0xf7, 0x6f, 0x56, 0xa3, 0x15, 0x83, 0x29,
+	0x63, 0x37, 0x00, 0x61, 0x0f, 0x77, 0x71, 0x2f, 0xca, 0x87, 0xd6, 0x7c, 0x19, 0xd0, 0x52, 0x37,
+	0xe0, 0xda, 0x90, 0x88, 0x22, 0xb5, 0x75, 0xb8, 0xd0, 0x74, 0xc3, 0x48, 0xaa, 0x25, 0x97, 0x74,
+	0xa4, 0xd9, 0x6b, 0xbe, 0x84, 0xc5, 0x8c, 0xb5, 0x38, 0xfa, 0x7b, 0xf9, 0x67, 0xe1, 0x1d, 0x07,
+	0xe1, 0x09, 0xa0, 0x87, 0x38, 0xca, 0x3e, 0x37, 0xc3, 0x5b, 0xaa, 0xf8, 0x39, 0xc8, 0x95, 0x54,
+	0xd6, 0x95, 0xf4, 0x87, 0x01, 0x0b, 0xa9, 0xc0, 0x23, 0x37, 0xf3, 0x7f, 0x8c, 0x3c, 0xca, 0x63,
+	0xc4, 0x62, 0x30, 0xa3, 0xaf, 0xba, 0x9e, 0x1c, 0xc5, 0x62, 0x6b, 0xfe, 0x49, 0xf3, 0xbe, 0xef,
+	0x44, 0xee, 0x49, 0x3c, 0x26, 0x43, 0xe5, 0xd9, 0xe0, 0x8c, 0x42, 0x3c, 0x1b, 0x9c, 0x1b, 0xd0,
+	0x11, 0xc5, 0x12, 0xc7, 0x81, 0x68, 0x1b, 0xb1, 0x63, 0xde, 0xd9, 0xa3, 0x40, 0x8e, 0x23, 0xf1,
+	0x46, 0xc8, 0x2d, 0xb3, 0xb0, 0xbb, 0x9c, 0x14, 0xc5, 0x44, 0x47, 0xec, 0x58, 0x65, 0x07, 0x38,
+	0x72, 0x0e, 0x9f, 0xdb, 0x81, 0x6b, 0xb7, 0x29, 0x5f, 0x1d, 0xa7, 0x67, 0x4d, 0x2b, 0x4b, 0x09,
+	0xd9, 0x33, 0x15, 0xc4, 0xe9, 0xec, 0x0b, 0xf7, 0x13, 0xdc, 0x7d, 0x46, 0x6a, 0xbe, 0x2d, 0x01,
+	0xd0, 0xdc, 0x1f, 0x61, 0xbb, 0xc3, 0x48, 0xdb, 0x3b, 0x5f, 0xc5, 0x11, 0xe7, 0xc9, 0x3a, 0x2c,
+	0x4b, 0xe3, 0xcd, 0x84, 0x10, 0x3d, 0x4f, 0x4d, 0x98, 0x62, 0x85, 0x6c, 0x23, 0x54, 0xf2, 0x8d,
+	0x40, 0x5f, 0x53, 0x79, 0x59, 0xe5, 0x8b, 0xd9, 0x17, 0x14, 0x5c, 0xf2, 0x89, 0xa2, 0x4b, 0x6e,
+	0xfe, 0x58, 0x82, 0x19, 0x79, 0xb0, 0x1d, 0x8a, 0x8e, 0x86, 0x76, 0x20, 0x85, 0x35, 0xca, 0x33,
+	0x5e, 0x07, 0x78, 0x9d, 0x40, 0xc9, 0xab, 0xd2, 0x92, 0xe5, 0x3e, 0xdc, 0x96, 0xa2, 0xcf, 0x80,
+	0x74, 0x28, 0x37, 0x26, 0x5d, 0xe9, 0x20, 0x6e, 0xc6, 0xb4, 0x50, 0xe9, 0xa3, 0xf1, 0x6c, 0x1f,
+	0xc9, 0x97, 0x76, 0x22, 0xfd, 0xd2, 0xd6, 0x61, 0xaa, 0x43, 0x8d, 0x3d, 0xb7, 0x87, 0x6b, 0x93,
+	0xbc, 0x80, 0x64, 0xaf, 0x4e, 0xb3, 0xa9, 0xf4, 0x34, 0x7b, 0x0c, 0x17, 0xd2, 0xad, 0x2d, 0xee,
+	0xe4, 0x1a, 0x54, 0x68, 0xce, 0x72, 0xc0, 0x5c, 0xce, 0x57, 0xa7, 0xe2, 0x66, 0x71, 0x5d, 0xf3,
+	0x33, 0x58, 0x62, 0xbc, 0xd7, 0x3b, 0xc1, 0x3b, 0x3d, 0xc7, 0xed, 0x50, 0xb0, 0x95, 0xd9, 0xe2,
+	0x0a, 0x91, 0x72, 0xc3, 0x15, 0x91, 0xb9, 0x0c, 0x17, 0x73, 0xb6, 0x71, 0x2a, 0x6b, 0xff, 0x00,
+	0x4c, 0x3e, 0x8c, 0xc3, 0xa3, 0x67, 0x30, 0x25, 0x7f, 0xb8, 0xa0, 0x2b, 0xf9, 0xa4, 0x32, 0x3f,
+	0x0d, 0xeb, 0xe6, 0x20, 0x15, 0x31, 0xa6, 0xc7, 0x10, 0x86, 0xb9, 0x34, 0x0d, 0x45, 0x1a, 0x9e,
+	0xad, 0xe5, 0xe8, 0xf5, 0xd5, 0xe1, 0x8a, 0x6a, 0x98, 0x34, 0xa3, 0xd3, 0x85, 0xd1, 0x12, 0x54,
+	0x5d, 0x98, 0x02, 0x72, 0x38, 0x86, 0x8e, 0xa0, 0x9a, 0x65, 0x74, 0xe8, 0x66, 0xde, 0xbe, 0x80,
+	0x42, 0xd6, 0x3f, 0x1a, 0x45, 0x35, 0x09, 0xd6, 0x82, 0x49, 0x41, 0xdd, 0xd0, 0x4a, 0xde, 0x30,
+	0xcd, 0x1e, 0xeb, 0x57, 0x06, 0x68, 0x24, 0x1e, 0xbf, 0x81, 0x73, 0x0a, 0x63, 0x43, 0x57, 0xf3,
+	0x36, 0x79, 0x62, 0x58, 0xbf, 0x36, 0x44, 0x2b, 0xf1, 0xfe, 0x03, 0x2c, 0xe9, 0x99, 0x15, 0xd2,
+	0xfc, 0x0f, 0x30, 0x90, 0x21, 0xd6, 0xef, 0x8c, 0x6e, 0x90, 0x0a, 0xaf, 0xe5, 0x33, 0xda, 0xf0,
+	0x83, 0xc8, 0x94, 0x36, 0xfc, 0x60, 0xaa, 0x34, 0x86, 0xde, 0x52, 0xda, 0x3b, 0x90, 0xbb, 0xa0,
+	0xbb, 0x45, 0xa7, 0x3f, 0x98, 0x5e, 0xd5, 0x3f, 0x7d, 0x67, 0xbb, 0x24, 0x29, 0xbb, 0x3f, 0x83,
+	0xd9, 0x04, 0x42, 0xd7, 0x8a, 0x67, 0x8d, 0xf2, 0xf8, 0xd6, 0xaf, 0x0f, 0x53, 0x93, 0x01, 0xee,
+	0x18, 0xa8, 0x0d, 0xb3, 0x29, 0x2e, 0x85, 0x34, 0xc6, 0x3a, 0xaa, 0x56, 0xbf, 0x31, 0x54, 0x4f,
+	0xed, 0x5b, 0x85, 0xdb, 0xe8, 0xfa, 0x36, 0xcf, 0xb9, 0x74, 0x7d, 0xab, 0x21, 0x48, 0xd4, 0xfb,
+	0x21, 0xcc, 0x67, 0xc6, 0x23, 0xd2, 0xcc, 0x04, 0xfd, 0xf4, 0xad, 0xdf, 0x1c, 0x41, 0x53, 0x46,
+	0x7a, 0x70, 0x05, 0x96, 0x5d, 0xd2, 0x78, 0x83, 0x71, 0x1b, 0x37, 0x52, 0x7f, 0xc6, 0x51, 0xb3,
+	0xd6, 0xd8, 0xd7, 0x25, 0xbf, 0xdd, 0x9e, 0xe0, 0xfb, 0x8f, 0xff, 0x05, 0x7f, 0x62, 0x53, 0xd3,
+	0xad, 0x13, 0x00, 0x00,
 }
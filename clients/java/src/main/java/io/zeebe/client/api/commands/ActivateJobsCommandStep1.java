@@ -115,5 +115,19 @@ public interface ActivateJobsCommandStep1 {
      *     it to the broker.
      */
     ActivateJobsCommandStep3 fetchVariables(String... fetchVariables);
+
+    /**
+     * Set the time for how long the request waits for jobs to become available.
+     *
+     * <p>If no job can be activated, the request is held open until jobs of this type are available
+     * or until the time is over. Then the request is completed with the activated jobs, if any.
+     *
+     * <p>If no time is set then the request completes immediately, even if no job was activated.
+     *
+     * @param requestTimeout the time as duration (e.g. "Duration.ofSeconds(30)")
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    ActivateJobsCommandStep3 requestTimeout(Duration requestTimeout);
   }
 }
@@ -145,6 +145,20 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 pollInterval(Duration pollInterval);
 
+    /**
+     * Set the time for how long a poll request waits for jobs to become available.
+     *
+     * <p>If no job can be activated, the poll request is held open by the gateway until jobs of
+     * this type are available or until the time is over. This reduces the latency between creating
+     * a job and activating it, without polling more frequently.
+     *
+     * <p>If no time is set then a poll request completes immediately, even if no job was activated.
+     *
+     * @param requestTimeout the time to wait for jobs (e.g. "Duration.ofSeconds(30)")
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 requestTimeout(Duration requestTimeout);
+
     /**
      * Set a list of variable names which should be fetch on job activation.
      *
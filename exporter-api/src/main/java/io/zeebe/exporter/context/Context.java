@@ -15,6 +15,9 @@
  */
 package io.zeebe.exporter.context;
 
+import io.zeebe.protocol.clientapi.RecordType;
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.protocol.intent.Intent;
 import org.slf4j.Logger;
 
 /** Encapsulates context associated with the exporter on open. */
@@ -24,4 +27,48 @@ public interface Context {
 
   /** @return configuration for this exporter */
   Configuration getConfiguration();
+
+  /**
+   * Sets a filter which is applied to the metadata of each record before the record is mapped and
+   * passed to the exporter. Records which are not accepted are never exported to this exporter, so
+   * an exporter which is only interested in some records avoids deserializing all the others.
+   *
+   * <p>Should be called in {@link io.zeebe.exporter.spi.Exporter#configure(Context)}. By default,
+   * all records are accepted.
+   *
+   * <p>The default implementation ignores the filter, so that existing implementations of this
+   * interface stay compatible.
+   *
+   * @param filter the filter to apply
+   */
+  default void setFilter(RecordFilter filter) {
+    // accept all records
+  }
+
+  /** Filters records by their metadata. Each method accepts all values by default. */
+  interface RecordFilter {
+    /**
+     * @param recordType the type of the record
+     * @return true if records of this type should be exported
+     */
+    default boolean acceptType(RecordType recordType) {
+      return true;
+    }
+
+    /**
+     * @param valueType the value type of the record
+     * @return true if records of this value type should be exported
+     */
+    default boolean acceptValue(ValueType valueType) {
+      return true;
+    }
+
+    /**
+     * @param intent the intent of the record
+     * @return true if records with this intent should be exported
+     */
+    default boolean acceptIntent(Intent intent) {
+      return true;
+    }
+  }
 }
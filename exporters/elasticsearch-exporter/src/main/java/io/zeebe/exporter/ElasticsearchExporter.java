@@ -45,6 +45,8 @@ public class ElasticsearchExporter implements Exporter {
     configuration =
         context.getConfiguration().instantiate(ElasticsearchExporterConfiguration.class);
     log.debug("Exporter configured with {}", configuration);
+
+    context.setFilter(new ElasticsearchRecordFilter());
   }
 
   @Override
@@ -195,4 +197,16 @@ public class ElasticsearchExporter implements Exporter {
         return false;
     }
   }
+
+  private class ElasticsearchRecordFilter implements Context.RecordFilter {
+    @Override
+    public boolean acceptType(RecordType recordType) {
+      return shouldIndexRecordType(recordType);
+    }
+
+    @Override
+    public boolean acceptValue(ValueType valueType) {
+      return shouldIndexValueType(valueType);
+    }
+  }
 }
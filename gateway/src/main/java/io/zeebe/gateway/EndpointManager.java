@@ -17,6 +17,7 @@ package io.zeebe.gateway;
 
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
 import io.zeebe.gateway.impl.broker.BrokerClient;
@@ -51,6 +52,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateWorkflowInstancePayloadRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateWorkflowInstancePayloadResponse;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 
 public class EndpointManager extends GatewayGrpc.GatewayImplBase {
@@ -59,10 +61,11 @@ public class EndpointManager extends GatewayGrpc.GatewayImplBase {
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
 
-  public EndpointManager(final BrokerClient brokerClient) {
+  public EndpointManager(
+      final BrokerClient brokerClient, final ScheduledExecutorService timeoutScheduler) {
     this.brokerClient = brokerClient;
     this.topologyManager = brokerClient.getTopologyManager();
-    this.activateJobsHandler = new ActivateJobsHandler(brokerClient);
+    this.activateJobsHandler = new ActivateJobsHandler(brokerClient, timeoutScheduler);
   }
 
   @Override
@@ -183,6 +186,13 @@ public class EndpointManager extends GatewayGrpc.GatewayImplBase {
   @Override
   public void activateJobs(
       ActivateJobsRequest request, StreamObserver<ActivateJobsResponse> responseObserver) {
+    // the cancel handler can only be set before this method returns
+    if (responseObserver instanceof ServerCallStreamObserver) {
+      ((ServerCallStreamObserver<ActivateJobsResponse>) responseObserver)
+          .setOnCancelHandler(
+              () -> activateJobsHandler.cancel(request.getType(), responseObserver));
+    }
+
     topologyManager.withTopology(
         topology ->
             activateJobsHandler.activateJobs(
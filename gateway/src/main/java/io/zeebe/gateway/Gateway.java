@@ -23,6 +23,8 @@ import io.zeebe.gateway.impl.broker.BrokerClientImpl;
 import io.zeebe.gateway.impl.configuration.GatewayCfg;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import org.slf4j.Logger;
 
@@ -46,6 +48,7 @@ public class Gateway {
 
   private Server server;
   private BrokerClient brokerClient;
+  private ScheduledExecutorService requestTimeoutScheduler;
 
   public Gateway(GatewayCfg gatewayCfg) {
     this(gatewayCfg, DEFAULT_SERVER_BUILDER_FACTORY);
@@ -69,11 +72,18 @@ public class Gateway {
     LOG.info("Starting gateway with configuration {}", gatewayCfg.toJson());
 
     brokerClient = buildBrokerClient();
+    requestTimeoutScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              final Thread thread = new Thread(r, "gateway-request-timeout");
+              thread.setDaemon(true);
+              return thread;
+            });
 
     server =
         serverBuilderFactory
             .apply(gatewayCfg)
-            .addService(new EndpointManager(brokerClient))
+            .addService(new EndpointManager(brokerClient, requestTimeoutScheduler))
             .build();
 
     server.start();
@@ -100,6 +110,11 @@ public class Gateway {
       }
     }
 
+    if (requestTimeoutScheduler != null) {
+      requestTimeoutScheduler.shutdownNow();
+      requestTimeoutScheduler = null;
+    }
+
     if (brokerClient != null) {
       brokerClient.close();
       brokerClient = null;
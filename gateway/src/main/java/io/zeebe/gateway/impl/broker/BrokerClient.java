@@ -20,6 +20,7 @@ import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 public interface BrokerClient extends AutoCloseable {
 
@@ -33,4 +34,10 @@ public interface BrokerClient extends AutoCloseable {
       Consumer<Throwable> throwableConsumer);
 
   BrokerTopologyManager getTopologyManager();
+
+  /**
+   * Registers a listener which is called with the job type and the number of jobs whenever a broker
+   * notifies that jobs of this type became available for activation.
+   */
+  void addJobsAvailableListener(ObjIntConsumer<String> listener);
 }
@@ -15,8 +15,6 @@
  */
 package io.zeebe.gateway.impl.broker;
 
-import io.zeebe.dispatcher.Dispatcher;
-import io.zeebe.dispatcher.Dispatchers;
 import io.zeebe.gateway.Loggers;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
@@ -38,16 +36,17 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 import org.slf4j.Logger;
 
 public class BrokerClientImpl implements BrokerClient {
   public static final Logger LOG = Loggers.GATEWAY_LOGGER;
 
   protected final ActorScheduler actorScheduler;
-  private final Dispatcher dataFrameReceiveBuffer;
   protected final ClientTransport transport;
   private final ClientTransport internalTransport;
   private final BrokerRequestManager requestManager;
+  private final JobsAvailableNotificationHandler jobsAvailableNotificationHandler;
   protected final BrokerTopologyManagerImpl topologyManager;
 
   protected boolean isClosed;
@@ -69,18 +68,14 @@ public class BrokerClientImpl implements BrokerClient {
 
     final ByteValue transportBufferSize = configuration.getCluster().getTransportBuffer();
 
-    dataFrameReceiveBuffer =
-        Dispatchers.create("gateway-receive-buffer")
-            .bufferSize(transportBufferSize)
-            .modePubSub()
-            .frameMaxLength(1024 * 1024)
-            .actorScheduler(actorScheduler)
-            .build();
+    // messages pushed by the brokers are handed directly to the listener, there is no
+    // receive buffer as nobody would consume it
+    jobsAvailableNotificationHandler = new JobsAvailableNotificationHandler();
 
     final ClientTransportBuilder transportBuilder =
         Transports.newClientTransport("broker-client")
             .messageMaxLength(1024 * 1024)
-            .messageReceiveBuffer(dataFrameReceiveBuffer)
+            .inputListener(jobsAvailableNotificationHandler)
             .messageMemoryPool(
                 new UnboundedMemoryPool()) // Client is not sending any heavy messages
             .requestMemoryPool(new NonBlockingMemoryPool(transportBufferSize))
@@ -143,8 +138,6 @@ public class BrokerClientImpl implements BrokerClient {
     LOG.debug("transport closed");
     doAndLogException(internalTransport::close);
     LOG.debug("internal transport closed");
-    doAndLogException(dataFrameReceiveBuffer::close);
-    LOG.debug("data frame receive buffer closed");
 
     try {
       actorScheduler.stop().get(15, TimeUnit.SECONDS);
@@ -183,6 +176,11 @@ public class BrokerClientImpl implements BrokerClient {
     return topologyManager;
   }
 
+  @Override
+  public void addJobsAvailableListener(ObjIntConsumer<String> listener) {
+    jobsAvailableNotificationHandler.addListener(listener);
+  }
+
   public ClientTransport getTransport() {
     return transport;
   }
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import io.zeebe.protocol.clientapi.JobsAvailableNotificationDecoder;
+import io.zeebe.protocol.clientapi.MessageHeaderDecoder;
+import io.zeebe.transport.ClientInputListener;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ObjIntConsumer;
+import org.agrona.DirectBuffer;
+
+/** Receives the notifications a broker pushes when jobs of a type become available. */
+public class JobsAvailableNotificationHandler implements ClientInputListener {
+
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final JobsAvailableNotificationDecoder notificationDecoder =
+      new JobsAvailableNotificationDecoder();
+
+  private final List<ObjIntConsumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+  public void addListener(ObjIntConsumer<String> listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void onResponse(
+      int streamId, long requestId, DirectBuffer buffer, int offset, int length) {
+    // responses are handled by the request manager
+  }
+
+  @Override
+  public void onMessage(int streamId, DirectBuffer buffer, int offset, int length) {
+    headerDecoder.wrap(buffer, offset);
+
+    if (headerDecoder.schemaId() == JobsAvailableNotificationDecoder.SCHEMA_ID
+        && headerDecoder.templateId() == JobsAvailableNotificationDecoder.TEMPLATE_ID) {
+      notificationDecoder.wrap(
+          buffer,
+          offset + headerDecoder.encodedLength(),
+          headerDecoder.blockLength(),
+          headerDecoder.version());
+
+      final int jobsCount = notificationDecoder.jobsCount();
+      final String jobType = notificationDecoder.jobType();
+      listeners.forEach(l -> l.accept(jobType, jobsCount));
+    }
+  }
+}
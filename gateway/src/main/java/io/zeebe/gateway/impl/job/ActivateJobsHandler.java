@@ -15,81 +15,374 @@
  */
 package io.zeebe.gateway.impl.job;
 
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.gateway.Loggers;
 import io.zeebe.gateway.RequestMapper;
 import io.zeebe.gateway.ResponseMapper;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Activates jobs by sending a request to multiple partitions at once. The requested amount is split
+ * across the partitions, and at most as many partitions are asked as jobs are requested, so that no
+ * more jobs are activated than requested. Partitions which returned their full share may have more
+ * jobs, so they are asked again together with the partitions which were not asked yet, for the
+ * amount that is still missing. If the request is cancelled in the meantime, the activated jobs are
+ * failed with unchanged retries, so they can be activated again right away instead of waiting for
+ * their timeout.
+ *
+ * <p>If no job could be activated and the request has a request timeout, the request is parked
+ * until a broker notifies that jobs of the type are available, or until the timeout is reached. A
+ * notification resumes only as many parked requests as jobs became available, since each of them
+ * activates at least one job. A broker notifies a client only once, so when a request activated
+ * jobs, the next parked request of the type is resumed; it either gets the remaining jobs or asks
+ * the brokers to be notified again. A parked request is removed once the client cancels it.
+ */
 public class ActivateJobsHandler {
 
-  private final Map<String, Integer> jobTypeToNextPartitionId = new HashMap<>();
+  private final Map<String, Integer> jobTypeToNextPartitionId = new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
+  private final ScheduledExecutorService timeoutScheduler;
+
+  // guarded by this
+  private final Map<String, List<LongPollingRequest>> parkedRequests = new HashMap<>();
+  private final Map<String, Long> notificationCounts = new HashMap<>();
 
-  public ActivateJobsHandler(BrokerClient brokerClient) {
+  public ActivateJobsHandler(BrokerClient brokerClient, ScheduledExecutorService timeoutScheduler) {
     this.brokerClient = brokerClient;
+    this.timeoutScheduler = timeoutScheduler;
+
+    brokerClient.addJobsAvailableListener(this::onJobsAvailable);
   }
 
   public void activateJobs(
       int partitionsCount,
       ActivateJobsRequest request,
       StreamObserver<ActivateJobsResponse> responseObserver) {
-    activateJobs(
-        RequestMapper.toActivateJobsRequest(request),
-        partitionIdIteratorForType(request.getType(), partitionsCount),
-        request.getAmount(),
-        request.getType(),
-        responseObserver);
-  }
-
-  private void activateJobs(
-      BrokerActivateJobsRequest request,
-      PartitionIdIterator partitionIdIterator,
-      int remainingAmount,
-      String jobType,
-      StreamObserver<ActivateJobsResponse> responseObserver) {
-    if (remainingAmount > 0 && partitionIdIterator.hasNext()) {
-      // partitions to check and jobs to activate left
-      request.setPartitionId(partitionIdIterator.next());
-      request.setAmount(remainingAmount);
+    final LongPollingRequest longPollingRequest =
+        new LongPollingRequest(partitionsCount, request, responseObserver);
+
+    if (request.getRequestTimeout() > 0) {
+      longPollingRequest.timeout =
+          timeoutScheduler.schedule(
+              () -> onTimeout(longPollingRequest),
+              request.getRequestTimeout(),
+              TimeUnit.MILLISECONDS);
+    }
+
+    startRound(longPollingRequest);
+  }
+
+  private void startRound(LongPollingRequest request) {
+    final String jobType = request.request.getType();
+
+    synchronized (this) {
+      request.notificationCountAtStart = notificationCounts.getOrDefault(jobType, 0L);
+    }
+
+    synchronized (request) {
+      request.remainingAmount = request.request.getAmount();
+    }
+
+    final List<Integer> partitionIds = new ArrayList<>(request.partitionsCount);
+    partitionIdIteratorForType(jobType, request.partitionsCount)
+        .forEachRemaining(partitionIds::add);
+
+    activateJobs(request, partitionIds, request.request.getAmount());
+  }
+
+  private void activateJobs(LongPollingRequest request, List<Integer> partitionIds, int amount) {
+    final int partitionsToAsk = Math.min(partitionIds.size(), amount);
+    if (partitionsToAsk <= 0) {
+      onFanOutCompleted(request, new FanOut(0));
+      return;
+    }
+
+    final int share = amount / partitionsToAsk;
+    final int extra = amount % partitionsToAsk;
+
+    final FanOut fanOut = new FanOut(partitionsToAsk);
+    fanOut.unaskedPartitions.addAll(partitionIds.subList(partitionsToAsk, partitionIds.size()));
+
+    for (int i = 0; i < partitionsToAsk; i++) {
+      final int partitionId = partitionIds.get(i);
+      final int partitionAmount = share + (i < extra ? 1 : 0);
+
+      final BrokerActivateJobsRequest brokerRequest =
+          RequestMapper.toActivateJobsRequest(request.request);
+      brokerRequest.setPartitionId(partitionId);
+      brokerRequest.setAmount(partitionAmount);
+
       brokerClient.sendRequest(
-          request,
-          (key, response) -> {
-            final ActivateJobsResponse grpcResponse =
-                ResponseMapper.toActivateJobsResponse(key, response);
-            final int jobsCount = grpcResponse.getJobsCount();
-            if (jobsCount > 0) {
-              responseObserver.onNext(grpcResponse);
-            }
-            activateJobs(
-                request,
-                partitionIdIterator,
-                remainingAmount - jobsCount,
-                jobType,
-                responseObserver);
-          },
+          brokerRequest,
+          (key, response) ->
+              onPartitionResponse(
+                  request,
+                  fanOut,
+                  partitionId,
+                  partitionAmount,
+                  ResponseMapper.toActivateJobsResponse(key, response)),
           error -> {
             Loggers.GATEWAY_LOGGER.warn(
                 "Failed to activate jobs for type {} from partition {}",
-                jobType,
-                partitionIdIterator.getCurrentPartitionId(),
+                request.request.getType(),
+                partitionId,
                 error);
-            activateJobs(request, partitionIdIterator, remainingAmount, jobType, responseObserver);
+            onPartitionResponse(request, fanOut, partitionId, partitionAmount, null);
           });
+    }
+  }
+
+  private void onPartitionResponse(
+      LongPollingRequest request,
+      FanOut fanOut,
+      int partitionId,
+      int requestedAmount,
+      ActivateJobsResponse response) {
+    final boolean fanOutCompleted;
+
+    // responses of different partitions arrive concurrently, but the observer is not thread safe
+    synchronized (request) {
+      if (response != null) {
+        final int jobsCount = response.getJobsCount();
+        // the jobs of a cancelled request can't be delivered anymore
+        final int acceptedJobsCount = request.isCancelled() ? 0 : request.remainingAmount;
+        final int forwardedJobsCount = Math.max(0, Math.min(jobsCount, acceptedJobsCount));
+
+        if (forwardedJobsCount < jobsCount) {
+          returnJobs(response.getJobsList().subList(forwardedJobsCount, jobsCount));
+        }
+
+        if (forwardedJobsCount > 0) {
+          request.responseObserver.onNext(
+              forwardedJobsCount < jobsCount
+                  ? ActivateJobsResponse.newBuilder()
+                      .addAllJobs(response.getJobsList().subList(0, forwardedJobsCount))
+                      .build()
+                  : response);
+          request.remainingAmount -= forwardedJobsCount;
+        }
+
+        if (jobsCount >= requestedAmount) {
+          // the partition may have more jobs
+          fanOut.remainingPartitions.add(partitionId);
+        }
+      }
+
+      fanOutCompleted = --fanOut.pendingRequests == 0;
+    }
+
+    if (fanOutCompleted) {
+      onFanOutCompleted(request, fanOut);
+    }
+  }
+
+  /** Makes the given jobs, which can't be delivered to the client, activatable again. */
+  private void returnJobs(List<ActivatedJob> jobs) {
+    for (final ActivatedJob job : jobs) {
+      brokerClient.sendRequest(
+          new BrokerFailJobRequest(job.getKey(), job.getRetries()),
+          (key, response) -> {},
+          error ->
+              Loggers.GATEWAY_LOGGER.debug(
+                  "Failed to return job {}, it can be activated after its timeout",
+                  job.getKey(),
+                  error));
+    }
+  }
+
+  private void onFanOutCompleted(LongPollingRequest request, FanOut fanOut) {
+    final int remainingAmount;
+    synchronized (request) {
+      remainingAmount = request.remainingAmount;
+    }
+
+    // the partitions which returned their full share are asked first, since they may have more jobs
+    final List<Integer> partitionIds = fanOut.remainingPartitions;
+    partitionIds.addAll(fanOut.unaskedPartitions);
+
+    if (remainingAmount > 0 && !partitionIds.isEmpty()) {
+      activateJobs(request, partitionIds, remainingAmount);
     } else {
-      // enough jobs activated or no more partitions left to check
-      jobTypeToNextPartitionId.put(jobType, partitionIdIterator.getCurrentPartitionId() + 1);
-      responseObserver.onCompleted();
+      final boolean jobsActivated = remainingAmount < request.request.getAmount();
+      if (jobsActivated || remainingAmount <= 0 || !parkOrRetry(request)) {
+        complete(request);
+      }
+
+      if (jobsActivated) {
+        final List<LongPollingRequest> requests;
+        synchronized (this) {
+          requests = unparkRequests(request.request.getType(), 1);
+        }
+        requests.forEach(this::startRound);
+      }
+    }
+  }
+
+  /**
+   * @return true if the request was parked or retried and must not be completed yet, false if it
+   *     should be completed
+   */
+  private boolean parkOrRetry(LongPollingRequest request) {
+    final String jobType = request.request.getType();
+
+    synchronized (this) {
+      if (request.timeout == null || request.timedOut || request.isCancelled()) {
+        return false;
+      }
+
+      final long notificationCount = notificationCounts.getOrDefault(jobType, 0L);
+      if (notificationCount == request.notificationCountAtStart) {
+        parkedRequests.computeIfAbsent(jobType, t -> new ArrayList<>()).add(request);
+        return true;
+      }
+    }
+
+    // jobs became available while the partitions were polled, try again right away
+    startRound(request);
+    return true;
+  }
+
+  private void onJobsAvailable(String jobType, int jobsCount) {
+    final List<LongPollingRequest> requests;
+
+    synchronized (this) {
+      notificationCounts.merge(jobType, 1L, Long::sum);
+      requests = unparkRequests(jobType, jobsCount);
+    }
+
+    requests.forEach(this::startRound);
+  }
+
+  /** Removes up to the given number of parked requests of the job type, the oldest ones first. */
+  private List<LongPollingRequest> unparkRequests(String jobType, int count) {
+    final List<LongPollingRequest> requests = parkedRequests.get(jobType);
+    if (requests == null) {
+      return Collections.emptyList();
+    }
+
+    final List<LongPollingRequest> unparkedRequests =
+        requests.subList(0, Math.min(count, requests.size()));
+    final List<LongPollingRequest> result = new ArrayList<>(unparkedRequests);
+    unparkedRequests.clear();
+
+    if (requests.isEmpty()) {
+      parkedRequests.remove(jobType);
+    }
+    return result;
+  }
+
+  private void onTimeout(LongPollingRequest request) {
+    final boolean wasParked;
+
+    synchronized (this) {
+      request.timedOut = true;
+
+      final List<LongPollingRequest> requests = parkedRequests.get(request.request.getType());
+      wasParked = requests != null && requests.remove(request);
+    }
+
+    // if the request is not parked, a round is in progress which completes it
+    if (wasParked) {
+      synchronized (request) {
+        request.responseObserver.onCompleted();
+      }
+    }
+  }
+
+  /**
+   * Removes the parked request of the given response observer, if any. If the request is not
+   * parked, a round is in progress which doesn't park it again, since the call is cancelled.
+   */
+  public void cancel(String jobType, StreamObserver<ActivateJobsResponse> responseObserver) {
+    LongPollingRequest cancelledRequest = null;
+
+    synchronized (this) {
+      final List<LongPollingRequest> requests = parkedRequests.get(jobType);
+      if (requests != null) {
+        final Iterator<LongPollingRequest> iterator = requests.iterator();
+        while (iterator.hasNext() && cancelledRequest == null) {
+          final LongPollingRequest request = iterator.next();
+          if (request.responseObserver == responseObserver) {
+            iterator.remove();
+            cancelledRequest = request;
+          }
+        }
+      }
+    }
+
+    if (cancelledRequest != null && cancelledRequest.timeout != null) {
+      cancelledRequest.timeout.cancel(false);
+    }
+  }
+
+  private void complete(LongPollingRequest request) {
+    if (request.timeout != null) {
+      request.timeout.cancel(false);
+    }
+
+    synchronized (request) {
+      request.responseObserver.onCompleted();
     }
   }
 
   private PartitionIdIterator partitionIdIteratorForType(String jobType, int partitionsCount) {
-    final Integer nextPartitionId = jobTypeToNextPartitionId.computeIfAbsent(jobType, t -> 0);
+    // rotate the first partition, it gets the bigger share if the amount can't be split evenly
+    final int nextPartitionId =
+        partitionsCount > 0
+            ? jobTypeToNextPartitionId.getOrDefault(jobType, 0) % partitionsCount
+            : 0;
+    jobTypeToNextPartitionId.put(jobType, nextPartitionId + 1);
     return new PartitionIdIterator(nextPartitionId, partitionsCount);
   }
+
+  private static final class FanOut {
+    private final List<Integer> remainingPartitions = new ArrayList<>();
+    private final List<Integer> unaskedPartitions = new ArrayList<>();
+    private int pendingRequests;
+
+    private FanOut(int pendingRequests) {
+      this.pendingRequests = pendingRequests;
+    }
+  }
+
+  private static final class LongPollingRequest {
+    private final int partitionsCount;
+    private final ActivateJobsRequest request;
+    private final StreamObserver<ActivateJobsResponse> responseObserver;
+
+    private ScheduledFuture<?> timeout;
+    private boolean timedOut;
+    private long notificationCountAtStart;
+    private int remainingAmount;
+
+    private LongPollingRequest(
+        int partitionsCount,
+        ActivateJobsRequest request,
+        StreamObserver<ActivateJobsResponse> responseObserver) {
+      this.partitionsCount = partitionsCount;
+      this.request = request;
+      this.responseObserver = responseObserver;
+    }
+
+    private boolean isCancelled() {
+      return responseObserver instanceof ServerCallStreamObserver
+          && ((ServerCallStreamObserver<ActivateJobsResponse>) responseObserver).isCancelled();
+    }
+  }
 }
@@ -21,6 +21,8 @@ import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.data.MsgPackConverter;
 import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.LongStream;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -49,6 +51,9 @@ public class ActivateJobsStub
   public static final DirectBuffer PAYLOAD_MSGPACK =
       new UnsafeBuffer(MSG_PACK_CONVERTER.convertToMsgPack(PAYLOAD));
 
+  private volatile int availableJobs = Integer.MAX_VALUE;
+  private final Map<Integer, Integer> availableJobsByPartition = new ConcurrentHashMap<>();
+
   public long getJobBatchKey() {
     return JOB_BATCH_KEY;
   }
@@ -93,6 +98,14 @@ public class ActivateJobsStub
     return ELEMENT_INSTANCE_KEY;
   }
 
+  public void setAvailableJobs(int availableJobs) {
+    this.availableJobs = availableJobs;
+  }
+
+  public void setAvailableJobs(int partitionId, int availableJobs) {
+    availableJobsByPartition.put(partitionId, availableJobs);
+  }
+
   @Override
   public BrokerResponse<JobBatchRecord> handle(BrokerActivateJobsRequest request) throws Exception {
     final JobBatchRecord requestDto = request.getRequestWriter();
@@ -102,7 +115,18 @@ public class ActivateJobsStub
     response.setWorker(requestDto.getWorker());
     response.setType(requestDto.getType());
     response.setTimeout(requestDto.getTimeout());
-    addJobs(response, requestDto.getAmount(), requestDto.getType(), requestDto.getWorker());
+
+    final int partitionId = request.getPartitionId();
+    final int amount;
+    if (availableJobsByPartition.isEmpty()) {
+      amount = Math.min(requestDto.getAmount(), availableJobs);
+      availableJobs -= amount;
+    } else {
+      amount =
+          Math.min(requestDto.getAmount(), availableJobsByPartition.getOrDefault(partitionId, 0));
+      availableJobsByPartition.computeIfPresent(partitionId, (id, available) -> available - amount);
+    }
+    addJobs(response, amount, requestDto.getType(), requestDto.getWorker());
 
     return new BrokerResponse<>(response, 0, JOB_BATCH_KEY);
   }
@@ -15,14 +15,19 @@
  */
 package io.zeebe.gateway.api.job;
 
+import static io.zeebe.test.util.TestUtil.waitUntil;
 import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.gateway.api.util.GatewayTest;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.protocol.PartitionState;
+import io.zeebe.protocol.impl.data.cluster.TopologyResponseDto;
+import io.zeebe.protocol.impl.data.cluster.TopologyResponseDto.BrokerDto;
 import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.zeebe.test.util.JsonUtil;
 import io.zeebe.util.buffer.BufferUtil;
@@ -30,6 +35,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Test;
 
 public class ActivateJobsTest extends GatewayTest {
@@ -95,4 +101,293 @@ public class ActivateJobsTest extends GatewayTest {
         .extracting(v -> BufferUtil.bufferAsString(v.getValue()))
         .containsExactlyInAnyOrderElementsOf(fetchVariables);
   }
+
+  @Test
+  public void shouldWaitForJobsIfNoneAvailable() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.setAvailableJobs(0);
+    stub.registerWith(gateway);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("testJob")
+            .setWorker("testWorker")
+            .setAmount(3)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .setRequestTimeout(Duration.ofMinutes(1).toMillis())
+            .build();
+
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+    waitUntil(() -> gateway.getBrokerRequests().size() == 1);
+
+    // when
+    stub.setAvailableJobs(2);
+    gateway.notifyJobsAvailable("testJob", 2);
+
+    // then
+    assertThat(responses.hasNext()).isTrue();
+    assertThat(responses.next().getJobsCount()).isEqualTo(2);
+    assertThat(responses.hasNext()).isFalse();
+    assertThat(gateway.getBrokerRequests()).hasSize(2);
+  }
+
+  @Test
+  public void shouldResumeOnlyAsManyWaitingRequestsAsJobsAvailable() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.setAvailableJobs(0);
+    stub.registerWith(gateway);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("testJob")
+            .setWorker("testWorker")
+            .setAmount(1)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .setRequestTimeout(Duration.ofSeconds(2).toMillis())
+            .build();
+
+    final List<Iterator<ActivateJobsResponse>> responses =
+        Arrays.asList(
+            client.activateJobs(request),
+            client.activateJobs(request),
+            client.activateJobs(request));
+    waitUntil(() -> gateway.getBrokerRequests().size() == 3);
+
+    // when
+    stub.setAvailableJobs(1);
+    gateway.notifyJobsAvailable("testJob", 1);
+
+    // then
+    // one request is resumed and gets the job, then the next one is resumed and waits again
+    assertThat(gateway.getBrokerRequests()).hasSize(5);
+
+    int activatedJobs = 0;
+    for (final Iterator<ActivateJobsResponse> iterator : responses) {
+      while (iterator.hasNext()) {
+        activatedJobs += iterator.next().getJobsCount();
+      }
+    }
+    assertThat(activatedJobs).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCompleteWaitingRequestOnTimeout() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.setAvailableJobs(0);
+    stub.registerWith(gateway);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("testJob")
+            .setWorker("testWorker")
+            .setAmount(3)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .setRequestTimeout(Duration.ofMillis(100).toMillis())
+            .build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    assertThat(responses.hasNext()).isFalse();
+    assertThat(gateway.getBrokerRequests()).hasSize(1);
+  }
+
+  @Test
+  public void shouldCompleteImmediatelyWithoutRequestTimeout() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.setAvailableJobs(0);
+    stub.registerWith(gateway);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("testJob")
+            .setWorker("testWorker")
+            .setAmount(3)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    assertThat(responses.hasNext()).isFalse();
+  }
+
+  @Test
+  public void shouldSplitAmountAcrossPartitions() {
+    // given
+    providePartitions(4);
+
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(gateway);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("testJob")
+            .setWorker("testWorker")
+            .setAmount(10)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    int activatedJobs = 0;
+    while (responses.hasNext()) {
+      activatedJobs += responses.next().getJobsCount();
+    }
+    assertThat(activatedJobs).isEqualTo(10);
+
+    final List<BrokerActivateJobsRequest> brokerRequests = getBrokerRequests();
+    assertThat(brokerRequests)
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .containsExactlyInAnyOrder(0, 1, 2, 3);
+    assertThat(brokerRequests)
+        .extracting(r -> r.getRequestWriter().getAmount())
+        .containsExactlyInAnyOrder(3, 3, 2, 2);
+  }
+
+  @Test
+  public void shouldActivateRemainingJobsFromPartitionsWithMoreJobs() {
+    // given
+    providePartitions(4);
+
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.setAvailableJobs(2, 10);
+    stub.registerWith(gateway);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("testJob")
+            .setWorker("testWorker")
+            .setAmount(8)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    int activatedJobs = 0;
+    while (responses.hasNext()) {
+      activatedJobs += responses.next().getJobsCount();
+    }
+    assertThat(activatedJobs).isEqualTo(8);
+
+    final List<BrokerActivateJobsRequest> brokerRequests = getBrokerRequests();
+    assertThat(brokerRequests).hasSize(5);
+    assertThat(brokerRequests.get(4).getPartitionId()).isEqualTo(2);
+    assertThat(brokerRequests.get(4).getRequestWriter().getAmount()).isEqualTo(6);
+  }
+
+  @Test
+  public void shouldNotAskMorePartitionsThanJobsRequested() {
+    // given
+    providePartitions(4);
+
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(gateway);
+    new FailJobStub().registerWith(gateway);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("testJob")
+            .setWorker("testWorker")
+            .setAmount(2)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    int activatedJobs = 0;
+    while (responses.hasNext()) {
+      activatedJobs += responses.next().getJobsCount();
+    }
+    assertThat(activatedJobs).isEqualTo(2);
+
+    final List<BrokerActivateJobsRequest> brokerRequests = getBrokerRequests();
+    assertThat(brokerRequests)
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .containsExactlyInAnyOrder(0, 1);
+    assertThat(brokerRequests)
+        .extracting(r -> r.getRequestWriter().getAmount())
+        .containsExactly(1, 1);
+
+    assertThat(getBrokerRequests(BrokerFailJobRequest.class)).isEmpty();
+  }
+
+  @Test
+  public void shouldAskRemainingPartitionsIfJobsAreMissing() {
+    // given
+    providePartitions(4);
+
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.setAvailableJobs(3, 10);
+    stub.registerWith(gateway);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("testJob")
+            .setWorker("testWorker")
+            .setAmount(2)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    int activatedJobs = 0;
+    while (responses.hasNext()) {
+      activatedJobs += responses.next().getJobsCount();
+    }
+    assertThat(activatedJobs).isEqualTo(2);
+
+    final List<BrokerActivateJobsRequest> brokerRequests = getBrokerRequests();
+    assertThat(brokerRequests)
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .containsExactlyInAnyOrder(0, 1, 2, 3, 3);
+    assertThat(brokerRequests.get(4).getPartitionId()).isEqualTo(3);
+    assertThat(brokerRequests.get(4).getRequestWriter().getAmount()).isEqualTo(1);
+  }
+
+  private List<BrokerActivateJobsRequest> getBrokerRequests() {
+    return getBrokerRequests(BrokerActivateJobsRequest.class);
+  }
+
+  private <T> List<T> getBrokerRequests(Class<T> requestType) {
+    return gateway
+        .getBrokerRequests()
+        .stream()
+        .filter(requestType::isInstance)
+        .map(requestType::cast)
+        .collect(Collectors.toList());
+  }
+
+  private void providePartitions(int partitionsCount) {
+    final TopologyResponseDto topology = new TopologyResponseDto();
+    topology.setPartitionsCount(partitionsCount).setClusterSize(1).setReplicationFactor(1);
+
+    final BrokerDto broker = topology.brokers().add();
+    broker.setHost("localhost").setPort(26501).setNodeId(0);
+
+    for (int partitionId = 0; partitionId < partitionsCount; partitionId++) {
+      broker
+          .partitionStates()
+          .add()
+          .setPartitionId(partitionId)
+          .setReplicationFactor(1)
+          .setState(PartitionState.LEADER);
+    }
+
+    gateway.getBrokerClient().getTopologyManager().provideTopology(topology);
+  }
 }
@@ -38,11 +38,12 @@ import io.zeebe.protocol.PartitionState;
 import io.zeebe.protocol.impl.data.cluster.TopologyResponseDto;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class StubbedGateway extends Gateway {
@@ -50,7 +51,8 @@ public class StubbedGateway extends Gateway {
   private static final String SERVER_NAME = "server";
 
   private Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
-  private List<BrokerRequest> brokerRequests = new ArrayList<>();
+  private List<BrokerRequest> brokerRequests = new CopyOnWriteArrayList<>();
+  private List<ObjIntConsumer<String>> jobsAvailableListeners = new CopyOnWriteArrayList<>();
 
   public StubbedGateway() {
     super(new GatewayCfg(), cfg -> InProcessServerBuilder.forName(SERVER_NAME));
@@ -78,6 +80,14 @@ public class StubbedGateway extends Gateway {
     return (T) brokerRequests.get(0);
   }
 
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
+  }
+
+  public void notifyJobsAvailable(String jobType, int jobsCount) {
+    jobsAvailableListeners.forEach(l -> l.accept(jobType, jobsCount));
+  }
+
   private class StubbedBrokerClient implements BrokerClient {
 
     BrokerTopologyManager topologyManager = new StubbedTopologyManager();
@@ -117,6 +127,11 @@ public class StubbedGateway extends Gateway {
     public BrokerTopologyManager getTopologyManager() {
       return topologyManager;
     }
+
+    @Override
+    public void addJobsAvailableListener(ObjIntConsumer<String> listener) {
+      jobsAvailableListeners.add(listener);
+    }
   }
 
   private class StubbedTopologyManager implements BrokerTopologyManager {
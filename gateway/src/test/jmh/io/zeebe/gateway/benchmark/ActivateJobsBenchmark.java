@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.gateway.benchmark;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.api.job.ActivateJobsStub;
+import io.zeebe.gateway.impl.broker.BrokerClient;
+import io.zeebe.gateway.impl.broker.BrokerResponseConsumer;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of one ActivateJobs request against many partitions, where only a few
+ * partitions have jobs of the requested type. Every broker request is answered after a simulated
+ * round trip time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ActivateJobsBenchmark {
+
+  private static final String JOB_TYPE = "benchmark";
+
+  @Param({"8", "32", "64"})
+  public int partitionsCount;
+
+  /** one out of this many partitions has jobs */
+  @Param({"16"})
+  public int partitionsPerPartitionWithJobs;
+
+  @Param({"1"})
+  public long roundTripTimeMillis;
+
+  private ScheduledExecutorService scheduler;
+  private ActivateJobsHandler handler;
+  private ActivateJobsRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler = Executors.newScheduledThreadPool(4);
+
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    for (int partitionId = 0; partitionId < partitionsCount; partitionId++) {
+      final boolean hasJobs = partitionId % partitionsPerPartitionWithJobs == 0;
+      stub.setAvailableJobs(partitionId, hasJobs ? Integer.MAX_VALUE : 0);
+    }
+
+    handler =
+        new ActivateJobsHandler(
+            new SimulatedBrokerClient(stub, scheduler, roundTripTimeMillis), scheduler);
+
+    request =
+        ActivateJobsRequest.newBuilder()
+            .setType(JOB_TYPE)
+            .setWorker("benchmark-worker")
+            .setAmount(32)
+            .setTimeout(TimeUnit.MINUTES.toMillis(5))
+            .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int activateJobs() throws Exception {
+    final CountingObserver observer = new CountingObserver();
+    handler.activateJobs(partitionsCount, request, observer);
+    return observer.completed.get();
+  }
+
+  private static final class CountingObserver implements StreamObserver<ActivateJobsResponse> {
+    private final CompletableFuture<Integer> completed = new CompletableFuture<>();
+    private int activatedJobs;
+
+    @Override
+    public void onNext(ActivateJobsResponse response) {
+      activatedJobs += response.getJobsCount();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      completed.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {
+      completed.complete(activatedJobs);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final class SimulatedBrokerClient implements BrokerClient {
+    private final ActivateJobsStub stub;
+    private final ScheduledExecutorService scheduler;
+    private final long roundTripTimeMillis;
+
+    private SimulatedBrokerClient(
+        ActivateJobsStub stub, ScheduledExecutorService scheduler, long roundTripTimeMillis) {
+      this.stub = stub;
+      this.scheduler = scheduler;
+      this.roundTripTimeMillis = roundTripTimeMillis;
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public <T> ActorFuture<BrokerResponse<T>> sendRequest(BrokerRequest<T> request) {
+      throw new UnsupportedOperationException("not implemented");
+    }
+
+    @Override
+    public <T> void sendRequest(
+        BrokerRequest<T> request,
+        BrokerResponseConsumer<T> responseConsumer,
+        Consumer<Throwable> throwableConsumer) {
+      try {
+        final BrokerResponse<T> response =
+            (BrokerResponse<T>) stub.handle((BrokerActivateJobsRequest) request);
+        scheduler.schedule(
+            () -> responseConsumer.accept(response.getKey(), response.getResponse()),
+            roundTripTimeMillis,
+            TimeUnit.MILLISECONDS);
+      } catch (Exception e) {
+        throwableConsumer.accept(e);
+      }
+    }
+
+    @Override
+    public BrokerTopologyManager getTopologyManager() {
+      return null;
+    }
+
+    @Override
+    public void addJobsAvailableListener(ObjIntConsumer<String> listener) {}
+  }
+}
@@ -15,26 +15,66 @@
  */
 package io.zeebe.msgpack.el;
 
+import io.zeebe.msgpack.jsonpath.JsonPathQuery;
+import io.zeebe.msgpack.spec.MsgPackToken;
+
 public final class CompiledJsonCondition {
+  private static final int[] EMPTY_PROGRAM = new int[0];
+  private static final MsgPackToken[] NO_CONSTANTS = new MsgPackToken[0];
+  private static final String[] NO_PATH_EXPRESSIONS = new String[0];
+  private static final JsonPathQuery[] NO_PATH_QUERIES = new JsonPathQuery[0];
+
   private final String expression;
   private final JsonCondition condition;
   private final boolean isValid;
   private final String errorMessage;
 
+  // see JsonConditionCompiler
+  private final int[] program;
+  private final MsgPackToken[] constants;
+  private final String[] pathExpressions;
+  private final JsonPathQuery[] pathQueries;
+
   private CompiledJsonCondition(
-      String expression, JsonCondition condition, boolean isValid, String errorMessage) {
+      String expression,
+      JsonCondition condition,
+      boolean isValid,
+      String errorMessage,
+      int[] program,
+      MsgPackToken[] constants,
+      String[] pathExpressions,
+      JsonPathQuery[] pathQueries) {
     this.expression = expression;
     this.condition = condition;
     this.isValid = isValid;
     this.errorMessage = errorMessage;
+    this.program = program;
+    this.constants = constants;
+    this.pathExpressions = pathExpressions;
+    this.pathQueries = pathQueries;
   }
 
-  public static CompiledJsonCondition success(String expression, JsonCondition condition) {
-    return new CompiledJsonCondition(expression, condition, true, null);
+  static CompiledJsonCondition success(
+      String expression,
+      JsonCondition condition,
+      int[] program,
+      MsgPackToken[] constants,
+      String[] pathExpressions,
+      JsonPathQuery[] pathQueries) {
+    return new CompiledJsonCondition(
+        expression, condition, true, null, program, constants, pathExpressions, pathQueries);
   }
 
   public static CompiledJsonCondition fail(String expression, String errorMessage) {
-    return new CompiledJsonCondition(expression, null, false, errorMessage);
+    return new CompiledJsonCondition(
+        expression,
+        null,
+        false,
+        errorMessage,
+        EMPTY_PROGRAM,
+        NO_CONSTANTS,
+        NO_PATH_EXPRESSIONS,
+        NO_PATH_QUERIES);
   }
 
   public String getExpression() {
@@ -53,6 +93,26 @@ public final class CompiledJsonCondition {
     return errorMessage;
   }
 
+  int[] getProgram() {
+    return program;
+  }
+
+  MsgPackToken getConstant(int index) {
+    return constants[index];
+  }
+
+  int getPathCount() {
+    return pathExpressions.length;
+  }
+
+  String getPathExpression(int index) {
+    return pathExpressions[index];
+  }
+
+  JsonPathQuery getPathQuery(int index) {
+    return pathQueries[index];
+  }
+
   @Override
   public String toString() {
     final StringBuilder builder = new StringBuilder();
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.msgpack.el;
+
+import io.zeebe.msgpack.jsonpath.JsonPathQuery;
+import io.zeebe.msgpack.spec.MsgPackToken;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiles a parsed condition into a flat program, so that it can be evaluated without walking the
+ * condition tree.
+ *
+ * <p>A comparison is encoded as its opcode, followed by its two operands. An operand is either the
+ * index of a JSON path of the condition ({@code >= 0}) or the encoded index of a constant ({@code <
+ * 0}, see {@link #constantIndex(int)}). Conjunctions and disjunctions are encoded as conditional
+ * jumps, which are followed by the position to jump to. The program has a single result register
+ * which is set by each comparison.
+ */
+final class JsonConditionCompiler {
+  static final int EQUAL = 0;
+  static final int NOT_EQUAL = 1;
+  static final int LESS_THAN = 2;
+  static final int LESS_OR_EQUAL = 3;
+  static final int GREATER_THAN = 4;
+  static final int GREATER_OR_EQUAL = 5;
+  static final int JUMP_IF_TRUE = 6;
+  static final int JUMP_IF_FALSE = 7;
+
+  private final List<MsgPackToken> constants = new ArrayList<>();
+  private final List<String> pathExpressions = new ArrayList<>();
+  private final List<JsonPathQuery> pathQueries = new ArrayList<>();
+
+  private int[] program = new int[16];
+  private int programLength;
+
+  static CompiledJsonCondition compile(String expression, JsonCondition condition) {
+    final JsonConditionCompiler compiler = new JsonConditionCompiler();
+    compiler.compileCondition(condition);
+
+    return CompiledJsonCondition.success(
+        expression,
+        condition,
+        Arrays.copyOf(compiler.program, compiler.programLength),
+        compiler.constants.toArray(new MsgPackToken[0]),
+        compiler.pathExpressions.toArray(new String[0]),
+        compiler.pathQueries.toArray(new JsonPathQuery[0]));
+  }
+
+  /** @return the encoded operand of a constant, which can be decoded the same way */
+  static int constantIndex(int operand) {
+    return -operand - 1;
+  }
+
+  private void compileCondition(JsonCondition condition) {
+    if (condition instanceof Comparison) {
+      compileComparison((Comparison) condition);
+    } else if (condition instanceof Disjunction) {
+      final Disjunction disjunction = (Disjunction) condition;
+
+      compileOperator(disjunction.x(), disjunction.y(), JUMP_IF_TRUE);
+    } else if (condition instanceof Conjunction) {
+      final Conjunction conjunction = (Conjunction) condition;
+
+      compileOperator(conjunction.x(), conjunction.y(), JUMP_IF_FALSE);
+    } else {
+      throw new RuntimeException(String.format("Illegal condition: %s", condition));
+    }
+  }
+
+  private void compileOperator(JsonCondition x, JsonCondition y, int jump) {
+    compileCondition(x);
+
+    // skip the second condition if the first one determines the result already
+    emit(jump);
+    final int jumpTargetPosition = programLength;
+    emit(-1);
+
+    compileCondition(y);
+
+    program[jumpTargetPosition] = programLength;
+  }
+
+  private void compileComparison(Comparison comparison) {
+    emit(getOpcode(comparison));
+    emit(getOperand(comparison.x()));
+    emit(getOperand(comparison.y()));
+  }
+
+  private int getOpcode(Comparison comparison) {
+    if (comparison instanceof Equal) {
+      return EQUAL;
+    } else if (comparison instanceof NotEqual) {
+      return NOT_EQUAL;
+    } else if (comparison instanceof LessThan) {
+      return LESS_THAN;
+    } else if (comparison instanceof LessOrEqual) {
+      return LESS_OR_EQUAL;
+    } else if (comparison instanceof GreaterThan) {
+      return GREATER_THAN;
+    } else if (comparison instanceof GreaterOrEqual) {
+      return GREATER_OR_EQUAL;
+    } else {
+      throw new RuntimeException(String.format("Illegal comparison: %s", comparison));
+    }
+  }
+
+  private int getOperand(JsonObject value) {
+    if (value instanceof JsonConstant) {
+      final JsonConstant constant = (JsonConstant) value;
+
+      constants.add(constant.token());
+      return constantIndex(constants.size() - 1);
+    } else if (value instanceof JsonPath) {
+      final JsonPath jsonPath = (JsonPath) value;
+
+      // a path which is used more than once is only queried once
+      final int index = pathExpressions.indexOf(jsonPath.value());
+      if (index >= 0) {
+        return index;
+      }
+
+      pathExpressions.add(jsonPath.value());
+      pathQueries.add(jsonPath.query());
+      return pathExpressions.size() - 1;
+    } else {
+      throw new RuntimeException(String.format("Illegal value: %s", value));
+    }
+  }
+
+  private void emit(int value) {
+    if (programLength == program.length) {
+      program = Arrays.copyOf(program, programLength * 2);
+    }
+
+    program[programLength++] = value;
+  }
+}
@@ -15,137 +15,147 @@
  */
 package io.zeebe.msgpack.el;
 
-import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
-
 import io.zeebe.msgpack.jsonpath.JsonPathQuery;
 import io.zeebe.msgpack.query.MsgPackQueryExecutor;
+import io.zeebe.msgpack.query.MsgPackTokenVisitor;
 import io.zeebe.msgpack.query.MsgPackTraverser;
 import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.msgpack.spec.MsgPackToken;
 import io.zeebe.msgpack.spec.MsgPackType;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.Arrays;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Evaluates compiled conditions on a msgpack document.
+ *
+ * <p>All JSON paths of a condition which are not cached yet are queried in a single pass over the
+ * document. The results are cached until another document is wrapped, so that multiple conditions
+ * on the same document (e.g. of the outgoing sequence flows of a gateway) share them.
+ */
 public class JsonConditionInterpreter {
-  private final MsgPackQueryExecutor visitor = new MsgPackQueryExecutor();
   private final MsgPackTraverser traverser = new MsgPackTraverser();
+  private final QueryExecutors queryExecutors = new QueryExecutors();
 
   private final MsgPackReader msgPackReader1 = new MsgPackReader();
   private final MsgPackReader msgPackReader2 = new MsgPackReader();
 
   private final JsonPathCache cache = new JsonPathCache();
+  private final DirectBuffer document = new UnsafeBuffer(0, 0);
+
+  // the cache entries of the paths of the current condition
+  private int[] pathEntries = new int[8];
 
-  public boolean eval(final JsonCondition condition, final DirectBuffer json) {
-    cache.wrap(json);
-    return evalCondition(condition, json);
+  public boolean eval(final CompiledJsonCondition condition, final DirectBuffer json) {
+    wrap(json);
+    return eval(condition);
   }
 
-  private boolean evalCondition(final JsonCondition condition, final DirectBuffer json) {
-    final boolean isFulFilled;
+  /** Sets the document on which the following conditions are evaluated. */
+  public void wrap(final DirectBuffer json) {
+    document.wrap(json);
+    cache.clear();
+  }
 
-    if (condition instanceof Comparison) {
-      isFulFilled = evalComparison((Comparison) condition, json);
-    } else if (condition instanceof Disjunction) {
-      final Disjunction disjunction = (Disjunction) condition;
+  /** Evaluates the condition on the document which was wrapped last. */
+  public boolean eval(final CompiledJsonCondition condition) {
+    resolvePaths(condition);
 
-      isFulFilled = evalCondition(disjunction.x(), json) || evalCondition(disjunction.y(), json);
-    } else if (condition instanceof Conjunction) {
-      final Conjunction conjunction = (Conjunction) condition;
+    final int[] program = condition.getProgram();
+    boolean isFulFilled = false;
+    int position = 0;
 
-      isFulFilled = evalCondition(conjunction.x(), json) && evalCondition(conjunction.y(), json);
-    } else {
-      throw new RuntimeException(String.format("Illegal condition: %s", condition));
-    }
+    while (position < program.length) {
+      final int opcode = program[position];
 
-    return isFulFilled;
-  }
+      switch (opcode) {
+        case JsonConditionCompiler.JUMP_IF_TRUE:
+          position = isFulFilled ? program[position + 1] : position + 2;
+          break;
+        case JsonConditionCompiler.JUMP_IF_FALSE:
+          position = isFulFilled ? position + 2 : program[position + 1];
+          break;
+        default:
+          final MsgPackToken x = getToken(condition, program[position + 1], msgPackReader1);
+          final MsgPackToken y = getToken(condition, program[position + 2], msgPackReader2);
 
-  private boolean evalComparison(Comparison comparison, DirectBuffer json) {
-    final MsgPackToken x = getToken(comparison.x(), json, msgPackReader1);
-    final MsgPackToken y = getToken(comparison.y(), json, msgPackReader2);
-
-    if (comparison instanceof Equal) {
-      return equals(x, y);
-    } else if (comparison instanceof NotEqual) {
-      return notEquals(x, y);
-    } else if (comparison instanceof LessThan) {
-      return lessThan(x, y);
-    } else if (comparison instanceof LessOrEqual) {
-      return lessThanOrEqual(x, y);
-    } else if (comparison instanceof GreaterThan) {
-      return greaterThan(x, y);
-    } else if (comparison instanceof GreaterOrEqual) {
-      return greaterThanOrEqual(x, y);
-    } else {
-      throw new RuntimeException(String.format("Illegal comparison: %s", comparison));
+          isFulFilled = evalComparison(opcode, x, y);
+          position += 3;
+          break;
+      }
     }
-  }
 
-  private MsgPackToken getToken(JsonObject value, DirectBuffer json, MsgPackReader msgPackReader) {
-    if (value instanceof JsonConstant) {
-      final JsonConstant constant = (JsonConstant) value;
-
-      return constant.token();
-    } else if (value instanceof JsonPath) {
-      final JsonPath jsonPath = (JsonPath) value;
+    return isFulFilled;
+  }
 
-      return getPathResult(jsonPath, json, msgPackReader);
-    } else {
-      throw new RuntimeException(String.format("Illegal value: %s", value));
+  private void resolvePaths(CompiledJsonCondition condition) {
+    final int pathCount = condition.getPathCount();
+    if (pathEntries.length < pathCount) {
+      pathEntries = Arrays.copyOf(pathEntries, pathCount);
     }
-  }
 
-  private MsgPackToken getPathResult(
-      final JsonPath path, DirectBuffer json, MsgPackReader msgPackReader) {
-    final int pathId = path.id();
-    // id > 0 if the path is used more than once in the condition
-    final boolean cachable = pathId > 0;
+    queryExecutors.clear();
 
-    final DirectBuffer resultBuffer = cachable ? cache.get(pathId) : null;
+    for (int p = 0; p < pathCount; p++) {
+      final String pathExpression = condition.getPathExpression(p);
+      int entry = cache.get(pathExpression);
 
-    if (resultBuffer != null) {
-      if (resultBuffer.capacity() == 0) {
-        return MsgPackToken.NIL;
-      }
-      msgPackReader.wrap(resultBuffer, 0, resultBuffer.capacity());
-    } else {
-      if (!readQueryResult(path.query(), json)) {
-        if (cachable) {
-          cache.put(pathId, 0, 0);
-        }
-        return MsgPackToken.NIL;
+      if (entry == JsonPathCache.NO_ENTRY) {
+        entry = cache.add(pathExpression);
+        queryExecutors.add(condition.getPathQuery(p), entry);
       }
 
-      final int offset = visitor.currentResultPosition();
-      final int length = visitor.currentResultLength();
+      pathEntries[p] = entry;
+    }
 
-      msgPackReader.wrap(json, offset, length);
+    if (queryExecutors.size() > 0) {
+      traverser.wrap(document, 0, document.capacity());
+      traverser.traverse(queryExecutors);
 
-      if (cachable) {
-        cache.put(pathId, offset, length);
-      }
+      queryExecutors.putResults(cache);
     }
-
-    return msgPackReader.readToken();
   }
 
-  private boolean readQueryResult(JsonPathQuery query, DirectBuffer json) {
-    visitor.init(query.getFilters(), query.getFilterInstances());
-    traverser.wrap(json, 0, json.capacity());
+  private MsgPackToken getToken(
+      CompiledJsonCondition condition, int operand, MsgPackReader msgPackReader) {
+    if (operand < 0) {
+      return condition.getConstant(JsonConditionCompiler.constantIndex(operand));
+    }
 
-    traverser.traverse(visitor);
+    final int entry = pathEntries[operand];
+    final int resultCount = cache.getResultCount(entry);
 
-    if (visitor.numResults() == 0) {
-      return false;
-    } else if (visitor.numResults() > 1) {
+    if (resultCount == 0) {
+      return MsgPackToken.NIL;
+    } else if (resultCount > 1) {
       // such a JSON path expression should not be valid
       throw new JsonConditionException(
           String.format(
-              "JSON path '%s' has more than one result.", bufferAsString(query.getExpression())));
+              "JSON path '%s' has more than one result.", condition.getPathExpression(operand)));
     }
 
-    visitor.moveToResult(0);
-    return true;
+    msgPackReader.wrap(document, cache.getOffset(entry), cache.getLength(entry));
+    return msgPackReader.readToken();
+  }
+
+  private boolean evalComparison(int opcode, MsgPackToken x, MsgPackToken y) {
+    switch (opcode) {
+      case JsonConditionCompiler.EQUAL:
+        return equals(x, y);
+      case JsonConditionCompiler.NOT_EQUAL:
+        return notEquals(x, y);
+      case JsonConditionCompiler.LESS_THAN:
+        return lessThan(x, y);
+      case JsonConditionCompiler.LESS_OR_EQUAL:
+        return lessThanOrEqual(x, y);
+      case JsonConditionCompiler.GREATER_THAN:
+        return greaterThan(x, y);
+      case JsonConditionCompiler.GREATER_OR_EQUAL:
+        return greaterThanOrEqual(x, y);
+      default:
+        throw new RuntimeException(String.format("Illegal comparison: %d", opcode));
+    }
   }
 
   private boolean equals(MsgPackToken x, MsgPackToken y) {
@@ -243,4 +253,60 @@ public class JsonConditionInterpreter {
           String.format("Cannot compare values. Expected number but found: %s", x.getType()));
     }
   }
+
+  /** Executes multiple queries in a single pass over the document. */
+  private static class QueryExecutors implements MsgPackTokenVisitor {
+    private MsgPackQueryExecutor[] executors = new MsgPackQueryExecutor[0];
+    private int[] cacheEntries = new int[0];
+    private int size;
+
+    void clear() {
+      size = 0;
+    }
+
+    void add(JsonPathQuery query, int cacheEntry) {
+      if (size == executors.length) {
+        final int capacity = Math.max(4, size * 2);
+        executors = Arrays.copyOf(executors, capacity);
+        cacheEntries = Arrays.copyOf(cacheEntries, capacity);
+
+        for (int i = size; i < capacity; i++) {
+          executors[i] = new MsgPackQueryExecutor();
+        }
+      }
+
+      executors[size].init(query.getFilters(), query.getFilterInstances());
+      cacheEntries[size] = cacheEntry;
+      size++;
+    }
+
+    int size() {
+      return size;
+    }
+
+    @Override
+    public void visitElement(int position, MsgPackToken currentValue) {
+      for (int i = 0; i < size; i++) {
+        executors[i].visitElement(position, currentValue);
+      }
+    }
+
+    void putResults(JsonPathCache cache) {
+      for (int i = 0; i < size; i++) {
+        final MsgPackQueryExecutor executor = executors[i];
+        final int resultCount = executor.numResults();
+
+        if (resultCount > 0) {
+          executor.moveToResult(0);
+          cache.put(
+              cacheEntries[i],
+              resultCount,
+              executor.currentResultPosition(),
+              executor.currentResultLength());
+        } else {
+          cache.put(cacheEntries[i], 0, 0, 0);
+        }
+      }
+    }
+  }
 }
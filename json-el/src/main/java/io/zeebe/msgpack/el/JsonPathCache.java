@@ -16,67 +16,73 @@
 package io.zeebe.msgpack.el;
 
 import java.util.Arrays;
-import org.agrona.DirectBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.collections.Object2IntHashMap;
 
+/**
+ * Caches the results of JSON path queries on one document, so that a path is only queried once,
+ * even if it is used by multiple conditions. The results are identified by the path expression.
+ */
 public class JsonPathCache {
+  public static final int NO_ENTRY = -1;
+
   private static final int INITIAL_CAPACITY = 12;
 
+  private final Object2IntHashMap<String> entries = new Object2IntHashMap<>(NO_ENTRY);
+
   private int size = 0;
   private int capacity = INITIAL_CAPACITY;
 
-  private int[] keys = new int[INITIAL_CAPACITY];
-
+  private int[] resultCounts = new int[INITIAL_CAPACITY];
   private int[] offsets = new int[INITIAL_CAPACITY];
   private int[] lengths = new int[INITIAL_CAPACITY];
 
-  private final DirectBuffer valueBuffer = new UnsafeBuffer(0, 0);
-  private final DirectBuffer bufferView = new UnsafeBuffer(0, 0);
-
-  public void wrap(DirectBuffer buffer) {
-    valueBuffer.wrap(buffer);
-
+  public void clear() {
+    entries.clear();
     size = 0;
   }
 
-  public DirectBuffer get(int key) {
-    for (int k = 0; k < size; k++) {
-      if (key == keys[k]) {
-        final int offset = offsets[k];
-        final int length = lengths[k];
-
-        bufferView.wrap(valueBuffer, offset, length);
-
-        return bufferView;
-      }
-    }
-    return null;
+  /** @return the entry of the path, or {@link #NO_ENTRY} if the path is not cached */
+  public int get(String pathExpression) {
+    return entries.getValue(pathExpression);
   }
 
-  public void put(int key, int offset, int length) {
-    if (size > capacity) {
+  /** @return the new entry of the path, which has no result until it is put */
+  public int add(String pathExpression) {
+    if (size == capacity) {
       capacity = capacity * 2;
 
-      keys = Arrays.copyOf(keys, capacity);
+      resultCounts = Arrays.copyOf(resultCounts, capacity);
       offsets = Arrays.copyOf(offsets, capacity);
       lengths = Arrays.copyOf(lengths, capacity);
     }
 
-    keys[size] = key;
-    offsets[size] = offset;
-    lengths[size] = length;
+    final int entry = size;
+    resultCounts[entry] = 0;
+    entries.put(pathExpression, entry);
 
     size += 1;
+    return entry;
   }
 
-  public int size() {
-    return size;
+  public void put(int entry, int resultCount, int offset, int length) {
+    resultCounts[entry] = resultCount;
+    offsets[entry] = offset;
+    lengths[entry] = length;
+  }
+
+  public int getResultCount(int entry) {
+    return resultCounts[entry];
+  }
+
+  public int getOffset(int entry) {
+    return offsets[entry];
   }
 
-  public void reset() {
-    capacity = INITIAL_CAPACITY;
-    keys = new int[INITIAL_CAPACITY];
-    offsets = new int[INITIAL_CAPACITY];
-    lengths = new int[INITIAL_CAPACITY];
+  public int getLength(int entry) {
+    return lengths[entry];
+  }
+
+  public int size() {
+    return size;
   }
 }
@@ -15,20 +15,53 @@
  */
 package io.zeebe.msgpack.mapping;
 
+import io.zeebe.util.buffer.BufferUtil;
 import java.util.Arrays;
+import org.agrona.DirectBuffer;
 
 public class JsonPathPointer {
 
   private final String[] pathElements;
+  private final DirectBuffer[] pathElementBuffers;
+  private final boolean[] indexElements;
 
   public JsonPathPointer(String[] pathElements) {
     this.pathElements = pathElements;
+
+    this.pathElementBuffers = new DirectBuffer[pathElements.length];
+    this.indexElements = new boolean[pathElements.length];
+
+    for (int i = 0; i < pathElements.length; i++) {
+      pathElementBuffers[i] = BufferUtil.wrapString(pathElements[i]);
+      indexElements[i] = isIndex(pathElements[i]);
+    }
+  }
+
+  private static boolean isIndex(String pathElement) {
+    final int len = pathElement.length();
+    for (int i = 0; i < len; i++) {
+      final char currentChar = pathElement.charAt(i);
+      if (currentChar < '0' || currentChar > '9') {
+        return false;
+      }
+    }
+    return true;
   }
 
   public String[] getPathElements() {
     return pathElements;
   }
 
+  /** @return the path elements as UTF-8 encoded buffers */
+  public DirectBuffer[] getPathElementBuffers() {
+    return pathElementBuffers;
+  }
+
+  /** @return true, if the path element at the given position consists only of digits */
+  public boolean isIndexElement(int elementIndex) {
+    return indexElements[elementIndex];
+  }
+
   @Override
   public String toString() {
     return Arrays.toString(pathElements);
@@ -15,8 +15,6 @@
  */
 package io.zeebe.msgpack.mapping;
 
-import static io.zeebe.msgpack.mapping.MsgPackTreeNodeIdConstructor.construct;
-
 import io.zeebe.msgpack.spec.MsgPackWriter;
 import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
@@ -91,17 +89,6 @@ public class MappingDiff implements MsgPackDiff {
     mappingResults.putByte(mappingResultOffset, fromSourceDocument ? (byte) 1 : (byte) 0);
   }
 
-  private boolean isIndex(String nodeName) {
-    final int len = nodeName.length();
-    for (int i = 0; i < len; i++) {
-      final char currentChar = nodeName.charAt(i);
-      if (currentChar < '0' || currentChar > '9') {
-        return false;
-      }
-    }
-    return true;
-  }
-
   @Override
   public void mergeInto(MsgPackTree document) {
     final int constantsDocumentId = document.addDocument(CONSTANTS_DOCUMENT);
@@ -109,12 +96,13 @@ public class MappingDiff implements MsgPackDiff {
 
     for (int i = 0; i < mappings.length; i++) {
       final Mapping mapping = mappings[i];
-      final String[] targetPathElements = mapping.getTargetPointer().getPathElements();
+      final JsonPathPointer targetPointer = mapping.getTargetPointer();
+      final DirectBuffer[] targetPathElements = targetPointer.getPathElementBuffers();
 
-      String parentId = "";
+      int parentId = MsgPackTree.NO_NODE;
 
       for (int j = 0; j < targetPathElements.length; j++) {
-        final String nodeName = targetPathElements[j];
+        final DirectBuffer nodeName = targetPathElements[j];
 
         if (j == targetPathElements.length - 1) {
           final int valueOffset = getResultOffset(i);
@@ -132,25 +120,26 @@ public class MappingDiff implements MsgPackDiff {
               valueLength);
 
         } else {
-          parentId = mergeContainerInto(document, parentId, nodeName, targetPathElements[j + 1]);
+          final boolean isIndex = targetPointer.isIndexElement(j + 1);
+          parentId = mergeContainerInto(document, parentId, nodeName, isIndex);
         }
       }
     }
   }
 
-  private String mergeContainerInto(
-      MsgPackTree document, String parentId, String nodeName, String nextPathElement) {
+  private int mergeContainerInto(
+      MsgPackTree document, int parentId, DirectBuffer nodeName, boolean isNextElementIndex) {
 
-    final String nodeId = construct(parentId, nodeName);
+    final int nodeId = document.findNode(parentId, nodeName);
 
-    if (document.hasNode(nodeId)) {
-      if (!isIndex(nextPathElement)) {
+    if (nodeId != MsgPackTree.NO_NODE) {
+      if (!isNextElementIndex) {
         document.convertToMapNode(nodeId);
       }
 
       return nodeId;
     } else {
-      if (isIndex(nextPathElement)) {
+      if (isNextElementIndex) {
         return document.addArrayNode(parentId, nodeName);
       } else {
         return document.addMapNode(parentId, nodeName);
@@ -160,8 +149,8 @@ public class MappingDiff implements MsgPackDiff {
 
   private void mergeValueInto(
       MsgPackTree document,
-      String parentId,
-      String nodeName,
+      int parentId,
+      DirectBuffer nodeName,
       Mapping.Type mappingType,
       int documentId,
       int valueOffset,
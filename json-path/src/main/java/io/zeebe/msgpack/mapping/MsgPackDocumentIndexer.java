@@ -15,13 +15,15 @@
  */
 package io.zeebe.msgpack.mapping;
 
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
 import io.zeebe.msgpack.query.MsgPackTokenVisitor;
 import io.zeebe.msgpack.query.MsgPackTraverser;
 import io.zeebe.msgpack.spec.MsgPackCodes;
 import io.zeebe.msgpack.spec.MsgPackToken;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Represents an message pack document indexer. During the indexing of an existing message pack
@@ -88,10 +90,16 @@ import org.agrona.DirectBuffer;
  * </pre>
  */
 public final class MsgPackDocumentIndexer implements MsgPackTokenVisitor {
+  private static final DirectBuffer ROOT_KEY = wrapString(Mapping.JSON_ROOT_PATH);
+
   /** The message pack tree which is constructed via the indexing of the message pack document. */
   private final MsgPackTree msgPackTree;
 
-  private final Deque<TokenParseContext> parsingContextStack = new ArrayDeque<>();
+  /** The parse contexts are reused, only the first {@link #stackDepth} contexts are in use. */
+  private TokenParseContext[] parsingContextStack = new TokenParseContext[16];
+
+  private int stackDepth;
+
   private final MapEntryParseContext mapEntryContext = new MapEntryParseContext();
 
   /** The traverser which is used to index the message pack document. */
@@ -101,6 +109,10 @@ public final class MsgPackDocumentIndexer implements MsgPackTokenVisitor {
 
   public MsgPackDocumentIndexer() {
     msgPackTree = new MsgPackTree();
+
+    for (int i = 0; i < parsingContextStack.length; i++) {
+      parsingContextStack[i] = new TokenParseContext();
+    }
   }
 
   public MsgPackTree index(DirectBuffer document) {
@@ -110,8 +122,8 @@ public final class MsgPackDocumentIndexer implements MsgPackTokenVisitor {
       return msgPackTree;
     }
 
-    parsingContextStack.push(new TokenParseContext(ParsingMode.MAP_ENTRY, "", 1));
-    mapEntryContext.currentKey = "$";
+    pushParseContext(ParsingMode.MAP_ENTRY, MsgPackTree.NO_NODE, 1);
+    mapEntryContext.currentKey.wrap(ROOT_KEY);
     mapEntryContext.parsingMode = MapEntryParsingMode.VALUE;
 
     documentId = msgPackTree.addDocument(document);
@@ -128,88 +140,106 @@ public final class MsgPackDocumentIndexer implements MsgPackTokenVisitor {
   @Override
   public void visitElement(int position, MsgPackToken currentValue) {
 
-    final TokenParseContext tokenContext = parsingContextStack.peek();
+    final TokenParseContext tokenContext = parsingContextStack[stackDepth - 1];
     tokenContext.consumeRepetition();
 
     if (tokenContext.remainingRepetitions == 0) {
-      parsingContextStack.remove();
+      // the context may be reused by a nested container, so it must be read before that is pushed
+      stackDepth--;
     }
 
     switch (tokenContext.parsingMode) {
       case MAP_ENTRY:
         switch (mapEntryContext.parsingMode) {
           case KEY:
-            mapEntryContext.currentKey = parseMapKey(currentValue);
+            // the key is a view on the document, so it stays valid while the value is visited
+            mapEntryContext.currentKey.wrap(currentValue.getValueBuffer());
             mapEntryContext.parsingMode = MapEntryParsingMode.VALUE;
             break;
           case VALUE:
-            parseValue(tokenContext, mapEntryContext.currentKey, position, currentValue);
-            mapEntryContext.currentKey = "";
+            parseMapEntryValue(tokenContext, mapEntryContext.currentKey, position, currentValue);
             mapEntryContext.parsingMode = MapEntryParsingMode.KEY;
             break;
         }
         break;
       case ARRAY_ENTRY:
         final int index = tokenContext.repetitions - tokenContext.remainingRepetitions - 1;
-        final String key = Integer.toString(index);
 
-        parseValue(tokenContext, key, position, currentValue);
+        parseArrayEntryValue(tokenContext, index, position, currentValue);
 
         break;
     }
   }
 
-  private void parseValue(
-      TokenParseContext tokenContext, String key, int valuePosition, MsgPackToken value) {
+  private void parseMapEntryValue(
+      TokenParseContext tokenContext, DirectBuffer key, int valuePosition, MsgPackToken value) {
+    final int parentNodeId = tokenContext.parentNodeId;
 
     switch (value.getType()) {
       case MAP:
-        parseMapValue(tokenContext, key, value);
+        parseMapValue(msgPackTree.addMapNode(parentNodeId, key), value);
         break;
       case ARRAY:
-        parseArrayValue(tokenContext, key, value);
+        parseArrayValue(msgPackTree.addArrayNode(parentNodeId, key), value);
         break;
       default:
-        parsePrimitiveValue(tokenContext, key, valuePosition, value);
+        msgPackTree.addValueNode(
+            parentNodeId, key, documentId, valuePosition, value.getTotalLength());
         break;
     }
   }
 
-  private void parsePrimitiveValue(
-      TokenParseContext tokenContext, String key, int valuePosition, MsgPackToken value) {
-    msgPackTree.addValueNode(
-        tokenContext.parentNodeId, key, documentId, valuePosition, value.getTotalLength());
+  private void parseArrayEntryValue(
+      TokenParseContext tokenContext, int index, int valuePosition, MsgPackToken value) {
+    final int arrayNodeId = tokenContext.parentNodeId;
+
+    switch (value.getType()) {
+      case MAP:
+        parseMapValue(msgPackTree.addMapNode(arrayNodeId, index), value);
+        break;
+      case ARRAY:
+        parseArrayValue(msgPackTree.addArrayNode(arrayNodeId, index), value);
+        break;
+      default:
+        msgPackTree.addArrayElement(
+            arrayNodeId, index, documentId, valuePosition, value.getTotalLength());
+        break;
+    }
   }
 
-  private void parseArrayValue(TokenParseContext tokenContext, String key, MsgPackToken value) {
-    final String arrayNodeId = msgPackTree.addArrayNode(tokenContext.parentNodeId, key);
+  private void parseArrayValue(int arrayNodeId, MsgPackToken value) {
     final int arrayElements = value.getSize();
 
     if (arrayElements > 0) {
-      parsingContextStack.push(
-          new TokenParseContext(ParsingMode.ARRAY_ENTRY, arrayNodeId, arrayElements));
+      pushParseContext(ParsingMode.ARRAY_ENTRY, arrayNodeId, arrayElements);
     }
   }
 
-  private void parseMapValue(TokenParseContext tokenContext, String key, MsgPackToken value) {
-    final String nodeId = msgPackTree.addMapNode(tokenContext.parentNodeId, key);
+  private void parseMapValue(int nodeId, MsgPackToken value) {
     final int mapElements = value.getSize();
 
     if (mapElements > 0) {
-      parsingContextStack.push(
-          new TokenParseContext(ParsingMode.MAP_ENTRY, nodeId, mapElements * 2));
+      pushParseContext(ParsingMode.MAP_ENTRY, nodeId, mapElements * 2);
     }
   }
 
-  private String parseMapKey(MsgPackToken currentValue) {
-    final DirectBuffer valueBuffer = currentValue.getValueBuffer();
+  private void pushParseContext(ParsingMode parsingMode, int parentNodeId, int repetitions) {
+    if (stackDepth == parsingContextStack.length) {
+      final int capacity = parsingContextStack.length;
+      parsingContextStack = Arrays.copyOf(parsingContextStack, capacity * 2);
+
+      for (int i = capacity; i < parsingContextStack.length; i++) {
+        parsingContextStack[i] = new TokenParseContext();
+      }
+    }
 
-    return valueBuffer.getStringWithoutLengthUtf8(0, valueBuffer.capacity());
+    parsingContextStack[stackDepth].init(parsingMode, parentNodeId, repetitions);
+    stackDepth++;
   }
 
   /** Clears the preprocessor and resets to the initial state. */
   private void clear() {
-    parsingContextStack.clear();
+    stackDepth = 0;
     msgPackTree.clear();
   }
 
@@ -225,17 +255,17 @@ public final class MsgPackDocumentIndexer implements MsgPackTokenVisitor {
 
   static class MapEntryParseContext {
     private MapEntryParsingMode parsingMode;
-    private String currentKey;
+    private final UnsafeBuffer currentKey = new UnsafeBuffer(0, 0);
   }
 
   static class TokenParseContext {
-    final ParsingMode parsingMode;
-    final String parentNodeId;
-    final int repetitions;
+    ParsingMode parsingMode;
+    int parentNodeId;
+    int repetitions;
 
     int remainingRepetitions;
 
-    TokenParseContext(ParsingMode parsingMode, String parentNodeId, int repetitions) {
+    void init(ParsingMode parsingMode, int parentNodeId, int repetitions) {
       this.parsingMode = parsingMode;
       this.parentNodeId = parentNodeId;
       this.repetitions = repetitions;
@@ -15,16 +15,14 @@
  */
 package io.zeebe.msgpack.mapping;
 
-import static io.zeebe.msgpack.mapping.MsgPackTreeNodeIdConstructor.construct;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
 
 import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
-import java.util.Map;
-import java.util.Set;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
-import org.agrona.collections.Object2IntHashMap;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Represents a tree data structure, for a msg pack document.
@@ -36,87 +34,128 @@ import org.agrona.collections.Object2IntHashMap;
  * can be done with the {@link MsgPackDocumentIndexer}. It can also be constructed from only a port
  * of a message pack document. This can be done with the {@link MsgPackDocumentExtractor}.
  *
- * <p>The message pack tree can consist from two different message pack documents. The underlying
- * document, from which the tree is completely build and the extract document, which can be a part
- * of another message pack document. The tree representation of the extract document will be as well
- * added to the current message pack tree object.
+ * <p>The message pack tree can consist from multiple message pack documents. Since the leafs
+ * contains a mapping, which consist of document id, position and length, it is necessary that all
+ * documents are available for the message pack tree, so the leaf value can be resolved later.
  *
- * <p>Since the leafs contains a mapping, which consist of position and length, it is necessary that
- * both documents are available for the message pack tree, so the leaf value can be resolved later.
- * The leafs have to be distinguished, is it a leaf from the underlying document or is it from the
- * extract document. For this distinction the {@link MsgPackNodeType#EXISTING_LEAF_NODE} and {@link
- * MsgPackNodeType#EXTRACTED_LEAF_NODE} are used.
+ * <p>Nodes are identified by an int id, which is only valid until the tree is cleared. A node is
+ * addressed by its parent id and its name; the root node has the name {@link
+ * Mapping#JSON_ROOT_PATH} and no parent. The node names are copied into a buffer which is owned by
+ * the tree and all node attributes are stored in arrays indexed by the node id, so that the tree
+ * can be reused without allocating once it has grown to the size of the processed documents.
  */
 public class MsgPackTree implements MsgPackDiff {
-  protected final Map<String, MsgPackNodeType> nodeTypeMap; // Bytes2LongHashIndex nodeTypeMap;
-  protected final Map<String, Set<String>> nodeChildsMap;
-  protected final Map<String, Long> leafMap; // Bytes2LongHashIndex leafMap;
-  protected final Object2IntHashMap<String> leafDocumentSources;
+  public static final int NO_NODE = -1;
 
-  private DirectBuffer[] documents = new DirectBuffer[0];
+  private static final DirectBuffer ROOT_NAME = wrapString(Mapping.JSON_ROOT_PATH);
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private int nodeCount;
+
+  private MsgPackNodeType[] nodeTypes = new MsgPackNodeType[INITIAL_CAPACITY];
+  private int[] parents = new int[INITIAL_CAPACITY];
+  private int[] nameOffsets = new int[INITIAL_CAPACITY];
+  private int[] nameLengths = new int[INITIAL_CAPACITY];
+  private int[] nameHashes = new int[INITIAL_CAPACITY];
+
+  // children are kept as a linked list in insertion order
+  private int[] firstChildren = new int[INITIAL_CAPACITY];
+  private int[] lastChildren = new int[INITIAL_CAPACITY];
+  private int[] nextSiblings = new int[INITIAL_CAPACITY];
+  private int[] childCounts = new int[INITIAL_CAPACITY];
+  private boolean[] attached = new boolean[INITIAL_CAPACITY];
+
+  private int[] valueDocuments = new int[INITIAL_CAPACITY];
+  private int[] valueOffsets = new int[INITIAL_CAPACITY];
+  private int[] valueLengths = new int[INITIAL_CAPACITY];
+
+  /** open addressing index of (parent id, node name) => node id */
+  private int[] nodeIndex = new int[INITIAL_CAPACITY * 2];
+
+  private final ExpandableArrayBuffer names = new ExpandableArrayBuffer();
+  private int namesLength;
+
+  private DirectBuffer[] documents = new DirectBuffer[INITIAL_CAPACITY];
+  private int documentCount;
+
+  private final UnsafeBuffer nameView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer indexNameBuffer = new UnsafeBuffer(new byte[BitUtil.SIZE_OF_LONG * 2]);
 
   public MsgPackTree() {
-    nodeTypeMap = new HashMap<>();
-    nodeChildsMap = new HashMap<>();
-    leafMap = new HashMap<>();
-    leafDocumentSources = new Object2IntHashMap<>(-1);
+    Arrays.fill(nodeIndex, NO_NODE);
   }
 
   public int size() {
-    return nodeTypeMap.size();
+    return nodeCount;
   }
 
   public void clear() {
-    nodeChildsMap.clear();
-    nodeTypeMap.clear();
-    leafMap.clear();
-    leafDocumentSources.clear();
-    documents = new DirectBuffer[0];
-  }
+    nodeCount = 0;
+    namesLength = 0;
+    Arrays.fill(nodeIndex, NO_NODE);
 
-  /** @return the names (not IDs) of the child nodes */
-  public Set<String> getChildren(String nodeId) {
-    return nodeChildsMap.get(nodeId);
+    Arrays.fill(documents, 0, documentCount, null);
+    documentCount = 0;
   }
 
   public int addDocument(DirectBuffer document) {
-    documents = Arrays.copyOf(documents, documents.length + 1);
-    documents[documents.length - 1] = document;
-    return documents.length - 1;
+    if (documentCount == documents.length) {
+      documents = Arrays.copyOf(documents, documentCount * 2);
+    }
+
+    documents[documentCount] = document;
+    return documentCount++;
   }
 
-  private void addContainerNode(String nodeId, MsgPackNodeType nodeType) {
-    nodeTypeMap.put(nodeId, nodeType);
-    nodeChildsMap.put(nodeId, new LinkedHashSet<>());
+  /** @return the id of the root node, or {@link #NO_NODE} if the tree has no root */
+  public int getRootId() {
+    return findNode(NO_NODE, ROOT_NAME, 0, ROOT_NAME.capacity());
   }
 
-  private void addChildToNode(String parentId, String childName) {
-    if (!parentId.isEmpty()) {
-      nodeChildsMap.get(parentId).add(childName);
-    }
+  /** @return the id of the node, or {@link #NO_NODE} if the parent has no such node */
+  public int findNode(int parentId, DirectBuffer name) {
+    return findNode(parentId, name, 0, name.capacity());
+  }
+
+  public boolean hasNode(int parentId, DirectBuffer name) {
+    return findNode(parentId, name) != NO_NODE;
   }
 
-  public boolean isValueNode(String nodeId) {
-    return nodeTypeMap.get(nodeId) == MsgPackNodeType.VALUE;
+  /** @return a view of the node's name, which is only valid until the next call */
+  public DirectBuffer getNodeName(int nodeId) {
+    nameView.wrap(names, nameOffsets[nodeId], nameLengths[nodeId]);
+    return nameView;
   }
 
-  public boolean isArrayNode(String nodeId) {
-    return nodeTypeMap.get(nodeId) == MsgPackNodeType.ARRAY;
+  public int getChildCount(int nodeId) {
+    return childCounts[nodeId];
   }
 
-  public boolean isMapNode(String nodeId) {
-    return nodeTypeMap.get(nodeId) == MsgPackNodeType.MAP;
+  public int getFirstChild(int nodeId) {
+    return firstChildren[nodeId];
   }
 
-  public void writeValueNode(MsgPackWriter writer, String nodeId) {
-    final long mapping = leafMap.get(nodeId);
-    final int position = (int) (mapping >> 32);
-    final int length = (int) mapping;
+  public int getNextSibling(int nodeId) {
+    return nextSiblings[nodeId];
+  }
 
-    final int documentId = leafDocumentSources.getValue(nodeId);
-    final DirectBuffer sourceDocument = documents[documentId];
+  public boolean isValueNode(int nodeId) {
+    return nodeTypes[nodeId] == MsgPackNodeType.VALUE;
+  }
 
-    writer.writeRaw(sourceDocument, position, length);
+  public boolean isArrayNode(int nodeId) {
+    return nodeTypes[nodeId] == MsgPackNodeType.ARRAY;
+  }
+
+  public boolean isMapNode(int nodeId) {
+    return nodeTypes[nodeId] == MsgPackNodeType.MAP;
+  }
+
+  public void writeValueNode(MsgPackWriter writer, int nodeId) {
+    final DirectBuffer sourceDocument = documents[valueDocuments[nodeId]];
+
+    writer.writeRaw(sourceDocument, valueOffsets[nodeId], valueLengths[nodeId]);
   }
 
   /** Always replaces containers (object/array), unless it is the root object */
@@ -128,138 +167,345 @@ public class MsgPackTree implements MsgPackDiff {
      */
 
     final int newDocumentOffset =
-        other.documents.length; // => so we can map other document ids to this document id
+        other.documentCount; // => so we can map other document ids to this document id
 
-    for (DirectBuffer ourDocument : documents) {
-      other.addDocument(ourDocument);
+    for (int i = 0; i < documentCount; i++) {
+      other.addDocument(documents[i]);
     }
 
-    for (Map.Entry<String, MsgPackNodeType> leafMapEntry : nodeTypeMap.entrySet()) {
-      final String key = leafMapEntry.getKey();
-      final MsgPackNodeType nodeType = leafMapEntry.getValue();
+    final int rootId = getRootId();
+    if (rootId != NO_NODE) {
+      mergeNodeInto(other, NO_NODE, rootId, newDocumentOffset);
+    }
+  }
 
+  private void mergeNodeInto(
+      MsgPackTree other, int otherParentId, int nodeId, int newDocumentOffset) {
+    final int otherNodeId =
+        other.getOrCreateNode(otherParentId, names, nameOffsets[nodeId], nameLengths[nodeId]);
+    final MsgPackNodeType priorType = other.nodeTypes[otherNodeId];
+    final MsgPackNodeType nodeType = nodeTypes[nodeId];
+
+    if (nodeType == MsgPackNodeType.VALUE) {
+      other.setValue(
+          otherNodeId,
+          valueDocuments[nodeId] + newDocumentOffset,
+          valueOffsets[nodeId],
+          valueLengths[nodeId]);
+    } else {
       // hack: do not convert maps in the current tree to arrays
       // use case: map keys that are digits
-      if (!(other.nodeTypeMap.get(key) == MsgPackNodeType.MAP
-          && nodeType == MsgPackNodeType.ARRAY)) {
-        other.nodeTypeMap.put(key, nodeType);
+      if (!(priorType == MsgPackNodeType.MAP && nodeType == MsgPackNodeType.ARRAY)) {
+        other.nodeTypes[otherNodeId] = nodeType;
       }
 
-      other.leafMap.remove(
-          key); // => remove everything that was a leaf previously => is going to be restored by
-      // putting all leafs from the other map
-
-      final int otherDocumentSource = leafDocumentSources.getValue(key);
-      if (otherDocumentSource >= 0) {
-        other.leafDocumentSources.put(key, otherDocumentSource + newDocumentOffset);
+      // if we keep the children of all existing containers, we get a deep merge
+      final boolean keepChildren =
+          otherParentId == NO_NODE
+              && (priorType == MsgPackNodeType.MAP || priorType == MsgPackNodeType.ARRAY);
+      if (!keepChildren) {
+        other.clearChildren(otherNodeId);
       }
-    }
-    other.leafMap.putAll(leafMap);
-
-    for (Map.Entry<String, Set<String>> nodeChildsEntry : nodeChildsMap.entrySet()) {
-      final String key = nodeChildsEntry.getKey();
-
-      // if we change the following condition to if (nodeChildsMap.containsKey(key))
-      // we get a deep merge
-      if (key.equals(Mapping.JSON_ROOT_PATH)) {
-        other
-            .nodeChildsMap
-            .computeIfAbsent(key, (k) -> new LinkedHashSet<>())
-            .addAll(nodeChildsEntry.getValue());
-      } else {
-        other.nodeChildsMap.put(key, nodeChildsEntry.getValue());
+
+      int childId = firstChildren[nodeId];
+      while (childId != NO_NODE) {
+        mergeNodeInto(other, otherNodeId, childId, newDocumentOffset);
+        childId = nextSiblings[childId];
       }
     }
+
+    other.attachToParent(otherParentId, otherNodeId);
   }
 
   /** Keeps any children, e.g. when converting MAP to ARRAY */
-  public void convertToArrayNode(String nodeId) {
-    concertToContainer(nodeId, MsgPackNodeType.ARRAY);
+  public void convertToArrayNode(int nodeId) {
+    convertToContainer(nodeId, MsgPackNodeType.ARRAY);
   }
 
   /** Keeps any children, e.g. when converting ARRAY to MAP */
-  public void convertToMapNode(String nodeId) {
-    concertToContainer(nodeId, MsgPackNodeType.MAP);
+  public void convertToMapNode(int nodeId) {
+    convertToContainer(nodeId, MsgPackNodeType.MAP);
   }
 
-  private void concertToContainer(String nodeId, MsgPackNodeType containerType) {
-    final MsgPackNodeType priorType = nodeTypeMap.get(nodeId);
-
-    if (priorType == MsgPackNodeType.VALUE) {
-      leafMap.remove(nodeId);
-      nodeChildsMap.put(nodeId, new LinkedHashSet<>());
+  private void convertToContainer(int nodeId, MsgPackNodeType containerType) {
+    if (nodeTypes[nodeId] == MsgPackNodeType.VALUE) {
+      clearChildren(nodeId);
     }
 
-    nodeTypeMap.put(nodeId, containerType);
+    nodeTypes[nodeId] = containerType;
   }
 
   /**
    * Creates or converts the addressed node to an array and appends the value as a new element.
    * Replaces a previously existing non-array node completely.
    */
-  public String appendToArray(
-      String parentId, String arrayNodeName, int documentId, int elementOffset, int elementLength) {
+  public int appendToArray(
+      int parentId,
+      DirectBuffer arrayNodeName,
+      int documentId,
+      int elementOffset,
+      int elementLength) {
 
-    final String arrayNodeId = construct(parentId, arrayNodeName);
+    int arrayNodeId = findNode(parentId, arrayNodeName);
 
-    if (hasNode(arrayNodeId)) {
+    if (arrayNodeId != NO_NODE) {
       if (!isArrayNode(arrayNodeId)) {
         clearChildren(arrayNodeId);
         convertToArrayNode(arrayNodeId);
       }
+      attachToParent(parentId, arrayNodeId);
     } else {
-      addArrayNode(parentId, arrayNodeName);
+      arrayNodeId = addArrayNode(parentId, arrayNodeName);
     }
 
-    final int currentArrayElements = nodeChildsMap.get(arrayNodeId).size();
-    final String nodeName = Integer.toString(currentArrayElements);
+    return addArrayElement(
+        arrayNodeId, childCounts[arrayNodeId], documentId, elementOffset, elementLength);
+  }
 
-    return addValueNode(arrayNodeId, nodeName, documentId, elementOffset, elementLength);
+  public int addArrayNode(int parentId, DirectBuffer arrayNodeName) {
+    return addContainerNode(
+        parentId, arrayNodeName, 0, arrayNodeName.capacity(), MsgPackNodeType.ARRAY);
   }
 
-  public String addArrayNode(String parentId, String arrayNodeName) {
-    final String nodeId = construct(parentId, arrayNodeName);
+  /** Adds an array as element of another array, named by its index in that array. */
+  public int addArrayNode(int arrayNodeId, int index) {
+    final int nameLength = putIndexName(index);
+    return addContainerNode(arrayNodeId, indexNameBuffer, 0, nameLength, MsgPackNodeType.ARRAY);
+  }
 
-    addContainerNode(nodeId, MsgPackNodeType.ARRAY);
-    addChildToNode(parentId, arrayNodeName);
+  public int addMapNode(int parentId, DirectBuffer nodeName) {
+    return addContainerNode(parentId, nodeName, 0, nodeName.capacity(), MsgPackNodeType.MAP);
+  }
 
-    return nodeId;
+  /** Adds a map as element of an array, named by its index in the array. */
+  public int addMapNode(int arrayNodeId, int index) {
+    final int nameLength = putIndexName(index);
+    return addContainerNode(arrayNodeId, indexNameBuffer, 0, nameLength, MsgPackNodeType.MAP);
   }
 
-  public String addValueNode(
-      String parentId, String nodeName, int documentId, int valueOffset, int valueLength) {
-    final String nodeId = construct(parentId, nodeName);
+  /** Adds a value as element of an array, named by its index in the array. */
+  public int addArrayElement(
+      int arrayNodeId, int index, int documentId, int valueOffset, int valueLength) {
+    final int nameLength = putIndexName(index);
+    return addValueNode(
+        arrayNodeId, indexNameBuffer, 0, nameLength, documentId, valueOffset, valueLength);
+  }
 
-    leafMap.put(nodeId, ((long) valueOffset << 32) | valueLength);
-    leafDocumentSources.put(nodeId, documentId);
-    nodeTypeMap.put(nodeId, MsgPackNodeType.VALUE);
+  public int addValueNode(
+      int parentId, DirectBuffer nodeName, int documentId, int valueOffset, int valueLength) {
+    return addValueNode(
+        parentId, nodeName, 0, nodeName.capacity(), documentId, valueOffset, valueLength);
+  }
+
+  private int addValueNode(
+      int parentId,
+      DirectBuffer nodeName,
+      int nameOffset,
+      int nameLength,
+      int documentId,
+      int valueOffset,
+      int valueLength) {
+    final int nodeId = getOrCreateNode(parentId, nodeName, nameOffset, nameLength);
 
-    addChildToNode(parentId, nodeName);
+    setValue(nodeId, documentId, valueOffset, valueLength);
+    attachToParent(parentId, nodeId);
 
     return nodeId;
   }
 
-  public String addMapNode(String parentId, String nodeName) {
-    final String nodeId = construct(parentId, nodeName);
+  private int addContainerNode(
+      int parentId,
+      DirectBuffer nodeName,
+      int nameOffset,
+      int nameLength,
+      MsgPackNodeType nodeType) {
+    final int nodeId = getOrCreateNode(parentId, nodeName, nameOffset, nameLength);
+
+    nodeTypes[nodeId] = nodeType;
+    clearChildren(nodeId);
+    attachToParent(parentId, nodeId);
+
+    return nodeId;
+  }
+
+  private void setValue(int nodeId, int documentId, int valueOffset, int valueLength) {
+    nodeTypes[nodeId] = MsgPackNodeType.VALUE;
+    valueDocuments[nodeId] = documentId;
+    valueOffsets[nodeId] = valueOffset;
+    valueLengths[nodeId] = valueLength;
+  }
+
+  public void clearChildren(int nodeId) {
+    int childId = firstChildren[nodeId];
+    while (childId != NO_NODE) {
+      attached[childId] = false;
+      childId = nextSiblings[childId];
+    }
+
+    firstChildren[nodeId] = NO_NODE;
+    lastChildren[nodeId] = NO_NODE;
+    childCounts[nodeId] = 0;
+  }
+
+  /** Appends the node to the children of its parent, unless it is already one of them. */
+  private void attachToParent(int parentId, int nodeId) {
+    if (parentId == NO_NODE || attached[nodeId]) {
+      return;
+    }
+
+    nextSiblings[nodeId] = NO_NODE;
+
+    final int lastChild = lastChildren[parentId];
+    if (lastChild == NO_NODE) {
+      firstChildren[parentId] = nodeId;
+    } else {
+      nextSiblings[lastChild] = nodeId;
+    }
+
+    lastChildren[parentId] = nodeId;
+    childCounts[parentId]++;
+    attached[nodeId] = true;
+  }
+
+  private int findNode(int parentId, DirectBuffer name, int offset, int length) {
+    final int hash = hash(name, offset, length);
+    final int mask = nodeIndex.length - 1;
+
+    int slot = slot(parentId, hash, mask);
+    int nodeId;
+
+    while ((nodeId = nodeIndex[slot]) != NO_NODE) {
+      if (isNode(nodeId, parentId, hash, name, offset, length)) {
+        return nodeId;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return NO_NODE;
+  }
+
+  private int getOrCreateNode(int parentId, DirectBuffer name, int offset, int length) {
+    final int hash = hash(name, offset, length);
+    final int mask = nodeIndex.length - 1;
+
+    int slot = slot(parentId, hash, mask);
+    int nodeId;
+
+    while ((nodeId = nodeIndex[slot]) != NO_NODE) {
+      if (isNode(nodeId, parentId, hash, name, offset, length)) {
+        return nodeId;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    nodeId = nodeCount;
+    ensureNodeCapacity(nodeId + 1);
+
+    names.putBytes(namesLength, name, offset, length);
+    nameOffsets[nodeId] = namesLength;
+    nameLengths[nodeId] = length;
+    namesLength += length;
 
-    addContainerNode(nodeId, MsgPackNodeType.MAP);
-    addChildToNode(parentId, nodeName);
+    nameHashes[nodeId] = hash;
+    parents[nodeId] = parentId;
+    nodeTypes[nodeId] = null;
+    firstChildren[nodeId] = NO_NODE;
+    lastChildren[nodeId] = NO_NODE;
+    nextSiblings[nodeId] = NO_NODE;
+    childCounts[nodeId] = 0;
+    attached[nodeId] = false;
+
+    nodeCount++;
+
+    if (nodeCount * 2 > nodeIndex.length) {
+      rehash(nodeIndex.length * 2);
+    } else {
+      nodeIndex[slot] = nodeId;
+    }
 
     return nodeId;
   }
 
-  private boolean isContainerNode(String nodeId) {
-    final MsgPackNodeType nodeType = nodeTypeMap.get(nodeId);
-    return nodeType == MsgPackNodeType.ARRAY || nodeType == MsgPackNodeType.MAP;
+  private boolean isNode(
+      int nodeId, int parentId, int hash, DirectBuffer name, int offset, int length) {
+    if (parents[nodeId] != parentId
+        || nameHashes[nodeId] != hash
+        || nameLengths[nodeId] != length) {
+      return false;
+    }
+
+    final int nameOffset = nameOffsets[nodeId];
+    for (int i = 0; i < length; i++) {
+      if (names.getByte(nameOffset + i) != name.getByte(offset + i)) {
+        return false;
+      }
+    }
+
+    return true;
   }
 
-  public boolean hasNode(String id) {
-    return nodeTypeMap.containsKey(id);
+  private void rehash(int capacity) {
+    nodeIndex = new int[capacity];
+    Arrays.fill(nodeIndex, NO_NODE);
+
+    final int mask = capacity - 1;
+    for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+      int slot = slot(parents[nodeId], nameHashes[nodeId], mask);
+      while (nodeIndex[slot] != NO_NODE) {
+        slot = (slot + 1) & mask;
+      }
+      nodeIndex[slot] = nodeId;
+    }
   }
 
-  public void clearChildren(String nodeId) {
-    if (isContainerNode(nodeId)) {
-      nodeChildsMap.get(nodeId).clear();
+  private void ensureNodeCapacity(int requiredCapacity) {
+    final int capacity = parents.length;
+
+    if (requiredCapacity > capacity) {
+      final int newCapacity = capacity * 2;
+
+      nodeTypes = Arrays.copyOf(nodeTypes, newCapacity);
+      parents = Arrays.copyOf(parents, newCapacity);
+      nameOffsets = Arrays.copyOf(nameOffsets, newCapacity);
+      nameLengths = Arrays.copyOf(nameLengths, newCapacity);
+      nameHashes = Arrays.copyOf(nameHashes, newCapacity);
+      firstChildren = Arrays.copyOf(firstChildren, newCapacity);
+      lastChildren = Arrays.copyOf(lastChildren, newCapacity);
+      nextSiblings = Arrays.copyOf(nextSiblings, newCapacity);
+      childCounts = Arrays.copyOf(childCounts, newCapacity);
+      attached = Arrays.copyOf(attached, newCapacity);
+      valueDocuments = Arrays.copyOf(valueDocuments, newCapacity);
+      valueOffsets = Arrays.copyOf(valueOffsets, newCapacity);
+      valueLengths = Arrays.copyOf(valueLengths, newCapacity);
     }
   }
+
+  /** Writes the decimal representation of the index into the index name buffer. */
+  private int putIndexName(int index) {
+    int length = 1;
+    for (int remaining = index / 10; remaining > 0; remaining /= 10) {
+      length++;
+    }
+
+    int value = index;
+    for (int i = length - 1; i >= 0; i--) {
+      indexNameBuffer.putByte(i, (byte) ('0' + value % 10));
+      value /= 10;
+    }
+
+    return length;
+  }
+
+  private static int hash(DirectBuffer name, int offset, int length) {
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + name.getByte(offset + i);
+    }
+    return hash;
+  }
+
+  private static int slot(int parentId, int hash, int mask) {
+    final int h = 31 * parentId + hash;
+    return (h ^ (h >>> 16)) & mask;
+  }
 }
@@ -15,8 +15,8 @@
  */
 package io.zeebe.msgpack.mapping;
 
-import static io.zeebe.msgpack.mapping.MsgPackTreeNodeIdConstructor.JSON_PATH_SEPARATOR;
-import static io.zeebe.msgpack.mapping.MsgPackTreeNodeIdConstructor.JSON_PATH_SEPARATOR_END;
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.core.JsonParser;
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import org.agrona.DirectBuffer;
@@ -37,6 +38,9 @@ import org.assertj.core.api.AbstractObjectAssert;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public class MappingTestUtil {
+  private static final String JSON_PATH_SEPARATOR = "[";
+  private static final String JSON_PATH_SEPARATOR_END = "]";
+
   protected static final String NODE_JSON_OBJECT_KEY = "jsonObject";
   protected static final String NODE_TEST_ATTR_KEY = "testAttr";
   protected static final String NODE_STRING_KEY = "string";
@@ -101,18 +105,18 @@ public class MappingTestUtil {
 
   public static void assertThatIsArrayNode(
       MsgPackTree msgPackTree, String nodeId, String... childs) {
-    assertThat(msgPackTree.isArrayNode(nodeId)).isTrue();
+    assertThat(msgPackTree.isArrayNode(resolveNodeId(msgPackTree, nodeId))).isTrue();
     assertChildNodes(msgPackTree, nodeId, childs.length, childs);
   }
 
   public static void assertThatIsMapNode(MsgPackTree msgPackTree, String nodeId, String... childs) {
-    assertThat(msgPackTree.isMapNode(nodeId)).isTrue();
+    assertThat(msgPackTree.isMapNode(resolveNodeId(msgPackTree, nodeId))).isTrue();
     assertChildNodes(msgPackTree, nodeId, childs.length, childs);
   }
 
   private static void assertChildNodes(
       MsgPackTree msgPackTree, String nodeId, int childCount, String[] childs) {
-    final Set<String> arrayValues = msgPackTree.getChildren(nodeId);
+    final Set<String> arrayValues = getChildren(msgPackTree, resolveNodeId(msgPackTree, nodeId));
     assertThat(arrayValues.size()).isEqualTo(childCount);
     for (String child : childs) {
       assertThat(arrayValues.contains(child)).isTrue();
@@ -121,15 +125,42 @@ public class MappingTestUtil {
 
   public static void assertThatIsLeafNode(
       MsgPackTree msgPackTree, String leafId, byte[] expectedBytes) {
-    assertThat(msgPackTree.isValueNode(leafId)).isTrue();
+    final int nodeId = resolveNodeId(msgPackTree, leafId);
+    assertThat(msgPackTree.isValueNode(nodeId)).isTrue();
 
     WRITER.wrap(WRITE_BUFFER, 0);
-    msgPackTree.writeValueNode(WRITER, leafId);
+    msgPackTree.writeValueNode(WRITER, nodeId);
 
     assertThat(WRITER.getOffset()).isEqualTo(expectedBytes.length);
     assertThat(WRITE_BUFFER.byteArray()).startsWith(expectedBytes);
   }
 
+  private static Set<String> getChildren(MsgPackTree msgPackTree, int nodeId) {
+    final Set<String> children = new LinkedHashSet<>();
+
+    int childId = msgPackTree.getFirstChild(nodeId);
+    while (childId != MsgPackTree.NO_NODE) {
+      children.add(bufferAsString(msgPackTree.getNodeName(childId)));
+      childId = msgPackTree.getNextSibling(childId);
+    }
+
+    return children;
+  }
+
+  /** Resolves a node id, as constructed by {@link #constructNodeId(String...)}, in the tree. */
+  public static int resolveNodeId(MsgPackTree msgPackTree, String nodeId) {
+    final String[] nodeNames = nodeId.split("\\" + JSON_PATH_SEPARATOR);
+
+    int resolvedId = msgPackTree.findNode(MsgPackTree.NO_NODE, wrapString(nodeNames[0]));
+    for (int i = 1; i < nodeNames.length && resolvedId != MsgPackTree.NO_NODE; i++) {
+      final String nodeName = nodeNames[i].substring(0, nodeNames[i].length() - 1);
+      resolvedId = msgPackTree.findNode(resolvedId, wrapString(nodeName));
+    }
+
+    assertThat(resolvedId).describedAs("id of node %s", nodeId).isNotEqualTo(MsgPackTree.NO_NODE);
+    return resolvedId;
+  }
+
   public static String constructNodeId(String... nodeNames) {
     final StringBuilder builder = new StringBuilder();
     if (nodeNames.length >= 1) {
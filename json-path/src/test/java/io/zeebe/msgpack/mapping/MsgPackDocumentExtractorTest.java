@@ -119,7 +119,7 @@ public class MsgPackDocumentExtractorTest {
     diff.mergeInto(extractTree);
 
     // then extractTree root is leaf
-    assertThat(extractTree.isValueNode("$")).isTrue();
+    assertThat(extractTree.isValueNode(extractTree.getRootId())).isTrue();
 
     // and value is expected as
     final Map<String, Object> json = new HashMap<>();
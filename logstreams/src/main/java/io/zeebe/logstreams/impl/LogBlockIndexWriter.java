@@ -153,6 +153,9 @@ public class LogBlockIndexWriter extends Actor {
           lastBlockAddress = snapshotBlockAddress;
           lastBlockEventPosition = snapshotPosition;
           snapshotEventPosition = snapshotPosition;
+
+          // the log may be deleted partially after the snapshot was taken
+          blockIndex.deleteBlocksBefore(logStorage.getFirstBlockAddress());
         } else {
           LOG.warn("Can't find address of snapshot position. Rebuild block index.");
         }
@@ -56,6 +56,7 @@ public class LogStreamBuilder {
 
   protected int initialLogSegmentId = 0;
   protected boolean deleteOnClose;
+  protected boolean mapFilledLogSegments = true;
 
   protected int maxAppendBlockSize = 1024 * 1024;
   protected int writeBufferSize = 1024 * 1024 * 8;
@@ -121,6 +122,11 @@ public class LogStreamBuilder {
     return this;
   }
 
+  public LogStreamBuilder mapFilledLogSegments(final boolean mapFilledLogSegments) {
+    this.mapFilledLogSegments = mapFilledLogSegments;
+    return this;
+  }
+
   public LogStreamBuilder indexBlockSize(final int indexBlockSize) {
     this.indexBlockSize = indexBlockSize;
     return this;
@@ -234,7 +240,11 @@ public class LogStreamBuilder {
 
     final FsLogStorageConfiguration storageConfig =
         new FsLogStorageConfiguration(
-            logSegmentSize, getLogDirectory(), initialLogSegmentId, deleteOnClose);
+            logSegmentSize,
+            getLogDirectory(),
+            initialLogSegmentId,
+            deleteOnClose,
+            mapFilledLogSegments);
 
     final FsLogStorageService logStorageService =
         new FsLogStorageService(storageConfig, partitionId, logStorageStubber);
@@ -21,6 +21,7 @@ import static io.zeebe.logstreams.impl.log.fs.FsLogSegmentDescriptor.SEGMENT_ID_
 import static io.zeebe.logstreams.impl.log.fs.FsLogSegmentDescriptor.SEGMENT_SIZE_OFFSET;
 
 import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.logstreams.spi.MappedLogRegion;
 import io.zeebe.util.FileUtil;
 import java.io.File;
 import java.io.IOException;
@@ -58,6 +59,9 @@ public class FsLogSegment {
 
   protected MappedByteBuffer mappedBuffer;
 
+  /** Mapping of the filled segment for readers, created on first use */
+  private FsLogSegmentMapping readMapping;
+
   protected final Rater rater =
       new Rater(
           1024 * 1024 * 4,
@@ -93,6 +97,8 @@ public class FsLogSegment {
   public void closeSegment() {
     if (fileChannel.isOpen()) {
       try {
+        releaseReadMapping();
+
         this.metadataSection = null;
         IoUtil.unmap(mappedBuffer);
         fileChannel.close();
@@ -102,6 +108,24 @@ public class FsLogSegment {
     }
   }
 
+  /**
+   * Closes the file of a segment which is deleted while it may still be read concurrently. In
+   * contrast to {@link #closeSegment()}, the metadata stays mapped until the segment is garbage
+   * collected, so that a concurrent reader fails on the closed file instead of accessing unmapped
+   * memory.
+   */
+  public void closeDeletedSegment() {
+    if (fileChannel.isOpen()) {
+      try {
+        releaseReadMapping();
+
+        fileChannel.close();
+      } catch (IOException e) {
+        LOG.error("Failed to close segment", e);
+      }
+    }
+  }
+
   public void delete() {
     final File file = new File(fileName);
     FileUtil.deleteFile(file);
@@ -256,6 +280,42 @@ public class FsLogSegment {
     return opResult;
   }
 
+  /**
+   * Maps the filled segment for reading. The mapping is shared by all readers and stays valid until
+   * the returned reference is closed, also if the segment is closed in the meantime.
+   *
+   * @param region the region to wrap around the bytes from the given offset to the end of the
+   *     segment
+   * @param fileOffset the offset in the file to map from
+   * @return <code>true</code> if the region was mapped, or <code>false</code> if the segment is not
+   *     filled yet
+   */
+  public synchronized boolean mapFilled(MappedLogRegion region, int fileOffset) {
+    if (!isFilled() || !fileChannel.isOpen()) {
+      return false;
+    }
+
+    if (readMapping == null) {
+      try {
+        readMapping = new FsLogSegmentMapping(fileChannel.map(MapMode.READ_ONLY, 0, getSize()));
+      } catch (IOException e) {
+        throw new RuntimeException("Failed to map file " + fileName, e);
+      }
+    }
+
+    final int length = readMapping.getLength() - fileOffset;
+    region.wrap(readMapping.getAddress() + fileOffset, length, readMapping.retain());
+
+    return true;
+  }
+
+  private synchronized void releaseReadMapping() {
+    if (readMapping != null) {
+      readMapping.release();
+      readMapping = null;
+    }
+  }
+
   public void setFilled() {
     // invoked by appender when segment is filled
     state = STATE_FILLED;
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.impl.log.fs;
+
+import io.zeebe.util.CloseableSilently;
+import java.nio.MappedByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.BufferUtil;
+import org.agrona.IoUtil;
+
+/**
+ * A read-only mapping of a filled log segment, which is shared by all readers of the segment. The
+ * mapping is reference counted: the segment holds one reference as long as it is open and each
+ * reader holds one while it reads from the mapping. It is unmapped when the last reference is
+ * released, so that a segment can be closed or deleted while it is still read.
+ */
+class FsLogSegmentMapping {
+  private final MappedByteBuffer mappedBuffer;
+  private final long address;
+  private final int length;
+
+  private final AtomicInteger references = new AtomicInteger(1);
+  private final CloseableSilently reference = this::release;
+
+  FsLogSegmentMapping(MappedByteBuffer mappedBuffer) {
+    this.mappedBuffer = mappedBuffer;
+    this.address = BufferUtil.address(mappedBuffer);
+    this.length = mappedBuffer.capacity();
+  }
+
+  long getAddress() {
+    return address;
+  }
+
+  int getLength() {
+    return length;
+  }
+
+  /**
+   * Acquires a new reference to the mapping. Must only be called while another reference is held,
+   * i.e. by the segment while it is open.
+   *
+   * @return the reference which must be closed to release it
+   */
+  CloseableSilently retain() {
+    references.incrementAndGet();
+    return reference;
+  }
+
+  void release() {
+    if (references.decrementAndGet() == 0) {
+      IoUtil.unmap(mappedBuffer);
+    }
+  }
+}
@@ -15,21 +15,28 @@
  */
 package io.zeebe.logstreams.impl.log.fs;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class FsLogSegments {
   protected int initalSegmentId = -1;
 
   protected FsLogSegment[] segments = new FsLogSegment[0];
 
+  /** index of the first segment which is not deleted */
+  protected int firstSegmentIdx = 0;
+
   protected volatile int segmentCount = 0;
 
   public void init(int initalSegmentId, FsLogSegment[] initialSegments) {
     this.segments = initialSegments;
     this.initalSegmentId = initalSegmentId;
+    this.firstSegmentIdx = 0;
     this.segmentCount = initialSegments.length; // volatile store
   }
 
   /** invoked by the conductor after a new segment has been allocated */
-  public void addSegment(FsLogSegment segment) {
+  public synchronized void addSegment(FsLogSegment segment) {
     final FsLogSegment[] newSegments = new FsLogSegment[segments.length + 1];
 
     System.arraycopy(segments, 0, newSegments, 0, segments.length);
@@ -39,6 +46,33 @@ public class FsLogSegments {
     this.segmentCount = newSegments.length; // volatile store
   }
 
+  /**
+   * Removes the segments with a lower id than the given one. The segment ids of the remaining
+   * segments are not changed. The removed segments are not closed.
+   *
+   * @return the removed segments
+   */
+  public synchronized List<FsLogSegment> removeSegmentsBefore(int segmentId) {
+    final List<FsLogSegment> removedSegments = new ArrayList<>();
+
+    final int segmentIdx = Math.min(segmentId - initalSegmentId, segments.length - 1);
+    if (segmentIdx > firstSegmentIdx) {
+      final FsLogSegment[] newSegments = segments.clone();
+
+      for (int i = firstSegmentIdx; i < segmentIdx; i++) {
+        removedSegments.add(newSegments[i]);
+        newSegments[i] = null;
+      }
+
+      this.segments = newSegments;
+      this.firstSegmentIdx = segmentIdx;
+
+      this.segmentCount = newSegments.length; // volatile store
+    }
+
+    return removedSegments;
+  }
+
   public FsLogSegment getSegment(int segmentId) {
     final int segmentCount = this.segmentCount; // volatile load
 
@@ -54,8 +88,8 @@ public class FsLogSegments {
   }
 
   public FsLogSegment getFirst() {
-    if (segmentCount > 0) {
-      return segments[0];
+    if (segmentCount > 0) { // volatile load
+      return segments[firstSegmentIdx];
     } else {
       return null;
     }
@@ -64,14 +98,18 @@ public class FsLogSegments {
   public void closeAll() {
     final FsLogSegment[] segments = this.segments;
     for (FsLogSegment readableLogSegment : segments) {
-      readableLogSegment.closeSegment();
+      if (readableLogSegment != null) {
+        readableLogSegment.closeSegment();
+      }
     }
 
     this.segments = new FsLogSegment[0];
+    this.firstSegmentIdx = 0;
     this.segmentCount = 0;
   }
 
+  /** @return the number of segments which are not deleted */
   public int getSegmentCount() {
-    return segmentCount;
+    return segmentCount - firstSegmentIdx;
   }
 }
@@ -28,6 +28,7 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 import io.zeebe.logstreams.impl.Loggers;
 import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.spi.MappedLogRegion;
 import io.zeebe.logstreams.spi.ReadResultProcessor;
 import io.zeebe.util.FileUtil;
 import io.zeebe.util.metrics.Metric;
@@ -172,6 +173,29 @@ public class FsLogStorage implements LogStorage {
     initLogSegments(logDir);
   }
 
+  @Override
+  public long delete(final long address) {
+    ensureOpenedStorage();
+
+    final List<FsLogSegment> deletedSegments =
+        logSegments.removeSegmentsBefore(partitionId(address));
+
+    long deletedBytes = 0;
+    for (final FsLogSegment segment : deletedSegments) {
+      deletedBytes += segment.getSize();
+
+      segment.closeDeletedSegment();
+      segment.delete();
+    }
+
+    if (!deletedSegments.isEmpty()) {
+      totalBytesMetric.getAndAddOrdered(-deletedBytes);
+      segmentCountMetric.setOrdered(logSegments.getSegmentCount());
+    }
+
+    return deletedBytes;
+  }
+
   protected void addressCheck(final int segmentId, final int segmentOffset) {
     final FsLogSegment segment = logSegments.getSegment(segmentId);
     if (segment == null || segmentOffset < METADATA_LENGTH || segmentOffset >= segment.getSize()) {
@@ -252,6 +276,40 @@ public class FsLogStorage implements LogStorage {
     return opStatus;
   }
 
+  @Override
+  public long map(final long addr, final MappedLogRegion region) {
+    ensureOpenedStorage();
+
+    if (!config.isMapFilledSegments()) {
+      return OP_RESULT_NOT_MAPPABLE;
+    }
+
+    final int segmentId = partitionId(addr);
+    final int segmentOffset = partitionOffset(addr);
+
+    final FsLogSegment segment = logSegments.getSegment(segmentId);
+
+    if (segment == null || segmentOffset < METADATA_LENGTH) {
+      return OP_RESULT_INVALID_ADDR;
+    } else if (!segment.isFilled()) {
+      return OP_RESULT_NOT_MAPPABLE;
+    }
+
+    final int size = segment.getSize();
+    if (segmentOffset > size) {
+      return OP_RESULT_INVALID_ADDR;
+    } else if (segmentOffset == size) {
+      // move to next segment
+      return map(position(segmentId + 1, METADATA_LENGTH), region);
+    }
+
+    if (segment.mapFilled(region, segmentOffset)) {
+      return position(segmentId + 1, METADATA_LENGTH);
+    } else {
+      return OP_RESULT_NOT_MAPPABLE;
+    }
+  }
+
   @Override
   public void open() {
     ensureNotOpenedStorage();
@@ -333,8 +391,9 @@ public class FsLogStorage implements LogStorage {
     final FsLogSegment[] segmentsArray =
         readableLogSegments.toArray(new FsLogSegment[readableLogSegments.size()]);
 
+    // the segments before the first one may be deleted already
     final FsLogSegments logSegments = new FsLogSegments();
-    logSegments.init(config.initialSegmentId, segmentsArray);
+    logSegments.init(segmentsArray[0].getSegmentId(), segmentsArray);
     segmentCountMetric.setOrdered(logSegments.getSegmentCount());
 
     this.logSegments = logSegments;
@@ -435,7 +494,11 @@ public class FsLogStorage implements LogStorage {
 
     if (dirtySegmentId >= 0) {
       for (int id = dirtySegmentId; id <= currentSegment.getSegmentId(); id++) {
-        logSegments.getSegment(id).flush();
+        final FsLogSegment segment = logSegments.getSegment(id);
+        // the segment may be deleted already
+        if (segment != null) {
+          segment.flush();
+        }
       }
 
       dirtySegmentId = -1;
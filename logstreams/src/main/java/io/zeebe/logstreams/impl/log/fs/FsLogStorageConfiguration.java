@@ -39,13 +39,24 @@ public class FsLogStorageConfiguration {
   protected final String path;
   protected final int initialSegmentId;
   protected final boolean deleteOnClose;
+  protected final boolean mapFilledSegments;
 
   public FsLogStorageConfiguration(
       int segmentSize, String path, int initialSegmentId, boolean deleteOnClose) {
+    this(segmentSize, path, initialSegmentId, deleteOnClose, true);
+  }
+
+  public FsLogStorageConfiguration(
+      int segmentSize,
+      String path,
+      int initialSegmentId,
+      boolean deleteOnClose,
+      boolean mapFilledSegments) {
     this.segmentSize = segmentSize;
     this.path = path;
     this.initialSegmentId = initialSegmentId;
     this.deleteOnClose = deleteOnClose;
+    this.mapFilledSegments = mapFilledSegments;
   }
 
   public String getFragmentFileNameTemplate() {
@@ -92,6 +103,11 @@ public class FsLogStorageConfiguration {
     return deleteOnClose;
   }
 
+  /** @return <code>true</code> if readers read filled segments from a shared memory mapping */
+  public boolean isMapFilledSegments() {
+    return mapFilledSegments;
+  }
+
   public int getInitialSegmentId() {
     return initialSegmentId;
   }
@@ -15,19 +15,28 @@
  */
 package io.zeebe.logstreams.impl.log.index;
 
-import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.dataOffset;
+import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.SNAPSHOT_VERSION;
 import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.entryAddressOffset;
 import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.entryLength;
 import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.entryLogPositionOffset;
 import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.entryOffset;
-import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.indexSizeOffset;
+import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.legacyEntryOffset;
+import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.legacyFirstEntryIdxOffset;
+import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.legacyIndexSizeOffset;
+import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.snapshotEntryCountOffset;
+import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.snapshotEntryOffset;
+import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.snapshotFirstEntryIdxOffset;
+import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.snapshotLength;
+import static io.zeebe.logstreams.impl.log.index.LogBlockIndexDescriptor.snapshotVersionOffset;
 
 import io.zeebe.logstreams.spi.SnapshotSupport;
 import io.zeebe.util.StreamUtil;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.function.Function;
 import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Block index, mapping an event's position to the physical address of the block in which it resides
@@ -40,19 +49,36 @@ import org.agrona.concurrent.AtomicBuffer;
  * <p>In order to read an event, the position must be translated into the "physical address" of the
  * block in which it resides in storage. Then, the block can be scanned for the event position
  * requested.
+ *
+ * <p>The entries are stored in pages of a fixed number of entries. A new page is allocated when the
+ * last one is full, so the index grows with the log, and the pages of deleted blocks are released.
+ * Most lookups are for recent events, so the last entry is checked before the index is searched.
  */
 public class LogBlockIndex implements SnapshotSupport {
-  protected final AtomicBuffer indexBuffer;
+  protected final Function<Integer, AtomicBuffer> bufferAllocator;
 
-  protected final int capacity;
+  /** the number of entries of a page */
+  protected final int pageCapacity;
 
-  protected long lastVirtualPosition = -1;
+  /**
+   * The pages are replaced on write, so that a reader always sees a consistent array. The page of
+   * an entry is at {@code idx / pageCapacity}; the pages before the first entry may be released.
+   */
+  protected volatile AtomicBuffer[] pages;
+
+  protected volatile int firstEntryIdx;
 
-  public LogBlockIndex(int capacity, Function<Integer, AtomicBuffer> bufferAllocator) {
-    final int requiredBufferCapacity = dataOffset() + (capacity * entryLength());
+  protected volatile int size;
 
-    this.indexBuffer = bufferAllocator.apply(requiredBufferCapacity);
-    this.capacity = capacity;
+  protected long lastVirtualPosition = -1;
+
+  /**
+   * @param pageCapacity the number of entries which are allocated at once
+   * @param bufferAllocator allocates the buffer of a page with the given length
+   */
+  public LogBlockIndex(int pageCapacity, Function<Integer, AtomicBuffer> bufferAllocator) {
+    this.pageCapacity = pageCapacity;
+    this.bufferAllocator = bufferAllocator;
 
     reset();
   }
@@ -66,8 +92,13 @@ public class LogBlockIndex implements SnapshotSupport {
    *     virtual position
    */
   public long lookupBlockAddress(long position) {
-    final int offset = lookupOffset(position);
-    return offset >= 0 ? indexBuffer.getLong(entryAddressOffset(offset)) : offset;
+    // volatile loads in the order of the writes, see addBlock() and deleteBlocksBefore()
+    final int size = this.size;
+    final AtomicBuffer[] pages = this.pages;
+    final int firstEntryIdx = this.firstEntryIdx;
+
+    final int idx = lookupIndex(pages, firstEntryIdx, size, position);
+    return idx >= 0 ? getAddress(pages, idx) : idx;
   }
 
   /**
@@ -79,21 +110,12 @@ public class LogBlockIndex implements SnapshotSupport {
    *     position
    */
   public long lookupBlockPosition(long position) {
-    final int offset = lookupOffset(position);
-    return offset >= 0 ? indexBuffer.getLong(entryLogPositionOffset(offset)) : offset;
-  }
+    final int size = this.size;
+    final AtomicBuffer[] pages = this.pages;
+    final int firstEntryIdx = this.firstEntryIdx;
 
-  /**
-   * Returns the offset of the block in which the log entry identified by the provided position
-   * resides.
-   *
-   * @param position a virtual log position
-   * @return the offset of the block containing the log entry identified by the provided virtual
-   *     position
-   */
-  protected int lookupOffset(long position) {
-    final int idx = lookupIndex(position);
-    return idx >= 0 ? entryOffset(idx) : idx;
+    final int idx = lookupIndex(pages, firstEntryIdx, size, position);
+    return idx >= 0 ? getLogPosition(pages, idx) : idx;
   }
 
   /**
@@ -104,49 +126,33 @@ public class LogBlockIndex implements SnapshotSupport {
    * @return the index of the block containing the log entry identified by the provided virtual
    *     position
    */
-  protected int lookupIndex(long position) {
-    final int lastEntryIdx = size() - 1;
+  protected int lookupIndex(AtomicBuffer[] pages, int firstEntryIdx, int size, long position) {
+    final int lastEntryIdx = size - 1;
 
-    int low = 0;
-    int high = lastEntryIdx;
-
-    int idx = -1;
-
-    if (low == high) {
-      final int entryOffset = entryOffset(low);
-      final long entryValue = indexBuffer.getLong(entryLogPositionOffset(entryOffset));
-
-      if (entryValue <= position) {
-        idx = low;
-      }
+    if (firstEntryIdx > lastEntryIdx || getLogPosition(pages, firstEntryIdx) > position) {
+      return -1;
+    }
 
-      high = -1;
+    // fast path: the event is in the last block
+    if (getLogPosition(pages, lastEntryIdx) <= position) {
+      return lastEntryIdx;
     }
 
-    while (low <= high) {
-      final int mid = (low + high) >>> 1;
-      final int entryOffset = entryOffset(mid);
+    // find the last entry whose position is not greater than the given one
+    int low = firstEntryIdx;
+    int high = lastEntryIdx - 1;
+
+    while (low < high) {
+      final int mid = (low + high + 1) >>> 1;
 
-      if (mid == lastEntryIdx) {
-        idx = mid;
-        break;
+      if (getLogPosition(pages, mid) <= position) {
+        low = mid;
       } else {
-        final long entryValue = indexBuffer.getLong(entryLogPositionOffset(entryOffset));
-        final long nextEntryValue =
-            indexBuffer.getLong(entryLogPositionOffset(entryOffset(mid + 1)));
-
-        if (entryValue <= position && position < nextEntryValue) {
-          idx = mid;
-          break;
-        } else if (entryValue < position) {
-          low = mid + 1;
-        } else if (entryValue > position) {
-          high = mid - 1;
-        }
+        high = mid - 1;
       }
     }
 
-    return idx;
+    return low;
   }
 
   /**
@@ -158,17 +164,9 @@ public class LogBlockIndex implements SnapshotSupport {
    * @return the new size of the index.
    */
   public int addBlock(long logPosition, long storageAddr) {
-    final int currentIndexSize =
-        indexBuffer.getInt(indexSizeOffset()); // volatile get not necessary
-    final int entryOffset = entryOffset(currentIndexSize);
+    final int currentIndexSize = size;
     final int newIndexSize = 1 + currentIndexSize;
 
-    if (newIndexSize > capacity) {
-      throw new RuntimeException(
-          String.format(
-              "LogBlockIndex capacity of %d entries reached. Cannot add new block.", capacity));
-    }
-
     if (lastVirtualPosition >= logPosition) {
       final String errorMessage =
           String.format(
@@ -177,72 +175,189 @@ public class LogBlockIndex implements SnapshotSupport {
       throw new IllegalArgumentException(errorMessage);
     }
 
+    if (currentIndexSize / pageCapacity >= pages.length) {
+      addPage(currentIndexSize / pageCapacity);
+    }
+
     lastVirtualPosition = logPosition;
 
     // write next entry
-    indexBuffer.putLong(entryLogPositionOffset(entryOffset), logPosition);
-    indexBuffer.putLong(entryAddressOffset(entryOffset), storageAddr);
+    final AtomicBuffer page = pages[currentIndexSize / pageCapacity];
+    final int entryOffset = entryOffset(currentIndexSize % pageCapacity);
+
+    page.putLong(entryLogPositionOffset(entryOffset), logPosition);
+    page.putLong(entryAddressOffset(entryOffset), storageAddr);
 
     // increment size
-    indexBuffer.putIntOrdered(indexSizeOffset(), newIndexSize);
+    size = newIndexSize;
 
     return newIndexSize;
   }
 
+  private synchronized void addPage(int pageIdx) {
+    final AtomicBuffer[] newPages = Arrays.copyOf(pages, pageIdx + 1);
+    newPages[pageIdx] = bufferAllocator.apply(pageCapacity * entryLength());
+
+    pages = newPages;
+  }
+
+  /**
+   * Invoked after the blocks before the given address are deleted from the log storage. Removes the
+   * entries of these blocks, so that the index is not used to look up deleted blocks.
+   *
+   * @param address the address of the first block which is not deleted
+   * @return the number of removed entries
+   */
+  public synchronized int deleteBlocksBefore(long address) {
+    final int size = this.size;
+    final AtomicBuffer[] pages = this.pages;
+    final int firstEntryIdx = this.firstEntryIdx;
+
+    int newFirstEntryIdx = firstEntryIdx;
+    while (newFirstEntryIdx < size && getAddress(pages, newFirstEntryIdx) < address) {
+      newFirstEntryIdx += 1;
+    }
+
+    if (newFirstEntryIdx > firstEntryIdx) {
+      this.firstEntryIdx = newFirstEntryIdx;
+
+      // release the pages which contain only removed entries - the last page is kept for writing
+      final int firstPageIdx = Math.min(newFirstEntryIdx / pageCapacity, pages.length - 1);
+      if (firstPageIdx > 0 && pages[firstPageIdx - 1] != null) {
+        final AtomicBuffer[] newPages = pages.clone();
+        Arrays.fill(newPages, 0, firstPageIdx, null);
+
+        this.pages = newPages;
+      }
+    }
+
+    return newFirstEntryIdx - firstEntryIdx;
+  }
+
+  /**
+   * @return the index of the first entry which is not removed, or the size of the index if all
+   *     entries are removed
+   */
+  public int firstEntryIdx() {
+    return firstEntryIdx;
+  }
+
   /** @return the current size of the index */
   public int size() {
-    return indexBuffer.getIntVolatile(indexSizeOffset());
+    return size;
   }
 
-  /** @return the capacity of the index */
+  /** @return the number of entries which fit into the allocated pages */
   public int capacity() {
-    return capacity;
+    return pages.length * pageCapacity;
   }
 
   public long getLogPosition(int idx) {
-    boundsCheck(idx, size());
-
-    final int entryOffset = entryOffset(idx);
+    final int size = this.size;
+    final AtomicBuffer[] pages = this.pages;
+    boundsCheck(idx, firstEntryIdx, size);
 
-    return indexBuffer.getLong(entryLogPositionOffset(entryOffset));
+    return getLogPosition(pages, idx);
   }
 
   public long getAddress(int idx) {
-    boundsCheck(idx, size());
+    final int size = this.size;
+    final AtomicBuffer[] pages = this.pages;
+    boundsCheck(idx, firstEntryIdx, size);
 
-    final int entryOffset = entryOffset(idx);
+    return getAddress(pages, idx);
+  }
+
+  private long getLogPosition(AtomicBuffer[] pages, int idx) {
+    final AtomicBuffer page = pages[idx / pageCapacity];
+    return page.getLong(entryLogPositionOffset(entryOffset(idx % pageCapacity)));
+  }
 
-    return indexBuffer.getLong(entryAddressOffset(entryOffset));
+  private long getAddress(AtomicBuffer[] pages, int idx) {
+    final AtomicBuffer page = pages[idx / pageCapacity];
+    return page.getLong(entryAddressOffset(entryOffset(idx % pageCapacity)));
   }
 
-  private static void boundsCheck(int idx, int size) {
-    if (idx < 0 || idx >= size) {
+  private static void boundsCheck(int idx, int firstEntryIdx, int size) {
+    if (idx < firstEntryIdx || idx >= size) {
       throw new IllegalArgumentException(
-          String.format("Index out of bounds. index=%d, size=%d.", idx, size));
+          String.format(
+              "Index out of bounds. index=%d, first index=%d, size=%d.", idx, firstEntryIdx, size));
     }
   }
 
   @Override
   public long writeSnapshot(OutputStream outputStream) throws Exception {
-    StreamUtil.write(indexBuffer, outputStream);
-    return indexBuffer.capacity();
+    final int size = this.size;
+    final AtomicBuffer[] pages = this.pages;
+    final int firstEntryIdx = this.firstEntryIdx;
+
+    final int entryCount = size - firstEntryIdx;
+    final UnsafeBuffer snapshotBuffer = new UnsafeBuffer(new byte[snapshotLength(entryCount)]);
+
+    snapshotBuffer.putInt(snapshotVersionOffset(), SNAPSHOT_VERSION);
+    snapshotBuffer.putInt(snapshotFirstEntryIdxOffset(), firstEntryIdx);
+    snapshotBuffer.putInt(snapshotEntryCountOffset(), entryCount);
+
+    for (int i = 0; i < entryCount; i++) {
+      final int entryOffset = snapshotEntryOffset(i);
+      snapshotBuffer.putLong(
+          entryLogPositionOffset(entryOffset), getLogPosition(pages, firstEntryIdx + i));
+      snapshotBuffer.putLong(entryAddressOffset(entryOffset), getAddress(pages, firstEntryIdx + i));
+    }
+
+    StreamUtil.write(snapshotBuffer, outputStream);
+    return snapshotBuffer.capacity();
   }
 
   @Override
   public void recoverFromSnapshot(InputStream inputStream) throws Exception {
-    final byte[] byteArray = StreamUtil.read(inputStream);
+    final UnsafeBuffer snapshotBuffer = new UnsafeBuffer(StreamUtil.read(inputStream));
+
+    final int version = snapshotBuffer.getInt(snapshotVersionOffset());
+    if (version == SNAPSHOT_VERSION) {
+      final int firstEntryIdx = snapshotBuffer.getInt(snapshotFirstEntryIdxOffset());
+      final int entryCount = snapshotBuffer.getInt(snapshotEntryCountOffset());
+
+      startAt(firstEntryIdx);
 
-    indexBuffer.putBytes(0, byteArray);
+      for (int i = 0; i < entryCount; i++) {
+        final int entryOffset = snapshotEntryOffset(i);
+        addBlock(
+            snapshotBuffer.getLong(entryLogPositionOffset(entryOffset)),
+            snapshotBuffer.getLong(entryAddressOffset(entryOffset)));
+      }
+    } else {
+      // the snapshot contains the whole index buffer of a previous version
+      final int firstEntryIdx = snapshotBuffer.getInt(legacyFirstEntryIdxOffset());
+      final int size = snapshotBuffer.getInt(legacyIndexSizeOffset());
+
+      startAt(firstEntryIdx);
+
+      for (int i = firstEntryIdx; i < size; i++) {
+        final int entryOffset = legacyEntryOffset(i);
+        addBlock(
+            snapshotBuffer.getLong(entryLogPositionOffset(entryOffset)),
+            snapshotBuffer.getLong(entryAddressOffset(entryOffset)));
+      }
+    }
   }
 
-  @Override
-  public void reset() {
-    // verify alignment to ensure atomicity of updates to the index metadata
-    indexBuffer.verifyAlignment();
+  /** Resets the index, so that the next added entry gets the given index. */
+  private synchronized void startAt(int firstEntryIdx) {
+    reset();
+
+    pages = new AtomicBuffer[firstEntryIdx / pageCapacity];
+    size = firstEntryIdx;
+    this.firstEntryIdx = firstEntryIdx;
+  }
 
-    // set initial size
-    indexBuffer.putIntVolatile(indexSizeOffset(), 0);
+  @Override
+  public synchronized void reset() {
+    size = 0;
+    pages = new AtomicBuffer[] {bufferAllocator.apply(pageCapacity * entryLength())};
+    firstEntryIdx = 0;
 
-    indexBuffer.setMemory(dataOffset(), capacity * entryLength(), (byte) 0);
+    lastVirtualPosition = -1;
   }
 }
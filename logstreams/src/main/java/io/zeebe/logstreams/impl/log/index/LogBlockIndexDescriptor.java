@@ -16,6 +16,7 @@
 package io.zeebe.logstreams.impl.log.index;
 
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 public class LogBlockIndexDescriptor {
@@ -25,11 +26,22 @@ public class LogBlockIndexDescriptor {
 
   public static final int ENTRY_LENGTH;
 
-  public static final int DATA_OFFSET;
+  public static final int SNAPSHOT_VERSION = 1;
 
-  public static final int METADATA_OFFSET;
+  public static final int SNAPSHOT_VERSION_OFFSET;
 
-  public static final int INDEX_SIZE_OFFSET;
+  public static final int SNAPSHOT_FIRST_ENTRY_IDX_OFFSET;
+
+  public static final int SNAPSHOT_ENTRY_COUNT_OFFSET;
+
+  public static final int SNAPSHOT_DATA_OFFSET;
+
+  /** Snapshots of previous versions contain the whole index buffer, starting with padding. */
+  public static final int LEGACY_FIRST_ENTRY_IDX_OFFSET;
+
+  public static final int LEGACY_INDEX_SIZE_OFFSET;
+
+  public static final int LEGACY_DATA_OFFSET;
 
   static {
     int offset = 0;
@@ -42,15 +54,31 @@ public class LogBlockIndexDescriptor {
 
     ENTRY_LENGTH = offset;
 
+    offset = 0;
+
+    SNAPSHOT_VERSION_OFFSET = offset;
+    offset += SIZE_OF_INT;
+
+    SNAPSHOT_FIRST_ENTRY_IDX_OFFSET = offset;
+    offset += SIZE_OF_INT;
+
+    SNAPSHOT_ENTRY_COUNT_OFFSET = offset;
+    offset += SIZE_OF_INT;
+
+    // align the entries
+    offset += SIZE_OF_INT;
+
+    SNAPSHOT_DATA_OFFSET = offset;
+
     offset = 2 * CACHE_LINE_LENGTH;
 
-    METADATA_OFFSET = offset;
+    LEGACY_FIRST_ENTRY_IDX_OFFSET = offset;
 
     offset += 2 * CACHE_LINE_LENGTH;
-    INDEX_SIZE_OFFSET = offset;
+    LEGACY_INDEX_SIZE_OFFSET = offset;
     offset += 2 * CACHE_LINE_LENGTH;
 
-    DATA_OFFSET = offset;
+    LEGACY_DATA_OFFSET = offset;
   }
 
   public static int entryLength() {
@@ -65,15 +93,39 @@ public class LogBlockIndexDescriptor {
     return offset + ENTRY_PHYSICAL_POSITION_OFFSET;
   }
 
-  public static int indexSizeOffset() {
-    return INDEX_SIZE_OFFSET;
+  public static int entryOffset(int entryIdx) {
+    return entryIdx * entryLength();
   }
 
-  public static int entryOffset(int entryIdx) {
-    return dataOffset() + (entryIdx * entryLength());
+  public static int snapshotVersionOffset() {
+    return SNAPSHOT_VERSION_OFFSET;
+  }
+
+  public static int snapshotFirstEntryIdxOffset() {
+    return SNAPSHOT_FIRST_ENTRY_IDX_OFFSET;
+  }
+
+  public static int snapshotEntryCountOffset() {
+    return SNAPSHOT_ENTRY_COUNT_OFFSET;
+  }
+
+  public static int snapshotEntryOffset(int entryIdx) {
+    return SNAPSHOT_DATA_OFFSET + entryOffset(entryIdx);
+  }
+
+  public static int snapshotLength(int entryCount) {
+    return snapshotEntryOffset(entryCount);
+  }
+
+  public static int legacyFirstEntryIdxOffset() {
+    return LEGACY_FIRST_ENTRY_IDX_OFFSET;
+  }
+
+  public static int legacyIndexSizeOffset() {
+    return LEGACY_INDEX_SIZE_OFFSET;
   }
 
-  public static int dataOffset() {
-    return DATA_OFFSET;
+  public static int legacyEntryOffset(int entryIdx) {
+    return LEGACY_DATA_OFFSET + entryOffset(entryIdx);
   }
 }
@@ -23,11 +23,14 @@ import java.nio.ByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class LogBlockIndexService implements Service<LogBlockIndex> {
+  public static final int INDEX_PAGE_CAPACITY = 4096;
+
   private LogBlockIndex logBlockIndex;
 
   @Override
   public void start(ServiceStartContext startContext) {
-    logBlockIndex = new LogBlockIndex(100000, (c) -> new UnsafeBuffer(ByteBuffer.allocate(c)));
+    logBlockIndex =
+        new LogBlockIndex(INDEX_PAGE_CAPACITY, (c) -> new UnsafeBuffer(ByteBuffer.allocate(c)));
   }
 
   @Override
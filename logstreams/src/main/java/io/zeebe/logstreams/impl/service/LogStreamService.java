@@ -238,6 +238,20 @@ public class LogStreamService implements LogStream, Service<LogStream> {
     }
   }
 
+  @Override
+  public long delete(final long position) {
+    final long blockAddress = logBlockIndex.lookupBlockAddress(position);
+
+    long deletedBytes = 0;
+    if (blockAddress >= 0) {
+      deletedBytes = logStorage.delete(blockAddress);
+
+      logBlockIndex.deleteBlocksBefore(logStorage.getFirstBlockAddress());
+    }
+
+    return deletedBytes;
+  }
+
   @Override
   public void setCommitPosition(final long commitPosition) {
     this.commitPosition.setOrdered(commitPosition);
@@ -20,12 +20,14 @@ import io.zeebe.logstreams.impl.LogEntryDescriptor;
 import io.zeebe.logstreams.impl.LoggedEventImpl;
 import io.zeebe.logstreams.impl.log.index.LogBlockIndex;
 import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.spi.MappedLogRegion;
 import io.zeebe.logstreams.spi.ReadResultProcessor;
 import io.zeebe.util.allocation.AllocatedBuffer;
 import io.zeebe.util.allocation.BufferAllocator;
 import io.zeebe.util.allocation.DirectBufferAllocator;
 import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -39,6 +41,7 @@ public class BufferedLogStreamReader implements LogStreamReader {
 
   // configuration
   private final boolean readUncommittedEntries;
+  private final int initialBufferCapacity;
   private final ReadResultProcessor completeEventsInBlockProcessor =
       new CompleteEventsInBlockProcessor();
 
@@ -61,6 +64,10 @@ public class BufferedLogStreamReader implements LogStreamReader {
   private int bufferOffset;
   private DirectBuffer directBuffer = new UnsafeBuffer(0, 0);
 
+  // filled part of the log which is read without copying it into the buffer, if the storage
+  // supports it; events are read from the region instead of the buffer as long as it is mapped
+  private final MappedLogRegion mappedRegion = new MappedLogRegion();
+
   public BufferedLogStreamReader() {
     this(false);
   }
@@ -71,7 +78,19 @@ public class BufferedLogStreamReader implements LogStreamReader {
   }
 
   public BufferedLogStreamReader(final boolean readUncommittedEntries) {
+    this(readUncommittedEntries, DEFAULT_INITIAL_BUFFER_CAPACITY);
+  }
+
+  /**
+   * @param readUncommittedEntries whether events which are not committed yet are returned
+   * @param initialBufferCapacity the initial capacity of the read buffer; the reader reads as much
+   *     of the log as fits into the buffer at once, so a larger buffer reads ahead in larger
+   *     sequential chunks
+   */
+  public BufferedLogStreamReader(
+      final boolean readUncommittedEntries, final int initialBufferCapacity) {
     this.readUncommittedEntries = readUncommittedEntries;
+    this.initialBufferCapacity = initialBufferCapacity;
     state = IteratorState.WRAP_NOT_CALLED;
   }
 
@@ -101,7 +120,7 @@ public class BufferedLogStreamReader implements LogStreamReader {
     this.logBlockIndex = logBlockIndex;
 
     if (isClosed()) {
-      allocateBuffer(DEFAULT_INITIAL_BUFFER_CAPACITY);
+      allocateBuffer(initialBufferCapacity);
     }
 
     seek(position);
@@ -167,6 +186,8 @@ public class BufferedLogStreamReader implements LogStreamReader {
   @Override
   public void close() {
     if (allocatedBuffer != null) {
+      mappedRegion.release();
+
       allocatedBuffer.close();
       allocatedBuffer = null;
       byteBuffer = null;
@@ -289,6 +310,19 @@ public class BufferedLogStreamReader implements LogStreamReader {
   }
 
   private boolean readBlockIntoBuffer(final long blockAddress) {
+    if (mappedRegion.isMapped()) {
+      unmapRegion();
+    }
+
+    final long mapResult = logStorage.map(blockAddress, mappedRegion);
+    if (mapResult > 0 && mappedRegion.isMapped()) {
+      // read the events from the region, the events which are still wrapped in the buffer are
+      // preserved until the region is released
+      bufferOffset = 0;
+      this.nextLogStorageReadAddress = mapResult;
+      return true;
+    }
+
     if (byteBuffer.remaining() < LogEntryDescriptor.HEADER_BLOCK_LENGTH) {
       compactBuffer();
     }
@@ -314,6 +348,43 @@ public class BufferedLogStreamReader implements LogStreamReader {
     }
   }
 
+  /**
+   * Copies the wrapped events from the mapped region into the buffer and releases the region. The
+   * region is only released after all of its events were read, so that only the last returned event
+   * has to be preserved.
+   */
+  private void unmapRegion() {
+    final int offsetToCopy = minimalOffsetToPreserve();
+    final int length = bufferOffset - offsetToCopy;
+
+    if (length > byteBuffer.capacity()) {
+      final AllocatedBuffer newAllocatedBuffer =
+          bufferAllocator.allocate(BitUtil.findNextPositivePowerOfTwo(length));
+      allocatedBuffer.close();
+
+      allocatedBuffer = newAllocatedBuffer;
+      byteBuffer = newAllocatedBuffer.getRawBuffer();
+      directBuffer.wrap(byteBuffer);
+    }
+
+    byteBuffer.clear();
+    mappedRegion.getBuffer().getBytes(offsetToCopy, byteBuffer, 0, length);
+    byteBuffer.position(length);
+
+    final int returnedEventOffset = returnedEvent.getFragmentOffset();
+    final int nextEventOffset = nextEvent.getFragmentOffset();
+
+    mappedRegion.release();
+
+    bufferOffset = length;
+    if (returnedEventOffset >= 0) {
+      wrapReturnedEvent(returnedEventOffset - offsetToCopy);
+    }
+    if (nextEventOffset >= 0) {
+      wrapNextEvent(nextEventOffset - offsetToCopy);
+    }
+  }
+
   private boolean searchPositionInBuffer(final long position) {
     while (isNextUncommittedEventAvailable() && nextEvent.getPosition() < position) {
       readNextEvent();
@@ -333,9 +404,10 @@ public class BufferedLogStreamReader implements LogStreamReader {
 
   private long lookUpBlockAddressForPosition(final long position) {
     long address = logBlockIndex.lookupBlockAddress(position);
-    if (address < 0) {
-      // position not found in index fallback to first block
-      address = logStorage.getFirstBlockAddress();
+    final long firstBlockAddress = logStorage.getFirstBlockAddress();
+    if (address < 0 || address < firstBlockAddress) {
+      // position not found in index or the block is deleted already, fallback to first block
+      address = firstBlockAddress;
     }
 
     return address;
@@ -355,7 +427,7 @@ public class BufferedLogStreamReader implements LogStreamReader {
     // initially we assume there is not enough data
     state = IteratorState.NOT_ENOUGH_DATA;
 
-    final int remaining = byteBuffer.position() - bufferOffset;
+    final int remaining = bufferLimit() - bufferOffset;
     if (remaining > 0) {
       wrapNextEvent(bufferOffset);
       bufferOffset += nextEvent.getFragmentLength();
@@ -383,9 +455,27 @@ public class BufferedLogStreamReader implements LogStreamReader {
     }
   }
 
+  private int bufferLimit() {
+    if (mappedRegion.isMapped()) {
+      return mappedRegion.getBuffer().capacity();
+    } else {
+      return byteBuffer.position();
+    }
+  }
+
+  private DirectBuffer eventBuffer() {
+    if (mappedRegion.isMapped()) {
+      return mappedRegion.getBuffer();
+    } else {
+      return directBuffer;
+    }
+  }
+
   private void invalidateBufferAndOffsets() {
     state = IteratorState.NOT_ENOUGH_DATA;
 
+    mappedRegion.release();
+
     wrapNextEvent(UNINITIALIZED);
     wrapReturnedEvent(UNINITIALIZED);
 
@@ -396,11 +486,11 @@ public class BufferedLogStreamReader implements LogStreamReader {
   }
 
   private void wrapNextEvent(final int offset) {
-    nextEvent.wrap(directBuffer, offset);
+    nextEvent.wrap(eventBuffer(), offset);
   }
 
   private void wrapReturnedEvent(final int offset) {
-    returnedEvent.wrap(directBuffer, offset);
+    returnedEvent.wrap(eventBuffer(), offset);
   }
 
   private void checkIfNextEventIsCommitted() {
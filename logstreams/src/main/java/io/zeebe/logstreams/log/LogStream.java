@@ -133,6 +133,16 @@ public interface LogStream extends AutoCloseable {
    */
   void truncate(long position);
 
+  /**
+   * Deletes the events before the given position to free the space of the log storage. The log
+   * storage may keep more events than requested, but the event with the given position is never
+   * deleted. This method will delete the entries of the deleted blocks from the block index too.
+   *
+   * @param position the position of the first event which must be kept
+   * @return the number of bytes which are deleted from the log storage
+   */
+  long delete(long position);
+
   void registerOnCommitPositionUpdatedCondition(ActorCondition condition);
 
   void removeOnCommitPositionUpdatedCondition(ActorCondition condition);
@@ -52,6 +52,9 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
     /** Set the log entry value. */
     LogEntryBuilder valueWriter(BufferWriter writer);
 
+    /** Set the source event of the log entry. Overrides the source event of the batch. */
+    LogEntryBuilder entrySourceRecordPosition(long position);
+
     /** Add the log entry to the batch. */
     LogStreamBatchWriter done();
   }
@@ -68,6 +71,12 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
   /** Returns the builder to add a new log entry to the batch. */
   LogEntryBuilder event();
 
+  /** Returns the length of the log entries which are added to the batch. */
+  int getBatchLength();
+
+  /** Returns the number of log entries which are added to the batch. */
+  int getEventCount();
+
   /** Discard all non-written batch data. */
   void reset();
 }
@@ -71,10 +71,15 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
   private int producerId;
 
   private long sourceEventPosition;
+  private long entrySourceEventPosition;
 
   private BufferWriter metadataWriter;
   private BufferWriter valueWriter;
 
+  public LogStreamBatchWriterImpl() {
+    reset();
+  }
+
   public LogStreamBatchWriterImpl(final LogStream logStream) {
     wrap(logStream);
   }
@@ -94,6 +99,16 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
     return this;
   }
 
+  @Override
+  public int getBatchLength() {
+    return eventLength + (eventCount * HEADER_BLOCK_LENGTH);
+  }
+
+  @Override
+  public int getEventCount() {
+    return eventCount;
+  }
+
   @Override
   public LogStreamBatchWriter producerId(final int producerId) {
     this.producerId = producerId;
@@ -158,6 +173,12 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
     return this;
   }
 
+  @Override
+  public LogEntryBuilder entrySourceRecordPosition(final long position) {
+    this.entrySourceEventPosition = position;
+    return this;
+  }
+
   @Override
   public LogStreamBatchWriter done() {
     ensureNotNull("value", valueWriter);
@@ -180,6 +201,9 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
         eventBufferOffset, positionAsKey ? POSITION_AS_KEY : key, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_LONG;
 
+    eventBuffer.putLong(eventBufferOffset, entrySourceEventPosition, Protocol.ENDIANNESS);
+    eventBufferOffset += SIZE_OF_LONG;
+
     eventBuffer.putInt(eventBufferOffset, metadataLength, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
@@ -226,7 +250,7 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
   }
 
   private long claimBatchForEvents() {
-    final int batchLength = eventLength + (eventCount * HEADER_BLOCK_LENGTH);
+    final int batchLength = getBatchLength();
 
     long claimedPosition = -1;
     do {
@@ -244,6 +268,10 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
       final long key = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_LONG;
 
+      final long entrySourceEventPosition =
+          eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
+      eventBufferOffset += SIZE_OF_LONG;
+
       final int metadataLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
@@ -263,7 +291,10 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
       setPosition(writeBuffer, bufferOffset, position);
       setRaftTerm(writeBuffer, bufferOffset, logStream.getTerm());
       setProducerId(writeBuffer, bufferOffset, producerId);
-      setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
+      setSourceEventPosition(
+          writeBuffer,
+          bufferOffset,
+          entrySourceEventPosition >= 0 ? entrySourceEventPosition : sourceEventPosition);
       setKey(writeBuffer, bufferOffset, keyToWrite);
       setTimestamp(writeBuffer, bufferOffset, ActorClock.currentTimeMillis());
       setMetadataLength(writeBuffer, bufferOffset, (short) metadataLength);
@@ -297,6 +328,7 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
   private void resetEvent() {
     positionAsKey = false;
     key = LogEntryDescriptor.KEY_NULL_VALUE;
+    entrySourceEventPosition = -1L;
 
     metadataWriter = metadataWriterInstance;
     valueWriter = null;
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.processor;
+
+/**
+ * Remembers when the stream processor observed that a position was committed. This splits the time
+ * between appending an event and processing it into the time until the commit and the time after.
+ *
+ * <p>Positions are tracked in a fixed ring. If it is full, the newest entry is moved forward, so
+ * that the following events are attributed to an earlier commit.
+ */
+class CommitTimestamps {
+  private static final int CAPACITY = 64;
+
+  private final long[] positions = new long[CAPACITY];
+  private final long[] timestamps = new long[CAPACITY];
+
+  private int head;
+  private int size;
+
+  void onCommit(final long position, final long timestamp) {
+    if (size > 0) {
+      final int newest = (head + size - 1) % CAPACITY;
+
+      if (positions[newest] >= position) {
+        return;
+      } else if (size == CAPACITY) {
+        positions[newest] = position;
+        return;
+      }
+    }
+
+    final int next = (head + size) % CAPACITY;
+    positions[next] = position;
+    timestamps[next] = timestamp;
+    size += 1;
+  }
+
+  /** @return the time when the commit of the given position was observed, or -1 if unknown */
+  long getCommitTimestamp(final long position) {
+    while (size > 0 && positions[head] < position) {
+      head = (head + 1) % CAPACITY;
+      size -= 1;
+    }
+
+    return size > 0 ? timestamps[head] : -1L;
+  }
+}
@@ -51,6 +51,24 @@ public interface EventProcessor {
     return 0;
   }
 
+  /**
+   * (Optional) Returns <code>true</code> if the processor adds the events which are caused by the
+   * processed event to the batch writer of the {@link StreamProcessorContext}, instead of writing
+   * them in {@link #writeEvent(LogStreamRecordWriter)}. The controller appends the events of
+   * multiple processed events to the log stream at once.
+   */
+  default boolean addsEventsToBatch() {
+    return false;
+  }
+
+  /**
+   * (Optional) Returns <code>false</code> if the processed event has no side effects to execute.
+   * Only events without side effects can be appended together with the following events.
+   */
+  default boolean hasSideEffects() {
+    return true;
+  }
+
   /** (Optional) Update the internal state of the processor based on the processed event. */
   default void updateState() {
     // do nothing
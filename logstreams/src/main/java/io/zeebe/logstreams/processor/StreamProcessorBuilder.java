@@ -20,6 +20,7 @@ import io.zeebe.logstreams.impl.service.StreamProcessorService;
 import io.zeebe.logstreams.log.BufferedLogStreamReader;
 import io.zeebe.logstreams.log.DisabledLogStreamWriter;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriterImpl;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LogStreamWriterImpl;
@@ -27,6 +28,7 @@ import io.zeebe.logstreams.spi.SnapshotController;
 import io.zeebe.servicecontainer.ServiceBuilder;
 import io.zeebe.servicecontainer.ServiceContainer;
 import io.zeebe.servicecontainer.ServiceName;
+import io.zeebe.util.EnsureUtil;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
@@ -44,6 +46,9 @@ public class StreamProcessorBuilder {
   protected Duration snapshotPeriod;
   protected SnapshotController snapshotController;
 
+  protected int maxBatchSize = 100;
+  protected int maxReprocessingBatchSize = 100;
+
   protected LogStreamReader logStreamReader;
   protected LogStreamRecordWriter logStreamWriter;
 
@@ -87,6 +92,25 @@ public class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * @param maxBatchSize the maximum number of events which are processed in one go, before the
+   *     controller yields to other actors. The records which are written by these events are
+   *     appended to the log together. Must be greater than zero
+   */
+  public StreamProcessorBuilder maxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /**
+   * @param maxReprocessingBatchSize the maximum number of events which are reprocessed in one go on
+   *     recovery; their state changes are written together. Must be greater than zero
+   */
+  public StreamProcessorBuilder maxReprocessingBatchSize(int maxReprocessingBatchSize) {
+    this.maxReprocessingBatchSize = maxReprocessingBatchSize;
+    return this;
+  }
+
   public StreamProcessorBuilder snapshotController(SnapshotController snapshotController) {
     this.snapshotController = snapshotController;
     return this;
@@ -141,6 +165,8 @@ public class StreamProcessorBuilder {
     Objects.requireNonNull(actorScheduler, "No task scheduler provided.");
     Objects.requireNonNull(serviceContainer, "No service container provided.");
     Objects.requireNonNull(snapshotController, "No snapshot controller provided.");
+    EnsureUtil.ensureGreaterThan("max batch size", maxBatchSize, 0);
+    EnsureUtil.ensureGreaterThan("max reprocessing batch size", maxReprocessingBatchSize, 0);
   }
 
   private StreamProcessorContext createContext() {
@@ -162,6 +188,8 @@ public class StreamProcessorBuilder {
 
     ctx.setSnapshotPeriod(snapshotPeriod);
     ctx.setSnapshotController(snapshotController);
+    ctx.setMaxBatchSize(maxBatchSize);
+    ctx.setMaxReprocessingBatchSize(maxReprocessingBatchSize);
 
     logStreamReader = new BufferedLogStreamReader();
     ctx.setLogStreamReader(logStreamReader);
@@ -172,6 +200,7 @@ public class StreamProcessorBuilder {
       logStreamWriter = new LogStreamWriterImpl();
     }
     ctx.setLogStreamWriter(logStreamWriter);
+    ctx.setLogStreamBatchWriter(new LogStreamBatchWriterImpl());
 
     return ctx;
   }
@@ -16,6 +16,7 @@
 package io.zeebe.logstreams.processor;
 
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.spi.SnapshotController;
@@ -33,10 +34,14 @@ public class StreamProcessorContext {
 
   protected LogStreamReader logStreamReader;
   protected LogStreamRecordWriter logStreamWriter;
+  protected LogStreamBatchWriter logStreamBatchWriter;
 
   protected Duration snapshotPeriod;
   protected SnapshotController snapshotController;
 
+  protected int maxBatchSize;
+  protected int maxReprocessingBatchSize;
+
   protected ActorScheduler actorScheduler;
   private ActorControl actorControl;
 
@@ -44,6 +49,7 @@ public class StreamProcessorContext {
 
   private Runnable suspendRunnable;
   private Runnable resumeRunnable;
+  private Runnable failRunnable;
 
   public LogStream getLogStream() {
     return logStream;
@@ -93,6 +99,14 @@ public class StreamProcessorContext {
     this.logStreamWriter = logStreamWriter;
   }
 
+  public LogStreamBatchWriter getLogStreamBatchWriter() {
+    return logStreamBatchWriter;
+  }
+
+  public void setLogStreamBatchWriter(LogStreamBatchWriter logStreamBatchWriter) {
+    this.logStreamBatchWriter = logStreamBatchWriter;
+  }
+
   public Duration getSnapshotPeriod() {
     return snapshotPeriod;
   }
@@ -101,6 +115,22 @@ public class StreamProcessorContext {
     this.snapshotPeriod = snapshotPeriod;
   }
 
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public int getMaxReprocessingBatchSize() {
+    return maxReprocessingBatchSize;
+  }
+
+  public void setMaxReprocessingBatchSize(int maxReprocessingBatchSize) {
+    this.maxReprocessingBatchSize = maxReprocessingBatchSize;
+  }
+
   public SnapshotController getSnapshotController() {
     return snapshotController;
   }
@@ -157,6 +187,19 @@ public class StreamProcessorContext {
     resumeRunnable.run();
   }
 
+  public Runnable getFailRunnable() {
+    return failRunnable;
+  }
+
+  public void setFailRunnable(Runnable failRunnable) {
+    this.failRunnable = failRunnable;
+  }
+
+  /** Fails the controller, e.g. if the stream processor can't continue after an async error. */
+  public void failController() {
+    failRunnable.run();
+  }
+
   private StreamProcessorFactory streamProcessorFactory;
 
   public void setStreamProcessorFactory(StreamProcessorFactory streamProcessorFactory) {
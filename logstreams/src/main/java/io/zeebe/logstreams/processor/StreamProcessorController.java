@@ -16,8 +16,11 @@
 package io.zeebe.logstreams.processor;
 
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.logstreams.log.BufferedLogStreamReader;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LoggedEvent;
@@ -31,6 +34,7 @@ import io.zeebe.util.sched.ActorPriority;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.ActorTask.ActorLifecyclePhase;
 import io.zeebe.util.sched.SchedulingHints;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.time.Duration;
@@ -48,6 +52,11 @@ public class StreamProcessorController extends Actor {
       "Stream processor '%s' failed to reprocess event: %s";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED =
       "Stream processor '{}' failed to process event. It stop processing further events.";
+  private static final String ERROR_MESSAGE_WRITE_DISABLED =
+      "Stream processor '%s' cannot write events. Writing is disabled.";
+
+  /** The capacity of the read buffer on recovery, to read the log in large sequential chunks. */
+  private static final int RECOVERY_READ_BUFFER_CAPACITY = 1024 * 1024;
 
   private final StreamProcessorFactory streamProcessorFactory;
   private StreamProcessor streamProcessor;
@@ -56,8 +65,12 @@ public class StreamProcessorController extends Actor {
 
   private final LogStreamReader logStreamReader;
   private final LogStreamRecordWriter logStreamWriter;
+  private final LogStreamBatchWriter logStreamBatchWriter;
+  private int maxBatchLength;
 
   private final Duration snapshotPeriod;
+  private final int maxBatchSize;
+  private final int maxReprocessingBatchSize;
 
   private final ActorScheduler actorScheduler;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -67,20 +80,33 @@ public class StreamProcessorController extends Actor {
   private final boolean isReadOnlyProcessor;
 
   private final Runnable readNextEvent = this::readNextEvent;
+  private final Runnable reprocessNextEvents = this::reprocessNextEvents;
+
+  private BufferedLogStreamReader recoveryReader;
 
   private long snapshotPosition = -1L;
   private long lastSourceEventPosition = -1L;
   private long eventPosition = -1L;
   private long lastSuccessfulProcessedEventPosition = -1L;
   private long lastWrittenEventPosition = -1L;
+  private long uncommittedProcessedEventPosition = -1L;
+  private long uncommittedWrittenEventPosition = -1L;
+
+  private ZeebeDb zeebeDb;
+  private ZeebeDbTransaction transaction;
 
   private LoggedEvent currentEvent;
   private EventProcessor eventProcessor;
   private ActorCondition onCommitPositionUpdatedCondition;
 
+  private boolean isBatchPending = false;
+  private boolean isBatchWritten = false;
+  private boolean isEventWritten = false;
+
   private boolean suspended = false;
 
   private StreamProcessorMetrics metrics;
+  private final CommitTimestamps commitTimestamps = new CommitTimestamps();
 
   public StreamProcessorController(final StreamProcessorContext context) {
     this.streamProcessorContext = context;
@@ -88,6 +114,7 @@ public class StreamProcessorController extends Actor {
 
     this.streamProcessorContext.setSuspendRunnable(this::suspend);
     this.streamProcessorContext.setResumeRunnable(this::resume);
+    this.streamProcessorContext.setFailRunnable(this::onFailure);
 
     this.actorScheduler = context.getActorScheduler();
 
@@ -96,7 +123,10 @@ public class StreamProcessorController extends Actor {
 
     this.logStreamReader = context.getLogStreamReader();
     this.logStreamWriter = context.getLogStreamWriter();
+    this.logStreamBatchWriter = context.getLogStreamBatchWriter();
     this.snapshotPeriod = context.getSnapshotPeriod();
+    this.maxBatchSize = context.getMaxBatchSize();
+    this.maxReprocessingBatchSize = context.getMaxReprocessingBatchSize();
     this.eventFilter = context.getEventFilter();
     this.isReadOnlyProcessor = context.isReadOnlyProcessor();
   }
@@ -106,9 +136,14 @@ public class StreamProcessorController extends Actor {
     return streamProcessorContext.getName();
   }
 
+  /**
+   * Opens the stream processor. It recovers as an I/O-bound actor, so that the number of stream
+   * processors which recover concurrently is bounded by the I/O threads, and switches to a
+   * CPU-bound actor once it is recovered.
+   */
   public ActorFuture<Void> openAsync() {
     if (isOpened.compareAndSet(false, true)) {
-      return actorScheduler.submitActor(this, true);
+      return actorScheduler.submitActor(this, true, SchedulingHints.ioBound());
     } else {
       return CompletableActorFuture.completed(null);
     }
@@ -127,12 +162,26 @@ public class StreamProcessorController extends Actor {
     logStreamReader.wrap(logStream);
     logStreamWriter.wrap(logStream);
 
+    if (!isReadOnlyProcessor) {
+      logStreamBatchWriter.wrap(logStream);
+      // leave room for the events of the last processed event of a batch
+      maxBatchLength = logStream.getWriteBuffer().getMaxFrameLength() / 2;
+    }
+
+    recoveryReader = new BufferedLogStreamReader(false, RECOVERY_READ_BUFFER_CAPACITY);
+    recoveryReader.wrap(logStream);
+
     try {
 
       snapshotPosition = recoverFromSnapshot(logStream.getCommitPosition(), logStream.getTerm());
       lastSourceEventPosition = seekFromSnapshotPositionToLastSourceEvent();
 
-      final ZeebeDb zeebeDb = snapshotController.openDb();
+      zeebeDb = snapshotController.openDb();
+      if (lastSourceEventPosition > snapshotPosition) {
+        // the state is rebuilt from the snapshot and the log if the reprocessing is interrupted
+        zeebeDb.setWriteAheadLogEnabled(false);
+      }
+
       streamProcessor = streamProcessorFactory.createProcessor(zeebeDb);
       streamProcessor.onOpen(streamProcessorContext);
     } catch (final Exception e) {
@@ -145,7 +194,7 @@ public class StreamProcessorController extends Actor {
   protected void onActorStarted() {
     try {
       if (lastSourceEventPosition > snapshotPosition) {
-        reprocessNextEvent();
+        reprocessNextEvents();
       } else {
         onRecovered();
       }
@@ -160,11 +209,11 @@ public class StreamProcessorController extends Actor {
         snapshotController.recover(commitPosition, term, this::validateSnapshot);
     final long snapshotPosition = recovered.getLastSuccessfulProcessedEventPosition();
 
-    logStreamReader.seekToFirstEvent(); // reset seek position
+    recoveryReader.seekToFirstEvent(); // reset seek position
     if (!recovered.isInitial()) {
-      final boolean found = logStreamReader.seek(snapshotPosition);
-      if (found && logStreamReader.hasNext()) {
-        logStreamReader.seek(snapshotPosition + 1);
+      final boolean found = recoveryReader.seek(snapshotPosition);
+      if (found && recoveryReader.hasNext()) {
+        recoveryReader.seek(snapshotPosition + 1);
       } else {
         throw new IllegalStateException(
             String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, getName()));
@@ -177,11 +226,11 @@ public class StreamProcessorController extends Actor {
   }
 
   private boolean validateSnapshot(final StateSnapshotMetadata metadata) {
-    final boolean wasFound = logStreamReader.seek(metadata.getLastWrittenEventPosition());
+    final boolean wasFound = recoveryReader.seek(metadata.getLastWrittenEventPosition());
     boolean isValid = false;
 
-    if (wasFound && logStreamReader.hasNext()) {
-      final LoggedEvent event = logStreamReader.next();
+    if (wasFound && recoveryReader.hasNext()) {
+      final LoggedEvent event = recoveryReader.next();
       isValid = event.getRaftTerm() == metadata.getLastWrittenEventTerm();
     }
 
@@ -191,10 +240,10 @@ public class StreamProcessorController extends Actor {
   private long seekFromSnapshotPositionToLastSourceEvent() {
     long lastSourceEventPosition = -1L;
 
-    if (!isReadOnlyProcessor && logStreamReader.hasNext()) {
+    if (!isReadOnlyProcessor && recoveryReader.hasNext()) {
       lastSourceEventPosition = snapshotPosition;
-      while (logStreamReader.hasNext()) {
-        final LoggedEvent newEvent = logStreamReader.next();
+      while (recoveryReader.hasNext()) {
+        final LoggedEvent newEvent = recoveryReader.next();
 
         // ignore events from other producers
         if (newEvent.getProducerId() == streamProcessorContext.getId()) {
@@ -202,20 +251,38 @@ public class StreamProcessorController extends Actor {
           if (sourceEventPosition > 0 && sourceEventPosition > lastSourceEventPosition) {
             lastSourceEventPosition = sourceEventPosition;
           }
+          if (sourceEventPosition > 0) {
+            lastWrittenEventPosition = newEvent.getPosition();
+          }
         }
       }
 
       // reset position
-      logStreamReader.seek(snapshotPosition + 1);
+      recoveryReader.seek(snapshotPosition + 1);
     }
 
     return lastSourceEventPosition;
   }
 
-  private void reprocessNextEvent() {
+  /**
+   * Reprocesses up to {@link #maxReprocessingBatchSize} events in one actor job. The state changes
+   * of these events are written together at the end of the batch.
+   */
+  private void reprocessNextEvents() {
     try {
-      if (logStreamReader.hasNext()) {
-        currentEvent = logStreamReader.next();
+      boolean isRecovered = false;
+      int eventCount = 0;
+
+      beginTransaction();
+
+      while (!isRecovered && eventCount < maxReprocessingBatchSize) {
+        if (!recoveryReader.hasNext()) {
+          throw new IllegalStateException(
+              String.format(
+                  ERROR_MESSAGE_REPROCESSING_NO_SOURCE_EVENT, getName(), lastSourceEventPosition));
+        }
+
+        currentEvent = recoveryReader.next();
         if (currentEvent.getPosition() > lastSourceEventPosition) {
           throw new IllegalStateException(
               String.format(
@@ -223,10 +290,17 @@ public class StreamProcessorController extends Actor {
         }
 
         reprocessEvent(currentEvent);
+
+        isRecovered = currentEvent.getPosition() == lastSourceEventPosition;
+        eventCount += 1;
+      }
+
+      commitTransaction();
+
+      if (isRecovered) {
+        onRecovered();
       } else {
-        throw new IllegalStateException(
-            String.format(
-                ERROR_MESSAGE_REPROCESSING_NO_SOURCE_EVENT, getName(), lastSourceEventPosition));
+        actor.submit(reprocessNextEvents);
       }
     } catch (final RuntimeException e) {
       onFailure();
@@ -243,32 +317,39 @@ public class StreamProcessorController extends Actor {
           // don't execute side effects or write events
           eventProcessor.processEvent();
           eventProcessor.updateState();
-          onRecordReprocessed(currentEvent);
-        } else {
-          onRecordReprocessed(currentEvent);
+
+          logStreamBatchWriter.reset();
         }
       } catch (final Exception e) {
         throw new RuntimeException(
             String.format(ERROR_MESSAGE_REPROCESSING_FAILED, getName(), currentEvent), e);
       }
-    } else {
-      onRecordReprocessed(currentEvent);
-    }
-  }
-
-  private void onRecordReprocessed(final LoggedEvent currentEvent) {
-    if (currentEvent.getPosition() == lastSourceEventPosition) {
-      onRecovered();
-    } else {
-      actor.submit(this::reprocessNextEvent);
     }
   }
 
   private void onRecovered() {
     phase = Phase.PROCESSING;
 
+    if (lastSourceEventPosition > snapshotPosition) {
+      zeebeDb.setWriteAheadLogEnabled(true);
+
+      // the state contains the reprocessed events, so the next snapshot can refer to them
+      lastSuccessfulProcessedEventPosition = lastSourceEventPosition;
+
+      // the reprocessed event refers to the buffer of the recovery reader
+      currentEvent = null;
+    }
+
+    // continue with the event after the recovered ones
+    logStreamReader.seek(Math.max(snapshotPosition, lastSourceEventPosition) + 1);
+    closeRecoveryReader();
+    actor.setSchedulingHints(SchedulingHints.cpuBound(ActorPriority.REGULAR));
+
+    // events which are already committed are attributed to the time of the recovery
+    recordCommitPosition();
+
     onCommitPositionUpdatedCondition =
-        actor.onCondition(getName() + "-on-commit-position-updated", readNextEvent);
+        actor.onCondition(getName() + "-on-commit-position-updated", this::onCommitPositionUpdated);
     streamProcessorContext.logStream.registerOnCommitPositionUpdatedCondition(
         onCommitPositionUpdatedCondition);
 
@@ -279,111 +360,280 @@ public class StreamProcessorController extends Actor {
     actor.submit(readNextEvent);
   }
 
+  private void onCommitPositionUpdated() {
+    recordCommitPosition();
+    readNextEvent();
+  }
+
+  private void recordCommitPosition() {
+    commitTimestamps.onCommit(
+        streamProcessorContext.logStream.getCommitPosition(), ActorClock.currentTimeMillis());
+  }
+
+  /**
+   * Reads and processes up to {@link #maxBatchSize} events in one actor job. The events which are
+   * written by the processed events are collected in the batch writer and appended to the log
+   * stream together. They are appended before an event executes its side effects, or writes its
+   * events itself, so that a side effect never refers to an event which is not written yet. If an
+   * append or a side effect fails, the batch ends and the remaining steps are retried in separate
+   * jobs, which continue with the next batch once they are done.
+   *
+   * <p>The state changes of all events of a batch are committed together at the end of the batch,
+   * or before the remaining steps are retried, so that the other jobs of the actor which run in
+   * between don't join the transaction.
+   */
   private void readNextEvent() {
-    if (isOpened() && !isSuspended() && logStreamReader.hasNext() && eventProcessor == null) {
+    if (isBatchPending) {
+      // continues with the next batch once the pending one is completed
+      return;
+    }
+
+    int eventCount = 0;
+    boolean isCompleted = true;
+
+    while (isCompleted
+        && eventCount < maxBatchSize
+        && isOpened()
+        && !isSuspended()
+        && logStreamReader.hasNext()) {
       currentEvent = logStreamReader.next();
+      eventCount += 1;
 
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        processEvent(currentEvent);
+        if (processEvent(currentEvent)) {
+          isCompleted = tryCompleteEvents();
+        }
       } else {
-        // continue with the next event
-        actor.submit(readNextEvent);
-
         metrics.incrementEventsSkippedCount();
       }
     }
+
+    if (eventCount > 0 && !isFailed()) {
+      if (isCompleted && tryCompleteEvents()) {
+        onBatchCompleted();
+      } else if (tryCommitState()) {
+        // the positions are committed once the batch is completed
+        isBatchPending = true;
+        actor.runUntilDone(this::completeBatch);
+      }
+    }
   }
 
-  private void processEvent(final LoggedEvent event) {
-    eventProcessor = streamProcessor.onEvent(event);
+  /**
+   * @return <code>true</code>, if the processed events must be completed before the next event is
+   *     processed
+   */
+  private boolean processEvent(final LoggedEvent event) {
+    final EventProcessor eventProcessor = streamProcessor.onEvent(event);
 
     if (eventProcessor != null) {
       try {
         metrics.incrementEventsProcessedCount();
+        recordLatency(event);
 
+        beginTransaction();
         eventProcessor.processEvent();
-        actor.runUntilDone(this::executeSideEffects);
+
+        if (eventProcessor.addsEventsToBatch() && !eventProcessor.hasSideEffects()) {
+          eventProcessor.updateState();
+          uncommittedProcessedEventPosition = event.getPosition();
+
+          return logStreamBatchWriter.getBatchLength() >= maxBatchLength;
+        } else {
+          // the remaining steps are done after the batch is written
+          this.eventProcessor = eventProcessor;
+          this.eventPosition = 0;
+          return true;
+        }
       } catch (final Exception e) {
         LOG.error(ERROR_MESSAGE_PROCESSING_FAILED, getName(), e);
         onFailure();
       }
     } else {
-      // continue with the next event
-      actor.submit(readNextEvent);
-
       metrics.incrementEventsSkippedCount();
     }
+    return false;
   }
 
-  private void executeSideEffects() {
-    try {
-      final boolean success = eventProcessor.executeSideEffects();
-      if (success) {
-        actor.done();
-
-        actor.runUntilDone(this::writeEvent);
-      } else if (isOpened()) {
-        // try again
-        actor.yield();
-      } else {
-        actor.done();
-      }
-    } catch (final Exception e) {
+  private void recordLatency(final LoggedEvent event) {
+    final long commitTimestamp = commitTimestamps.getCommitTimestamp(event.getPosition());
+
+    if (commitTimestamp >= 0) {
+      metrics.recordAppendToCommitLatency(Math.max(0, commitTimestamp - event.getTimestamp()));
+      metrics.recordCommitToProcessedLatency(ActorClock.currentTimeMillis() - commitTimestamp);
+    }
+  }
+
+  private void completeBatch() {
+    if (tryCompleteEvents()) {
       actor.done();
 
-      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED, getName(), e);
-      onFailure();
+      isBatchPending = false;
+      onBatchCompleted();
+    } else if (isOpened()) {
+      // try again
+      actor.yield();
+    } else {
+      actor.done();
     }
   }
 
-  private void writeEvent() {
+  /**
+   * Writes the events of the batch, then completes the event which is pending by writing its events
+   * and executing its side effects. The steps which succeeded are not repeated in the next attempt.
+   *
+   * @return <code>true</code>, if the events are completed or the processing failed
+   */
+  private boolean tryCompleteEvents() {
     try {
-      logStreamWriter
-          .producerId(streamProcessorContext.getId())
-          .sourceRecordPosition(currentEvent.getPosition());
-
-      eventPosition = eventProcessor.writeEvent(logStreamWriter);
+      if (!isBatchWritten) {
+        if (tryWriteBatch() < 0) {
+          return false;
+        }
+        isBatchWritten = true;
+      }
 
-      if (eventPosition >= 0) {
-        actor.done();
+      if (eventProcessor != null) {
+        if (!isEventWritten && !eventProcessor.addsEventsToBatch()) {
+          if (tryWriteEvent() < 0) {
+            return false;
+          }
+          isEventWritten = true;
+        }
 
-        metrics.incrementEventsWrittenCount();
+        if (!eventProcessor.executeSideEffects()) {
+          return false;
+        }
 
+        beginTransaction();
         updateState();
-      } else if (isOpened()) {
-        // try again
-        actor.yield();
-      } else {
-        actor.done();
       }
-    } catch (final Exception e) {
-      actor.done();
 
+      isBatchWritten = false;
+      isEventWritten = false;
+    } catch (final Exception e) {
       LOG.error(ERROR_MESSAGE_PROCESSING_FAILED, getName(), e);
       onFailure();
     }
+    return true;
+  }
+
+  private void onBatchCompleted() {
+    if (!isFailed() && tryCommitTransaction()) {
+      // continue with the next batch
+      actor.submit(readNextEvent);
+    }
+  }
+
+  private long tryWriteBatch() {
+    if (logStreamBatchWriter.getBatchLength() == 0) {
+      return 0;
+    }
+
+    if (isReadOnlyProcessor) {
+      throw new IllegalStateException(String.format(ERROR_MESSAGE_WRITE_DISABLED, getName()));
+    }
+
+    final int eventCount = logStreamBatchWriter.getEventCount();
+    final long position =
+        logStreamBatchWriter.producerId(streamProcessorContext.getId()).tryWrite();
+
+    if (position > 0) {
+      metrics.incrementEventsWrittenCount(eventCount);
+      uncommittedWrittenEventPosition = position;
+    }
+
+    return position;
+  }
+
+  private long tryWriteEvent() {
+    logStreamWriter
+        .producerId(streamProcessorContext.getId())
+        .sourceRecordPosition(currentEvent.getPosition());
+
+    eventPosition = eventProcessor.writeEvent(logStreamWriter);
+
+    if (eventPosition >= 0) {
+      metrics.incrementEventsWrittenCount();
+    }
+
+    return eventPosition;
   }
 
   private void updateState() {
     try {
       eventProcessor.updateState();
 
-      lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
+      uncommittedProcessedEventPosition = currentEvent.getPosition();
 
       final boolean hasWrittenEvent = eventPosition > 0;
       if (hasWrittenEvent) {
-        lastWrittenEventPosition = eventPosition;
+        uncommittedWrittenEventPosition = eventPosition;
       }
 
-      // continue with next event
       eventProcessor = null;
-      actor.submit(readNextEvent);
     } catch (final Exception e) {
       LOG.error(ERROR_MESSAGE_PROCESSING_FAILED, getName(), e);
       onFailure();
     }
   }
 
+  private void beginTransaction() {
+    if (transaction == null) {
+      transaction = zeebeDb.beginTransaction();
+    }
+  }
+
+  private void commitTransaction() {
+    if (transaction != null) {
+      final long startTime = System.nanoTime();
+      transaction.commit();
+      metrics.recordStateCommitTime(System.nanoTime() - startTime);
+      transaction = null;
+    }
+  }
+
+  private void rollbackTransaction() {
+    if (transaction != null) {
+      transaction.rollback();
+      transaction = null;
+    }
+  }
+
+  private boolean tryCommitState() {
+    try {
+      commitTransaction();
+      return true;
+    } catch (final Exception e) {
+      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED, getName(), e);
+      onFailure();
+      return false;
+    }
+  }
+
+  /**
+   * Commits the state changes of the processed events. The positions of these events become visible
+   * to the snapshot only after the commit, so that a snapshot never refers to an event whose state
+   * changes are not part of it.
+   */
+  private boolean tryCommitTransaction() {
+    try {
+      commitTransaction();
+
+      if (uncommittedProcessedEventPosition > lastSuccessfulProcessedEventPosition) {
+        lastSuccessfulProcessedEventPosition = uncommittedProcessedEventPosition;
+      }
+      if (uncommittedWrittenEventPosition > lastWrittenEventPosition) {
+        lastWrittenEventPosition = uncommittedWrittenEventPosition;
+      }
+      return true;
+    } catch (final Exception e) {
+      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED, getName(), e);
+      onFailure();
+      return false;
+    }
+  }
+
   private void createSnapshot() {
     if (actor.getLifecyclePhase() == ActorLifecyclePhase.STARTED) {
       // run as io-bound actor while writing snapshot
@@ -395,7 +645,8 @@ public class StreamProcessorController extends Actor {
   }
 
   private void doCreateSnapshot() {
-    if (currentEvent != null) {
+    // the state of a pending batch is committed, but not the positions of its events
+    if (lastSuccessfulProcessedEventPosition > snapshotPosition && !isBatchPending) {
       final long lastWrittenPosition =
           lastWrittenEventPosition > lastSuccessfulProcessedEventPosition
               ? lastWrittenEventPosition
@@ -424,11 +675,16 @@ public class StreamProcessorController extends Actor {
         metadata.getLastSuccessfulProcessedEventPosition());
 
     try {
-      snapshotController.takeSnapshot(metadata);
+      final long writtenBytes = snapshotController.takeSnapshot(metadata);
 
       final long snapshotCreationTime = System.currentTimeMillis() - start;
-      LOG.info("Creation of snapshot {} took {} ms.", name, snapshotCreationTime);
+      LOG.info(
+          "Creation of snapshot {} took {} ms and wrote {} bytes.",
+          name,
+          snapshotCreationTime,
+          writtenBytes);
       metrics.recordSnapshotCreationTime(snapshotCreationTime);
+      metrics.recordSnapshotWrittenBytes(writtenBytes);
 
       snapshotPosition = lastSuccessfulProcessedEventPosition;
     } catch (final Exception e) {
@@ -468,15 +724,25 @@ public class StreamProcessorController extends Actor {
     }
 
     streamProcessorContext.getLogStreamReader().close();
+    closeRecoveryReader();
 
     streamProcessorContext.logStream.removeOnCommitPositionUpdatedCondition(
         onCommitPositionUpdatedCondition);
     onCommitPositionUpdatedCondition = null;
   }
 
+  private void closeRecoveryReader() {
+    if (recoveryReader != null) {
+      recoveryReader.close();
+      recoveryReader = null;
+    }
+  }
+
   private void onFailure() {
     phase = Phase.FAILED;
 
+    rollbackTransaction();
+
     isOpened.set(false);
 
     actor.close();
@@ -15,6 +15,7 @@
  */
 package io.zeebe.logstreams.processor;
 
+import io.zeebe.util.metrics.Histogram;
 import io.zeebe.util.metrics.Metric;
 import io.zeebe.util.metrics.MetricsManager;
 
@@ -24,6 +25,11 @@ public class StreamProcessorMetrics {
   private final Metric eventsSkippedCountMetric;
   private final Metric snapshotSizeMetric;
   private final Metric snapshotTimeMillisMetric;
+  private final Metric snapshotWrittenBytesMetric;
+  private final Histogram appendToCommitLatency;
+  private final Histogram commitToProcessedLatency;
+  private final Histogram stateCommitTime;
+  private final Histogram snapshotDuration;
 
   public StreamProcessorMetrics(
       final MetricsManager metricsManager, final String processorName, final String partitionId) {
@@ -69,6 +75,42 @@ public class StreamProcessorMetrics {
             .label("processor", processorName)
             .label("partition", partitionId)
             .create();
+
+    snapshotWrittenBytesMetric =
+        metricsManager
+            .newMetric("streamprocessor_snapshot_last_written_bytes")
+            .type("gauge")
+            .label("processor", processorName)
+            .label("partition", partitionId)
+            .create();
+
+    appendToCommitLatency =
+        metricsManager
+            .newHistogram("streamprocessor_append_to_commit_latency_millis")
+            .label("processor", processorName)
+            .label("partition", partitionId)
+            .create();
+
+    commitToProcessedLatency =
+        metricsManager
+            .newHistogram("streamprocessor_commit_to_processed_latency_millis")
+            .label("processor", processorName)
+            .label("partition", partitionId)
+            .create();
+
+    stateCommitTime =
+        metricsManager
+            .newHistogram("streamprocessor_state_commit_time_micros")
+            .label("processor", processorName)
+            .label("partition", partitionId)
+            .create();
+
+    snapshotDuration =
+        metricsManager
+            .newHistogram("streamprocessor_snapshot_duration_millis")
+            .label("processor", processorName)
+            .label("partition", partitionId)
+            .create();
   }
 
   public void close() {
@@ -77,6 +119,11 @@ public class StreamProcessorMetrics {
     eventsWrittenCountMetric.close();
     snapshotTimeMillisMetric.close();
     snapshotSizeMetric.close();
+    snapshotWrittenBytesMetric.close();
+    appendToCommitLatency.close();
+    commitToProcessedLatency.close();
+    stateCommitTime.close();
+    snapshotDuration.close();
   }
 
   public void incrementEventsProcessedCount() {
@@ -91,11 +138,32 @@ public class StreamProcessorMetrics {
     eventsWrittenCountMetric.incrementOrdered();
   }
 
+  public void incrementEventsWrittenCount(int count) {
+    eventsWrittenCountMetric.getAndAddOrdered(count);
+  }
+
   public void recordSnapshotSize(final long size) {
     snapshotSizeMetric.setOrdered(size);
   }
 
+  public void recordSnapshotWrittenBytes(final long writtenBytes) {
+    snapshotWrittenBytesMetric.setOrdered(writtenBytes);
+  }
+
   public void recordSnapshotCreationTime(final long creationTime) {
     snapshotTimeMillisMetric.setOrdered(creationTime);
+    snapshotDuration.record(creationTime);
+  }
+
+  public void recordAppendToCommitLatency(final long latencyMillis) {
+    appendToCommitLatency.record(latencyMillis);
+  }
+
+  public void recordCommitToProcessedLatency(final long latencyMillis) {
+    commitToProcessedLatency.record(latencyMillis);
+  }
+
+  public void recordStateCommitTime(final long commitTimeNanos) {
+    stateCommitTime.record(commitTimeNanos / 1_000);
   }
 }
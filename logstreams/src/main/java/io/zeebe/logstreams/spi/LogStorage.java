@@ -49,6 +49,13 @@ public interface LogStorage {
    */
   long OP_RESULT_BLOCK_SIZE_TOO_BIG = -4L;
 
+  /**
+   * Status code returned by the {@link #map(long, MappedLogRegion)} operation in case the provided
+   * address is not part of an immutable region of the storage which can be mapped. The bytes at
+   * this address must be read by {@link #read(ByteBuffer, long, ReadResultProcessor)} instead.
+   */
+  long OP_RESULT_NOT_MAPPABLE = -5L;
+
   /**
    * Writes a block containing one or multiple log entries in the storage and returns the address at
    * which the block has been written.
@@ -71,6 +78,19 @@ public interface LogStorage {
    */
   void truncate(long address);
 
+  /**
+   * Deletes the blocks before the given address to free the space of log entries which are not
+   * needed anymore. The storage may keep more blocks than requested, for example if it can only
+   * delete whole files, but it never deletes the block at the given address.
+   *
+   * <p>After the deletion, {@link #getFirstBlockAddress()} returns the address of the first block
+   * which is kept.
+   *
+   * @param address the address of the first block which must be kept
+   * @return the number of bytes which are deleted
+   */
+  long delete(long address);
+
   /**
    * Naive implementation of the {@link #read(ByteBuffer, long, ReadResultProcessor)} method. Does
    * not process the bytes which are read.
@@ -122,6 +142,33 @@ public interface LogStorage {
    */
   long read(ByteBuffer readBuffer, long addr, ReadResultProcessor processor);
 
+  /**
+   * Maps the bytes from the given address up to the end of the immutable region of the storage
+   * which contains the address, so that they can be read without copying them into a read buffer.
+   * The mapped bytes contain complete blocks only.
+   *
+   * <p>Returns an operation result status code which is either
+   *
+   * <ul>
+   *   <li>positive long representing the next address after the mapped bytes
+   *   <li>{@link #OP_RESULT_INVALID_ADDR}: in case the provided address does not exist
+   *   <li>{@link #OP_RESULT_NOT_MAPPABLE}: in case the provided address is not part of an immutable
+   *       region, or the storage does not support mapping
+   * </ul>
+   *
+   * If this method returns with a positive status code, the given region wraps the mapped bytes
+   * until it is released.
+   *
+   * <p>This method is invoked concurrently by consumer threads of the log.
+   *
+   * @param addr the address in the underlying storage from which bytes should be mapped
+   * @param region the region which is wrapped around the mapped bytes
+   * @return the next address after the mapped bytes or error status code
+   */
+  default long map(long addr, MappedLogRegion region) {
+    return OP_RESULT_NOT_MAPPABLE;
+  }
+
   /**
    * @return true if the storage is byte addressable (each byte managed in the underlying storage
    *     can be uniquely addressed using a long addr. False in case the storage is block
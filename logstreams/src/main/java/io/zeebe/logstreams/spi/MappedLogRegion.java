@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.spi;
+
+import io.zeebe.util.CloseableSilently;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A read-only view of an immutable part of a {@link LogStorage}, which is memory mapped and can be
+ * read without copying it, see {@link LogStorage#map(long, MappedLogRegion)}.
+ *
+ * <p>The region holds a reference to the underlying mapping. The mapping stays valid until the
+ * region is released, even if the storage closes or deletes the mapped data in the meantime. The
+ * region can be reused for other mappings.
+ */
+public class MappedLogRegion implements CloseableSilently {
+  private final UnsafeBuffer buffer = new UnsafeBuffer(0, 0);
+
+  private CloseableSilently mappingReference;
+
+  /**
+   * Wraps the given memory. The region takes over the reference and closes it on release.
+   *
+   * @param address the address of the first mapped byte
+   * @param length the count of mapped bytes
+   * @param mappingReference the reference which keeps the memory mapped
+   */
+  public void wrap(long address, int length, CloseableSilently mappingReference) {
+    release();
+
+    buffer.wrap(address, length);
+    this.mappingReference = mappingReference;
+  }
+
+  /** @return the mapped bytes, only valid as long as the region is mapped */
+  public DirectBuffer getBuffer() {
+    return buffer;
+  }
+
+  public boolean isMapped() {
+    return mappingReference != null;
+  }
+
+  /** Releases the reference to the mapping, afterwards the mapped bytes must not be read. */
+  public void release() {
+    if (mappingReference != null) {
+      buffer.wrap(0, 0);
+
+      mappingReference.close();
+      mappingReference = null;
+    }
+  }
+
+  @Override
+  public void close() {
+    release();
+  }
+}
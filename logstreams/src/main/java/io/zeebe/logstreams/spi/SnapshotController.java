@@ -25,8 +25,10 @@ public interface SnapshotController extends AutoCloseable {
    * event (regardless of whether or not it is committed) - term of the last written event
    *
    * @param metadata current state metadata
+   * @return the number of bytes written for the snapshot, without the files which it shares with
+   *     the runtime state
    */
-  void takeSnapshot(StateSnapshotMetadata metadata) throws Exception;
+  long takeSnapshot(StateSnapshotMetadata metadata) throws Exception;
 
   /**
    * Recovers the state from the latest snapshot and returns the corresponding metadata. The
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.state;
+
+import java.util.zip.CRC32;
+
+/** A part of a file of a snapshot which is replicated to another node. */
+public class SnapshotChunk {
+  private final StateSnapshotMetadata snapshot;
+  private final int chunkIndex;
+  private final int totalCount;
+  private final String fileName;
+  private final long fileOffset;
+  private final long checksum;
+  private final byte[] content;
+
+  public SnapshotChunk(
+      final StateSnapshotMetadata snapshot,
+      final int chunkIndex,
+      final int totalCount,
+      final String fileName,
+      final long fileOffset,
+      final long checksum,
+      final byte[] content) {
+    this.snapshot = snapshot;
+    this.chunkIndex = chunkIndex;
+    this.totalCount = totalCount;
+    this.fileName = fileName;
+    this.fileOffset = fileOffset;
+    this.checksum = checksum;
+    this.content = content;
+  }
+
+  public static long createChecksum(final byte[] content) {
+    final CRC32 crc32 = new CRC32();
+    crc32.update(content);
+    return crc32.getValue();
+  }
+
+  /** @return the snapshot this chunk belongs to */
+  public StateSnapshotMetadata getSnapshot() {
+    return snapshot;
+  }
+
+  /** @return the index of this chunk within all chunks of the snapshot */
+  public int getChunkIndex() {
+    return chunkIndex;
+  }
+
+  /** @return the number of chunks of the snapshot */
+  public int getTotalCount() {
+    return totalCount;
+  }
+
+  /** @return the name of the snapshot file this chunk is part of */
+  public String getFileName() {
+    return fileName;
+  }
+
+  /** @return the offset of this chunk within the snapshot file */
+  public long getFileOffset() {
+    return fileOffset;
+  }
+
+  /** @return the CRC32 checksum of the content */
+  public long getChecksum() {
+    return checksum;
+  }
+
+  public byte[] getContent() {
+    return content;
+  }
+
+  /** @return true if the content matches the checksum */
+  public boolean isValid() {
+    return createChecksum(content) == checksum;
+  }
+
+  @Override
+  public String toString() {
+    return "SnapshotChunk{"
+        + "snapshot="
+        + snapshot
+        + ", chunkIndex="
+        + chunkIndex
+        + ", totalCount="
+        + totalCount
+        + ", fileName='"
+        + fileName
+        + '\''
+        + ", fileOffset="
+        + fileOffset
+        + ", length="
+        + content.length
+        + '}';
+  }
+}
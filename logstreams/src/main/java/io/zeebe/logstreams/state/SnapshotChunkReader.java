@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.state;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Splits the files of a snapshot into chunks of a bounded size, so that the snapshot can be
+ * replicated chunk by chunk. The chunks are ordered by file name and offset, so the same snapshot
+ * is always split into the same chunks.
+ */
+public class SnapshotChunkReader {
+  public static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+  private final StateSnapshotMetadata snapshot;
+  private final File snapshotDirectory;
+  private final List<ChunkDescriptor> chunks = new ArrayList<>();
+
+  public SnapshotChunkReader(final StateStorage storage, final StateSnapshotMetadata snapshot)
+      throws IOException {
+    this(storage, snapshot, DEFAULT_CHUNK_SIZE);
+  }
+
+  public SnapshotChunkReader(
+      final StateStorage storage, final StateSnapshotMetadata snapshot, final int chunkSize)
+      throws IOException {
+    this.snapshot = snapshot;
+    this.snapshotDirectory = storage.getSnapshotDirectoryFor(snapshot);
+
+    final File[] files = snapshotDirectory.listFiles(File::isFile);
+    if (files == null) {
+      throw new IOException("Failed to list the files of snapshot " + snapshotDirectory);
+    }
+
+    Arrays.sort(files, Comparator.comparing(File::getName));
+    for (final File file : files) {
+      final long fileLength = file.length();
+
+      // an empty file has one empty chunk, so that it is created on replication
+      long offset = 0;
+      do {
+        final int length = (int) Math.min(chunkSize, fileLength - offset);
+        chunks.add(new ChunkDescriptor(file.getName(), offset, length));
+        offset += length;
+      } while (offset < fileLength);
+    }
+  }
+
+  public StateSnapshotMetadata getSnapshot() {
+    return snapshot;
+  }
+
+  public int getChunkCount() {
+    return chunks.size();
+  }
+
+  public SnapshotChunk readChunk(final int chunkIndex) throws IOException {
+    final ChunkDescriptor descriptor = chunks.get(chunkIndex);
+    final byte[] content = new byte[descriptor.length];
+
+    try (RandomAccessFile file =
+        new RandomAccessFile(new File(snapshotDirectory, descriptor.fileName), "r")) {
+      file.seek(descriptor.offset);
+      file.readFully(content);
+    }
+
+    return new SnapshotChunk(
+        snapshot,
+        chunkIndex,
+        chunks.size(),
+        descriptor.fileName,
+        descriptor.offset,
+        SnapshotChunk.createChecksum(content),
+        content);
+  }
+
+  private static final class ChunkDescriptor {
+    private final String fileName;
+    private final long offset;
+    private final int length;
+
+    ChunkDescriptor(final String fileName, final long offset, final int length) {
+      this.fileName = fileName;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+}
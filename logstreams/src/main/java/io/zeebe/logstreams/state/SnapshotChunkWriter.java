@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.state;
+
+import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.util.FileUtil;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import org.slf4j.Logger;
+
+/**
+ * Stores the chunks of a replicated snapshot. The chunks are written to the pending directory of
+ * the snapshot and the snapshot is moved to the snapshots directory once all chunks are written, so
+ * that an incomplete snapshot is never recovered.
+ *
+ * <p>The chunks of a snapshot must be written in order. Each write returns the index of the next
+ * expected chunk, so an interrupted transfer can be resumed from there. Only one snapshot is
+ * received at a time: a chunk of another snapshot discards the pending one.
+ */
+public class SnapshotChunkWriter {
+  private static final Logger LOG = Loggers.ROCKSDB_LOGGER;
+
+  private final StateStorage storage;
+
+  private StateSnapshotMetadata pendingSnapshot;
+  private int nextChunkIndex;
+
+  public SnapshotChunkWriter(final StateStorage storage) {
+    this.storage = storage;
+  }
+
+  /**
+   * @param chunk the chunk to write
+   * @return the index of the next expected chunk of the snapshot, or the total count of chunks if
+   *     the snapshot is complete or not needed
+   */
+  public int write(final SnapshotChunk chunk) throws IOException {
+    final StateSnapshotMetadata snapshot = chunk.getSnapshot();
+
+    if (!snapshot.equals(pendingSnapshot)) {
+      if (hasSnapshotNewerOrEqualTo(snapshot)) {
+        return chunk.getTotalCount();
+      }
+
+      startSnapshot(snapshot);
+    }
+
+    if (chunk.getChunkIndex() != nextChunkIndex) {
+      // the chunk was already written or a previous one is missing
+      return nextChunkIndex;
+    }
+
+    if (!chunk.isValid()) {
+      LOG.warn("Received invalid chunk {}, expect it to be sent again.", chunk);
+      return nextChunkIndex;
+    }
+
+    writeChunk(chunk);
+    nextChunkIndex += 1;
+
+    if (nextChunkIndex == chunk.getTotalCount()) {
+      completeSnapshot();
+      return chunk.getTotalCount();
+    }
+
+    return nextChunkIndex;
+  }
+
+  /** Discards the pending snapshot, including the leftovers of previously interrupted ones. */
+  public void abort() throws IOException {
+    pendingSnapshot = null;
+
+    final File pendingDirectory = storage.getPendingDirectory();
+    if (pendingDirectory.exists()) {
+      FileUtil.deleteFolder(pendingDirectory.getAbsolutePath());
+    }
+  }
+
+  private boolean hasSnapshotNewerOrEqualTo(final StateSnapshotMetadata snapshot) {
+    return !storage.list(s -> s.compareTo(snapshot) >= 0).isEmpty();
+  }
+
+  private void startSnapshot(final StateSnapshotMetadata snapshot) throws IOException {
+    abort();
+    Files.createDirectories(storage.getPendingDirectoryFor(snapshot).toPath());
+
+    pendingSnapshot = snapshot;
+    nextChunkIndex = 0;
+  }
+
+  private void writeChunk(final SnapshotChunk chunk) throws IOException {
+    final File pendingDirectory = storage.getPendingDirectoryFor(pendingSnapshot);
+    final File file = new File(pendingDirectory, chunk.getFileName());
+
+    if (!pendingDirectory.equals(file.getParentFile())) {
+      throw new IOException("Expected snapshot file name, but got " + chunk.getFileName());
+    }
+
+    try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+      output.seek(chunk.getFileOffset());
+      output.write(chunk.getContent());
+    }
+  }
+
+  private void completeSnapshot() throws IOException {
+    final StateSnapshotMetadata snapshot = pendingSnapshot;
+    final Path pendingDirectory = storage.getPendingDirectoryFor(snapshot).toPath();
+    final Path snapshotsDirectory = storage.getSnapshotsDirectory().toPath();
+
+    // the content must be on disk before the snapshot becomes visible, otherwise a crash could
+    // leave a snapshot which looks complete but misses some of its content
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(pendingDirectory)) {
+      for (final Path file : files) {
+        FileUtil.flush(file);
+      }
+    }
+    FileUtil.flush(pendingDirectory);
+
+    Files.createDirectories(snapshotsDirectory);
+    Files.move(
+        pendingDirectory,
+        storage.getSnapshotDirectoryFor(snapshot).toPath(),
+        StandardCopyOption.ATOMIC_MOVE);
+    // persist the move before the older snapshots are deleted
+    FileUtil.flush(snapshotsDirectory);
+    pendingSnapshot = null;
+
+    LOG.debug("Received replicated snapshot {}", snapshot);
+
+    // only the latest snapshot is needed to recover
+    final List<StateSnapshotMetadata> olderSnapshots = storage.list(s -> s.compareTo(snapshot) < 0);
+    for (final StateSnapshotMetadata olderSnapshot : olderSnapshots) {
+      FileUtil.deleteFolder(storage.getSnapshotDirectoryFor(olderSnapshot).getAbsolutePath());
+    }
+  }
+}
@@ -32,13 +32,26 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import org.slf4j.Logger;
 
-/** Controls how snapshot/recovery operations are performed */
+/**
+ * Controls the snapshots of the state of a stream processor.
+ *
+ * <p>The SST files of RocksDB are immutable, so a snapshot and the runtime state can share them:
+ * taking a snapshot (i.e. a RocksDB checkpoint) hard-links the SST files into the snapshot
+ * directory and recovering hard-links them back into the runtime directory. Only the mutable files,
+ * like the MANIFEST and OPTIONS files, are copied. The link count of a file serves as its reference
+ * count: purging a snapshot only removes its links, and the data of a file is released as soon as
+ * it is no longer referenced by any snapshot or the runtime state. If the files can not be linked,
+ * e.g. because the directories are on different file systems, they are copied instead.
+ */
 public class StateSnapshotController implements SnapshotController {
   private static final Logger LOG = Loggers.ROCKSDB_LOGGER;
+  private static final String SST_FILE_EXTENSION = ".sst";
 
   private final StateStorage storage;
   private final ZeebeDbFactory zeebeDbFactory;
@@ -50,17 +63,19 @@ public class StateSnapshotController implements SnapshotController {
   }
 
   @Override
-  public void takeSnapshot(final StateSnapshotMetadata metadata) {
+  public long takeSnapshot(final StateSnapshotMetadata metadata) throws Exception {
     if (db == null) {
       throw new IllegalStateException("Cannot create snapshot of not open database.");
     }
 
     if (exists(metadata)) {
-      return;
+      return 0;
     }
 
     final File snapshotDir = storage.getSnapshotDirectoryFor(metadata);
     db.createSnapshot(snapshotDir);
+
+    return getUnsharedSize(snapshotDir.toPath(), storage.getRuntimeDirectory().toPath());
   }
 
   @Override
@@ -85,8 +100,16 @@ public class StateSnapshotController implements SnapshotController {
     }
 
     if (recoveredMetadata != null) {
+      final long start = System.currentTimeMillis();
       final File snapshotPath = storage.getSnapshotDirectoryFor(recoveredMetadata);
-      copySnapshot(runtimeDirectory, snapshotPath);
+      final SnapshotCopier copier = copySnapshot(runtimeDirectory, snapshotPath);
+
+      LOG.debug(
+          "Recovered state from snapshot {} in {} ms ({} bytes linked, {} bytes copied).",
+          recoveredMetadata,
+          System.currentTimeMillis() - start,
+          copier.getLinkedBytes(),
+          copier.getCopiedBytes());
     } else {
       recoveredMetadata = StateSnapshotMetadata.createInitial(term);
     }
@@ -114,10 +137,46 @@ public class StateSnapshotController implements SnapshotController {
     return storage.getSnapshotDirectoryFor(metadata).exists();
   }
 
-  private void copySnapshot(File runtimeDirectory, File snapshotPath) throws Exception {
+  private SnapshotCopier copySnapshot(File runtimeDirectory, File snapshotPath) throws Exception {
     final Path targetPath = runtimeDirectory.toPath();
     final Path sourcePath = snapshotPath.toPath();
-    Files.walkFileTree(sourcePath, new SnapshotCopier(sourcePath, targetPath));
+    final SnapshotCopier copier = new SnapshotCopier(sourcePath, targetPath);
+    Files.walkFileTree(sourcePath, copier);
+    return copier;
+  }
+
+  /**
+   * @return the size of the files in the given directory which are not shared (i.e. hard-linked)
+   *     with the files in the other directory
+   */
+  private static long getUnsharedSize(Path directory, Path otherDirectory) throws IOException {
+    final Set<Object> sharedFiles = new HashSet<>();
+    Files.walkFileTree(
+        otherDirectory,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (attrs.fileKey() != null) {
+              sharedFiles.add(attrs.fileKey());
+            }
+            return CONTINUE;
+          }
+        });
+
+    final long[] size = new long[1];
+    Files.walkFileTree(
+        directory,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (attrs.fileKey() == null || !sharedFiles.contains(attrs.fileKey())) {
+              size[0] += attrs.size();
+            }
+            return CONTINUE;
+          }
+        });
+
+    return size[0];
   }
 
   @Override
@@ -137,6 +196,10 @@ public class StateSnapshotController implements SnapshotController {
     private final Path targetPath;
     private final Path sourcePath;
 
+    private boolean linkFiles = true;
+    private long linkedBytes;
+    private long copiedBytes;
+
     SnapshotCopier(Path sourcePath, Path targetPath) {
       this.sourcePath = sourcePath;
       this.targetPath = targetPath;
@@ -161,7 +224,12 @@ public class StateSnapshotController implements SnapshotController {
       final Path newFile = targetPath.resolve(sourcePath.relativize(file));
 
       try {
-        Files.copy(file, newFile);
+        if (linkFiles && file.getFileName().toString().endsWith(SST_FILE_EXTENSION)) {
+          linkFile(file, newFile, attrs);
+        } else {
+          Files.copy(file, newFile);
+          copiedBytes += attrs.size();
+        }
       } catch (IOException ioException) {
         LOG.error("Problem on copying snapshot to runtime.", ioException);
       }
@@ -169,6 +237,27 @@ public class StateSnapshotController implements SnapshotController {
       return CONTINUE;
     }
 
+    private void linkFile(Path file, Path newFile, BasicFileAttributes attrs) throws IOException {
+      try {
+        Files.createLink(newFile, file);
+        linkedBytes += attrs.size();
+      } catch (IOException | UnsupportedOperationException e) {
+        LOG.debug("Failed to link snapshot file {}, fall back to copy the files.", file, e);
+        linkFiles = false;
+
+        Files.copy(file, newFile);
+        copiedBytes += attrs.size();
+      }
+    }
+
+    long getLinkedBytes() {
+      return linkedBytes;
+    }
+
+    long getCopiedBytes() {
+      return copiedBytes;
+    }
+
     @Override
     public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
       return CONTINUE;
@@ -30,18 +30,23 @@ public class StateStorage {
 
   public static final String DEFAULT_RUNTIME_DIRECTORY = "runtime";
   public static final String DEFAULT_SNAPSHOTS_DIRECTORY = "snapshots";
+  public static final String DEFAULT_PENDING_DIRECTORY = "pending";
 
   private final File runtimeDirectory;
   private final File snapshotsDirectory;
+  private final File pendingDirectory;
 
   public StateStorage(final String rootDirectory) {
     this.runtimeDirectory = new File(rootDirectory, DEFAULT_RUNTIME_DIRECTORY);
     this.snapshotsDirectory = new File(rootDirectory, DEFAULT_SNAPSHOTS_DIRECTORY);
+    this.pendingDirectory = new File(rootDirectory, DEFAULT_PENDING_DIRECTORY);
   }
 
   public StateStorage(final File runtimeDirectory, final File snapshotsDirectory) {
     this.runtimeDirectory = runtimeDirectory;
     this.snapshotsDirectory = snapshotsDirectory;
+    this.pendingDirectory =
+        new File(snapshotsDirectory.getAbsoluteFile().getParentFile(), DEFAULT_PENDING_DIRECTORY);
   }
 
   public File getRuntimeDirectory() {
@@ -52,21 +57,34 @@ public class StateStorage {
     return snapshotsDirectory;
   }
 
+  /**
+   * Snapshots which are replicated from another node are stored in a pending directory until they
+   * are complete, so that they are not listed before.
+   */
+  public File getPendingDirectory() {
+    return pendingDirectory;
+  }
+
   public File getSnapshotDirectoryFor(final StateSnapshotMetadata metadata) {
+    return new File(snapshotsDirectory, getSnapshotName(metadata));
+  }
+
+  public File getPendingDirectoryFor(final StateSnapshotMetadata metadata) {
+    return new File(pendingDirectory, getSnapshotName(metadata));
+  }
+
+  private String getSnapshotName(final StateSnapshotMetadata metadata) {
     if (metadata == null) {
       throw new NullPointerException();
     }
 
-    final String path =
-        String.format(
-            "%d%s%d%s%d",
-            metadata.getLastSuccessfulProcessedEventPosition(),
-            SEPARATOR,
-            metadata.getLastWrittenEventPosition(),
-            SEPARATOR,
-            metadata.getLastWrittenEventTerm());
-
-    return new File(snapshotsDirectory, path);
+    return String.format(
+        "%d%s%d%s%d",
+        metadata.getLastSuccessfulProcessedEventPosition(),
+        SEPARATOR,
+        metadata.getLastWrittenEventPosition(),
+        SEPARATOR,
+        metadata.getLastWrittenEventTerm());
   }
 
   public StateSnapshotMetadata getSnapshotMetadata(final File folder) {
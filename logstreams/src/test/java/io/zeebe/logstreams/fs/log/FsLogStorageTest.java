@@ -25,6 +25,7 @@ import io.zeebe.logstreams.impl.log.fs.FsLogSegmentDescriptor;
 import io.zeebe.logstreams.impl.log.fs.FsLogStorage;
 import io.zeebe.logstreams.impl.log.fs.FsLogStorageConfiguration;
 import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.spi.MappedLogRegion;
 import io.zeebe.util.FileUtil;
 import io.zeebe.util.metrics.MetricsManager;
 import java.io.File;
@@ -347,6 +348,89 @@ public class FsLogStorageTest {
     assertThat(readBuffer.array()).isEqualTo(new byte[MSG.length]);
   }
 
+  @Test
+  public void shouldMapBlockOfFilledSegment() {
+    // given
+    fsLogStorage.open();
+
+    final long address = fsLogStorage.append(ByteBuffer.wrap(MSG));
+    fillSegment();
+
+    // when
+    final MappedLogRegion region = new MappedLogRegion();
+    final long result = fsLogStorage.map(address, region);
+
+    // then
+    assertThat(result).isEqualTo(PositionUtil.position(1, FsLogSegmentDescriptor.METADATA_LENGTH));
+    assertThat(region.isMapped()).isTrue();
+    assertThat(region.getBuffer().capacity())
+        .isEqualTo(SEGMENT_SIZE - FsLogSegmentDescriptor.METADATA_LENGTH);
+
+    final byte[] mappedBytes = new byte[MSG.length];
+    region.getBuffer().getBytes(0, mappedBytes);
+    assertThat(mappedBytes).isEqualTo(MSG);
+
+    region.release();
+  }
+
+  @Test
+  public void shouldNotMapBlockOfActiveSegment() {
+    // given
+    fsLogStorage.open();
+
+    final long address = fsLogStorage.append(ByteBuffer.wrap(MSG));
+
+    // when
+    final MappedLogRegion region = new MappedLogRegion();
+    final long result = fsLogStorage.map(address, region);
+
+    // then
+    assertThat(result).isEqualTo(LogStorage.OP_RESULT_NOT_MAPPABLE);
+    assertThat(region.isMapped()).isFalse();
+  }
+
+  @Test
+  public void shouldNotMapBlockIfDisabled() {
+    // given
+    fsStorageConfig = new FsLogStorageConfiguration(SEGMENT_SIZE, logPath, 0, false, false);
+    fsLogStorage = new FsLogStorage(fsStorageConfig, new MetricsManager(), 0);
+    fsLogStorage.open();
+
+    final long address = fsLogStorage.append(ByteBuffer.wrap(MSG));
+    fillSegment();
+
+    // when
+    final MappedLogRegion region = new MappedLogRegion();
+    final long result = fsLogStorage.map(address, region);
+
+    // then
+    assertThat(result).isEqualTo(LogStorage.OP_RESULT_NOT_MAPPABLE);
+    assertThat(region.isMapped()).isFalse();
+  }
+
+  @Test
+  public void shouldReadMappedBlockAfterStorageIsClosed() {
+    // given
+    fsLogStorage.open();
+
+    final long address = fsLogStorage.append(ByteBuffer.wrap(MSG));
+    fillSegment();
+
+    final MappedLogRegion region = new MappedLogRegion();
+    fsLogStorage.map(address, region);
+
+    // when
+    fsLogStorage.close();
+
+    // then
+    final byte[] mappedBytes = new byte[MSG.length];
+    region.getBuffer().getBytes(0, mappedBytes);
+    assertThat(mappedBytes).isEqualTo(MSG);
+
+    region.release();
+    assertThat(region.isMapped()).isFalse();
+  }
+
   @Test
   public void shouldNotReadBlockIfNotOpen() {
     final ByteBuffer readBuffer = ByteBuffer.allocate(MSG.length);
@@ -731,6 +815,82 @@ public class FsLogStorageTest {
     fsLogStorage.close();
   }
 
+  @Test
+  public void shouldDeleteSegmentsBeforeAddress() {
+    // given
+    fsLogStorage.open();
+
+    final long firstAddress = fsLogStorage.append(ByteBuffer.wrap(MSG));
+    fillSegment();
+    fillSegment();
+    final long address = fsLogStorage.append(ByteBuffer.wrap(MSG));
+
+    assertThat(logDirectory.listFiles().length).isEqualTo(3);
+
+    // when
+    final long deletedBytes = fsLogStorage.delete(address);
+
+    // then
+    assertThat(deletedBytes).isEqualTo(2 * SEGMENT_SIZE);
+    assertThat(logDirectory.listFiles().length).isEqualTo(1);
+
+    assertThat(PositionUtil.partitionId(fsLogStorage.getFirstBlockAddress())).isEqualTo(2);
+
+    assertMessage(address, MSG);
+    assertThat(fsLogStorage.read(ByteBuffer.allocate(MSG.length), firstAddress))
+        .isEqualTo(LogStorage.OP_RESULT_INVALID_ADDR);
+  }
+
+  @Test
+  public void shouldNotDeleteSegmentOfAddress() {
+    // given
+    fsLogStorage.open();
+
+    fillSegment();
+    final long address = fsLogStorage.append(ByteBuffer.wrap(MSG));
+    final long firstBlockAddress = fsLogStorage.getFirstBlockAddress();
+
+    // when
+    final long deletedBytes = fsLogStorage.delete(firstBlockAddress);
+
+    // then
+    assertThat(deletedBytes).isEqualTo(0);
+    assertThat(fsLogStorage.getFirstBlockAddress()).isEqualTo(firstBlockAddress);
+    assertThat(logDirectory.listFiles().length).isEqualTo(2);
+
+    assertMessage(address, MSG);
+  }
+
+  @Test
+  public void shouldOpenStorageAfterDelete() {
+    // given
+    fsLogStorage.open();
+
+    fillSegment();
+    fillSegment();
+    final long address = fsLogStorage.append(ByteBuffer.wrap(MSG));
+
+    fsLogStorage.delete(address);
+    final long firstBlockAddress = fsLogStorage.getFirstBlockAddress();
+    fsLogStorage.close();
+
+    // when
+    fsLogStorage = new FsLogStorage(fsStorageConfig, new MetricsManager(), 0);
+    fsLogStorage.open();
+
+    // then
+    assertThat(fsLogStorage.getFirstBlockAddress()).isEqualTo(firstBlockAddress);
+    assertMessage(address, MSG);
+  }
+
+  private void fillSegment() {
+    final int remainingCapacity =
+        SEGMENT_SIZE - FsLogSegmentDescriptor.METADATA_LENGTH - MSG.length;
+    fsLogStorage.append(ByteBuffer.wrap(new byte[remainingCapacity]));
+    // the segment is filled when the next block doesn't fit anymore
+    fsLogStorage.append(ByteBuffer.wrap(MSG));
+  }
+
   protected byte[] readLogFile(final String logFilePath, final long address, final int capacity) {
     final ByteBuffer buffer = ByteBuffer.allocate(capacity);
 
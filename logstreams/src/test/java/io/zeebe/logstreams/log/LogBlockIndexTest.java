@@ -15,6 +15,7 @@
  */
 package io.zeebe.logstreams.log;
 
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.logstreams.impl.log.index.LogBlockIndex;
@@ -74,22 +75,23 @@ public class LogBlockIndexTest {
   }
 
   @Test
-  public void shouldNotAddBlockIfCapacityReached() {
+  public void shouldGrowIfCapacityReached() {
     // given
     final int capacity = blockIndex.capacity();
 
     while (capacity > blockIndex.size()) {
-      blockIndex.addBlock(blockIndex.size(), 0);
+      blockIndex.addBlock(blockIndex.size(), blockIndex.size() * 10);
     }
 
+    // when
+    blockIndex.addBlock(capacity, capacity * 10);
+
     // then
-    exception.expect(RuntimeException.class);
-    exception.expectMessage(
-        String.format(
-            "LogBlockIndex capacity of %d entries reached. Cannot add new block.", capacity));
+    assertThat(blockIndex.size()).isEqualTo(capacity + 1);
+    assertThat(blockIndex.capacity()).isEqualTo(2 * capacity);
 
-    // when
-    blockIndex.addBlock(blockIndex.size(), 0);
+    assertThat(blockIndex.lookupBlockAddress(capacity - 1)).isEqualTo((capacity - 1) * 10);
+    assertThat(blockIndex.lookupBlockAddress(capacity)).isEqualTo(capacity * 10);
   }
 
   @Test
@@ -172,6 +174,21 @@ public class LogBlockIndexTest {
     }
   }
 
+  @Test
+  public void shouldLookupLastBlock() {
+    // given
+    final int blockCount = 3 * CAPACITY;
+
+    for (int i = 0; i < blockCount; i++) {
+      blockIndex.addBlock((i + 1) * 10, (i + 1) * 100);
+    }
+
+    // then
+    assertThat(blockIndex.lookupBlockAddress(blockCount * 10)).isEqualTo(blockCount * 100);
+    assertThat(blockIndex.lookupBlockAddress(Long.MAX_VALUE)).isEqualTo(blockCount * 100);
+    assertThat(blockIndex.lookupBlockPosition(Long.MAX_VALUE)).isEqualTo(blockCount * 10);
+  }
+
   @Test
   public void shouldNotReturnFirstBlockPosition() {
     // given
@@ -251,4 +268,112 @@ public class LogBlockIndexTest {
       assertThat(newBlockIndex.getAddress(i)).isEqualTo(physPos);
     }
   }
+
+  @Test
+  public void shouldDeleteBlocksBeforeAddress() {
+    // given
+    blockIndex.addBlock(10, 1000);
+    blockIndex.addBlock(20, 2000);
+    blockIndex.addBlock(30, 3000);
+
+    // when
+    final int deletedEntries = blockIndex.deleteBlocksBefore(2000);
+
+    // then
+    assertThat(deletedEntries).isEqualTo(1);
+    assertThat(blockIndex.firstEntryIdx()).isEqualTo(1);
+    assertThat(blockIndex.size()).isEqualTo(3);
+
+    assertThat(blockIndex.lookupBlockAddress(15)).isEqualTo(-1);
+    assertThat(blockIndex.lookupBlockAddress(20)).isEqualTo(2000);
+    assertThat(blockIndex.lookupBlockAddress(35)).isEqualTo(3000);
+  }
+
+  @Test
+  public void shouldDeleteAllBlocks() {
+    // given
+    blockIndex.addBlock(10, 1000);
+    blockIndex.addBlock(20, 2000);
+
+    // when
+    final int deletedEntries = blockIndex.deleteBlocksBefore(3000);
+
+    // then
+    assertThat(deletedEntries).isEqualTo(2);
+    assertThat(blockIndex.lookupBlockAddress(25)).isEqualTo(-1);
+
+    // and new blocks can be added
+    blockIndex.addBlock(30, 3000);
+    assertThat(blockIndex.lookupBlockAddress(35)).isEqualTo(3000);
+  }
+
+  @Test
+  public void shouldRecoverDeletedBlocksFromSnapshot() throws Exception {
+    // given
+    blockIndex.addBlock(10, 1000);
+    blockIndex.addBlock(20, 2000);
+    blockIndex.addBlock(30, 3000);
+    blockIndex.deleteBlocksBefore(2000);
+
+    // when
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    blockIndex.writeSnapshot(outputStream);
+
+    final LogBlockIndex newBlockIndex = createNewBlockIndex(CAPACITY);
+    newBlockIndex.recoverFromSnapshot(new ByteArrayInputStream(outputStream.toByteArray()));
+
+    // then
+    assertThat(newBlockIndex.firstEntryIdx()).isEqualTo(1);
+    assertThat(newBlockIndex.lookupBlockAddress(15)).isEqualTo(-1);
+    assertThat(newBlockIndex.lookupBlockAddress(25)).isEqualTo(2000);
+  }
+
+  @Test
+  public void shouldLookupBlocksAfterDeletingPages() {
+    // given
+    final int blockCount = 3 * CAPACITY;
+
+    for (int i = 0; i < blockCount; i++) {
+      blockIndex.addBlock((i + 1) * 10, (i + 1) * 100);
+    }
+
+    // when
+    final int firstBlock = CAPACITY + 5;
+    blockIndex.deleteBlocksBefore((firstBlock + 1) * 100);
+
+    // then
+    assertThat(blockIndex.firstEntryIdx()).isEqualTo(firstBlock);
+    assertThat(blockIndex.lookupBlockAddress(firstBlock * 10)).isEqualTo(-1);
+
+    for (int i = firstBlock; i < blockCount; i++) {
+      assertThat(blockIndex.getAddress(i)).isEqualTo((i + 1) * 100);
+      assertThat(blockIndex.lookupBlockAddress((i + 1) * 10 + 5)).isEqualTo((i + 1) * 100);
+    }
+  }
+
+  @Test
+  public void shouldRecoverIndexFromLegacySnapshot() throws Exception {
+    // given
+    final int legacyDataOffset = 6 * CACHE_LINE_LENGTH;
+    final UnsafeBuffer legacySnapshot =
+        new UnsafeBuffer(new byte[legacyDataOffset + CAPACITY * 16]);
+
+    legacySnapshot.putInt(2 * CACHE_LINE_LENGTH, 1);
+    legacySnapshot.putInt(4 * CACHE_LINE_LENGTH, 3);
+
+    for (int i = 0; i < 3; i++) {
+      legacySnapshot.putLong(legacyDataOffset + i * 16, (i + 1) * 10);
+      legacySnapshot.putLong(legacyDataOffset + i * 16 + 8, (i + 1) * 100);
+    }
+
+    // when
+    blockIndex.recoverFromSnapshot(new ByteArrayInputStream(legacySnapshot.byteArray()));
+
+    // then
+    assertThat(blockIndex.firstEntryIdx()).isEqualTo(1);
+    assertThat(blockIndex.size()).isEqualTo(3);
+    assertThat(blockIndex.lookupBlockAddress(15)).isEqualTo(-1);
+    assertThat(blockIndex.lookupBlockAddress(25)).isEqualTo(200);
+    assertThat(blockIndex.lookupBlockAddress(35)).isEqualTo(300);
+  }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.log;
+
+import static io.zeebe.util.StringUtil.getBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.logstreams.util.LogStreamReaderRule;
+import io.zeebe.logstreams.util.LogStreamRule;
+import io.zeebe.logstreams.util.LogStreamWriterRule;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedLogStreamReaderTest {
+  private static final int SEGMENT_SIZE = 256 * 1024;
+  private static final int MAX_APPEND_BLOCK_SIZE = 64 * 1024;
+
+  private static final UnsafeBuffer EVENT_VALUE = new UnsafeBuffer(getBytes("test"));
+  private static final UnsafeBuffer BIG_EVENT_VALUE =
+      new UnsafeBuffer(new byte[BufferedLogStreamReader.DEFAULT_INITIAL_BUFFER_CAPACITY + 1024]);
+
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+  public LogStreamRule logStreamRule =
+      new LogStreamRule(
+          temporaryFolder,
+          b -> b.logSegmentSize(SEGMENT_SIZE).maxAppendBlockSize(MAX_APPEND_BLOCK_SIZE));
+  public LogStreamWriterRule writer = new LogStreamWriterRule(logStreamRule);
+  public LogStreamReaderRule readerRule = new LogStreamReaderRule(logStreamRule);
+
+  @Rule
+  public RuleChain ruleChain =
+      RuleChain.outerRule(temporaryFolder).around(logStreamRule).around(readerRule).around(writer);
+
+  private LogStreamReader reader;
+
+  @Before
+  public void setUp() {
+    reader = readerRule.getLogStreamReader();
+    logStreamRule.setCommitPosition(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void shouldIterateOverEventsOfFilledSegments() {
+    // given
+    final int eventCount = 50_000;
+
+    // when
+    writer.writeEvents(eventCount, EVENT_VALUE);
+
+    // then
+    readerRule.assertEvents(eventCount, EVENT_VALUE);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  public void shouldPreserveReturnedEventWhenReadingNextSegment() {
+    // given
+    final int eventCount = 20_000;
+    writer.writeEvents(eventCount, EVENT_VALUE);
+
+    // when
+    for (int i = 1; i <= eventCount; i++) {
+      final LoggedEvent event = readerRule.nextEvent();
+      reader.hasNext();
+
+      // then
+      assertThat(event.getKey()).isEqualTo(i);
+      assertThat(eventValue(event)).isEqualTo(EVENT_VALUE);
+    }
+  }
+
+  @Test
+  public void shouldPreserveBigReturnedEventWhenReadingNextSegment() {
+    // given
+    final int eventCount = 30;
+    writer.writeEvents(eventCount, BIG_EVENT_VALUE);
+
+    // when
+    for (int i = 1; i <= eventCount; i++) {
+      final LoggedEvent event = readerRule.nextEvent();
+      reader.hasNext();
+
+      // then
+      assertThat(event.getKey()).isEqualTo(i);
+      assertThat(eventValue(event)).isEqualTo(BIG_EVENT_VALUE);
+    }
+  }
+
+  @Test
+  public void shouldSeekToEventOfFilledSegment() {
+    // given
+    final int eventCount = 50_000;
+    writer.writeEvents(eventCount, EVENT_VALUE);
+
+    reader.seekToFirstEvent();
+    long position = -1;
+    for (int i = 1; i <= eventCount / 2; i++) {
+      position = reader.next().getPosition();
+    }
+
+    // when
+    reader.seekToLastEvent();
+    final boolean found = reader.seek(position);
+
+    // then
+    assertThat(found).isTrue();
+    final LoggedEvent event = readerRule.nextEvent();
+    assertThat(event.getPosition()).isEqualTo(position);
+    assertThat(event.getKey()).isEqualTo(eventCount / 2);
+  }
+
+  private DirectBuffer eventValue(final LoggedEvent event) {
+    return new UnsafeBuffer(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+  }
+}
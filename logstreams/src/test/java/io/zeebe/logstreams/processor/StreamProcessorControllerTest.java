@@ -17,13 +17,16 @@ package io.zeebe.logstreams.processor;
 
 import static io.zeebe.test.util.TestUtil.waitUntil;
 import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.calls;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
@@ -37,6 +40,8 @@ import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import io.zeebe.logstreams.LogStreams;
 import io.zeebe.logstreams.impl.service.StreamProcessorService;
+import io.zeebe.logstreams.log.BufferedLogStreamReader;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.logstreams.spi.SnapshotController;
@@ -47,10 +52,12 @@ import io.zeebe.logstreams.util.LogStreamReaderRule;
 import io.zeebe.logstreams.util.LogStreamRule;
 import io.zeebe.logstreams.util.LogStreamWriterRule;
 import io.zeebe.logstreams.util.MutableStateSnapshotMetadata;
+import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -120,8 +127,8 @@ public class StreamProcessorControllerTest {
     inOrder.verify(streamProcessor, times(1)).onEvent(any());
 
     inOrder.verify(eventProcessor, times(1)).processEvent();
-    inOrder.verify(eventProcessor, times(1)).executeSideEffects();
     inOrder.verify(eventProcessor, times(1)).writeEvent(any());
+    inOrder.verify(eventProcessor, times(1)).executeSideEffects();
     inOrder.verify(eventProcessor, times(1)).updateState();
 
     inOrder.verify(streamProcessor, times(1)).onClose();
@@ -154,8 +161,8 @@ public class StreamProcessorControllerTest {
     // then
     final InOrder inOrder = inOrder(eventProcessor);
     inOrder.verify(eventProcessor, times(1)).processEvent();
-    inOrder.verify(eventProcessor, times(3)).executeSideEffects();
     inOrder.verify(eventProcessor, times(1)).writeEvent(any());
+    inOrder.verify(eventProcessor, times(3)).executeSideEffects();
     inOrder.verify(eventProcessor, times(1)).updateState();
     inOrder.verifyNoMoreInteractions();
   }
@@ -169,8 +176,8 @@ public class StreamProcessorControllerTest {
     // then
     final InOrder inOrder = inOrder(eventProcessor);
     inOrder.verify(eventProcessor, times(1)).processEvent();
-    inOrder.verify(eventProcessor, times(1)).executeSideEffects();
     inOrder.verify(eventProcessor, times(3)).writeEvent(any());
+    inOrder.verify(eventProcessor, times(1)).executeSideEffects();
     inOrder.verify(eventProcessor, times(1)).updateState();
     inOrder.verifyNoMoreInteractions();
   }
@@ -487,6 +494,7 @@ public class StreamProcessorControllerTest {
 
     final InOrder inOrder = inOrder(eventProcessor);
     inOrder.verify(eventProcessor, times(1)).processEvent();
+    inOrder.verify(eventProcessor, times(1)).writeEvent(any());
     inOrder.verify(eventProcessor, times(1)).executeSideEffects();
     inOrder.verifyNoMoreInteractions();
   }
@@ -503,7 +511,6 @@ public class StreamProcessorControllerTest {
 
     final InOrder inOrder = inOrder(eventProcessor);
     inOrder.verify(eventProcessor, times(1)).processEvent();
-    inOrder.verify(eventProcessor, times(1)).executeSideEffects();
     inOrder.verify(eventProcessor, times(1)).writeEvent(any());
     inOrder.verifyNoMoreInteractions();
   }
@@ -520,12 +527,182 @@ public class StreamProcessorControllerTest {
 
     final InOrder inOrder = inOrder(eventProcessor);
     inOrder.verify(eventProcessor, times(1)).processEvent();
-    inOrder.verify(eventProcessor, times(1)).executeSideEffects();
     inOrder.verify(eventProcessor, times(1)).writeEvent(any());
+    inOrder.verify(eventProcessor, times(1)).executeSideEffects();
     inOrder.verify(eventProcessor, times(1)).updateState();
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldRollbackStateOnFailure() {
+    // given
+    writeEventAndWaitUntilProcessed(EVENT_1);
+    setState("committed");
+
+    changeMockInActorContext(
+        () -> {
+          doAnswer(
+                  inv -> {
+                    setState("uncommitted");
+                    return null;
+                  })
+              .when(eventProcessor)
+              .processEvent();
+          doThrow(new RuntimeException("expected")).when(eventProcessor).updateState();
+        });
+
+    // when
+    writer.writeEvent(EVENT_2, true);
+
+    // then
+    waitUntil(() -> streamProcessorController.isFailed());
+
+    assertThat(getState()).isEqualTo("committed");
+  }
+
+  @Test
+  public void shouldCommitStateBeforeRetrying() {
+    // given
+    writeEventAndWaitUntilProcessed(EVENT_1);
+    setState("committed");
+
+    changeMockInActorContext(
+        () -> {
+          final ActorControl actor = streamProcessor.getContext().getActorControl();
+          doAnswer(
+                  inv -> {
+                    // runs in between the attempts to execute the side effects
+                    actor.submit(() -> setState("other"));
+                    return null;
+                  })
+              .when(eventProcessor)
+              .processEvent();
+          when(eventProcessor.executeSideEffects()).thenReturn(false, true);
+          doThrow(new RuntimeException("expected")).when(eventProcessor).updateState();
+        });
+
+    // when
+    writer.writeEvent(EVENT_2, true);
+
+    // then
+    waitUntil(() -> streamProcessorController.isFailed());
+
+    assertThat(getState()).isEqualTo("other");
+  }
+
+  @Test
+  public void shouldProcessEventsInBatch() {
+    // given
+    streamProcessorController.closeAsync().join();
+
+    streamProcessorController =
+        LogStreams.createStreamProcessor("batch", PROCESSOR_ID)
+            .logStream(logStreamRule.getLogStream())
+            .actorScheduler(logStreamRule.getActorScheduler())
+            .serviceContainer(logStreamRule.getServiceContainer())
+            .snapshotController(snapshotController)
+            .streamProcessorFactory((zeebeDb -> streamProcessor))
+            .maxBatchSize(3)
+            .build()
+            .join()
+            .getController();
+
+    changeMockInActorContext(() -> when(eventProcessor.writeEvent(any())).thenReturn(-1L, 1L));
+
+    // when
+    final long firstEventPosition = writer.writeEvent(EVENT_1);
+    writer.writeEvents(3, EVENT_1);
+    final long lastEventPosition = writer.writeEvent(EVENT_2, true);
+
+    // then
+    waitUntil(() -> streamProcessor.getProcessedEventCount() == 5);
+
+    assertThat(streamProcessor.getEvents())
+        .hasSize(5)
+        .extracting(LoggedEvent::getPosition)
+        .startsWith(firstEventPosition)
+        .endsWith(lastEventPosition);
+
+    final InOrder inOrder = inOrder(eventProcessor);
+    inOrder.verify(eventProcessor, times(1)).processEvent();
+    inOrder.verify(eventProcessor, calls(2)).writeEvent(any());
+    inOrder.verify(eventProcessor, times(1)).executeSideEffects();
+    inOrder.verify(eventProcessor, times(1)).updateState();
+
+    verify(eventProcessor, times(5)).processEvent();
+    verify(eventProcessor, times(5)).executeSideEffects();
+    verify(eventProcessor, times(6)).writeEvent(any());
+    verify(eventProcessor, times(5)).updateState();
+  }
+
+  @Test
+  public void shouldWriteEventsOfBatchBeforeSideEffects() {
+    // given
+    final AtomicInteger batchLengthOnSideEffects = new AtomicInteger(-1);
+
+    changeMockInActorContext(
+        () -> {
+          final LogStreamBatchWriter batchWriter =
+              streamProcessor.getContext().getLogStreamBatchWriter();
+
+          doReturn(true).when(eventProcessor).addsEventsToBatch();
+          doAnswer(inv -> lastProcessedEvent().getKey() == 3).when(eventProcessor).hasSideEffects();
+          doAnswer(
+                  inv -> {
+                    final LoggedEvent event = lastProcessedEvent();
+                    if (event.getKey() <= 3) {
+                      batchWriter
+                          .event()
+                          .key(event.getKey() + 10)
+                          .entrySourceRecordPosition(event.getPosition())
+                          .value(EVENT_2)
+                          .done();
+                    }
+                    return null;
+                  })
+              .when(eventProcessor)
+              .processEvent();
+          doAnswer(
+                  inv -> {
+                    batchLengthOnSideEffects.set(batchWriter.getBatchLength());
+                    return true;
+                  })
+              .when(eventProcessor)
+              .executeSideEffects();
+        });
+
+    // when
+    writer.writeEvents(3, EVENT_1, true);
+
+    // then
+    waitUntil(() -> streamProcessor.getProcessedEventCount() == 3);
+
+    final List<Long> sourceEventPositions =
+        streamProcessor.getEvents().stream().map(LoggedEvent::getPosition).collect(toList());
+    final List<Long> writtenSourceEventPositions = new ArrayList<>();
+
+    final BufferedLogStreamReader uncommittedReader =
+        new BufferedLogStreamReader(logStreamRule.getLogStream(), true);
+    waitUntil(
+        () -> {
+          while (uncommittedReader.hasNext()) {
+            final LoggedEvent event = uncommittedReader.next();
+            if (event.getKey() > 10) {
+              assertThat(event.getProducerId()).isEqualTo(PROCESSOR_ID);
+              writtenSourceEventPositions.add(event.getSourceEventPosition());
+            }
+          }
+          return writtenSourceEventPositions.size() == 3;
+        });
+    uncommittedReader.close();
+
+    assertThat(writtenSourceEventPositions).isEqualTo(sourceEventPositions);
+    assertThat(batchLengthOnSideEffects.get()).isEqualTo(0);
+
+    verify(eventProcessor, times(1)).executeSideEffects();
+    verify(eventProcessor, never()).writeEvent(any());
+  }
+
   @Test
   public void shouldFailToWriteEventIfReadOnly() {
     // when
@@ -563,7 +740,6 @@ public class StreamProcessorControllerTest {
 
     final InOrder inOrder = inOrder(eventProcessor);
     inOrder.verify(eventProcessor, times(1)).processEvent();
-    inOrder.verify(eventProcessor, times(1)).executeSideEffects();
     inOrder.verify(eventProcessor, times(1)).writeEvent(any());
     inOrder.verifyNoMoreInteractions();
   }
@@ -623,6 +799,11 @@ public class StreamProcessorControllerTest {
     streamProcessorController = streamProcessorService.getController();
   }
 
+  private LoggedEvent lastProcessedEvent() {
+    final List<LoggedEvent> events = streamProcessor.getEvents();
+    return events.get(events.size() - 1);
+  }
+
   private void changeMockInActorContext(Runnable runnable) {
     streamProcessor.getContext().getActorControl().call(runnable).join();
   }
@@ -34,6 +34,7 @@ import io.zeebe.logstreams.impl.service.StreamProcessorService;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.logstreams.state.StateSnapshotController;
+import io.zeebe.logstreams.state.StateSnapshotMetadata;
 import io.zeebe.logstreams.state.StateStorage;
 import io.zeebe.logstreams.util.LogStreamRule;
 import io.zeebe.logstreams.util.LogStreamWriterRule;
@@ -58,13 +59,16 @@ public class StreamProcessorReprocessingTest {
 
   private static final DirectBuffer EVENT = wrapString("FOO");
 
+  private StateStorage stateStorage;
+
   private final TemporaryFolder temporaryFolder = new TemporaryFolder();
   private final LogStreamRule logStreamRule =
       new LogStreamRule(
           temporaryFolder,
           logStreamBuilder -> {
             final String logDirectory = logStreamBuilder.getLogDirectory();
-            final StateStorage stateStorage = new StateStorage(logDirectory);
+            stateStorage = new StateStorage(logDirectory);
+            stateStorage.getSnapshotsDirectory().mkdirs();
             stateSnapshotController =
                 new StateSnapshotController(
                     ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class), stateStorage);
@@ -79,6 +83,7 @@ public class StreamProcessorReprocessingTest {
   private EventProcessor eventProcessor;
   private EventFilter eventFilter;
   private StateSnapshotController stateSnapshotController;
+  private int maxReprocessingBatchSize = 100;
 
   @Before
   public void init() {
@@ -127,6 +132,7 @@ public class StreamProcessorReprocessingTest {
         .serviceContainer(logStreamRule.getServiceContainer())
         .streamProcessorFactory(streamProcessorFactory)
         .eventFilter(eventFilter)
+        .maxReprocessingBatchSize(maxReprocessingBatchSize)
         .build();
   }
 
@@ -231,6 +237,38 @@ public class StreamProcessorReprocessingTest {
     verify(eventProcessor, times(3)).updateState();
   }
 
+  @Test
+  public void shouldReprocessEventsInBatches() {
+    // given [1|S:-] --> [2|S:1] --> [3|S:2] --> [4|S:3] --> [5|S:4]
+    maxReprocessingBatchSize = 2;
+
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 =
+        writeEventWith(w -> w.producerId(PROCESSOR_ID).sourceRecordPosition(eventPosition1));
+    final long eventPosition3 =
+        writeEventWith(w -> w.producerId(PROCESSOR_ID).sourceRecordPosition(eventPosition2));
+    final long eventPosition4 =
+        writeEventWith(w -> w.producerId(PROCESSOR_ID).sourceRecordPosition(eventPosition3));
+    final long eventPosition5 =
+        writeEventWith(w -> w.producerId(PROCESSOR_ID).sourceRecordPosition(eventPosition4));
+
+    // when
+    openStreamProcessorController();
+
+    waitUntil(() -> streamProcessor.getProcessedEventCount() == 5);
+
+    // then
+    assertThat(streamProcessor.getEvents())
+        .extracting(LoggedEvent::getPosition)
+        .containsExactly(
+            eventPosition1, eventPosition2, eventPosition3, eventPosition4, eventPosition5);
+
+    verify(eventProcessor, times(5)).processEvent();
+    verify(eventProcessor, times(1)).executeSideEffects();
+    verify(eventProcessor, times(1)).writeEvent(any());
+    verify(eventProcessor, times(5)).updateState();
+  }
+
   @Test
   public void shouldSkipEventIfNoEventProcessorIsProvided() {
     // given [1|S:-] --> [2|S:-] --> [3|S:2]
@@ -282,6 +320,29 @@ public class StreamProcessorReprocessingTest {
     verify(eventProcessor, times(2)).updateState();
   }
 
+  @Test
+  public void shouldCreateSnapshotAfterReprocessing() {
+    // given [1|S:-] --> [2|S:1]
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 =
+        writeEventWith(w -> w.producerId(PROCESSOR_ID).sourceRecordPosition(eventPosition1));
+
+    when(eventFilter.applies(any())).thenReturn(true, false);
+
+    final StreamProcessorService service = openStreamProcessorController();
+    waitUntil(() -> streamProcessor.getProcessedEventCount() == 1);
+
+    // when
+    service.close();
+
+    // then
+    final List<StateSnapshotMetadata> snapshots = stateStorage.list();
+    assertThat(snapshots).hasSize(1);
+    assertThat(snapshots.get(0).getLastSuccessfulProcessedEventPosition())
+        .isEqualTo(eventPosition1);
+    assertThat(snapshots.get(0).getLastWrittenEventPosition()).isEqualTo(eventPosition2);
+  }
+
   @Test
   public void shouldFailOnReprocessing() {
     // given [1|S:-] --> [2|S:1]
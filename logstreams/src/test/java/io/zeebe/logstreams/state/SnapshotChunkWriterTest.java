@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SnapshotChunkWriterTest {
+  private static final int CHUNK_SIZE = 1024;
+
+  @Rule public TemporaryFolder tempFolderRule = new TemporaryFolder();
+
+  private final StateSnapshotMetadata snapshot = new StateSnapshotMetadata(13L, 12L, 3, false);
+
+  private StateStorage sourceStorage;
+  private StateStorage targetStorage;
+  private SnapshotChunkWriter writer;
+
+  @Before
+  public void setup() throws Exception {
+    sourceStorage = new StateStorage(tempFolderRule.newFolder("source").getAbsolutePath());
+    targetStorage = new StateStorage(tempFolderRule.newFolder("target").getAbsolutePath());
+    writer = new SnapshotChunkWriter(targetStorage);
+
+    final File snapshotDirectory = sourceStorage.getSnapshotDirectoryFor(snapshot);
+    Files.createDirectories(snapshotDirectory.toPath());
+    writeFile(new File(snapshotDirectory, "000001.sst"), 3 * CHUNK_SIZE + 17);
+    writeFile(new File(snapshotDirectory, "CURRENT"), 16);
+    writeFile(new File(snapshotDirectory, "LOCK"), 0);
+  }
+
+  @Test
+  public void shouldReplicateSnapshot() throws Exception {
+    // given
+    final SnapshotChunkReader reader = new SnapshotChunkReader(sourceStorage, snapshot, CHUNK_SIZE);
+
+    // when
+    int nextChunkIndex = 0;
+    while (nextChunkIndex < reader.getChunkCount()) {
+      nextChunkIndex = writer.write(reader.readChunk(nextChunkIndex));
+    }
+
+    // then
+    assertThat(reader.getChunkCount()).isEqualTo(6);
+    assertThat(targetStorage.list()).containsExactly(snapshot);
+    assertThat(targetStorage.getPendingDirectoryFor(snapshot)).doesNotExist();
+    assertSameFiles(
+        sourceStorage.getSnapshotDirectoryFor(snapshot),
+        targetStorage.getSnapshotDirectoryFor(snapshot));
+  }
+
+  @Test
+  public void shouldResumeFromNextExpectedChunk() throws Exception {
+    // given
+    final SnapshotChunkReader reader = new SnapshotChunkReader(sourceStorage, snapshot, CHUNK_SIZE);
+    writer.write(reader.readChunk(0));
+    writer.write(reader.readChunk(1));
+
+    // when
+    final int resentChunkIndex = writer.write(reader.readChunk(0));
+    final int skippedChunkIndex = writer.write(reader.readChunk(3));
+
+    // then
+    assertThat(resentChunkIndex).isEqualTo(2);
+    assertThat(skippedChunkIndex).isEqualTo(2);
+    assertThat(targetStorage.list()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectChunkWithInvalidChecksum() throws Exception {
+    // given
+    final SnapshotChunkReader reader = new SnapshotChunkReader(sourceStorage, snapshot, CHUNK_SIZE);
+    final SnapshotChunk chunk = reader.readChunk(0);
+    final SnapshotChunk corruptedChunk =
+        new SnapshotChunk(
+            snapshot,
+            chunk.getChunkIndex(),
+            chunk.getTotalCount(),
+            chunk.getFileName(),
+            chunk.getFileOffset(),
+            chunk.getChecksum() + 1,
+            chunk.getContent());
+
+    // when
+    final int nextChunkIndex = writer.write(corruptedChunk);
+
+    // then
+    assertThat(nextChunkIndex).isEqualTo(0);
+    assertThat(writer.write(chunk)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldSkipSnapshotIfNewerExists() throws Exception {
+    // given
+    final StateSnapshotMetadata newerSnapshot = new StateSnapshotMetadata(20L, 19L, 3, false);
+    Files.createDirectories(targetStorage.getSnapshotDirectoryFor(newerSnapshot).toPath());
+    final SnapshotChunkReader reader = new SnapshotChunkReader(sourceStorage, snapshot, CHUNK_SIZE);
+
+    // when
+    final int nextChunkIndex = writer.write(reader.readChunk(0));
+
+    // then
+    assertThat(nextChunkIndex).isEqualTo(reader.getChunkCount());
+    assertThat(targetStorage.list()).containsExactly(newerSnapshot);
+  }
+
+  @Test
+  public void shouldDiscardPendingSnapshotOnNewSnapshot() throws Exception {
+    // given
+    final SnapshotChunkReader reader = new SnapshotChunkReader(sourceStorage, snapshot, CHUNK_SIZE);
+    writer.write(reader.readChunk(0));
+
+    final StateSnapshotMetadata newerSnapshot = new StateSnapshotMetadata(20L, 19L, 3, false);
+    final File newerSnapshotDirectory = sourceStorage.getSnapshotDirectoryFor(newerSnapshot);
+    Files.createDirectories(newerSnapshotDirectory.toPath());
+    writeFile(new File(newerSnapshotDirectory, "CURRENT"), 16);
+    final SnapshotChunkReader newerReader =
+        new SnapshotChunkReader(sourceStorage, newerSnapshot, CHUNK_SIZE);
+
+    // when
+    final int nextChunkIndex = writer.write(newerReader.readChunk(0));
+
+    // then
+    assertThat(nextChunkIndex).isEqualTo(1);
+    assertThat(targetStorage.getPendingDirectoryFor(snapshot)).doesNotExist();
+    assertThat(targetStorage.list()).containsExactly(newerSnapshot);
+  }
+
+  private void writeFile(final File file, final int length) throws IOException {
+    final byte[] content = new byte[length];
+    new Random().nextBytes(content);
+    Files.write(file.toPath(), content);
+  }
+
+  private void assertSameFiles(final File expectedDirectory, final File actualDirectory)
+      throws IOException {
+    final File[] expectedFiles = expectedDirectory.listFiles();
+    assertThat(actualDirectory.list()).containsExactlyInAnyOrder(expectedDirectory.list());
+
+    for (final File expectedFile : expectedFiles) {
+      final File actualFile = new File(actualDirectory, expectedFile.getName());
+      assertThat(Files.readAllBytes(actualFile.toPath()))
+          .isEqualTo(Files.readAllBytes(expectedFile.toPath()));
+    }
+  }
+}
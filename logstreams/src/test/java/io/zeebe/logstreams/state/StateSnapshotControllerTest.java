@@ -24,7 +24,12 @@ import io.zeebe.logstreams.util.RocksDBWrapper;
 import io.zeebe.test.util.AutoCloseableRule;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -96,6 +101,59 @@ public class StateSnapshotControllerTest {
     assertThat(wrapper.getInt(key)).isEqualTo(value);
   }
 
+  @Test
+  public void shouldOnlyWriteFilesWhichAreNotSharedWithRuntime() throws Exception {
+    // given
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    final StateSnapshotMetadata metadata = new StateSnapshotMetadata(1, 1, 1, false);
+
+    // when
+    wrapper.wrap(snapshotController.openDb());
+    wrapper.putInt("test", 1);
+    final long writtenBytes = snapshotController.takeSnapshot(metadata);
+
+    // then
+    final List<Path> snapshotFiles = listFiles(storage.getSnapshotDirectoryFor(metadata));
+    final long snapshotSize = snapshotFiles.stream().mapToLong(f -> f.toFile().length()).sum();
+    final long sstFilesSize =
+        snapshotFiles.stream().filter(this::isSstFile).mapToLong(f -> f.toFile().length()).sum();
+
+    assertThat(sstFilesSize).isPositive();
+    assertThat(writtenBytes).isPositive().isEqualTo(snapshotSize - sstFilesSize);
+  }
+
+  @Test
+  public void shouldLinkSstFilesOnRecover() throws Exception {
+    // given
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    final StateSnapshotMetadata metadata = new StateSnapshotMetadata(1, 1, 1, false);
+
+    wrapper.wrap(snapshotController.openDb());
+    wrapper.putInt("test", 1);
+    snapshotController.takeSnapshot(metadata);
+    snapshotController.close();
+
+    // when
+    snapshotController.recover(
+        metadata.getLastWrittenEventPosition(), metadata.getLastWrittenEventTerm(), TRUISM);
+
+    // then
+    final File snapshotDirectory = storage.getSnapshotDirectoryFor(metadata);
+    final List<Path> runtimeFiles = listFiles(storage.getRuntimeDirectory());
+    assertThat(runtimeFiles).hasSameSizeAs(listFiles(snapshotDirectory)).anyMatch(this::isSstFile);
+
+    for (final Path runtimeFile : runtimeFiles) {
+      final Path snapshotFile = snapshotDirectory.toPath().resolve(runtimeFile.getFileName());
+      assertThat(Files.isSameFile(runtimeFile, snapshotFile)).isEqualTo(isSstFile(runtimeFile));
+    }
+
+    // when
+    wrapper.wrap(snapshotController.openDb());
+
+    // then
+    assertThat(wrapper.getInt("test")).isEqualTo(1);
+  }
+
   @Test
   public void shouldOpenNewDatabaseIfNoSnapshotsToRecoverFrom() throws Exception {
     // given
@@ -307,4 +365,14 @@ public class StateSnapshotControllerTest {
         .isEqualTo(StateSnapshotMetadata.createInitial(snapshots[1].getLastWrittenEventTerm()));
     assertThat(wrapper.mayExist(key)).isFalse();
   }
+
+  private List<Path> listFiles(File directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory.toPath())) {
+      return files.collect(Collectors.toList());
+    }
+  }
+
+  private boolean isSstFile(Path file) {
+    return file.getFileName().toString().endsWith(".sst");
+  }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.index.benchmarks;
+
+import io.zeebe.logstreams.impl.log.index.LogBlockIndex;
+import io.zeebe.logstreams.impl.service.LogBlockIndexService;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class FilledLogBlockIndexSupplier {
+  /** the distance of the block positions, like the blocks of a log with ~1 KB events */
+  public static final int BLOCK_POSITION_STEP = 4 * 1024;
+
+  @Param({"10000", "1000000", "10000000"})
+  public int blockCount;
+
+  LogBlockIndex blockIndex;
+
+  long lastPosition;
+
+  @Setup(Level.Trial)
+  public void fillIndex() {
+    blockIndex =
+        new LogBlockIndex(
+            LogBlockIndexService.INDEX_PAGE_CAPACITY,
+            c -> new UnsafeBuffer(ByteBuffer.allocateDirect(c)));
+
+    for (int i = 0; i < blockCount; i++) {
+      blockIndex.addBlock((long) i * BLOCK_POSITION_STEP, (long) i * BLOCK_POSITION_STEP);
+    }
+
+    lastPosition = (long) blockCount * BLOCK_POSITION_STEP - 1;
+  }
+
+  long randomPosition() {
+    return ThreadLocalRandom.current().nextLong(lastPosition);
+  }
+}
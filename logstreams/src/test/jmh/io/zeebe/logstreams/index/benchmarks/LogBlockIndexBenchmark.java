@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.index.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+/** Measures the latency of a seek in the block index, depending on the size of the log. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogBlockIndexBenchmark {
+  @Benchmark
+  @Threads(1)
+  public long lookupLastBlock(FilledLogBlockIndexSupplier supplier) {
+    return supplier.blockIndex.lookupBlockAddress(supplier.lastPosition);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public long lookupRandomBlock(FilledLogBlockIndexSupplier supplier) {
+    return supplier.blockIndex.lookupBlockAddress(supplier.randomPosition());
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.processor.benchmarks;
+
+import static io.zeebe.logstreams.processor.benchmarks.Benchmarks.DATA_SET_SIZE;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.zeebe.logstreams.LogStreams;
+import io.zeebe.logstreams.impl.LogStorageAppender;
+import io.zeebe.logstreams.impl.service.StreamProcessorService;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamWriterImpl;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.logstreams.processor.EventProcessor;
+import io.zeebe.logstreams.processor.StreamProcessor;
+import io.zeebe.logstreams.processor.StreamProcessorController;
+import io.zeebe.logstreams.state.StateSnapshotController;
+import io.zeebe.logstreams.state.StateStorage;
+import io.zeebe.servicecontainer.impl.ServiceContainerImpl;
+import io.zeebe.util.FileUtil;
+import io.zeebe.util.sched.ActorScheduler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class FilledLogStreamAndProcessorSupplier {
+  private static final int PROCESSOR_ID = 1;
+
+  @Param({"1", "4", "16", "64", "256"})
+  public int batchSize;
+
+  private final AtomicInteger processedEventCount = new AtomicInteger();
+
+  private Path tempDirectory;
+  private LogStream logStream;
+  private ActorScheduler actorScheduler;
+  private ServiceContainerImpl serviceContainer;
+  private LogStreamWriterImpl writer;
+
+  private StreamProcessorController controller;
+  private int processorCount;
+
+  @Setup(Level.Iteration)
+  public void fillStream() throws IOException {
+    tempDirectory = Files.createTempDirectory("processor-benchmark");
+    actorScheduler = ActorScheduler.newDefaultActorScheduler();
+    actorScheduler.start();
+
+    serviceContainer = new ServiceContainerImpl(actorScheduler);
+    serviceContainer.start();
+
+    logStream =
+        LogStreams.createFsLogStream(0)
+            .logName("foo")
+            .logDirectory(tempDirectory.resolve("log").toString())
+            .serviceContainer(serviceContainer)
+            .deleteOnClose(true)
+            .build()
+            .join();
+
+    logStream.openAppender().join();
+
+    writer = new LogStreamWriterImpl(logStream);
+    final DirectBuffer eventValue = new UnsafeBuffer("test".getBytes());
+
+    long lastPosition = -1;
+    for (int i = 0; i < DATA_SET_SIZE; i++) {
+      lastPosition = writeEvent(i, eventValue);
+    }
+
+    final LogStorageAppender logStorageAppender = logStream.getLogStorageAppender();
+    while (logStorageAppender.getCurrentAppenderPosition() < lastPosition) {
+      // spin
+    }
+
+    logStream.setCommitPosition(lastPosition);
+  }
+
+  private long writeEvent(final long key, final DirectBuffer eventValue) {
+    long position = -1;
+    while (position <= 0) {
+      position = writer.key(key).value(eventValue).tryWrite();
+    }
+
+    return position;
+  }
+
+  public StreamProcessorController openStreamProcessor() throws IOException {
+    processedEventCount.set(0);
+
+    final String name = "processor-" + processorCount++;
+    final Path stateDirectory = tempDirectory.resolve(name);
+    final StateStorage stateStorage =
+        new StateStorage(
+            Files.createDirectories(stateDirectory.resolve("runtime")).toFile(),
+            Files.createDirectories(stateDirectory.resolve("snapshots")).toFile());
+    final StateSnapshotController snapshotController =
+        new StateSnapshotController(
+            ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class), stateStorage);
+
+    final StreamProcessorService service =
+        LogStreams.createStreamProcessor(name, PROCESSOR_ID)
+            .logStream(logStream)
+            .actorScheduler(actorScheduler)
+            .serviceContainer(serviceContainer)
+            .snapshotController(snapshotController)
+            .streamProcessorFactory(CountingStreamProcessor::new)
+            .maxBatchSize(batchSize)
+            .build()
+            .join();
+
+    controller = service.getController();
+    return controller;
+  }
+
+  public void closeStreamProcessor() {
+    controller.closeAsync().join();
+  }
+
+  public int getProcessedEventCount() {
+    return processedEventCount.get();
+  }
+
+  @TearDown(Level.Iteration)
+  public void closeStream()
+      throws InterruptedException, ExecutionException, TimeoutException, IOException {
+    logStream.close();
+    serviceContainer.close(10, TimeUnit.SECONDS);
+    actorScheduler.stop();
+    FileUtil.deleteFolder(tempDirectory.toString());
+  }
+
+  /** Stores the key of each event, like a processor which updates its state for every event. */
+  private class CountingStreamProcessor implements StreamProcessor, EventProcessor {
+    private final DbLong key = new DbLong();
+    private final DbLong value = new DbLong();
+    private final ColumnFamily<DbLong, DbLong> columnFamily;
+
+    private LoggedEvent event;
+
+    CountingStreamProcessor(ZeebeDb<DefaultColumnFamily> zeebeDb) {
+      columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, key, value);
+    }
+
+    @Override
+    public EventProcessor onEvent(LoggedEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    @Override
+    public void updateState() {
+      key.wrapLong(event.getKey());
+      value.wrapLong(event.getPosition());
+      columnFamily.put(key, value);
+
+      processedEventCount.incrementAndGet();
+    }
+  }
+}
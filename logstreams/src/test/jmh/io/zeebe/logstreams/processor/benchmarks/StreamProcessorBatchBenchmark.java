@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.processor.benchmarks;
+
+import static io.zeebe.logstreams.processor.benchmarks.Benchmarks.DATA_SET_SIZE;
+
+import io.zeebe.logstreams.processor.StreamProcessorController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the processed events per second of one partition, for different {@link
+ * FilledLogStreamAndProcessorSupplier#batchSize batch sizes}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class StreamProcessorBatchBenchmark {
+
+  @Benchmark
+  @Threads(1)
+  @OperationsPerInvocation(DATA_SET_SIZE)
+  public long processEvents(FilledLogStreamAndProcessorSupplier supplier) throws Exception {
+    final StreamProcessorController controller = supplier.openStreamProcessor();
+
+    while (supplier.getProcessedEventCount() < DATA_SET_SIZE) {
+      if (controller.isFailed()) {
+        throw new IllegalStateException("Stream processor failed");
+      }
+    }
+
+    supplier.closeStreamProcessor();
+
+    return supplier.getProcessedEventCount();
+  }
+}
@@ -33,6 +33,7 @@ import java.util.concurrent.TimeoutException;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -40,6 +41,13 @@ import org.openjdk.jmh.annotations.TearDown;
 
 @State(Scope.Benchmark)
 public class FilledLogStreamAndReaderSupplier {
+  // small segments, so that most of the events are read from filled segments
+  private static final int LOG_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+  /** Whether filled segments are read from a memory mapping or copied into the read buffer. */
+  @Param({"true", "false"})
+  boolean mapFilledLogSegments;
+
   LogStream logStream;
   ActorScheduler actorScheduler;
   LogStreamWriterImpl writer;
@@ -79,6 +87,8 @@ public class FilledLogStreamAndReaderSupplier {
             .logDirectory(tempDirectory.toString())
             .serviceContainer(serviceContainer)
             .deleteOnClose(true)
+            .logSegmentSize(LOG_SEGMENT_SIZE)
+            .mapFilledLogSegments(mapFilledLogSegments)
             .build()
             .join();
 
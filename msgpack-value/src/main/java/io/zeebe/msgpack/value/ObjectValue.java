@@ -20,6 +20,7 @@ import io.zeebe.msgpack.property.UndeclaredProperty;
 import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class ObjectValue extends BaseValue {
@@ -29,8 +30,16 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  /** hash codes of the declared property keys, in declaration order */
+  private int[] declaredKeyHashes = new int[0];
+
   public ObjectValue declareProperty(BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+
+    final int index = declaredKeyHashes.length;
+    declaredKeyHashes = Arrays.copyOf(declaredKeyHashes, index + 1);
+    declaredKeyHashes[index] = prop.getKey().hashCode();
+
     return this;
   }
 
@@ -93,18 +102,24 @@ public class ObjectValue extends BaseValue {
   public void read(MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
 
+    int expectedIndex = 0;
+
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
       BaseProperty<? extends BaseValue> prop = null;
 
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
+      // records are usually written in declaration order, so try the next declared property first
+      if (expectedIndex < declaredProperties.size()
+          && declaredProperties.get(expectedIndex).getKey().equals(decodedKey)) {
+        prop = declaredProperties.get(expectedIndex);
+        expectedIndex++;
+      } else {
+        final int index = findDeclaredProperty(decodedKey);
+
+        if (index >= 0) {
+          prop = declaredProperties.get(index);
+          expectedIndex = index + 1;
         }
       }
 
@@ -130,6 +145,18 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private int findDeclaredProperty(StringValue key) {
+    final int keyHash = key.hashCode();
+
+    for (int k = 0; k < declaredKeyHashes.length; ++k) {
+      if (declaredKeyHashes[k] == keyHash && declaredProperties.get(k).getKey().equals(key)) {
+        return k;
+      }
+    }
+
+    return -1;
+  }
+
   /**
    * Caution: In case not all properties are writeable (i.e. value not set and no default), this
    * method may write some of the values and only then throw an exception. The same exception is
@@ -54,6 +54,31 @@ public class ObjectMappingUndeclaredPropertiesTest {
     assertThat(pojo.getLongProp()).isEqualTo(123L);
   }
 
+  @Test
+  public void shouldDeserializePOJOWithUndeclaredPropertiesBeforeDeclaredOnes() {
+    // given
+    final MinimalPOJO pojo = new MinimalPOJO();
+
+    final DirectBuffer msgPack =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(3);
+              w.writeString(wrapString("undeclaredProp"));
+              w.writeInteger(456L);
+              w.writeString(wrapString("longPros"));
+              w.writeInteger(789L);
+              w.writeString(wrapString("longProp"));
+              w.writeInteger(123L);
+            });
+
+    // when
+    pojo.wrap(msgPack);
+
+    // then
+    assertThat(pojo.getLongProp()).isEqualTo(123L);
+    assertThat(pojo.getLength()).isEqualTo(msgPack.capacity());
+  }
+
   @Test
   public void shouldIncludeUndeclaredPropertiesInLengthEstimation() {
     // given
@@ -24,6 +24,7 @@ import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.protocol.intent.JobBatchIntent;
 import io.zeebe.protocol.intent.JobIntent;
 import io.zeebe.test.broker.protocol.MsgPackHelper;
+import io.zeebe.transport.ClientInputListener;
 import io.zeebe.transport.ClientTransport;
 import io.zeebe.transport.SocketAddress;
 import io.zeebe.transport.Transports;
@@ -32,10 +33,13 @@ import io.zeebe.util.sched.clock.ControlledActorClock;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.rules.ExternalResource;
 
 public class ClientApiRule extends ExternalResource {
@@ -53,6 +57,7 @@ public class ClientApiRule extends ExternalResource {
   private final Int2ObjectHashMap<PartitionTestClient> testPartitionClients =
       new Int2ObjectHashMap<>();
   private final ControlledActorClock controlledActorClock = new ControlledActorClock();
+  private final List<DirectBuffer> receivedMessages = new CopyOnWriteArrayList<>();
   private ActorScheduler scheduler;
 
   protected int defaultPartitionId = -1;
@@ -76,7 +81,11 @@ public class ClientApiRule extends ExternalResource {
             .build();
     scheduler.start();
 
-    transport = Transports.newClientTransport("gateway").scheduler(scheduler).build();
+    transport =
+        Transports.newClientTransport("gateway")
+            .scheduler(scheduler)
+            .inputListener(new MessageRecorder())
+            .build();
 
     msgPackHelper = new MsgPackHelper();
     transport.registerEndpoint(nodeId, brokerAddressSupplier.get());
@@ -191,4 +200,25 @@ public class ClientApiRule extends ExternalResource {
   public ControlledActorClock getClock() {
     return controlledActorClock;
   }
+
+  /** @return the messages which are pushed by the broker, starting with the message header */
+  public List<DirectBuffer> getReceivedMessages() {
+    return receivedMessages;
+  }
+
+  private class MessageRecorder implements ClientInputListener {
+
+    @Override
+    public void onResponse(
+        int streamId, long requestId, DirectBuffer buffer, int offset, int length) {
+      // responses are handled by the request of the command
+    }
+
+    @Override
+    public void onMessage(int streamId, DirectBuffer buffer, int offset, int length) {
+      final UnsafeBuffer message = new UnsafeBuffer(new byte[length]);
+      message.putBytes(0, buffer, offset, length);
+      receivedMessages.add(message);
+    }
+  }
 }
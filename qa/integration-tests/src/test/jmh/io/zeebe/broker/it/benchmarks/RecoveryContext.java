@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.broker.it.benchmarks;
+
+import static io.zeebe.broker.test.EmbeddedBrokerConfigurator.setPartitionCount;
+
+import io.zeebe.broker.test.EmbeddedBrokerRule;
+import io.zeebe.client.ZeebeClient;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.events.WorkflowInstanceEvent;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.BpmnModelInstance;
+import io.zeebe.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starts a broker with the given number of partitions and creates workflow instances, which wait on
+ * a service task, so that the partitions have a log and a state to recover. Before each invocation
+ * the broker is stopped and, if snapshots are disabled, its snapshots are deleted, so that the
+ * whole log is reprocessed on the next start.
+ */
+@State(Scope.Benchmark)
+public class RecoveryContext {
+
+  private static final int MAX_PENDING_REQUESTS = 100;
+  private static final String PROCESS_ID = "process";
+  private static final BpmnModelInstance WORKFLOW =
+      Bpmn.createExecutableProcess(PROCESS_ID)
+          .startEvent()
+          .serviceTask("task", t -> t.zeebeTaskType("task"))
+          .endEvent()
+          .done();
+
+  @Param({"1", "4"})
+  public int partitionCount;
+
+  @Param({"10000"})
+  public int instanceCount;
+
+  /** Whether the partitions recover from a snapshot, or reprocess the whole log. */
+  @Param({"true", "false"})
+  public boolean snapshots;
+
+  private RecoveryBrokerRule brokerRule;
+  private ZeebeClient client;
+
+  @Setup
+  public void setUp() {
+    brokerRule = new RecoveryBrokerRule(partitionCount);
+    brokerRule.start();
+
+    client =
+        ZeebeClient.newClientBuilder()
+            .brokerContactPoint(brokerRule.getGatewayAddress().toString())
+            .build();
+
+    client.newDeployCommand().addWorkflowModel(WORKFLOW, "process.bpmn").send().join();
+
+    final List<ZeebeFuture<WorkflowInstanceEvent>> pendingRequests = new ArrayList<>();
+    for (int i = 0; i < instanceCount; i++) {
+      pendingRequests.add(
+          client.newCreateInstanceCommand().bpmnProcessId(PROCESS_ID).latestVersion().send());
+
+      if (pendingRequests.size() == MAX_PENDING_REQUESTS) {
+        pendingRequests.forEach(ZeebeFuture::join);
+        pendingRequests.clear();
+      }
+    }
+    pendingRequests.forEach(ZeebeFuture::join);
+  }
+
+  @Setup(Level.Invocation)
+  public void stopBroker() {
+    brokerRule.stopBroker();
+
+    if (!snapshots) {
+      brokerRule.purgeSnapshots();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    client.close();
+    brokerRule.stop();
+  }
+
+  /**
+   * Starts the broker and waits until every partition has processed a new workflow instance, i.e.
+   * all partitions are recovered.
+   */
+  public void startBrokerAndAwaitRecovery() {
+    brokerRule.startBroker();
+
+    final Set<Integer> recoveredPartitions = new HashSet<>();
+    while (recoveredPartitions.size() < partitionCount) {
+      try {
+        final WorkflowInstanceEvent instance =
+            client
+                .newCreateInstanceCommand()
+                .bpmnProcessId(PROCESS_ID)
+                .latestVersion()
+                .send()
+                .join();
+
+        recoveredPartitions.add(Protocol.decodePartitionId(instance.getWorkflowInstanceKey()));
+      } catch (final Exception e) {
+        // the partition is not recovered yet
+      }
+    }
+  }
+
+  private static final class RecoveryBrokerRule extends EmbeddedBrokerRule {
+
+    @SuppressWarnings("unchecked")
+    RecoveryBrokerRule(final int partitionCount) {
+      super(setPartitionCount(partitionCount));
+    }
+
+    void start() {
+      before();
+    }
+
+    void stop() {
+      after();
+    }
+  }
+}
@@ -70,7 +70,9 @@ public class BufferedLogStorageAppender {
     lastWrittenPosition = previousEventPositionNullValue();
     lastWrittenTerm = previousEventTermNullValue();
 
-    allocateMemory(INITIAL_CAPACITY);
+    // fit at least one append request, to write its events with a single append
+    allocateMemory(
+        Math.max(INITIAL_CAPACITY, raft.getConfiguration().getMaxAppendRequestSizeInBytes()));
     closed = false;
   }
 
@@ -125,10 +127,14 @@ public class BufferedLogStorageAppender {
     }
   }
 
-  public void appendEvent(final AppendRequest appendRequest, final LoggedEventImpl event) {
+  /**
+   * Buffers the given event and the events which follow it in the request. The buffered events are
+   * written to the log storage at once, when the buffer is full or no more requests are available.
+   */
+  public void appendEvents(final AppendRequest appendRequest, final LoggedEventImpl firstEvent) {
     deferredAck.reset();
 
-    if (event != null) {
+    if (firstEvent != null) {
       final long previousPosition = appendRequest.getPreviousEventPosition();
       final long previousTerm = appendRequest.getPreviousEventTerm();
 
@@ -137,34 +143,14 @@ public class BufferedLogStorageAppender {
       }
 
       if (previousPosition == lastBufferedPosition && previousTerm == lastBufferedTerm) {
-        final int eventLength = event.getFragmentLength();
-        if (remainingCapacity() < eventLength) {
-          if (!flushBufferedEvents()) {
-            // unable to flush events, abort and try again with last buffered position
-            rejectAppendRequest(lastBufferedPosition, appendRequest.getNodeId());
+        LoggedEventImpl event = firstEvent;
+
+        while (event != null) {
+          if (!bufferEvent(appendRequest, event)) {
             return;
-          } else {
-            acceptAppendRequest(
-                lastWrittenPosition, appendRequest.getCommitPosition(), appendRequest.getNodeId());
           }
-        }
 
-        if (remainingCapacity() < eventLength) {
-          allocateMemory(eventLength);
-        }
-
-        buffer.putBytes(offset, event.getBuffer(), event.getFragmentOffset(), eventLength);
-        offset += eventLength;
-
-        event.readMetadata(metadata);
-
-        lastBufferedPosition = event.getPosition();
-        lastBufferedTerm = event.getRaftTerm();
-
-        if (metadata.getValueType() == ValueType.RAFT) {
-          // update configuration
-          event.readValue(configuration);
-          raft.replaceMembersOnConfigurationChange(configuration.members());
+          event = appendRequest.getNextEvent();
         }
       } else {
         LOG.warn(
@@ -184,6 +170,40 @@ public class BufferedLogStorageAppender {
     }
   }
 
+  private boolean bufferEvent(final AppendRequest appendRequest, final LoggedEventImpl event) {
+    final int eventLength = event.getFragmentLength();
+    if (remainingCapacity() < eventLength) {
+      if (!flushBufferedEvents()) {
+        // unable to flush events, abort and try again with last buffered position
+        rejectAppendRequest(lastBufferedPosition, appendRequest.getNodeId());
+        return false;
+      } else {
+        acceptAppendRequest(
+            lastWrittenPosition, appendRequest.getCommitPosition(), appendRequest.getNodeId());
+      }
+    }
+
+    if (remainingCapacity() < eventLength) {
+      allocateMemory(eventLength);
+    }
+
+    buffer.putBytes(offset, event.getBuffer(), event.getFragmentOffset(), eventLength);
+    offset += eventLength;
+
+    event.readMetadata(metadata);
+
+    lastBufferedPosition = event.getPosition();
+    lastBufferedTerm = event.getRaftTerm();
+
+    if (metadata.getValueType() == ValueType.RAFT) {
+      // update configuration
+      event.readValue(configuration);
+      raft.replaceMembersOnConfigurationChange(configuration.members());
+    }
+
+    return true;
+  }
+
   public void truncateLog(final AppendRequest appendRequest, final LoggedEventImpl event) {
     deferredAck.reset();
 
@@ -228,7 +248,7 @@ public class BufferedLogStorageAppender {
               lastBufferedPosition = lastWrittenPosition;
               lastBufferedTerm = lastWrittenTerm;
 
-              appendEvent(appendRequest, event);
+              appendEvents(appendRequest, event);
             }
           }
         } else {
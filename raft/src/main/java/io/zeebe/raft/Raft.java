@@ -617,6 +617,26 @@ public class Raft extends Actor
     return RaftMath.getRequiredQuorum(getMemberSize() + 1);
   }
 
+  /**
+   * @return the lowest position which is acknowledged by all members, or {@link Long#MAX_VALUE} if
+   *     there are no other members. Only the leader knows the acknowledged positions.
+   */
+  public ActorFuture<Long> getLowestMatchPosition() {
+    return actor.call(
+        () -> {
+          long lowestPosition = Long.MAX_VALUE;
+          for (final RaftMember member : raftMembers.getMemberList()) {
+            lowestPosition = Math.min(lowestPosition, member.getMatchPosition());
+          }
+          return lowestPosition;
+        });
+  }
+
+  /** @return the node ids of the other members of this raft */
+  public ActorFuture<List<Integer>> getMemberIds() {
+    return actor.call(() -> new ArrayList<>(raftMembers.getMemberIds()));
+  }
+
   // transport message sending
 
   /**
@@ -15,6 +15,7 @@
  */
 package io.zeebe.raft;
 
+import io.zeebe.util.ByteValue;
 import io.zeebe.util.DurationUtil;
 import java.time.Duration;
 
@@ -22,6 +23,7 @@ public class RaftConfiguration {
   private String heartbeatInterval = "250ms";
   private String electionInterval = "1s";
   private String leaveTimeout = "1s";
+  private String maxAppendRequestSize = "64K";
 
   public String getHeartbeatInterval() {
     return heartbeatInterval;
@@ -62,6 +64,19 @@ public class RaftConfiguration {
     return this;
   }
 
+  public String getMaxAppendRequestSize() {
+    return maxAppendRequestSize;
+  }
+
+  public int getMaxAppendRequestSizeInBytes() {
+    return (int) new ByteValue(maxAppendRequestSize).toBytes();
+  }
+
+  public RaftConfiguration setMaxAppendRequestSize(String maxAppendRequestSize) {
+    this.maxAppendRequestSize = maxAppendRequestSize;
+    return this;
+  }
+
   @Override
   public String toString() {
     return "RaftConfiguration{"
@@ -74,6 +89,9 @@ public class RaftConfiguration {
         + ", leaveTimeout='"
         + leaveTimeout
         + '\''
+        + ", maxAppendRequestSize='"
+        + maxAppendRequestSize
+        + '\''
         + '}';
   }
 }
@@ -38,6 +38,8 @@ import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.ActorPriority;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.slf4j.Logger;
 
 /** Per-follower replication controller */
@@ -67,6 +69,13 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
   private long previousPosition;
   private int previousTerm;
 
+  // contiguous events which are sent with the next append request
+  private final int maxAppendRequestSize;
+  private final MutableDirectBuffer batchBuffer = new ExpandableArrayBuffer();
+  private int batchLength;
+  private long batchLastPosition;
+  private int batchLastTerm;
+
   private ActorCondition appenderCondition;
   private final String name;
 
@@ -82,6 +91,7 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
 
     this.raft = raft;
     this.heartbeatInterval = raft.getConfiguration().getHeartbeatIntervalDuration();
+    this.maxAppendRequestSize = raft.getConfiguration().getMaxAppendRequestSizeInBytes();
     this.clientOutput = clientTransport.getOutput();
     this.logStream = raft.getLogStream();
     this.reader = new BufferedLogStreamReader(logStream, true);
@@ -176,37 +186,42 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
 
   private void sendNextEvents() {
     if (IS_TRACE_ENABLED) {
-      LOG.trace("try send next event to node {}", nodeId);
+      LOG.trace("try send next events to node {}", nodeId);
     }
 
     actor.setPriority(ActorPriority.REGULAR);
 
-    final LoggedEventImpl nextEvent = getNextEvent();
+    if (batchLength == 0) {
+      fillBatch();
+    }
 
     appendRequest
         .reset()
         .setRaft(raft)
         .setPreviousEventPosition(previousPosition)
         .setPreviousEventTerm(previousTerm)
-        .setEvent(nextEvent);
+        .setEvents(batchBuffer, 0, batchLength);
 
+    final boolean hasEvents = batchLength > 0;
     final int requestSize = appendRequest.getLength();
     final long now = ActorClock.currentTimeMillis();
     final boolean isHeartbeatTimeout = now - lastRequestTimestamp >= heartbeatInterval.toMillis();
     final boolean isBackpressured = !backpressureHelper.canSend(requestSize);
-    final boolean trySend = isHeartbeatTimeout || (nextEvent != null && !isBackpressured);
+    final boolean trySend = isHeartbeatTimeout || (hasEvents && !isBackpressured);
 
     if (trySend && !isClosing) {
       if (clientOutput.sendMessage(nodeId, appendRequest)) {
         lastRequestTimestamp = now;
 
-        if (nextEvent != null) {
-          backpressureHelper.onEventSent(nextEvent.getPosition(), requestSize);
-          setPreviousEvent(nextEvent);
+        if (hasEvents) {
+          backpressureHelper.onEventSent(batchLastPosition, requestSize);
+
+          previousPosition = batchLastPosition;
+          previousTerm = batchLastTerm;
+          discardBatch();
         }
       } else {
-        setBufferedEvent(nextEvent);
-
+        // keep the batch to send it again
         if (isHeartbeatTimeout) {
           actor.setPriority(ActorPriority.HIGH);
         } else {
@@ -220,6 +235,37 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
     }
   }
 
+  /**
+   * Copies the next events into the batch, until the batch reaches the maximal request size. An
+   * event which is larger than the maximal request size is sent on its own. The events are copied
+   * because the reader may reuse its buffer when it reads the next block.
+   */
+  private void fillBatch() {
+    LoggedEventImpl event = getNextEvent();
+
+    while (event != null) {
+      final int eventLength = event.getFragmentLength();
+
+      if (batchLength > 0 && batchLength + eventLength > maxAppendRequestSize) {
+        // send the event with the next request
+        setBufferedEvent(event);
+        break;
+      }
+
+      batchBuffer.putBytes(batchLength, event.getBuffer(), event.getFragmentOffset(), eventLength);
+      batchLength += eventLength;
+
+      batchLastPosition = event.getPosition();
+      batchLastTerm = event.getRaftTerm();
+
+      event = getNextEvent();
+    }
+  }
+
+  private void discardBatch() {
+    batchLength = 0;
+  }
+
   private void setBufferedEvent(final LoggedEventImpl bufferedEvent) {
     this.bufferedEvent = bufferedEvent;
   }
@@ -317,6 +363,7 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
 
   private void setPreviousEvent(final LoggedEvent previousEvent) {
     discardBufferedEvent();
+    discardBatch();
 
     if (previousEvent != null) {
       previousPosition = previousEvent.getPosition();
@@ -50,7 +50,7 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
   protected final LoggedEventImpl readEvent = new LoggedEventImpl();
 
   // write
-  private LoggedEventImpl writeEvent;
+  private final DirectBuffer writeEvents = new UnsafeBuffer(0, 0);
 
   public AppendRequest() {
     reset();
@@ -67,7 +67,7 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
     readData.wrap(0, 0);
     readEvent.wrap(null, -1);
 
-    writeEvent = null;
+    writeEvents.wrap(0, 0);
 
     return this;
   }
@@ -124,8 +124,31 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
     return nodeId;
   }
 
+  /** @return the first event of the request, or null if the request contains no events */
   public LoggedEventImpl getEvent() {
-    if (readEvent.getBuffer() != null) {
+    if (readData.capacity() > 0) {
+      readEvent.wrap(readData, 0);
+      return readEvent;
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Moves to the event which follows the last returned one. The events of a request are contiguous,
+   * so the next event starts at the end of the previous one.
+   *
+   * @return the next event of the request, or null if the last event was returned before
+   */
+  public LoggedEventImpl getNextEvent() {
+    if (readEvent.getBuffer() == null) {
+      return null;
+    }
+
+    final int nextOffset = readEvent.getFragmentOffset() + readEvent.getFragmentLength();
+
+    if (nextOffset < readData.capacity()) {
+      readEvent.wrap(readData, nextOffset);
       return readEvent;
     } else {
       return null;
@@ -133,7 +156,23 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
   }
 
   public AppendRequest setEvent(final LoggedEventImpl event) {
-    writeEvent = event;
+    if (event != null) {
+      writeEvents.wrap(event.getBuffer(), event.getFragmentOffset(), event.getFragmentLength());
+    } else {
+      writeEvents.wrap(0, 0);
+    }
+    return this;
+  }
+
+  /**
+   * Sets a block of contiguous events which are sent with the request.
+   *
+   * @param buffer the buffer which contains the events
+   * @param offset the offset of the first event
+   * @param length the length of all events, including the alignment of the last one
+   */
+  public AppendRequest setEvents(final DirectBuffer buffer, final int offset, final int length) {
+    writeEvents.wrap(buffer, offset, length);
     return this;
   }
 
@@ -152,9 +191,7 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
   public int getLength() {
     int length = headerEncoder.encodedLength() + bodyEncoder.sbeBlockLength() + dataHeaderLength();
 
-    if (writeEvent != null) {
-      length += writeEvent.getFragmentLength();
-    }
+    length += writeEvents.capacity();
 
     return length;
   }
@@ -182,10 +219,6 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
     offset += wrapVarData(buffer, offset, readData, dataHeaderLength(), bodyDecoder.dataLength());
     bodyDecoder.limit(offset);
 
-    if (readData.capacity() > 0) {
-      readEvent.wrap(readData, 0);
-    }
-
     assert bodyDecoder.limit() == frameEnd
         : "Decoder read only to position "
             + bodyDecoder.limit()
@@ -214,9 +247,6 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
         .commitPosition(commitPosition)
         .nodeId(nodeId);
 
-    if (writeEvent != null) {
-      bodyEncoder.putData(
-          writeEvent.getBuffer(), writeEvent.getFragmentOffset(), writeEvent.getFragmentLength());
-    }
+    bodyEncoder.putData(writeEvents, 0, writeEvents.capacity());
   }
 }
@@ -66,7 +66,7 @@ public class FollowerState extends AbstractRaftState {
     if (!appender.isClosed() && raft.isTermCurrent(appendRequest)) {
       final boolean lastEvent = appender.isLastEvent(previousEventPosition, previousEventTerm);
       if (lastEvent) {
-        appender.appendEvent(appendRequest, event);
+        appender.appendEvents(appendRequest, event);
       } else {
         appender.truncateLog(appendRequest, event);
       }
@@ -103,6 +103,38 @@ public class RaftTwoNodesTest {
     cluster.awaitEventsCommittedOnAll("foo", "bar", "end");
   }
 
+  @Test
+  public void shouldReplicateEventsWithOneAppendRequest() {
+    // given
+    final RaftRule leader = cluster.awaitLeader();
+    final RaftRule follower = cluster.getOtherRafts(leader)[0];
+
+    // when
+    final EventInfo eventInfo = leader.writeEventBatch("foo", "bar", "end");
+
+    // then
+    cluster.awaitEventCommittedOnAll(eventInfo);
+
+    assertThat(follower.getReceivedAppendRequests())
+        .anySatisfy(messages -> assertThat(messages).containsSequence("foo", "bar", "end"));
+  }
+
+  @Test
+  public void shouldAppendEventsOfAppendRequestAtOnce() {
+    // given
+    final RaftRule leader = cluster.awaitLeader();
+    final RaftRule follower = cluster.getOtherRafts(leader)[0];
+
+    // when
+    final EventInfo eventInfo = leader.writeEventBatch("foo", "bar", "end");
+
+    // then
+    cluster.awaitEventCommittedOnAll(eventInfo);
+
+    assertThat(follower.getAppendedBlocks())
+        .anySatisfy(messages -> assertThat(messages).containsSequence("foo", "bar", "end"));
+  }
+
   @Test
   public void shouldNotElectNewLeader() throws InterruptedException {
     // given
@@ -71,6 +71,11 @@ public class ThroughPutTestRaft implements RaftStateListener {
     this.partition = 0;
     this.members = Arrays.asList(members);
     this.nodeId = socketAddress.port();
+
+    final String maxAppendRequestSize = System.getProperty("maxAppendRequestSize");
+    if (maxAppendRequestSize != null) {
+      configuration.setMaxAppendRequestSize(maxAppendRequestSize);
+    }
   }
 
   public void open(final ActorScheduler scheduler, final ServiceContainer serviceContainer)
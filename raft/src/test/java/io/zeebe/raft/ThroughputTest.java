@@ -38,6 +38,11 @@ public class ThroughputTest {
   private static final MutableDirectBuffer METADATA = new UnsafeBuffer(new byte[31]);
   private static final MutableDirectBuffer DATA = new UnsafeBuffer(new byte[256]);
 
+  /**
+   * Writes events as fast as the followers replicate them and prints the committed events per
+   * second and the commit latency. The size of the append requests can be set with the system
+   * property {@code maxAppendRequestSize}, e.g. {@code -DmaxAppendRequestSize=256K}.
+   */
   public static void main(final String[] args) throws IOException {
     final BenchmarkContext ctx = new BenchmarkContext();
     ctx.setUp();
@@ -46,14 +51,48 @@ public class ThroughputTest {
     final LogStream logStream = ctx.leader.getLogStream();
     final LongRingBuffer uncommitedPositions = new LongRingBuffer(10 * 1024);
 
+    long committedEvents = 0;
+    long reportTime = System.nanoTime();
+
+    // the latency is measured for one event per report interval
+    long sampledPosition = -1;
+    long sampledWriteTime = 0;
+    long sampledLatency = 0;
+
     while (true) {
-      uncommitedPositions.consumeAscendingUntilInclusive(logStream.getCommitPosition());
+      final long commitPosition = logStream.getCommitPosition();
+
+      final int uncommitted = uncommitedPositions.size();
+      uncommitedPositions.consumeAscendingUntilInclusive(commitPosition);
+      committedEvents += uncommitted - uncommitedPositions.size();
+
+      if (sampledPosition >= 0 && commitPosition >= sampledPosition) {
+        sampledLatency = System.nanoTime() - sampledWriteTime;
+        sampledPosition = -1;
+      }
+
+      final long now = System.nanoTime();
+      if (now - reportTime >= TimeUnit.SECONDS.toNanos(1)) {
+        System.out.println(
+            String.format(
+                "%d events/s committed, commit latency %d µs",
+                committedEvents * TimeUnit.SECONDS.toNanos(1) / (now - reportTime),
+                TimeUnit.NANOSECONDS.toMicros(sampledLatency)));
+
+        committedEvents = 0;
+        reportTime = now;
+      }
 
       if (!uncommitedPositions.isSaturated()) {
         final long position = writer.positionAsKey().metadata(METADATA).value(DATA).tryWrite();
 
         if (position > 0) {
           uncommitedPositions.addElementToHead(position);
+
+          if (sampledPosition < 0) {
+            sampledPosition = position;
+            sampledWriteTime = System.nanoTime();
+          }
         }
       } else {
         LockSupport.parkNanos(1000);
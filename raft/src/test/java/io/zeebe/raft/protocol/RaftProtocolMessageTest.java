@@ -200,6 +200,45 @@ public class RaftProtocolMessageTest {
     assertThat(actual.getBuffer()).isEqualTo(data);
   }
 
+  @Test
+  public void shouldReadAndWriteAppendRequestWithEvents() {
+    // given
+    final int msgLength = BitUtil.SIZE_OF_LONG;
+    final int fragmentLength = DataFrameDescriptor.alignedFramedLength(msgLength);
+
+    final MutableDirectBuffer data = new UnsafeBuffer(new byte[3 * fragmentLength]);
+    for (int i = 0; i < 3; i++) {
+      final int offset = i * fragmentLength;
+      data.putInt(
+          DataFrameDescriptor.lengthOffset(offset), DataFrameDescriptor.framedLength(msgLength));
+      data.putLong(DataFrameDescriptor.messageOffset(offset), i);
+    }
+
+    AppendRequest appendRequest =
+        new AppendRequest()
+            .setRaft(raft)
+            .setPreviousEventPosition(111)
+            .setPreviousEventTerm(222)
+            .setEvents(data, 0, data.capacity());
+
+    // when
+    appendRequest = writeAndRead(appendRequest);
+
+    // then
+    LoggedEventImpl event = appendRequest.getEvent();
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(event).isNotNull();
+      assertThat(event.getFragmentOffset()).isEqualTo(i * fragmentLength);
+      assertThat(event.getBuffer().getLong(DataFrameDescriptor.messageOffset(i * fragmentLength)))
+          .isEqualTo(i);
+
+      event = appendRequest.getNextEvent();
+    }
+
+    assertThat(event).isNull();
+  }
+
   @Test
   public void shouldReadWriteAppendResponse() {
     // given
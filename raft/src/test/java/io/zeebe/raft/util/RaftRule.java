@@ -22,9 +22,11 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.logstreams.LogStreams;
+import io.zeebe.logstreams.impl.LoggedEventImpl;
 import io.zeebe.logstreams.impl.service.LogStreamServiceNames;
 import io.zeebe.logstreams.log.BufferedLogStreamReader;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriterImpl;
 import io.zeebe.logstreams.log.LogStreamWriterImpl;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.clientapi.ValueType;
@@ -37,12 +39,15 @@ import io.zeebe.raft.RaftStateListener;
 import io.zeebe.raft.controller.MemberReplicateLogController;
 import io.zeebe.raft.event.RaftConfigurationEvent;
 import io.zeebe.raft.event.RaftConfigurationEventMember;
+import io.zeebe.raft.protocol.AppendRequest;
 import io.zeebe.raft.state.RaftState;
 import io.zeebe.servicecontainer.ServiceContainer;
 import io.zeebe.servicecontainer.ServiceName;
 import io.zeebe.servicecontainer.testing.ServiceContainerRule;
 import io.zeebe.test.util.TestUtil;
 import io.zeebe.transport.ClientTransport;
+import io.zeebe.transport.RemoteAddress;
+import io.zeebe.transport.ServerOutput;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.transport.SocketAddress;
 import io.zeebe.transport.Transports;
@@ -58,6 +63,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
@@ -75,6 +81,7 @@ public class RaftRule extends ExternalResource implements RaftStateListener {
   protected final int partition;
   protected final RaftConfigurationEvent configurationEvent = new RaftConfigurationEvent();
   protected final LogStreamWriterImpl writer = new LogStreamWriterImpl();
+  protected final LogStreamBatchWriterImpl batchWriter = new LogStreamBatchWriterImpl();
   protected final List<RaftRule> members;
   protected final RecordMetadata metadata = new RecordMetadata();
 
@@ -83,6 +90,7 @@ public class RaftRule extends ExternalResource implements RaftStateListener {
   protected ServerTransport serverTransport;
 
   protected LogStream logStream;
+  protected RecordingLogStorage logStorage;
   protected Raft raft;
   protected BufferedLogStreamReader uncommittedReader;
   protected BufferedLogStreamReader committedReader;
@@ -90,6 +98,7 @@ public class RaftRule extends ExternalResource implements RaftStateListener {
   private InMemoryRaftPersistentStorage persistentStorage;
 
   protected final List<RaftState> raftStateChanges = new ArrayList<>();
+  protected final List<List<String>> receivedAppendRequests = new CopyOnWriteArrayList<>();
   private ServiceName<Raft> raftServiceName;
 
   public RaftRule(
@@ -111,7 +120,7 @@ public class RaftRule extends ExternalResource implements RaftStateListener {
   protected void before() throws Throwable {
     final String logName = String.format("%d-%d", partition, nodeId);
 
-    final RaftApiMessageHandler raftApiMessageHandler = new RaftApiMessageHandler();
+    final RaftApiMessageHandler raftApiMessageHandler = new RecordingRaftApiMessageHandler();
 
     serverTransport =
         Transports.newServerTransport()
@@ -127,6 +136,11 @@ public class RaftRule extends ExternalResource implements RaftStateListener {
             .logName(logName)
             .deleteOnClose(true)
             .logDirectory(Files.createTempDirectory("raft-test-" + nodeId + "-").toString())
+            .logStorageStubber(
+                storage ->
+                    logStorage =
+                        new RecordingLogStorage(
+                            storage.getConfig(), actorScheduler.getMetricsManager(), partition))
             .serviceContainer(serviceContainer)
             .build()
             .join();
@@ -286,6 +300,63 @@ public class RaftRule extends ExternalResource implements RaftStateListener {
     return eventInfo;
   }
 
+  /** Writes the events with one batch, so that they are appended to the log storage together. */
+  public EventInfo writeEventBatch(final String... messages) {
+    batchWriter.wrap(logStream);
+
+    final EventInfo[] eventInfo = new EventInfo[1];
+
+    TestUtil.doRepeatedly(
+            () -> {
+              batchWriter.reset();
+              for (final String message : messages) {
+                batchWriter
+                    .event()
+                    .positionAsKey()
+                    .metadataWriter(metadata.reset())
+                    .value(wrapString(message))
+                    .done();
+              }
+              return batchWriter.tryWrite();
+            })
+        .until(
+            position -> {
+              if (position != null && position >= 0) {
+                eventInfo[0] =
+                    new EventInfo(position, raft.getTerm(), messages[messages.length - 1]);
+                return true;
+              } else {
+                return false;
+              }
+            },
+            "Failed to write events with messages {}",
+            Arrays.asList(messages));
+
+    return eventInfo[0];
+  }
+
+  /** @return the messages of the events of each append request which was received */
+  public List<List<String>> getReceivedAppendRequests() {
+    return receivedAppendRequests;
+  }
+
+  /** @return the messages of the events of each append to the log storage */
+  public List<List<String>> getAppendedBlocks() {
+    return logStorage.getAppendedBlocks();
+  }
+
+  /** @return the message of the given event, or null if it is no message written by a test */
+  public static String getMessage(final LoggedEvent event) {
+    final RecordMetadata metadata = new RecordMetadata();
+    event.readMetadata(metadata);
+
+    if (metadata.getValueType() == ValueType.NULL_VAL) {
+      return bufferAsString(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+    } else {
+      return null;
+    }
+  }
+
   public boolean eventAppended(final EventInfo eventInfo) {
     uncommittedReader.seek(eventInfo.getPosition());
 
@@ -404,4 +475,32 @@ public class RaftRule extends ExternalResource implements RaftStateListener {
     clientTransport.registerEndpoint(other.getNodeId(), other.socketAddress);
     other.clientTransport.registerEndpoint(this.getNodeId(), this.socketAddress);
   }
+
+  private class RecordingRaftApiMessageHandler extends RaftApiMessageHandler {
+    private final AppendRequest appendRequest = new AppendRequest();
+
+    @Override
+    public boolean onMessage(
+        final ServerOutput output,
+        final RemoteAddress remoteAddress,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length) {
+      if (appendRequest.tryWrap(buffer, offset, length)) {
+        final List<String> messages = new ArrayList<>();
+
+        LoggedEventImpl event = appendRequest.getEvent();
+        while (event != null) {
+          messages.add(getMessage(event));
+          event = appendRequest.getNextEvent();
+        }
+
+        if (!messages.isEmpty()) {
+          receivedAppendRequests.add(messages);
+        }
+      }
+
+      return super.onMessage(output, remoteAddress, buffer, offset, length);
+    }
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.raft.util;
+
+import io.zeebe.logstreams.impl.LoggedEventImpl;
+import io.zeebe.logstreams.impl.log.fs.FsLogStorage;
+import io.zeebe.logstreams.impl.log.fs.FsLogStorageConfiguration;
+import io.zeebe.util.metrics.MetricsManager;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/** Records the messages of the events which are written with each append to the log storage. */
+public class RecordingLogStorage extends FsLogStorage {
+
+  private final List<List<String>> appendedBlocks = new CopyOnWriteArrayList<>();
+
+  public RecordingLogStorage(
+      final FsLogStorageConfiguration cfg,
+      final MetricsManager metricsManager,
+      final int partitionId) {
+    super(cfg, metricsManager, partitionId);
+  }
+
+  @Override
+  public long append(final ByteBuffer buffer) {
+    final UnsafeBuffer block = new UnsafeBuffer(buffer, buffer.position(), buffer.remaining());
+
+    final long address = super.append(buffer);
+
+    if (address >= 0) {
+      appendedBlocks.add(readMessages(block));
+    }
+
+    return address;
+  }
+
+  private List<String> readMessages(final UnsafeBuffer block) {
+    final List<String> messages = new ArrayList<>();
+    final LoggedEventImpl event = new LoggedEventImpl();
+
+    int offset = 0;
+    while (offset < block.capacity()) {
+      event.wrap(block, offset);
+      messages.add(RaftRule.getMessage(event));
+
+      offset += event.getFragmentLength();
+    }
+
+    return messages;
+  }
+
+  /** @return the messages of the events of each append, null for events which are no messages */
+  public List<List<String>> getAppendedBlocks() {
+    return appendedBlocks;
+  }
+}
@@ -31,6 +31,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
@@ -146,6 +147,22 @@ public class FileUtil {
     }
   }
 
+  /**
+   * Forces the content of the file, or the entries of the directory, to be written to the storage
+   * device. A directory must be flushed to persist the creation, move or deletion of its entries.
+   *
+   * @param path the file or directory to flush
+   * @throws IOException if the file or directory can't be opened or flushed
+   */
+  public static void flush(Path path) throws IOException {
+    final StandardOpenOption option =
+        Files.isDirectory(path) ? StandardOpenOption.READ : StandardOpenOption.WRITE;
+
+    try (FileChannel channel = FileChannel.open(path, option)) {
+      channel.force(true);
+    }
+  }
+
   public static String getCanonicalPath(String directory) {
     final File file = new File(directory);
     String path = null;
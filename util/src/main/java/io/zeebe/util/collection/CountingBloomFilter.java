@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.util.collection;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+
+/**
+ * A counting bloom filter with a fixed number of counters. It answers if an element might be
+ * contained (possibly a false positive) or is definitely not contained. In contrast to a plain
+ * bloom filter, elements can be removed again.
+ *
+ * <p>The counters of an element are located in one block of 64 counters (i.e. one cache line), so
+ * that a lookup touches only one cache line. A counter saturates at 255 and is not decremented
+ * anymore. This can produce false positives but never false negatives.
+ *
+ * <p>An element must only be removed if it was added before. The filter works on the hash of an
+ * element which can be computed by {@link #hash(DirectBuffer, long)}.
+ *
+ * <p>Not thread-safe.
+ */
+public class CountingBloomFilter {
+
+  public static final long DEFAULT_SEED = 0x9E3779B97F4A7C15L;
+
+  private static final int BLOCK_SIZE = 64;
+  private static final int BLOCK_SIZE_BITS = 6;
+  private static final int COUNTERS_PER_ELEMENT = 4;
+
+  private static final int SATURATED = 0xFF;
+
+  private static final long C1 = 0x87C37B91114253D5L;
+  private static final long C2 = 0x4CF5AD432745937FL;
+
+  private final byte[] counters;
+  private final int blockMask;
+
+  /** @param capacity the number of counters, rounded up to a power of two */
+  public CountingBloomFilter(int capacity) {
+    final int size = BitUtil.findNextPositivePowerOfTwo(Math.max(capacity, BLOCK_SIZE));
+
+    counters = new byte[size];
+    blockMask = (size / BLOCK_SIZE) - 1;
+  }
+
+  public void add(long hash) {
+    final int blockOffset = blockOffset(hash);
+
+    for (int i = 0; i < COUNTERS_PER_ELEMENT; i++) {
+      final int index = blockOffset + counterOffset(hash, i);
+      final int counter = counters[index] & 0xFF;
+
+      if (counter != SATURATED) {
+        counters[index] = (byte) (counter + 1);
+      }
+    }
+  }
+
+  public void remove(long hash) {
+    final int blockOffset = blockOffset(hash);
+
+    for (int i = 0; i < COUNTERS_PER_ELEMENT; i++) {
+      final int index = blockOffset + counterOffset(hash, i);
+      final int counter = counters[index] & 0xFF;
+
+      if (counter != SATURATED && counter > 0) {
+        counters[index] = (byte) (counter - 1);
+      }
+    }
+  }
+
+  public boolean mightContain(long hash) {
+    final int blockOffset = blockOffset(hash);
+
+    for (int i = 0; i < COUNTERS_PER_ELEMENT; i++) {
+      if (counters[blockOffset + counterOffset(hash, i)] == 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  public void clear() {
+    Arrays.fill(counters, (byte) 0);
+  }
+
+  public int getCapacity() {
+    return counters.length;
+  }
+
+  private int blockOffset(long hash) {
+    return ((int) hash & blockMask) * BLOCK_SIZE;
+  }
+
+  private static int counterOffset(long hash, int i) {
+    // the upper half of the hash is not used to select the block
+    return (int) (hash >>> (32 + i * BLOCK_SIZE_BITS)) & (BLOCK_SIZE - 1);
+  }
+
+  /**
+   * Hashes the given buffer. Several buffers of one element can be combined by passing the hash of
+   * the previous one as seed.
+   */
+  public static long hash(DirectBuffer buffer, long seed) {
+    return hash(buffer, 0, buffer.capacity(), seed);
+  }
+
+  public static long hash(DirectBuffer buffer, int offset, int length, long seed) {
+    long hash = seed ^ (length * C1);
+
+    int i = 0;
+    for (; i + BitUtil.SIZE_OF_LONG <= length; i += BitUtil.SIZE_OF_LONG) {
+      final long value = buffer.getLong(offset + i, ByteOrder.LITTLE_ENDIAN);
+      hash ^= Long.rotateLeft(value * C1, 31) * C2;
+      hash = Long.rotateLeft(hash, 27) * 5 + 0x52DCE729;
+    }
+
+    for (; i < length; i++) {
+      hash ^= (buffer.getByte(offset + i) & 0xFF) * C2;
+      hash = Long.rotateLeft(hash, 11) * C1;
+    }
+
+    return mix(hash);
+  }
+
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
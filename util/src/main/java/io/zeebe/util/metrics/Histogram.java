@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.util.metrics;
+
+import static io.zeebe.util.metrics.Metric.CLOSING_CURLY_BRACE;
+import static io.zeebe.util.metrics.Metric.COMMA;
+import static io.zeebe.util.metrics.Metric.DOUBLE_QUOTE;
+import static io.zeebe.util.metrics.Metric.NEW_LINE;
+import static io.zeebe.util.metrics.Metric.OPENING_CURLY_BRACE;
+import static io.zeebe.util.metrics.Metric.WHITESPACE;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * A histogram with fixed upper bucket bounds. It is dumped in the Prometheus text format as
+ * cumulative buckets, followed by the sum and the count of the recorded values.
+ *
+ * <p>Recording a value is lock-free and does not allocate, so it can be called on the hot path.
+ */
+public class Histogram {
+  /** Exponential bounds from 1 to 10^5, e.g. microseconds up to 100 ms or milliseconds to 100 s. */
+  public static final long[] DEFAULT_BUCKETS = {
+    1, 2, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000
+  };
+
+  private static final byte[] BUCKET_SUFFIX = "_bucket".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] SUM_SUFFIX = "_sum".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] COUNT_SUFFIX = "_count".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] LE_LABEL = "le=\"".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] INFINITY = "+Inf".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] HELP_PREFIX = "# HELP ".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] TYPE_PREFIX = "# TYPE ".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] HISTOGRAM_TYPE = " histogram".getBytes(StandardCharsets.UTF_8);
+
+  private final byte[] name;
+  private final byte[] description;
+  private final byte[] labels;
+  private final long[] buckets;
+  private final byte[][] bucketBounds;
+  private final Consumer<Histogram> onClose;
+
+  // one more than the buckets to count the values above the highest bound
+  private final AtomicLongArray counts;
+  private final AtomicLong sum = new AtomicLong();
+
+  public Histogram(
+      String name,
+      String description,
+      Map<String, String> labels,
+      long[] buckets,
+      Consumer<Histogram> onClose) {
+    this.name = name.getBytes(StandardCharsets.UTF_8);
+    this.description = description.getBytes(StandardCharsets.UTF_8);
+    this.onClose = onClose;
+
+    this.buckets = buckets.clone();
+    Arrays.sort(this.buckets);
+    this.counts = new AtomicLongArray(this.buckets.length + 1);
+
+    this.bucketBounds = new byte[this.buckets.length][];
+    for (int i = 0; i < this.buckets.length; i++) {
+      bucketBounds[i] = Long.toString(this.buckets[i]).getBytes(StandardCharsets.UTF_8);
+    }
+
+    final StringBuilder labelBuilder = new StringBuilder();
+    labels.forEach(
+        (labelName, labelValue) -> {
+          labelBuilder.append(labelName).append("=\"").append(labelValue).append("\",");
+        });
+    this.labels = labelBuilder.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  public void record(long value) {
+    int bucket = 0;
+    while (bucket < buckets.length && value > buckets[bucket]) {
+      bucket++;
+    }
+
+    counts.incrementAndGet(bucket);
+    sum.addAndGet(value);
+  }
+
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      count += counts.get(i);
+    }
+    return count;
+  }
+
+  public long getSum() {
+    return sum.get();
+  }
+
+  public String getName() {
+    return new String(name, StandardCharsets.UTF_8);
+  }
+
+  public boolean hasSameName(Histogram other) {
+    return Arrays.equals(name, other.name);
+  }
+
+  /**
+   * Writes the help and the type line of the histogram. They must be written only once for all
+   * histograms with the same name, directly before their series.
+   */
+  public int dumpHeader(MutableDirectBuffer buffer, int offset) {
+    offset = writeArray(buffer, offset, HELP_PREFIX);
+    offset = writeArray(buffer, offset, name);
+    offset = writeArray(buffer, offset, WHITESPACE);
+    offset = writeArray(buffer, offset, description);
+    offset = writeArray(buffer, offset, NEW_LINE);
+    offset = writeArray(buffer, offset, TYPE_PREFIX);
+    offset = writeArray(buffer, offset, name);
+    offset = writeArray(buffer, offset, HISTOGRAM_TYPE);
+    return writeArray(buffer, offset, NEW_LINE);
+  }
+
+  public int dump(MutableDirectBuffer buffer, int offset, long now) {
+    final byte[] timestamp = Long.toString(now).getBytes(StandardCharsets.UTF_8);
+
+    long cumulativeCount = 0;
+    for (int i = 0; i <= buckets.length; i++) {
+      cumulativeCount += counts.get(i);
+
+      offset = writeArray(buffer, offset, name);
+      offset = writeArray(buffer, offset, BUCKET_SUFFIX);
+      offset = writeArray(buffer, offset, OPENING_CURLY_BRACE);
+      offset = writeArray(buffer, offset, labels);
+      offset = writeArray(buffer, offset, LE_LABEL);
+      offset = writeArray(buffer, offset, i < buckets.length ? bucketBounds[i] : INFINITY);
+      offset = writeArray(buffer, offset, DOUBLE_QUOTE);
+      offset = writeArray(buffer, offset, CLOSING_CURLY_BRACE);
+      offset = writeValue(buffer, offset, cumulativeCount, timestamp);
+    }
+
+    offset = writeSeries(buffer, offset, SUM_SUFFIX, sum.get(), timestamp);
+    offset = writeSeries(buffer, offset, COUNT_SUFFIX, cumulativeCount, timestamp);
+    return offset;
+  }
+
+  private int writeSeries(
+      MutableDirectBuffer buffer, int offset, byte[] suffix, long value, byte[] timestamp) {
+    offset = writeArray(buffer, offset, name);
+    offset = writeArray(buffer, offset, suffix);
+    offset = writeArray(buffer, offset, OPENING_CURLY_BRACE);
+    // the labels are rendered with a trailing comma for the bucket bound
+    offset = writeArray(buffer, offset, labels, Math.max(0, labels.length - COMMA.length));
+    offset = writeArray(buffer, offset, CLOSING_CURLY_BRACE);
+    return writeValue(buffer, offset, value, timestamp);
+  }
+
+  private int writeValue(MutableDirectBuffer buffer, int offset, long value, byte[] timestamp) {
+    offset = writeArray(buffer, offset, WHITESPACE);
+    offset = writeArray(buffer, offset, Long.toString(value).getBytes(StandardCharsets.UTF_8));
+    offset = writeArray(buffer, offset, WHITESPACE);
+    offset = writeArray(buffer, offset, timestamp);
+    return writeArray(buffer, offset, NEW_LINE);
+  }
+
+  private int writeArray(MutableDirectBuffer buffer, int offset, byte[] array) {
+    return writeArray(buffer, offset, array, array.length);
+  }
+
+  private int writeArray(MutableDirectBuffer buffer, int offset, byte[] array, int length) {
+    buffer.putBytes(offset, array, 0, length);
+    return offset + length;
+  }
+
+  public void close() {
+    onClose.accept(this);
+  }
+}
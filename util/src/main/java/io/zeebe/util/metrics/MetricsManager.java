@@ -25,10 +25,12 @@ import org.agrona.MutableDirectBuffer;
 
 public class MetricsManager {
   private final List<Metric> metrics = new ArrayList<>();
+  private final List<Histogram> histograms = new ArrayList<>();
 
   private final String prefix;
   private final Map<String, String> globalLabels;
   private final Consumer<Metric> onClose = this::free;
+  private final Consumer<Histogram> onHistogramClose = this::free;
   private final ReentrantLock lock = new ReentrantLock();
 
   public MetricsManager() {
@@ -52,10 +54,28 @@ public class MetricsManager {
     }
   }
 
+  public Histogram allocateHistogram(
+      String name, String description, Map<String, String> labels, long[] buckets) {
+    lock.lock();
+    try {
+      labels.putAll(globalLabels);
+      final Histogram histogram =
+          new Histogram(prefix + name, description, labels, buckets, onHistogramClose);
+      addHistogram(histogram);
+      return histogram;
+    } finally {
+      lock.unlock();
+    }
+  }
+
   public MetricBuilder newMetric(String name) {
     return new MetricBuilder(name);
   }
 
+  public HistogramBuilder newHistogram(String name) {
+    return new HistogramBuilder(name);
+  }
+
   public int dump(MutableDirectBuffer buffer, int offset, long now) {
     lock.lock();
     try {
@@ -63,12 +83,31 @@ public class MetricsManager {
         offset = metrics.get(i).dump(buffer, offset, now);
       }
 
+      for (int i = 0; i < histograms.size(); i++) {
+        final Histogram histogram = histograms.get(i);
+        if (i == 0 || !histogram.hasSameName(histograms.get(i - 1))) {
+          offset = histogram.dumpHeader(buffer, offset);
+        }
+        offset = histogram.dump(buffer, offset, now);
+      }
+
       return offset;
     } finally {
       lock.unlock();
     }
   }
 
+  private void addHistogram(Histogram histogram) {
+    // keep the histograms with the same name together, so their header is written only once
+    for (int i = histograms.size() - 1; i >= 0; i--) {
+      if (histograms.get(i).hasSameName(histogram)) {
+        histograms.add(i + 1, histogram);
+        return;
+      }
+    }
+    histograms.add(histogram);
+  }
+
   public void free(Metric metric) {
     lock.lock();
     try {
@@ -78,6 +117,15 @@ public class MetricsManager {
     }
   }
 
+  public void free(Histogram histogram) {
+    lock.lock();
+    try {
+      histograms.remove(histogram);
+    } finally {
+      lock.unlock();
+    }
+  }
+
   public class MetricBuilder {
     private final String name;
     private String type;
@@ -109,4 +157,36 @@ public class MetricsManager {
       return MetricsManager.this.allocate(name, type, description, labels);
     }
   }
+
+  public class HistogramBuilder {
+    private final String name;
+    private String description;
+    private long[] buckets;
+    private final Map<String, String> labels = new HashMap<>();
+
+    public HistogramBuilder(String name) {
+      this.name = name;
+      this.description = "No description provided";
+      this.buckets = Histogram.DEFAULT_BUCKETS;
+    }
+
+    public HistogramBuilder label(String name, String value) {
+      labels.put(name, value);
+      return this;
+    }
+
+    public HistogramBuilder description(String description) {
+      this.description = description;
+      return this;
+    }
+
+    public HistogramBuilder buckets(long... buckets) {
+      this.buckets = buckets;
+      return this;
+    }
+
+    public Histogram create() {
+      return MetricsManager.this.allocateHistogram(name, description, labels, buckets);
+    }
+  }
 }
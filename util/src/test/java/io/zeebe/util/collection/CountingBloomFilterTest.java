@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.util.collection;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class CountingBloomFilterTest {
+
+  private final CountingBloomFilter filter = new CountingBloomFilter(1 << 16);
+
+  @Test
+  public void shouldNotContainElementIfEmpty() {
+    // when
+    final boolean mightContain = filter.mightContain(hash("foo"));
+
+    // then
+    assertThat(mightContain).isFalse();
+  }
+
+  @Test
+  public void shouldContainAddedElements() {
+    // when
+    for (int i = 0; i < 1_000; i++) {
+      filter.add(hash("element-" + i));
+    }
+
+    // then
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(filter.mightContain(hash("element-" + i))).isTrue();
+    }
+  }
+
+  @Test
+  public void shouldNotContainRemovedElement() {
+    // given
+    filter.add(hash("foo"));
+
+    // when
+    filter.remove(hash("foo"));
+
+    // then
+    assertThat(filter.mightContain(hash("foo"))).isFalse();
+  }
+
+  @Test
+  public void shouldContainElementAddedTwiceAndRemovedOnce() {
+    // given
+    filter.add(hash("foo"));
+    filter.add(hash("foo"));
+
+    // when
+    filter.remove(hash("foo"));
+
+    // then
+    assertThat(filter.mightContain(hash("foo"))).isTrue();
+  }
+
+  @Test
+  public void shouldContainElementIfCountersAreSaturated() {
+    // given
+    for (int i = 0; i < 300; i++) {
+      filter.add(hash("foo"));
+    }
+
+    // when
+    for (int i = 0; i < 300; i++) {
+      filter.remove(hash("foo"));
+    }
+
+    // then
+    assertThat(filter.mightContain(hash("foo"))).isTrue();
+  }
+
+  @Test
+  public void shouldHaveFewFalsePositives() {
+    // given
+    for (int i = 0; i < 1_000; i++) {
+      filter.add(hash("element-" + i));
+    }
+
+    // when
+    int falsePositives = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (filter.mightContain(hash("other-" + i))) {
+        falsePositives += 1;
+      }
+    }
+
+    // then
+    assertThat(falsePositives).isLessThan(100);
+  }
+
+  @Test
+  public void shouldCombineHashes() {
+    // given
+    final long hash = CountingBloomFilter.hash(wrapString("a"), CountingBloomFilter.DEFAULT_SEED);
+
+    // when
+    final long combined = CountingBloomFilter.hash(wrapString("b"), hash);
+
+    // then
+    assertThat(combined)
+        .isEqualTo(
+            CountingBloomFilter.hash(
+                wrapString("b"),
+                CountingBloomFilter.hash(wrapString("a"), CountingBloomFilter.DEFAULT_SEED)))
+        .isNotEqualTo(
+            CountingBloomFilter.hash(
+                wrapString("a"),
+                CountingBloomFilter.hash(wrapString("b"), CountingBloomFilter.DEFAULT_SEED)));
+  }
+
+  @Test
+  public void shouldClear() {
+    // given
+    filter.add(hash("foo"));
+
+    // when
+    filter.clear();
+
+    // then
+    assertThat(filter.mightContain(hash("foo"))).isFalse();
+  }
+
+  private static long hash(String element) {
+    return CountingBloomFilter.hash(wrapString(element), CountingBloomFilter.DEFAULT_SEED);
+  }
+}
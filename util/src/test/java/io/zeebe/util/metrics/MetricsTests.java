@@ -133,6 +133,85 @@ public class MetricsTests {
     assertThat(dump).isEqualTo("bz_metric1{broker=\"node1\",label1=\"value1\"} 0 100\n");
   }
 
+  @Test
+  public void shouldRecordHistogram() {
+    final MetricsManager metricsManager = new MetricsManager();
+
+    final Histogram histogram =
+        metricsManager
+            .newHistogram("latency")
+            .description("the latency")
+            .label("label1", "value1")
+            .buckets(10, 100)
+            .create();
+
+    histogram.record(5);
+    histogram.record(10);
+    histogram.record(50);
+    histogram.record(500);
+
+    final String dump = dumpAsString(metricsManager, 100);
+    assertThat(dump)
+        .isEqualTo(
+            "# HELP zb_latency the latency\n"
+                + "# TYPE zb_latency histogram\n"
+                + "zb_latency_bucket{label1=\"value1\",le=\"10\"} 2 100\n"
+                + "zb_latency_bucket{label1=\"value1\",le=\"100\"} 3 100\n"
+                + "zb_latency_bucket{label1=\"value1\",le=\"+Inf\"} 4 100\n"
+                + "zb_latency_sum{label1=\"value1\"} 565 100\n"
+                + "zb_latency_count{label1=\"value1\"} 4 100\n");
+  }
+
+  @Test
+  public void shouldCloseHistogram() {
+    final MetricsManager metricsManager = new MetricsManager();
+
+    final Histogram histogram = metricsManager.newHistogram("latency").buckets(10).create();
+
+    String dump = dumpAsString(metricsManager, 100);
+    assertThat(dump)
+        .isEqualTo(
+            "# HELP zb_latency No description provided\n"
+                + "# TYPE zb_latency histogram\n"
+                + "zb_latency_bucket{le=\"10\"} 0 100\n"
+                + "zb_latency_bucket{le=\"+Inf\"} 0 100\n"
+                + "zb_latency_sum{} 0 100\n"
+                + "zb_latency_count{} 0 100\n");
+
+    histogram.close();
+    dump = dumpAsString(metricsManager, 100);
+    assertThat(dump).isEqualTo("");
+  }
+
+  @Test
+  public void shouldWriteHistogramHeaderOnce() {
+    final MetricsManager metricsManager = new MetricsManager();
+
+    metricsManager.newHistogram("latency").label("partition", "1").buckets(10).create();
+    metricsManager.newHistogram("duration").buckets(10).create();
+    metricsManager.newHistogram("latency").label("partition", "2").buckets(10).create();
+
+    final String dump = dumpAsString(metricsManager, 100);
+    assertThat(dump)
+        .isEqualTo(
+            "# HELP zb_latency No description provided\n"
+                + "# TYPE zb_latency histogram\n"
+                + "zb_latency_bucket{partition=\"1\",le=\"10\"} 0 100\n"
+                + "zb_latency_bucket{partition=\"1\",le=\"+Inf\"} 0 100\n"
+                + "zb_latency_sum{partition=\"1\"} 0 100\n"
+                + "zb_latency_count{partition=\"1\"} 0 100\n"
+                + "zb_latency_bucket{partition=\"2\",le=\"10\"} 0 100\n"
+                + "zb_latency_bucket{partition=\"2\",le=\"+Inf\"} 0 100\n"
+                + "zb_latency_sum{partition=\"2\"} 0 100\n"
+                + "zb_latency_count{partition=\"2\"} 0 100\n"
+                + "# HELP zb_duration No description provided\n"
+                + "# TYPE zb_duration histogram\n"
+                + "zb_duration_bucket{le=\"10\"} 0 100\n"
+                + "zb_duration_bucket{le=\"+Inf\"} 0 100\n"
+                + "zb_duration_sum{} 0 100\n"
+                + "zb_duration_count{} 0 100\n");
+  }
+
   private static String dumpAsString(MetricsManager metricsManager, long now) {
     final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
     final int length = metricsManager.dump(buffer, 0, now);
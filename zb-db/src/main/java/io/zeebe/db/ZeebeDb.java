@@ -32,12 +32,62 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<ColumnFamilyType>> extend
 
   /**
    * Runs the commands like delete, put etc. in a batch operation. Access of different column
-   * families inside this batch are possible.
+   * families inside this batch are possible. If a transaction is open then the commands are part of
+   * this transaction, otherwise they are written together at the end of the batch.
    *
    * @param operations the operations
    */
   void batch(Runnable operations);
 
+  /**
+   * Begins a new transaction, which covers all following accesses of the column families until it
+   * is committed or rolled back. Operations in a {@link #batch(Runnable)} become part of the open
+   * transaction.
+   *
+   * <p>Only one transaction can be open at the same time.
+   *
+   * @return the new transaction
+   * @throws IllegalStateException if a transaction is already open
+   */
+  ZeebeDbTransaction beginTransaction();
+
+  /**
+   * Runs the given action once the changes which are made so far are persisted. If a transaction is
+   * open then the action runs after the transaction is committed and is discarded if the
+   * transaction is rolled back, otherwise it runs immediately.
+   *
+   * <p>This allows to keep in-memory structures which are derived from the stored data, like caches
+   * or filters, consistent with the committed state.
+   *
+   * @param action the action to run after the commit
+   */
+  void runAfterCommit(Runnable action);
+
+  /**
+   * Runs the given action if the open transaction is rolled back. The action is discarded if the
+   * transaction is committed or if no transaction is open. Registering the same action again in the
+   * same transaction has no effect.
+   *
+   * <p>This allows to discard in-memory structures which are updated together with the pending
+   * writes, so that they can be rebuilt from the committed state.
+   *
+   * @param action the action to run after the rollback
+   */
+  void runAfterRollback(Runnable action);
+
+  /**
+   * Enables or disables the write ahead log for the following writes. Without the write ahead log,
+   * writes are cheaper, but the changes which are not flushed yet are lost if the process crashes.
+   * This is only acceptable if the state can be rebuilt anyway, e.g. while it is recovered from the
+   * log.
+   *
+   * <p>When the write ahead log is enabled again, the changes which were written without it are
+   * flushed.
+   *
+   * @param enabled <code>true</code> to write the following changes to the write ahead log
+   */
+  void setWriteAheadLogEnabled(boolean enabled);
+
   /**
    * Creates an instance of a specific column family to access and store key-value pairs in that
    * column family. The key and value instances are used to ensure type safety.
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db;
+
+/**
+ * A transaction on a {@link ZeebeDb}, which spans all column families of the database.
+ *
+ * <p>While the transaction is open, puts and deletes on any column family of the database are
+ * collected and written together on {@link #commit()}. Reads on the column families of the same
+ * database see the pending writes of the transaction. On {@link #rollback()} the pending writes are
+ * discarded and none of them is persisted.
+ *
+ * <p>The transaction can be used once, it is done after it was committed or rolled back.
+ */
+public interface ZeebeDbTransaction {
+
+  /** Writes all pending changes of the transaction in one atomic operation. */
+  void commit();
+
+  /** Discards all pending changes of the transaction. */
+  void rollback();
+
+  /** @return <code>true</code> if the transaction was not committed or rolled back yet */
+  boolean isOpen();
+}
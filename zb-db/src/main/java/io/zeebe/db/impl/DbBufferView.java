@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.impl;
+
+import io.zeebe.db.DbValue;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A value which gives access to the stored bytes without deserializing them. The wrapped view is
+ * only valid until the next read of the column family.
+ */
+public final class DbBufferView implements DbValue {
+
+  private final DirectBuffer value = new UnsafeBuffer(0, 0);
+
+  public void wrapBuffer(DirectBuffer buffer) {
+    value.wrap(buffer);
+  }
+
+  @Override
+  public void wrap(DirectBuffer directBuffer, int offset, int length) {
+    value.wrap(directBuffer, offset, length);
+  }
+
+  @Override
+  public int getLength() {
+    return value.capacity();
+  }
+
+  @Override
+  public void write(MutableDirectBuffer mutableDirectBuffer, int offset) {
+    mutableDirectBuffer.putBytes(offset, value, 0, value.capacity());
+  }
+
+  public DirectBuffer getValue() {
+    return value;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+/**
+ * Describes how a column family is accessed, which determines the RocksDB options that are used for
+ * it.
+ */
+public enum ColumnFamilyProfile {
+
+  /** Values are read and written by their full key. Uses a bloom filter on the whole key. */
+  POINT_LOOKUP,
+
+  /**
+   * Keys are composite keys, which are iterated by their first part. Uses a bloom filter and, if a
+   * prefix length is configured, a fixed-length prefix extractor so that seeks can skip files and
+   * memtables which do not contain the prefix.
+   */
+  PREFIX_SCAN,
+
+  /**
+   * Keys are ordered by time and iterated from the first key, like a queue. Entries are deleted
+   * soon after they are written, so small memtables are flushed and compacted more often to drop
+   * the deleted entries early. No filter is used, since there are no lookups.
+   */
+  QUEUE,
+
+  /**
+   * Values are written once and read often, like the workflow cache. Uses larger blocks and keeps
+   * filters only for the files which are not on the last level, since lookups usually hit.
+   */
+  READ_MOSTLY
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import io.zeebe.util.ByteValue;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The RocksDB options of a database, which are created by the {@link ZeebeRocksDbFactory}. The
+ * memory limits apply to each database, i.e. to each partition.
+ *
+ * <p>Column families are referenced by the name of their enum constant, case insensitive.
+ */
+public final class RocksDbConfiguration {
+
+  public static final long DEFAULT_BLOCK_CACHE_SIZE = ByteValue.ofMegabytes(32).toBytes();
+  public static final long DEFAULT_MEMTABLE_BUDGET = ByteValue.ofMegabytes(64).toBytes();
+  public static final long DEFAULT_MAX_TOTAL_WAL_SIZE = ByteValue.ofMegabytes(128).toBytes();
+  public static final int DEFAULT_MAX_BACKGROUND_JOBS = 2;
+  public static final int DEFAULT_MAX_OPEN_FILES = -1;
+
+  private final Map<String, ColumnFamilyProfile> profiles = new HashMap<>();
+  private final Map<String, Integer> prefixLengths = new HashMap<>();
+
+  private long blockCacheSize = DEFAULT_BLOCK_CACHE_SIZE;
+  private long memtableBudget = DEFAULT_MEMTABLE_BUDGET;
+  private long maxTotalWalSize = DEFAULT_MAX_TOTAL_WAL_SIZE;
+  private int maxBackgroundJobs = DEFAULT_MAX_BACKGROUND_JOBS;
+  private int maxOpenFiles = DEFAULT_MAX_OPEN_FILES;
+
+  /**
+   * @param blockCacheSize the size of the LRU block cache which is shared by all column families
+   */
+  public RocksDbConfiguration blockCacheSize(long blockCacheSize) {
+    this.blockCacheSize = blockCacheSize;
+    return this;
+  }
+
+  /**
+   * @param memtableBudget the total size of the memtables of all column families, which each column
+   *     family may use on its own; if it is exceeded, the largest memtable is flushed
+   */
+  public RocksDbConfiguration memtableBudget(long memtableBudget) {
+    this.memtableBudget = memtableBudget;
+    return this;
+  }
+
+  /**
+   * @param maxTotalWalSize the size of the write ahead log after which the column families with the
+   *     oldest entries are flushed
+   */
+  public RocksDbConfiguration maxTotalWalSize(long maxTotalWalSize) {
+    this.maxTotalWalSize = maxTotalWalSize;
+    return this;
+  }
+
+  /** @param maxBackgroundJobs the maximum number of concurrent flushes and compactions */
+  public RocksDbConfiguration maxBackgroundJobs(int maxBackgroundJobs) {
+    this.maxBackgroundJobs = maxBackgroundJobs;
+    return this;
+  }
+
+  /** @param maxOpenFiles the maximum number of open files, or -1 to keep all files open */
+  public RocksDbConfiguration maxOpenFiles(int maxOpenFiles) {
+    this.maxOpenFiles = maxOpenFiles;
+    return this;
+  }
+
+  /**
+   * Sets the profile of the given column family. Column families without a profile use {@link
+   * ColumnFamilyProfile#POINT_LOOKUP}.
+   */
+  public RocksDbConfiguration profile(String columnFamily, ColumnFamilyProfile profile) {
+    profiles.put(normalize(columnFamily), profile);
+    return this;
+  }
+
+  /**
+   * Sets the length of the prefix which is used by the fixed-length prefix extractor of a column
+   * family with the {@link ColumnFamilyProfile#PREFIX_SCAN} profile. Every prefix which the column
+   * family is iterated by must be at least as long as this, otherwise the iteration stops too
+   * early.
+   */
+  public RocksDbConfiguration prefixLength(String columnFamily, int prefixLength) {
+    prefixLengths.put(normalize(columnFamily), prefixLength);
+    return this;
+  }
+
+  public long getBlockCacheSize() {
+    return blockCacheSize;
+  }
+
+  public long getMemtableBudget() {
+    return memtableBudget;
+  }
+
+  public long getMaxTotalWalSize() {
+    return maxTotalWalSize;
+  }
+
+  public int getMaxBackgroundJobs() {
+    return maxBackgroundJobs;
+  }
+
+  public int getMaxOpenFiles() {
+    return maxOpenFiles;
+  }
+
+  public ColumnFamilyProfile getProfile(String columnFamily) {
+    return profiles.getOrDefault(normalize(columnFamily), ColumnFamilyProfile.POINT_LOOKUP);
+  }
+
+  /** @return the prefix length of the column family, or 0 if it has no prefix extractor */
+  public int getPrefixLength(String columnFamily) {
+    return prefixLengths.getOrDefault(normalize(columnFamily), 0);
+  }
+
+  private static String normalize(String columnFamily) {
+    return columnFamily.toLowerCase();
+  }
+
+  @Override
+  public String toString() {
+    return "RocksDbConfiguration{"
+        + "profiles="
+        + profiles
+        + ", prefixLengths="
+        + prefixLengths
+        + ", blockCacheSize="
+        + blockCacheSize
+        + ", memtableBudget="
+        + memtableBudget
+        + ", maxTotalWalSize="
+        + maxTotalWalSize
+        + ", maxBackgroundJobs="
+        + maxBackgroundJobs
+        + ", maxOpenFiles="
+        + maxOpenFiles
+        + '}';
+  }
+}
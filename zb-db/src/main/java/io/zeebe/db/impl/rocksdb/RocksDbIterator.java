@@ -37,6 +37,15 @@ class RocksDbIterator extends RocksIterator {
     super(rocksDB, nativeHandle);
   }
 
+  long getNativeHandle() {
+    return nativeHandle_;
+  }
+
+  /** Gives up the ownership of the native iterator, e.g. if another iterator took it over. */
+  void releaseNativeHandle() {
+    disOwnNativeHandle();
+  }
+
   public void seek(byte[] target, int targetLength) {
     try {
       SEEK_METHOD.invoke(this, nativeHandle_, target, targetLength);
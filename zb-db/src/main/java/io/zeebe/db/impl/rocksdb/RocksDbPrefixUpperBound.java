@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import java.nio.ByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.DirectSlice;
+
+/**
+ * The exclusive upper bound of a prefix iteration, i.e. the smallest key which is greater than all
+ * keys that start with the prefix. It lets RocksDB stop the iteration at the end of the prefix
+ * instead of skipping the following keys and tombstones.
+ *
+ * <p>The bound is written into one direct buffer, which is referenced by a native slice per length.
+ * So no slice has to be created per iteration.
+ */
+final class RocksDbPrefixUpperBound implements AutoCloseable {
+
+  static final int MAX_LENGTH = 256;
+
+  private static final int UNSIGNED_BYTE_MAX = 0xFF;
+
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(MAX_LENGTH);
+  private final UnsafeBuffer boundBuffer = new UnsafeBuffer(buffer);
+  private final UpperBoundSlice[] slices = new UpperBoundSlice[MAX_LENGTH + 1];
+
+  /**
+   * @return the handle of the native slice which contains the upper bound of the prefix, or 0 if
+   *     the prefix has no upper bound (i.e. it consists of 0xFF bytes only) or is too long
+   */
+  long wrap(byte[] prefix, int prefixLength) {
+    int length = prefixLength;
+    while (length > 0 && (prefix[length - 1] & UNSIGNED_BYTE_MAX) == UNSIGNED_BYTE_MAX) {
+      length -= 1;
+    }
+
+    if (length == 0 || length > MAX_LENGTH) {
+      return 0;
+    }
+
+    boundBuffer.putBytes(0, prefix, 0, length);
+    boundBuffer.putByte(length - 1, (byte) (prefix[length - 1] + 1));
+
+    UpperBoundSlice slice = slices[length];
+    if (slice == null) {
+      slice = new UpperBoundSlice(buffer, length);
+      slices[length] = slice;
+    }
+    return slice.getHandle();
+  }
+
+  @Override
+  public void close() {
+    for (UpperBoundSlice slice : slices) {
+      if (slice != null) {
+        slice.close();
+      }
+    }
+  }
+
+  private static final class UpperBoundSlice extends DirectSlice {
+    UpperBoundSlice(ByteBuffer data, int length) {
+      super(data, length);
+    }
+
+    long getHandle() {
+      return getNativeHandle();
+    }
+  }
+}
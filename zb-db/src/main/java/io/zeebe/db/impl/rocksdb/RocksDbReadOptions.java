@@ -15,12 +15,25 @@
  */
 package io.zeebe.db.impl.rocksdb;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.ReadTier;
 import org.rocksdb.Slice;
 import org.rocksdb.Snapshot;
 
 class RocksDbReadOptions extends ReadOptions {
+  private static final Method SET_ITERATE_UPPER_BOUND_METHOD;
+
+  static {
+    try {
+      SET_ITERATE_UPPER_BOUND_METHOD =
+          ReadOptions.class.getDeclaredMethod("setIterateUpperBound", long.class, long.class);
+      SET_ITERATE_UPPER_BOUND_METHOD.setAccessible(true);
+    } catch (NoSuchMethodException e) {
+      throw new RuntimeException(e);
+    }
+  }
 
   public long getNativeHandle() {
     return nativeHandle_;
@@ -108,4 +121,20 @@ class RocksDbReadOptions extends ReadOptions {
     super.setIterateUpperBound(iterateUpperBound);
     return this;
   }
+
+  /**
+   * Sets the upper bound by the handle of a native slice, which must not be released while the
+   * options are in use. In contrast to {@link #setIterateUpperBound(Slice)}, the slice can be
+   * reused for different bounds.
+   *
+   * @param upperBoundSliceHandle the handle of the slice, or 0 to remove the upper bound
+   */
+  RocksDbReadOptions setIterateUpperBound(long upperBoundSliceHandle) {
+    try {
+      SET_ITERATE_UPPER_BOUND_METHOD.invoke(this, nativeHandle_, upperBoundSliceHandle);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new RuntimeException(e);
+    }
+    return this;
+  }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import io.zeebe.db.ZeebeDbTransaction;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.collections.LongHashSet;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * Collects the writes of a transaction in an indexed write batch, which allows to read the pending
+ * writes before they are committed. The instance is reused for all transactions of a database.
+ *
+ * <p>The write batch may be changed while an iterator over its pending writes is open, e.g. by the
+ * visitor of an iteration. The iterator returns copies of the keys and values, so the current entry
+ * is not affected, and it sees the writes after its current position once it moves on.
+ *
+ * <p>The pending writes are tracked per column family, so reads of column families without pending
+ * writes go to the database directly.
+ */
+class RocksDbTransaction extends WriteBatchWithIndex implements ZeebeDbTransaction {
+
+  private static final Method PUT_METHOD;
+  private static final Method DELETE_METHOD;
+  private static final Method GET_FROM_BATCH_AND_DB_METHOD;
+  private static final Method ITERATOR_WITH_BASE_METHOD;
+
+  static {
+    try {
+      PUT_METHOD =
+          WriteBatchWithIndex.class.getDeclaredMethod(
+              "put", Long.TYPE, byte[].class, Integer.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+      PUT_METHOD.setAccessible(true);
+
+      DELETE_METHOD =
+          WriteBatchWithIndex.class.getDeclaredMethod(
+              "delete", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+      DELETE_METHOD.setAccessible(true);
+
+      GET_FROM_BATCH_AND_DB_METHOD =
+          WriteBatchWithIndex.class.getDeclaredMethod(
+              "getFromBatchAndDB",
+              Long.TYPE,
+              Long.TYPE,
+              Long.TYPE,
+              byte[].class,
+              Integer.TYPE,
+              Long.TYPE);
+      GET_FROM_BATCH_AND_DB_METHOD.setAccessible(true);
+
+      ITERATOR_WITH_BASE_METHOD =
+          WriteBatchWithIndex.class.getDeclaredMethod(
+              "iteratorWithBase", Long.TYPE, Long.TYPE, Long.TYPE);
+      ITERATOR_WITH_BASE_METHOD.setAccessible(true);
+    } catch (NoSuchMethodException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private final ZeebeRocksDb<?> db;
+  private final WriteOptions writeOptions;
+  private final RocksDbReadOptions readOptions = new RocksDbReadOptions();
+
+  private final LongHashSet columnFamiliesWithPendingWrites = new LongHashSet();
+  private final List<Runnable> commitActions = new ArrayList<>();
+  private final List<Runnable> rollbackActions = new ArrayList<>();
+
+  private boolean isOpen;
+
+  RocksDbTransaction(ZeebeRocksDb<?> db, WriteOptions writeOptions) {
+    // overwrite existing entries of the same key, so that the index contains only the latest write
+    super(true);
+    this.db = db;
+    this.writeOptions = writeOptions;
+  }
+
+  void begin() {
+    if (isOpen) {
+      throw new IllegalStateException(
+          "Expected no open transaction, but found one. Nested transactions are not supported.");
+    }
+
+    isOpen = true;
+    // the actions of a transaction which failed to commit
+    commitActions.clear();
+    rollbackActions.clear();
+  }
+
+  @Override
+  public boolean isOpen() {
+    return isOpen;
+  }
+
+  /**
+   * @return <code>true</code> if reads of the given column family have to take the pending writes
+   *     into account
+   */
+  boolean hasPendingWrites(long columnFamilyHandle) {
+    return columnFamiliesWithPendingWrites.contains(columnFamilyHandle);
+  }
+
+  public void put(
+      long columnFamilyHandle, byte[] key, int keyLength, byte[] value, int valueLength) {
+    try {
+      PUT_METHOD.invoke(
+          this, nativeHandle_, key, keyLength, value, valueLength, columnFamilyHandle);
+      columnFamiliesWithPendingWrites.add(columnFamilyHandle);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  public void delete(long columnFamilyHandle, byte[] key, int keyLength) {
+    try {
+      DELETE_METHOD.invoke(this, nativeHandle_, key, keyLength, columnFamilyHandle);
+      columnFamiliesWithPendingWrites.add(columnFamilyHandle);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Runs the action once the transaction is committed. It is discarded on rollback. */
+  void runAfterCommit(Runnable action) {
+    commitActions.add(action);
+  }
+
+  /** Runs the action if the transaction is rolled back. It is discarded on commit. */
+  void runAfterRollback(Runnable action) {
+    if (!rollbackActions.contains(action)) {
+      rollbackActions.add(action);
+    }
+  }
+
+  /** @return the pending or stored value of the key, or null if it doesn't exist */
+  public byte[] get(long columnFamilyHandle, byte[] key, int keyLength) {
+    try {
+      return (byte[])
+          GET_FROM_BATCH_AND_DB_METHOD.invoke(
+              this,
+              nativeHandle_,
+              db.getNativeHandle(),
+              readOptions.getNativeHandle(),
+              key,
+              keyLength,
+              columnFamilyHandle);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Creates an iterator which merges the pending writes with the given iterator over the stored
+   * key-value pairs. The returned iterator takes over the given one and closes it on close.
+   */
+  public RocksDbIterator newIteratorWithBase(long columnFamilyHandle, RocksDbIterator base) {
+    try {
+      final long handle =
+          (long)
+              ITERATOR_WITH_BASE_METHOD.invoke(
+                  this, nativeHandle_, columnFamilyHandle, base.getNativeHandle());
+      base.releaseNativeHandle();
+
+      return new RocksDbIterator(db, handle);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void commit() {
+    ensureOpen();
+
+    boolean isWritten = false;
+    try {
+      if (!columnFamiliesWithPendingWrites.isEmpty()) {
+        db.write(writeOptions, this);
+      }
+      isWritten = true;
+    } catch (RocksDBException e) {
+      throw new RuntimeException(e);
+    } finally {
+      reset();
+
+      // the pending writes are discarded if they can't be written
+      if (isWritten) {
+        rollbackActions.clear();
+        runActions(commitActions);
+      } else {
+        commitActions.clear();
+        runActions(rollbackActions);
+      }
+    }
+  }
+
+  @Override
+  public void rollback() {
+    ensureOpen();
+    reset();
+
+    commitActions.clear();
+    runActions(rollbackActions);
+  }
+
+  private static void runActions(List<Runnable> actions) {
+    for (int i = 0; i < actions.size(); i++) {
+      actions.get(i).run();
+    }
+    actions.clear();
+  }
+
+  private void ensureOpen() {
+    if (!isOpen) {
+      throw new IllegalStateException("Expected an open transaction, but it is already done.");
+    }
+  }
+
+  private void reset() {
+    clear();
+    columnFamiliesWithPendingWrites.clear();
+    isOpen = false;
+  }
+
+  @Override
+  public void close() {
+    readOptions.close();
+    super.close();
+  }
+}
@@ -22,8 +22,11 @@ import io.zeebe.db.DbKey;
 import io.zeebe.db.DbValue;
 import io.zeebe.db.KeyValuePairVisitor;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbTransaction;
 import java.io.File;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -34,6 +37,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.DBOptions;
+import org.rocksdb.FlushOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
@@ -43,6 +47,7 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
     implements ZeebeDb<ColumnFamilyNames> {
 
   private static final Field NATIVE_HANDLE_FIELD;
+  private static final Method FLUSH_METHOD;
 
   static {
     RocksDB.loadLibrary();
@@ -50,7 +55,10 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
     try {
       NATIVE_HANDLE_FIELD = RocksObject.class.getDeclaredField("nativeHandle_");
       NATIVE_HANDLE_FIELD.setAccessible(true);
-    } catch (NoSuchFieldException e) {
+
+      FLUSH_METHOD = RocksDB.class.getDeclaredMethod("flush", Long.TYPE, Long.TYPE, Long.TYPE);
+      FLUSH_METHOD.setAccessible(true);
+    } catch (NoSuchFieldException | NoSuchMethodException e) {
       throw new RuntimeException(e);
     }
   }
@@ -100,7 +108,8 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
 
   private final List<AutoCloseable> closables;
   private final Class<ColumnFamilyNames> columnFamilyNamesClass;
-  private RocksDbBatch batch;
+  private final RocksDbTransaction transaction;
+  private final WriteOptions writeOptions = new WriteOptions();
 
   // we can also simply use one buffer
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
@@ -111,9 +120,16 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
 
   private final ExpandableArrayBuffer prefixKeyBuffer = new ExpandableArrayBuffer();
 
-  // buffers used inside the batch
-  private final ExpandableArrayBuffer keyBatchBuffer = new ExpandableArrayBuffer();
-  private final ExpandableArrayBuffer valueBatchBuffer = new ExpandableArrayBuffer();
+  /**
+   * Iterations over all keys must not use the prefix extractor of a column family, otherwise keys
+   * with a different prefix may be skipped.
+   */
+  private final RocksDbReadOptions totalOrderReadOptions =
+      new RocksDbReadOptions().setTotalOrderSeek(true);
+
+  private final RocksDbReadOptions prefixReadOptions =
+      new RocksDbReadOptions().setPrefixSameAsStart(true).setTotalOrderSeek(false);
+  private final RocksDbPrefixUpperBound prefixUpperBound = new RocksDbPrefixUpperBound();
 
   private final EnumMap<ColumnFamilyNames, Long> columnFamilyMap;
 
@@ -132,6 +148,11 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
     this.columnFamilyMap = columnFamilyMap;
     this.closables = closables;
     this.columnFamilyNamesClass = columnFamilyNamesClass;
+    this.transaction = new RocksDbTransaction(this, writeOptions);
+  }
+
+  long getNativeHandle() {
+    return nativeHandle_;
   }
 
   protected long getColumnFamilyHandle(ColumnFamilyNames columnFamily) {
@@ -150,12 +171,17 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
     value.write(valueBuffer, 0);
 
     try {
-
-      if (isInBatch()) {
-        batch.put(columnFamilyHandle, key, value);
+      if (transaction.isOpen()) {
+        transaction.put(
+            columnFamilyHandle,
+            keyBuffer.byteArray(),
+            key.getLength(),
+            valueBuffer.byteArray(),
+            value.getLength());
       } else {
         put(
             nativeHandle_,
+            getNativeHandle(writeOptions),
             keyBuffer.byteArray(),
             0,
             key.getLength(),
@@ -169,24 +195,63 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
     }
   }
 
-  private boolean isInBatch() {
-    return batch != null;
+  @Override
+  public void batch(Runnable operations) {
+    if (transaction.isOpen()) {
+      operations.run();
+    } else {
+      transaction.begin();
+      try {
+        operations.run();
+        transaction.commit();
+      } finally {
+        if (transaction.isOpen()) {
+          transaction.rollback();
+        }
+      }
+    }
   }
 
   @Override
-  public void batch(Runnable operations) {
-    try (WriteOptions options = new WriteOptions()) {
-      batch = new RocksDbBatch(keyBatchBuffer, valueBatchBuffer);
+  public ZeebeDbTransaction beginTransaction() {
+    transaction.begin();
+    return transaction;
+  }
 
-      operations.run();
-      write(options, batch);
-    } catch (RocksDBException e) {
-      throw new RuntimeException(e);
-    } finally {
-      if (batch != null) {
-        batch.close();
-        batch = null;
+  @Override
+  public void runAfterCommit(Runnable action) {
+    if (transaction.isOpen()) {
+      transaction.runAfterCommit(action);
+    } else {
+      action.run();
+    }
+  }
+
+  @Override
+  public void runAfterRollback(Runnable action) {
+    if (transaction.isOpen()) {
+      transaction.runAfterRollback(action);
+    }
+  }
+
+  @Override
+  public void setWriteAheadLogEnabled(boolean enabled) {
+    final boolean wasDisabled = writeOptions.disableWAL();
+    writeOptions.setDisableWAL(!enabled);
+
+    if (enabled && wasDisabled) {
+      // the memtables contain changes which are not in the write ahead log
+      flushColumnFamilies();
+    }
+  }
+
+  private void flushColumnFamilies() {
+    try (FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      for (Long columnFamilyHandle : columnFamilyMap.values()) {
+        FLUSH_METHOD.invoke(this, nativeHandle_, getNativeHandle(flushOptions), columnFamilyHandle);
       }
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new RuntimeException(e);
     }
   }
 
@@ -201,6 +266,16 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
   }
 
   private DirectBuffer getValue(long columnFamilyHandle, int keyLength) {
+    if (transaction.hasPendingWrites(columnFamilyHandle)) {
+      final byte[] value = transaction.get(columnFamilyHandle, keyBuffer.byteArray(), keyLength);
+      if (value != null) {
+        valueViewBuffer.wrap(value);
+        return valueViewBuffer;
+      } else {
+        return null;
+      }
+    }
+
     final int valueLength = valueBuffer.capacity();
     try {
       final int readBytes =
@@ -231,6 +306,10 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
   protected boolean exists(long columnFamilyHandle, DbKey key) {
     key.write(keyBuffer, 0);
 
+    if (transaction.hasPendingWrites(columnFamilyHandle)) {
+      return transaction.get(columnFamilyHandle, keyBuffer.byteArray(), key.getLength()) != null;
+    }
+
     if (!keyMayExist(
         nativeHandle_,
         keyBuffer.byteArray(),
@@ -265,10 +344,16 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
     key.write(keyBuffer, 0);
 
     try {
-      if (isInBatch()) {
-        batch.delete(columnFamilyHandle, key);
+      if (transaction.isOpen()) {
+        transaction.delete(columnFamilyHandle, keyBuffer.byteArray(), key.getLength());
       } else {
-        delete(nativeHandle_, keyBuffer.byteArray(), 0, key.getLength(), columnFamilyHandle);
+        delete(
+            nativeHandle_,
+            getNativeHandle(writeOptions),
+            keyBuffer.byteArray(),
+            0,
+            key.getLength(),
+            columnFamilyHandle);
       }
     } catch (RocksDBException rdbE) {
       throw new RuntimeException(rdbE);
@@ -280,12 +365,22 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
   ////////////////////////////////////////////////////////////////////
 
   public RocksDbIterator newIterator(long columnFamilyHandle) {
-    return new RocksDbIterator(this, iteratorCF(nativeHandle_, columnFamilyHandle));
+    return newIterator(columnFamilyHandle, totalOrderReadOptions);
   }
 
   public RocksDbIterator newIterator(long columnFamilyHandle, RocksDbReadOptions options) {
-    return new RocksDbIterator(
-        this, iteratorCF(nativeHandle_, columnFamilyHandle, options.getNativeHandle()));
+    return withPendingWrites(
+        columnFamilyHandle,
+        new RocksDbIterator(
+            this, iteratorCF(nativeHandle_, columnFamilyHandle, options.getNativeHandle())));
+  }
+
+  private RocksDbIterator withPendingWrites(long columnFamilyHandle, RocksDbIterator iterator) {
+    if (transaction.hasPendingWrites(columnFamilyHandle)) {
+      return transaction.newIteratorWithBase(columnFamilyHandle, iterator);
+    } else {
+      return iterator;
+    }
   }
 
   public <ValueType extends DbValue> void foreach(
@@ -332,7 +427,7 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
     try (RocksDbIterator iterator = newIterator(columnFamilyHandle)) {
       boolean shouldVisitNext = true;
       for (iterator.seekToFirst(); iterator.isValid() && shouldVisitNext; iterator.next()) {
-        shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+        shouldVisitNext = visit(iterator.key(), keyInstance, valueInstance, visitor, iterator);
       }
     }
   }
@@ -355,13 +450,11 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
   }
 
   /**
-   * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on iterators
-   * at the moment, so using prefixes seem to be mostly related to skipping files that do not
-   * contain keys with the given prefix (which is useful anyway), but it will still iterate over all
-   * keys contained in those files, so we still need to make sure the key actually matches the
-   * prefix.
-   *
-   * <p>While iterating over subsequent keys we have to validate it.
+   * Visits the keys which start with the given prefix. The iteration stops at the first key which
+   * doesn't match the prefix, since all keys with the prefix are next to each other. Additionally,
+   * the iterator is bounded by the upper bound of the prefix, so RocksDB doesn't have to skip the
+   * following keys and tombstones to find out that there is no further key. If the column family
+   * has a prefix extractor, it is used to skip files and memtables which do not contain the prefix.
    */
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
       long columnFamilyHandle,
@@ -375,21 +468,24 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
     }
 
     activePrefixIteration = true;
-    try (RocksDbReadOptions options =
-            new RocksDbReadOptions().setPrefixSameAsStart(true).setTotalOrderSeek(false);
-        RocksDbIterator iterator = newIterator(columnFamilyHandle, options)) {
-      prefix.write(prefixKeyBuffer, 0);
-      final int prefixLength = prefix.getLength();
 
+    prefix.write(prefixKeyBuffer, 0);
+    final byte[] prefixBytes = prefixKeyBuffer.byteArray();
+    final int prefixLength = prefix.getLength();
+
+    prefixReadOptions.setIterateUpperBound(prefixUpperBound.wrap(prefixBytes, prefixLength));
+
+    try (RocksDbIterator iterator = newIterator(columnFamilyHandle, prefixReadOptions)) {
       boolean shouldVisitNext = true;
-      for (iterator.seek(prefixKeyBuffer.byteArray(), prefixLength);
+      for (iterator.seek(prefixBytes, prefixLength);
           iterator.isValid() && shouldVisitNext;
           iterator.next()) {
         final byte[] keyBytes = iterator.key();
-        if (startsWith(
-            prefixKeyBuffer.byteArray(), 0, prefix.getLength(), keyBytes, 0, keyBytes.length)) {
-          shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+        if (!startsWith(prefixBytes, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+          break;
         }
+
+        shouldVisitNext = visit(keyBytes, keyInstance, valueInstance, visitor, iterator);
       }
     } finally {
       activePrefixIteration = false;
@@ -397,11 +493,12 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
   }
 
   private <KeyType extends DbKey, ValueType extends DbValue> boolean visit(
+      byte[] keyBytes,
       KeyType keyInstance,
       ValueType valueInstance,
       KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
       RocksDbIterator iterator) {
-    keyViewBuffer.wrap(iterator.key());
+    keyViewBuffer.wrap(keyBytes);
     valueViewBuffer.wrap(iterator.value());
 
     keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
@@ -432,6 +529,12 @@ class ZeebeRocksDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>> extends Ro
 
   @Override
   public void close() {
+    transaction.close();
+    writeOptions.close();
+    totalOrderReadOptions.close();
+    prefixReadOptions.close();
+    prefixUpperBound.close();
+
     closables.forEach(
         closable -> {
           try {
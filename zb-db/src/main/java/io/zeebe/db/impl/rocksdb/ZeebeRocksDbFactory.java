@@ -21,28 +21,54 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.Filter;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  private static final int BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+  private static final int QUEUE_MEMTABLE_BUDGET_FRACTION = 16;
+  /**
+   * The universal style compaction splits the memtable budget into write buffers of a quarter of
+   * the budget, so at most four of them fit into the budget.
+   */
+  private static final int MAX_WRITE_BUFFER_NUMBER = 4;
+
+  private static final int QUEUE_COMPACTION_TRIGGER = 2;
+  private static final long READ_MOSTLY_BLOCK_SIZE = 16 * 1024;
+
   static {
     RocksDB.loadLibrary();
   }
 
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
+  private final RocksDbConfiguration configuration;
 
-  private ZeebeRocksDbFactory(Class<ColumnFamilyType> columnFamilyTypeClass) {
+  private ZeebeRocksDbFactory(
+      Class<ColumnFamilyType> columnFamilyTypeClass, RocksDbConfiguration configuration) {
     this.columnFamilyTypeClass = columnFamilyTypeClass;
+    this.configuration = configuration;
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(Class<ColumnFamilyType> columnFamilyTypeClass) {
-    return new ZeebeRocksDbFactory(columnFamilyTypeClass);
+    return newFactory(columnFamilyTypeClass, new RocksDbConfiguration());
+  }
+
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          Class<ColumnFamilyType> columnFamilyTypeClass, RocksDbConfiguration configuration) {
+    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, configuration);
   }
 
   @Override
@@ -60,17 +86,26 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     final ZeebeRocksDb<ColumnFamilyType> db;
     try {
       final List<AutoCloseable> closeables = new ArrayList<>();
-      final ColumnFamilyOptions columnFamilyOptions = createColumnFamilyOptions();
-      closeables.add(columnFamilyOptions);
+
+      // the block cache is shared by all column families to limit the memory of the database
+      final Cache blockCache = new LRUCache(configuration.getBlockCacheSize());
+      closeables.add(blockCache);
+
+      final Filter bloomFilter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+      closeables.add(bloomFilter);
 
       final List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          createFamilyDescriptors(columnFamilyNames, columnFamilyOptions);
+          createFamilyDescriptors(columnFamilyNames, blockCache, bloomFilter, closeables);
 
       final DBOptions dbOptions =
           new DBOptions()
               .setCreateMissingColumnFamilies(true)
               .setErrorIfExists(false)
-              .setCreateIfMissing(true);
+              .setCreateIfMissing(true)
+              .setDbWriteBufferSize(configuration.getMemtableBudget())
+              .setMaxTotalWalSize(configuration.getMaxTotalWalSize())
+              .setMaxBackgroundJobs(configuration.getMaxBackgroundJobs())
+              .setMaxOpenFiles(configuration.getMaxOpenFiles());
       closeables.add(dbOptions);
 
       db =
@@ -87,11 +122,22 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private List<ColumnFamilyDescriptor> createFamilyDescriptors(
-      List<byte[]> columnFamilyNames, ColumnFamilyOptions columnFamilyOptions) {
+      List<byte[]> columnFamilyNames,
+      Cache blockCache,
+      Filter bloomFilter,
+      List<AutoCloseable> closeables) {
     final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
 
     if (columnFamilyNames != null && columnFamilyNames.size() > 0) {
+      // only a few column families are written heavily, so each of them may use the whole budget;
+      // the total size of the memtables is limited by the write buffer size of the database
+      final long memtableBudget = configuration.getMemtableBudget();
+
       for (byte[] name : columnFamilyNames) {
+        final ColumnFamilyOptions columnFamilyOptions =
+            createColumnFamilyOptions(new String(name), memtableBudget, blockCache, bloomFilter);
+        closeables.add(columnFamilyOptions);
+
         final ColumnFamilyDescriptor columnFamilyDescriptor =
             new ColumnFamilyDescriptor(name, columnFamilyOptions);
         columnFamilyDescriptors.add(columnFamilyDescriptor);
@@ -100,12 +146,53 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     return columnFamilyDescriptors;
   }
 
-  private static ColumnFamilyOptions createColumnFamilyOptions() {
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      String columnFamilyName, long memtableBudget, Cache blockCache, Filter bloomFilter) {
 
     // Options which are used on all column families
     final ColumnFamilyOptions columnFamilyOptions =
-        new ColumnFamilyOptions().optimizeUniversalStyleCompaction();
+        new ColumnFamilyOptions()
+            .optimizeUniversalStyleCompaction(memtableBudget)
+            .setMaxWriteBufferNumber(MAX_WRITE_BUFFER_NUMBER);
+
+    final BlockBasedTableConfig tableConfig =
+        new BlockBasedTableConfig()
+            .setBlockCache(blockCache)
+            .setCacheIndexAndFilterBlocks(true)
+            .setPinL0FilterAndIndexBlocksInCache(true);
+
+    final ColumnFamilyProfile profile = configuration.getProfile(columnFamilyName);
+    switch (profile) {
+      case POINT_LOOKUP:
+        tableConfig.setFilter(bloomFilter);
+        break;
+
+      case PREFIX_SCAN:
+        tableConfig.setFilter(bloomFilter);
+
+        final int prefixLength = configuration.getPrefixLength(columnFamilyName);
+        if (prefixLength > 0) {
+          columnFamilyOptions
+              .useFixedLengthPrefixExtractor(prefixLength)
+              .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+        }
+        break;
+
+      case QUEUE:
+        columnFamilyOptions
+            .setWriteBufferSize(memtableBudget / QUEUE_MEMTABLE_BUDGET_FRACTION)
+            .setLevel0FileNumCompactionTrigger(QUEUE_COMPACTION_TRIGGER);
+        break;
+
+      case READ_MOSTLY:
+        tableConfig.setFilter(bloomFilter).setBlockSize(READ_MOSTLY_BLOCK_SIZE);
+        columnFamilyOptions.setOptimizeFiltersForHits(true);
+        break;
+
+      default:
+        throw new IllegalStateException("Unknown column family profile " + profile);
+    }
 
-    return columnFamilyOptions;
+    return columnFamilyOptions.setTableFormatConfig(tableConfig);
   }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.impl;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.junit.Test;
+
+public class DbBufferViewTest {
+
+  private final DbBufferView bufferView = new DbBufferView();
+
+  @Test
+  public void shouldWrapBuffer() {
+    // given
+    bufferView.wrapBuffer(wrapString("foo"));
+
+    // when
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    bufferView.write(buffer, 0);
+
+    // then
+    assertThat(bufferView.getLength()).isEqualTo(3);
+    assertThat(BufferUtil.bufferAsString(buffer, 0, 3)).isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldWrapWithoutCopy() {
+    // given
+    final DirectBuffer source = wrapString("foobar");
+
+    // when
+    bufferView.wrap(source, 3, 3);
+
+    // then
+    assertThat(bufferView.getLength()).isEqualTo(3);
+    assertThat(bufferView.getValue().addressOffset()).isEqualTo(source.addressOffset() + 3);
+    assertThat(BufferUtil.bufferAsString(bufferView.getValue())).isEqualTo("bar");
+  }
+}
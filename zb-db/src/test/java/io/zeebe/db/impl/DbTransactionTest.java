@@ -0,0 +1,416 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.ZeebeDbTransaction;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DbTransactionTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ZeebeDbFactory<ColumnFamilies> dbFactory =
+      DefaultZeebeDbFactory.getDefaultFactory(ColumnFamilies.class);
+
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+
+  private ColumnFamily<DbLong, DbLong> oneColumnFamily;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> twoColumnFamily;
+
+  private DbLong oneKey;
+  private DbLong oneValue;
+  private DbLong twoFirstKey;
+  private DbLong twoSecondKey;
+  private DbCompositeKey<DbLong, DbLong> twoKey;
+
+  private enum ColumnFamilies {
+    DEFAULT, // rocksDB needs a default column family
+    ONE,
+    TWO
+  }
+
+  @Before
+  public void setup() throws Exception {
+    final File pathName = temporaryFolder.newFolder();
+    zeebeDb = dbFactory.createDb(pathName);
+
+    oneKey = new DbLong();
+    oneValue = new DbLong();
+    oneColumnFamily = zeebeDb.createColumnFamily(ColumnFamilies.ONE, oneKey, oneValue);
+
+    twoFirstKey = new DbLong();
+    twoSecondKey = new DbLong();
+    twoKey = new DbCompositeKey<>(twoFirstKey, twoSecondKey);
+    twoColumnFamily = zeebeDb.createColumnFamily(ColumnFamilies.TWO, twoKey, DbNil.INSTANCE);
+  }
+
+  @Test
+  public void shouldReadPendingWrites() {
+    // given
+    putOne(1, 10);
+    putOne(2, 20);
+
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+
+    // when
+    putOne(1, 11);
+    putOne(3, 30);
+    oneKey.wrapLong(2);
+    oneColumnFamily.delete(oneKey);
+
+    // then
+    assertThat(getOne(1)).isEqualTo(11);
+    assertThat(getOne(2)).isEqualTo(-1);
+    assertThat(getOne(3)).isEqualTo(30);
+
+    oneKey.wrapLong(2);
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+    oneKey.wrapLong(3);
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+
+    transaction.commit();
+  }
+
+  @Test
+  public void shouldWriteOnCommit() {
+    // given
+    putOne(2, 20);
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    putOne(1, 10);
+    oneKey.wrapLong(2);
+    oneColumnFamily.delete(oneKey);
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(transaction.isOpen()).isFalse();
+    assertThat(getOne(1)).isEqualTo(10);
+    assertThat(getOne(2)).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldDiscardWritesOnRollback() {
+    // given
+    putOne(2, 20);
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    putOne(1, 10);
+    putOne(2, 21);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(transaction.isOpen()).isFalse();
+    assertThat(getOne(1)).isEqualTo(-1);
+    assertThat(getOne(2)).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldIncludeBatchInTransaction() {
+    // given
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+
+    // when
+    zeebeDb.batch(
+        () -> {
+          putOne(1, 10);
+          putTwo(1, 1);
+        });
+
+    // then
+    assertThat(getOne(1)).isEqualTo(10);
+
+    transaction.rollback();
+    assertThat(getOne(1)).isEqualTo(-1);
+    assertThat(twoColumnFamily.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldReadPendingWritesInBatch() {
+    // when
+    zeebeDb.batch(
+        () -> {
+          putOne(1, 10);
+
+          // then
+          assertThat(getOne(1)).isEqualTo(10);
+        });
+
+    assertThat(getOne(1)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotWriteBatchOnFailure() {
+    // when
+    assertThatThrownBy(
+            () ->
+                zeebeDb.batch(
+                    () -> {
+                      putOne(1, 10);
+                      throw new RuntimeException("expected");
+                    }))
+        .hasMessage("expected");
+
+    // then
+    assertThat(getOne(1)).isEqualTo(-1);
+
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    assertThat(transaction.isOpen()).isTrue();
+    transaction.rollback();
+  }
+
+  @Test
+  public void shouldIteratePendingWrites() {
+    // given
+    putTwo(1, 1);
+    putTwo(1, 3);
+    putTwo(2, 1);
+
+    zeebeDb.beginTransaction();
+
+    // when
+    putTwo(1, 2);
+    putTwo(1, 4);
+    twoFirstKey.wrapLong(1);
+    twoSecondKey.wrapLong(3);
+    twoColumnFamily.delete(twoKey);
+
+    // then
+    assertThat(collectTwo(1)).containsExactly(1L, 2L, 4L);
+    assertThat(collectTwo(2)).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldDeleteWhileIteratingPendingWrites() {
+    // given
+    putTwo(1, 1);
+    putTwo(1, 2);
+
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    putTwo(1, 3);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    twoFirstKey.wrapLong(1);
+    twoColumnFamily.whileEqualPrefix(
+        twoFirstKey,
+        (key, nil) -> {
+          visited.add(key.getSecond().getValue());
+          twoColumnFamily.delete(key);
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L, 3L);
+    assertThat(twoColumnFamily.isEmpty()).isTrue();
+
+    transaction.commit();
+    assertThat(twoColumnFamily.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldReadWritesOfIterationWhileIterating() {
+    // given
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    putTwo(1, 1);
+    putTwo(1, 2);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    twoFirstKey.wrapLong(1);
+    twoColumnFamily.whileEqualPrefix(
+        twoFirstKey,
+        (key, nil) -> {
+          final long second = key.getSecond().getValue();
+          putOne(second, second * 10);
+          values.add(getOne(second));
+        });
+
+    // then
+    assertThat(values).containsExactly(10L, 20L);
+    assertThat(getOne(1)).isEqualTo(10L);
+    assertThat(getOne(2)).isEqualTo(20L);
+
+    transaction.commit();
+    assertThat(getOne(1)).isEqualTo(10L);
+    assertThat(getOne(2)).isEqualTo(20L);
+  }
+
+  @Test
+  public void shouldIterateWritesOfIterationInNewIterator() {
+    // given
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    putTwo(1, 1);
+    putTwo(1, 2);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    twoFirstKey.wrapLong(1);
+    twoColumnFamily.whileEqualPrefix(
+        twoFirstKey,
+        (key, nil) -> {
+          final long second = key.getSecond().getValue();
+          putOne(second, second * 10);
+          values.add(countOne());
+        });
+
+    // then
+    assertThat(values).containsExactly(1L, 2L);
+
+    transaction.commit();
+    assertThat(countOne()).isEqualTo(2L);
+  }
+
+  @Test
+  public void shouldRunActionAfterCommit() {
+    // given
+    final List<Long> values = new ArrayList<>();
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    putOne(1, 10);
+    zeebeDb.runAfterCommit(() -> values.add(getOne(1)));
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(values).containsExactly(10L);
+  }
+
+  @Test
+  public void shouldDiscardActionOnRollback() {
+    // given
+    final List<Long> values = new ArrayList<>();
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    zeebeDb.runAfterCommit(() -> values.add(1L));
+
+    // when
+    transaction.rollback();
+    zeebeDb.beginTransaction().commit();
+
+    // then
+    assertThat(values).isEmpty();
+  }
+
+  @Test
+  public void shouldRunActionWithoutTransaction() {
+    // given
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    zeebeDb.runAfterCommit(() -> values.add(1L));
+
+    // then
+    assertThat(values).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldRunActionAfterRollback() {
+    // given
+    final List<Long> values = new ArrayList<>();
+    final Runnable action = () -> values.add(1L);
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    zeebeDb.runAfterRollback(action);
+    zeebeDb.runAfterRollback(action);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(values).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldDiscardRollbackActionOnCommit() {
+    // given
+    final List<Long> values = new ArrayList<>();
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    zeebeDb.runAfterRollback(() -> values.add(1L));
+
+    // when
+    transaction.commit();
+    zeebeDb.beginTransaction().rollback();
+
+    // then
+    assertThat(values).isEmpty();
+  }
+
+  @Test
+  public void shouldNotBeginNestedTransaction() {
+    // given
+    zeebeDb.beginTransaction();
+
+    // then
+    assertThatThrownBy(() -> zeebeDb.beginTransaction()).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void shouldNotCommitTwice() {
+    // given
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    transaction.commit();
+
+    // then
+    assertThatThrownBy(transaction::commit).isInstanceOf(IllegalStateException.class);
+  }
+
+  private void putOne(long key, long value) {
+    oneKey.wrapLong(key);
+    oneValue.wrapLong(value);
+    oneColumnFamily.put(oneKey, oneValue);
+  }
+
+  private long getOne(long key) {
+    oneKey.wrapLong(key);
+    final DbLong value = oneColumnFamily.get(oneKey);
+    return value != null ? value.getValue() : -1;
+  }
+
+  private long countOne() {
+    final List<Long> values = new ArrayList<>();
+    oneColumnFamily.forEach((key, value) -> values.add(value.getValue()));
+    return values.size();
+  }
+
+  private void putTwo(long first, long second) {
+    twoFirstKey.wrapLong(first);
+    twoSecondKey.wrapLong(second);
+    twoColumnFamily.put(twoKey, DbNil.INSTANCE);
+  }
+
+  private List<Long> collectTwo(long first) {
+    final List<Long> seconds = new ArrayList<>();
+    final DbLong prefix = new DbLong();
+    prefix.wrapLong(first);
+    twoColumnFamily.whileEqualPrefix(
+        prefix,
+        (key, nil) -> {
+          seconds.add(key.getSecond().getValue());
+        });
+    return seconds;
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbString;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RocksDbPrefixIterationTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+      ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class);
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> longColumnFamily;
+  private DbLong firstKey;
+  private DbLong secondKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    zeebeDb = dbFactory.createDb(temporaryFolder.newFolder());
+
+    firstKey = new DbLong();
+    secondKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    value = new DbLong();
+    longColumnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, compositeKey, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldIterateOverPrefixWhichEndsWithMaxByte() {
+    // given
+    putKeyValuePair(254, 1);
+    putKeyValuePair(255, 1);
+    putKeyValuePair(255, 2);
+    putKeyValuePair(256, 1);
+
+    // when
+    final List<Long> values = collectValuesWithPrefix(255);
+
+    // then
+    assertThat(values).containsExactly(2551L, 2552L);
+  }
+
+  @Test
+  public void shouldIterateOverPrefixWithoutUpperBound() {
+    // given
+    putKeyValuePair(Long.MAX_VALUE, 1);
+    putKeyValuePair(-1, 1);
+    putKeyValuePair(-1, 2);
+
+    // when
+    final List<Long> values = collectValuesWithPrefix(-1);
+
+    // then
+    assertThat(values).containsExactly(-9L, -8L);
+  }
+
+  @Test
+  public void shouldIterateOverPrefixLongerThanUpperBound() {
+    // given
+    final DbString name = new DbString();
+    final DbCompositeKey<DbString, DbLong> nameKey = new DbCompositeKey<>(name, secondKey);
+    final ColumnFamily<DbCompositeKey<DbString, DbLong>, DbLong> columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, nameKey, value);
+
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < RocksDbPrefixUpperBound.MAX_LENGTH; i++) {
+      builder.append('a');
+    }
+    final String longName = builder.toString();
+
+    name.wrapString(longName);
+    secondKey.wrapLong(1);
+    value.wrapLong(1);
+    columnFamily.put(nameKey, value);
+
+    name.wrapString(longName + "b");
+    value.wrapLong(2);
+    columnFamily.put(nameKey, value);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    name.wrapString(longName);
+    columnFamily.whileEqualPrefix(
+        name,
+        (key, value) -> {
+          values.add(value.getValue());
+        });
+
+    // then
+    assertThat(values).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldIterateOverPrefixWithPendingWrites() {
+    // given
+    putKeyValuePair(1, 1);
+    putKeyValuePair(3, 1);
+
+    // when
+    final ZeebeDbTransaction transaction = zeebeDb.beginTransaction();
+    putKeyValuePair(1, 2);
+    putKeyValuePair(2, 1);
+    final List<Long> values = collectValuesWithPrefix(1);
+    transaction.rollback();
+
+    // then
+    assertThat(values).containsExactly(11L, 12L);
+  }
+
+  private List<Long> collectValuesWithPrefix(long prefix) {
+    final List<Long> values = new ArrayList<>();
+    firstKey.wrapLong(prefix);
+    longColumnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          values.add(value.getValue());
+        });
+    return values;
+  }
+
+  private void putKeyValuePair(long firstKey, long secondKey) {
+    this.firstKey.wrapLong(firstKey);
+    this.secondKey.wrapLong(secondKey);
+
+    this.value.wrapLong(firstKey * 10 + secondKey);
+    longColumnFamily.put(this.compositeKey, this.value);
+  }
+}
@@ -17,10 +17,15 @@ package io.zeebe.db.impl.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -66,4 +71,103 @@ public class ZeebeRocksDbFactoryTest {
     firstDb.close();
     secondDb.close();
   }
+
+  @Test
+  public void shouldUseColumnFamilyProfiles() throws Exception {
+    // given
+    final RocksDbConfiguration configuration =
+        new RocksDbConfiguration()
+            .profile("point_lookup", ColumnFamilyProfile.POINT_LOOKUP)
+            .profile("prefix_scan", ColumnFamilyProfile.PREFIX_SCAN)
+            .prefixLength("prefix_scan", Long.BYTES)
+            .profile("queue", ColumnFamilyProfile.QUEUE)
+            .profile("read_mostly", ColumnFamilyProfile.READ_MOSTLY);
+    final ZeebeDbFactory<ProfiledColumnFamilies> dbFactory =
+        ZeebeRocksDbFactory.newFactory(ProfiledColumnFamilies.class, configuration);
+    final File pathName = temporaryFolder.newFolder();
+
+    final DbLong key = new DbLong();
+    final DbLong value = new DbLong();
+
+    // when
+    ZeebeDb<ProfiledColumnFamilies> db = dbFactory.createDb(pathName);
+    for (ProfiledColumnFamilies columnFamilyName : ProfiledColumnFamilies.values()) {
+      final ColumnFamily<DbLong, DbLong> columnFamily =
+          db.createColumnFamily(columnFamilyName, key, value);
+      key.wrapLong(columnFamilyName.ordinal());
+      value.wrapLong(columnFamilyName.ordinal() + 1);
+      columnFamily.put(key, value);
+    }
+    db.close();
+
+    // then
+    db = dbFactory.createDb(pathName);
+    for (ProfiledColumnFamilies columnFamilyName : ProfiledColumnFamilies.values()) {
+      final ColumnFamily<DbLong, DbLong> columnFamily =
+          db.createColumnFamily(columnFamilyName, key, value);
+      key.wrapLong(columnFamilyName.ordinal());
+      assertThat(columnFamily.get(key).getValue()).isEqualTo(columnFamilyName.ordinal() + 1);
+    }
+    db.close();
+  }
+
+  @Test
+  public void shouldIterateOverAllPrefixesWithPrefixExtractor() throws Exception {
+    // given
+    final RocksDbConfiguration configuration =
+        new RocksDbConfiguration()
+            .profile(DefaultColumnFamily.DEFAULT.name(), ColumnFamilyProfile.PREFIX_SCAN)
+            .prefixLength(DefaultColumnFamily.DEFAULT.name(), Long.BYTES);
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class, configuration);
+    final File pathName = temporaryFolder.newFolder();
+
+    final DbLong firstKey = new DbLong();
+    final DbLong secondKey = new DbLong();
+    final DbCompositeKey<DbLong, DbLong> compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    final DbLong value = new DbLong();
+
+    ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(pathName);
+    ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, compositeKey, value);
+    for (int prefix = 1; prefix <= 3; prefix++) {
+      for (int suffix = 1; suffix <= 2; suffix++) {
+        firstKey.wrapLong(prefix);
+        secondKey.wrapLong(suffix);
+        value.wrapLong(prefix * 10 + suffix);
+        columnFamily.put(compositeKey, value);
+      }
+    }
+
+    // reopen to iterate over the flushed files
+    db.close();
+    db = dbFactory.createDb(pathName);
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, compositeKey, value);
+
+    // when
+    final List<Long> prefixValues = new ArrayList<>();
+    final DbLong prefix = new DbLong();
+    prefix.wrapLong(2);
+    columnFamily.whileEqualPrefix(
+        prefix,
+        (k, v) -> {
+          prefixValues.add(v.getValue());
+        });
+
+    final List<Long> allValues = new ArrayList<>();
+    columnFamily.forEach(v -> allValues.add(v.getValue()));
+
+    // then
+    assertThat(prefixValues).containsExactly(21L, 22L);
+    assertThat(allValues).containsExactly(11L, 12L, 21L, 22L, 31L, 32L);
+    db.close();
+  }
+
+  private enum ProfiledColumnFamilies {
+    DEFAULT,
+    POINT_LOOKUP,
+    PREFIX_SCAN,
+    QUEUE,
+    READ_MOSTLY
+  }
 }
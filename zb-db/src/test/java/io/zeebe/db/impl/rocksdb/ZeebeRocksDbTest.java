@@ -119,4 +119,50 @@ public class ZeebeRocksDbTest {
     assertThat(dbString).isNotNull();
     assertThat(dbString.toString()).isEqualTo("bar");
   }
+
+  @Test
+  public void shouldFlushChangesWrittenWithoutWriteAheadLog() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class);
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(pathName);
+
+    final DbString key = new DbString();
+    key.wrapString("foo");
+    final DbString value = new DbString();
+    value.wrapString("bar");
+    final ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, key, value);
+
+    // when
+    db.setWriteAheadLogEnabled(false);
+    columnFamily.put(key, value);
+    db.batch(
+        () -> {
+          key.wrapString("baz");
+          columnFamily.put(key, value);
+        });
+
+    // then
+    assertThat(pathName.listFiles((dir, name) -> name.endsWith(".sst"))).isEmpty();
+
+    // when
+    db.setWriteAheadLogEnabled(true);
+
+    // then
+    assertThat(pathName.listFiles((dir, name) -> name.endsWith(".sst"))).isNotEmpty();
+
+    db.close();
+    db = dbFactory.createDb(pathName);
+    final ColumnFamily<DbString, DbString> reopenedColumnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, key, value);
+
+    key.wrapString("foo");
+    assertThat(reopenedColumnFamily.exists(key)).isTrue();
+    key.wrapString("baz");
+    assertThat(reopenedColumnFamily.exists(key)).isTrue();
+
+    db.close();
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.benchmarks;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbNil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Compares the column family profiles on the typical access patterns of the broker state. */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ColumnFamilyProfileBenchmark {
+
+  @Benchmark
+  @Threads(1)
+  public void pointLookup(final ColumnFamilyProfileContext ctx, final Blackhole blackhole) {
+    blackhole.consume(ctx.getVariables().get(ctx.randomVariableKey()));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void missingLookup(final ColumnFamilyProfileContext ctx, final Blackhole blackhole) {
+    blackhole.consume(ctx.getVariables().exists(ctx.randomMissingVariableKey()));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void prefixScan(final ColumnFamilyProfileContext ctx, final Blackhole blackhole) {
+    ctx.getVariables()
+        .whileEqualPrefix(
+            ctx.randomScopeKey(),
+            (key, value) -> {
+              blackhole.consume(value);
+            });
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void queue(final ColumnFamilyProfileContext ctx) {
+    final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> deadlines = ctx.getDeadlines();
+
+    deadlines.put(ctx.nextDeadlineKey(), DbNil.INSTANCE);
+
+    // remove the first deadline, like a timer checker does
+    deadlines.whileTrue(
+        (key, value) -> {
+          deadlines.delete(key);
+          return false;
+        });
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.benchmarks;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbNil;
+import io.zeebe.db.impl.DbString;
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.zeebe.util.FileUtil;
+import java.io.File;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Opens a database whose column families use the given profile, filled with keys which are shaped
+ * like the keys of the broker state: variables are stored by scope key and name, deadlines by due
+ * date and key.
+ */
+@State(Scope.Thread)
+public class ColumnFamilyProfileContext {
+
+  public static final int SCOPE_COUNT = 10_000;
+  public static final int VARIABLES_PER_SCOPE = 10;
+  public static final int DEADLINE_COUNT = 100_000;
+
+  @Param({"POINT_LOOKUP", "PREFIX_SCAN", "QUEUE", "READ_MOSTLY"})
+  public ColumnFamilyProfile profile;
+
+  private final Random random = new Random(42);
+
+  private File directory;
+  private ZeebeDb<BenchmarkColumnFamilies> db;
+
+  private final DbLong scopeKey = new DbLong();
+  private final DbString variableName = new DbString();
+  private final DbCompositeKey<DbLong, DbString> variableKey =
+      new DbCompositeKey<>(scopeKey, variableName);
+  private final DbString variableValue = new DbString();
+  private ColumnFamily<DbCompositeKey<DbLong, DbString>, DbString> variables;
+
+  private final DbLong dueDate = new DbLong();
+  private final DbLong elementKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> deadlineKey =
+      new DbCompositeKey<>(dueDate, elementKey);
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> deadlines;
+
+  private long nextDueDate;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    directory = FileUtil.createTempDirectory("profile-benchmark");
+
+    final RocksDbConfiguration configuration = new RocksDbConfiguration();
+    for (BenchmarkColumnFamilies columnFamily : BenchmarkColumnFamilies.values()) {
+      configuration.profile(columnFamily.name(), profile).prefixLength(columnFamily.name(), 8);
+    }
+    final ZeebeDbFactory<BenchmarkColumnFamilies> factory =
+        ZeebeRocksDbFactory.newFactory(BenchmarkColumnFamilies.class, configuration);
+
+    db = factory.createDb(directory);
+    openColumnFamilies();
+
+    for (int scope = 0; scope < SCOPE_COUNT; scope++) {
+      for (int variable = 0; variable < VARIABLES_PER_SCOPE; variable++) {
+        wrapVariableKey(scope, variable);
+        variableValue.wrapString("value-" + variable);
+        variables.put(variableKey, variableValue);
+      }
+    }
+
+    for (nextDueDate = 0; nextDueDate < DEADLINE_COUNT; nextDueDate++) {
+      dueDate.wrapLong(nextDueDate);
+      elementKey.wrapLong(nextDueDate);
+      deadlines.put(deadlineKey, DbNil.INSTANCE);
+    }
+
+    // reopen the database to read from the flushed files instead of the memtables
+    db.close();
+    db = factory.createDb(directory);
+    openColumnFamilies();
+  }
+
+  private void openColumnFamilies() {
+    variables =
+        db.createColumnFamily(BenchmarkColumnFamilies.VARIABLES, variableKey, variableValue);
+    deadlines =
+        db.createColumnFamily(BenchmarkColumnFamilies.DEADLINES, deadlineKey, DbNil.INSTANCE);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory.getAbsolutePath());
+  }
+
+  public DbCompositeKey<DbLong, DbString> randomVariableKey() {
+    wrapVariableKey(random.nextInt(SCOPE_COUNT), random.nextInt(VARIABLES_PER_SCOPE));
+    return variableKey;
+  }
+
+  public DbCompositeKey<DbLong, DbString> randomMissingVariableKey() {
+    wrapVariableKey(random.nextInt(SCOPE_COUNT), VARIABLES_PER_SCOPE + 1);
+    return variableKey;
+  }
+
+  public DbLong randomScopeKey() {
+    scopeKey.wrapLong(random.nextInt(SCOPE_COUNT));
+    return scopeKey;
+  }
+
+  /** @return the key of a new deadline, which is due after all existing deadlines */
+  public DbCompositeKey<DbLong, DbLong> nextDeadlineKey() {
+    dueDate.wrapLong(nextDueDate);
+    elementKey.wrapLong(nextDueDate);
+    nextDueDate += 1;
+    return deadlineKey;
+  }
+
+  private void wrapVariableKey(int scope, int variable) {
+    scopeKey.wrapLong(scope);
+    variableName.wrapString("variable-" + variable);
+  }
+
+  public ColumnFamily<DbCompositeKey<DbLong, DbString>, DbString> getVariables() {
+    return variables;
+  }
+
+  public ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> getDeadlines() {
+    return deadlines;
+  }
+
+  private enum BenchmarkColumnFamilies {
+    DEFAULT,
+    VARIABLES,
+    DEADLINES
+  }
+}
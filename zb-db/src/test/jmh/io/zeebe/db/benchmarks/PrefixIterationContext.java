@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.db.benchmarks;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbString;
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.zeebe.util.FileUtil;
+import java.io.File;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Opens a large column family with variable-like keys, i.e. a long scope key and a string name. If
+ * tombstones are enabled, only every hundredth scope is kept and the keys of all other scopes are
+ * deleted, so that an iteration which does not stop at the end of the prefix has to skip many
+ * tombstones.
+ */
+@State(Scope.Thread)
+public class PrefixIterationContext {
+
+  public static final int SCOPE_COUNT = 100_000;
+  public static final int VARIABLES_PER_SCOPE = 10;
+  public static final int LIVE_SCOPE_INTERVAL = 100;
+
+  @Param({"false", "true"})
+  public boolean tombstones;
+
+  /** The length of the prefix extractor, or 0 for none. */
+  @Param({"0", "8"})
+  public int prefixLength;
+
+  private final Random random = new Random(42);
+
+  private File directory;
+  private ZeebeDb<BenchmarkColumnFamilies> db;
+
+  private final DbLong scopeKey = new DbLong();
+  private final DbString variableName = new DbString();
+  private final DbCompositeKey<DbLong, DbString> variableKey =
+      new DbCompositeKey<>(scopeKey, variableName);
+  private final DbString variableValue = new DbString();
+  private ColumnFamily<DbCompositeKey<DbLong, DbString>, DbString> variables;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    directory = FileUtil.createTempDirectory("prefix-benchmark");
+
+    final String columnFamilyName = BenchmarkColumnFamilies.VARIABLES.name();
+    final RocksDbConfiguration configuration =
+        new RocksDbConfiguration()
+            .profile(columnFamilyName, ColumnFamilyProfile.PREFIX_SCAN)
+            .prefixLength(columnFamilyName, prefixLength);
+    final ZeebeDbFactory<BenchmarkColumnFamilies> factory =
+        ZeebeRocksDbFactory.newFactory(BenchmarkColumnFamilies.class, configuration);
+
+    db = factory.createDb(directory);
+    openColumnFamily();
+
+    for (int scope = 0; scope < SCOPE_COUNT; scope++) {
+      for (int variable = 0; variable < VARIABLES_PER_SCOPE; variable++) {
+        scopeKey.wrapLong(scope);
+        variableName.wrapString("variable-" + variable);
+        variableValue.wrapString("value-" + variable);
+        variables.put(variableKey, variableValue);
+      }
+    }
+
+    if (tombstones) {
+      for (int scope = 0; scope < SCOPE_COUNT; scope++) {
+        if (scope % LIVE_SCOPE_INTERVAL != 0) {
+          for (int variable = 0; variable < VARIABLES_PER_SCOPE; variable++) {
+            scopeKey.wrapLong(scope);
+            variableName.wrapString("variable-" + variable);
+            variables.delete(variableKey);
+          }
+        }
+      }
+    }
+
+    // reopen the database to read from the flushed files instead of the memtables
+    db.close();
+    db = factory.createDb(directory);
+    openColumnFamily();
+  }
+
+  private void openColumnFamily() {
+    variables =
+        db.createColumnFamily(BenchmarkColumnFamilies.VARIABLES, variableKey, variableValue);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory.getAbsolutePath());
+  }
+
+  /** @return the key of a scope which has variables */
+  public DbLong randomScopeKey() {
+    final int scope = random.nextInt(SCOPE_COUNT / LIVE_SCOPE_INTERVAL) * LIVE_SCOPE_INTERVAL;
+    scopeKey.wrapLong(scope);
+    return scopeKey;
+  }
+
+  public ColumnFamily<DbCompositeKey<DbLong, DbString>, DbString> getVariables() {
+    return variables;
+  }
+
+  private enum BenchmarkColumnFamilies {
+    DEFAULT,
+    VARIABLES
+  }
+}